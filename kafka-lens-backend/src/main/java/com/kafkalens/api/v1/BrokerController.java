@@ -2,13 +2,18 @@ package com.kafkalens.api.v1;
 
 import com.kafkalens.common.ApiResponse;
 import com.kafkalens.domain.broker.Broker;
+import com.kafkalens.domain.broker.BrokerConfigDrift;
+import com.kafkalens.domain.broker.BrokerConfigReport;
+import com.kafkalens.domain.broker.BrokerLoadReport;
 import com.kafkalens.domain.broker.BrokerService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 브로커 API 컨트롤러.
@@ -17,6 +22,9 @@ import java.util.List;
  *
  * <ul>
  *   <li>GET /api/v1/clusters/{clusterId}/brokers - 브로커 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/brokers/configs - 전체 브로커 설정과 불일치 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/brokers/configs/drift - 브로커 간 설정 불일치만 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/brokers/load - 브로커 부하 분포와 리더 편차 조회</li>
  * </ul>
  */
 @RestController
@@ -26,14 +34,17 @@ public class BrokerController {
     private static final Logger log = LoggerFactory.getLogger(BrokerController.class);
 
     private final BrokerService brokerService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
 
     /**
      * BrokerController 생성자.
      *
-     * @param brokerService 브로커 서비스
+     * @param brokerService       브로커 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
      */
-    public BrokerController(BrokerService brokerService) {
+    public BrokerController(BrokerService brokerService, ClusterMetadataSnapshotter metadataSnapshotter) {
         this.brokerService = brokerService;
+        this.metadataSnapshotter = metadataSnapshotter;
     }
 
     /**
@@ -43,11 +54,55 @@ public class BrokerController {
      * @return 브로커 목록
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Broker>>> getBrokers(@PathVariable String clusterId) {
+    public CompletableFuture<ResponseEntity<ApiResponse<List<Broker>>>> getBrokers(@PathVariable String clusterId) {
         log.debug("GET /api/v1/clusters/{}/brokers", clusterId);
 
-        List<Broker> brokers = brokerService.listBrokers(clusterId);
+        return brokerService.listBrokers(clusterId)
+                .thenApply(brokers -> MetadataSnapshotResponses.ok(metadataSnapshotter, brokers));
+    }
+
+    /**
+     * 클러스터의 모든 브로커 설정과 브로커 간 설정 불일치를 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 설정과 불일치 목록
+     */
+    @GetMapping("/configs")
+    public CompletableFuture<ResponseEntity<ApiResponse<BrokerConfigReport>>> getBrokerConfigs(
+            @PathVariable String clusterId) {
+        log.debug("GET /api/v1/clusters/{}/brokers/configs", clusterId);
+
+        return brokerService.getBrokerConfigs(clusterId)
+                .thenApply(report -> ResponseEntity.ok(ApiResponse.ok(report)));
+    }
+
+    /**
+     * 브로커 간 설정 불일치만 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 불일치 목록
+     */
+    @GetMapping("/configs/drift")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<BrokerConfigDrift>>>> getBrokerConfigDrift(
+            @PathVariable String clusterId) {
+        log.debug("GET /api/v1/clusters/{}/brokers/configs/drift", clusterId);
+
+        return brokerService.getBrokerConfigs(clusterId)
+                .thenApply(report -> ResponseEntity.ok(ApiResponse.ok(report.drift())));
+    }
+
+    /**
+     * 브로커별 부하 분포와 랙 인지 기준 편차를 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 부하 분포
+     */
+    @GetMapping("/load")
+    public CompletableFuture<ResponseEntity<ApiResponse<BrokerLoadReport>>> getBrokerLoad(
+            @PathVariable String clusterId) {
+        log.debug("GET /api/v1/clusters/{}/brokers/load", clusterId);
 
-        return ResponseEntity.ok(ApiResponse.ok(brokers));
+        return brokerService.getBrokerLoad(clusterId)
+                .thenApply(report -> MetadataSnapshotResponses.ok(metadataSnapshotter, report));
     }
 }
@@ -5,6 +5,7 @@ import com.kafkalens.api.v1.dto.ConnectionTestResult;
 import com.kafkalens.common.ApiResponse;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.infrastructure.kafka.AdminCircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +16,8 @@ import java.util.List;
 /**
  * 클러스터 API 컨트롤러.
  *
- * <p>클러스터 관련 REST API 엔드포인트를 제공합니다.</p>
+ * <p>클러스터 관련 REST API 엔드포인트를 제공합니다.
+ * 클러스터 응답에는 Admin 서킷 상태({@code circuitState})가 포함됩니다.</p>
  *
  * <ul>
  *   <li>GET /api/v1/clusters - 클러스터 목록 조회</li>
@@ -50,7 +52,7 @@ public class ClusterController {
         log.debug("GET /api/v1/clusters");
 
         List<Cluster> clusters = clusterService.findAll();
-        List<ClusterResponse> response = ClusterResponse.fromList(clusters);
+        List<ClusterResponse> response = toResponses(clusters);
 
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -66,7 +68,7 @@ public class ClusterController {
         log.debug("GET /api/v1/clusters/{}", id);
 
         Cluster cluster = clusterService.findById(id);
-        ClusterResponse response = ClusterResponse.from(cluster);
+        ClusterResponse response = toResponse(cluster);
 
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -98,8 +100,19 @@ public class ClusterController {
         log.debug("GET /api/v1/clusters?environment={}", environment);
 
         List<Cluster> clusters = clusterService.findByEnvironment(environment);
-        List<ClusterResponse> response = ClusterResponse.fromList(clusters);
+        List<ClusterResponse> response = toResponses(clusters);
 
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
+
+    private ClusterResponse toResponse(Cluster cluster) {
+        AdminCircuitBreaker.State circuitState = clusterService.getCircuitState(cluster.id());
+        return ClusterResponse.from(cluster, circuitState != null ? circuitState.name() : null);
+    }
+
+    private List<ClusterResponse> toResponses(List<Cluster> clusters) {
+        return clusters.stream()
+                .map(this::toResponse)
+                .toList();
+    }
 }
@@ -4,15 +4,16 @@ import com.kafkalens.api.v1.dto.ConsumerLagResponse;
 import com.kafkalens.common.ApiResponse;
 import com.kafkalens.domain.consumer.ConsumerGroup;
 import com.kafkalens.domain.consumer.ConsumerLagService;
-import com.kafkalens.domain.consumer.ConsumerLagSummary;
 import com.kafkalens.domain.consumer.ConsumerMember;
 import com.kafkalens.domain.consumer.ConsumerService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 컨슈머 그룹 API 컨트롤러.
@@ -34,16 +35,23 @@ public class ConsumerController {
 
     private final ConsumerService consumerService;
     private final ConsumerLagService consumerLagService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
 
     /**
      * ConsumerController 생성자.
      *
-     * @param consumerService    컨슈머 서비스
-     * @param consumerLagService 컨슈머 Lag 서비스
+     * @param consumerService     컨슈머 서비스
+     * @param consumerLagService  컨슈머 Lag 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
      */
-    public ConsumerController(ConsumerService consumerService, ConsumerLagService consumerLagService) {
+    public ConsumerController(
+            ConsumerService consumerService,
+            ConsumerLagService consumerLagService,
+            ClusterMetadataSnapshotter metadataSnapshotter
+    ) {
         this.consumerService = consumerService;
         this.consumerLagService = consumerLagService;
+        this.metadataSnapshotter = metadataSnapshotter;
     }
 
     /**
@@ -53,13 +61,12 @@ public class ConsumerController {
      * @return 컨슈머 그룹 목록
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ConsumerGroup>>> getAllConsumerGroups(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ConsumerGroup>>>> getAllConsumerGroups(
             @PathVariable String clusterId) {
         log.debug("GET /api/v1/clusters/{}/consumer-groups", clusterId);
 
-        List<ConsumerGroup> groups = consumerService.listGroups(clusterId);
-
-        return ResponseEntity.ok(ApiResponse.ok(groups));
+        return consumerService.listGroups(clusterId)
+                .thenApply(groups -> MetadataSnapshotResponses.ok(metadataSnapshotter, groups));
     }
 
     /**
@@ -70,14 +77,13 @@ public class ConsumerController {
      * @return 컨슈머 그룹 상세 정보
      */
     @GetMapping("/{groupId}")
-    public ResponseEntity<ApiResponse<ConsumerGroup>> getConsumerGroupById(
+    public CompletableFuture<ResponseEntity<ApiResponse<ConsumerGroup>>> getConsumerGroupById(
             @PathVariable String clusterId,
             @PathVariable String groupId) {
         log.debug("GET /api/v1/clusters/{}/consumer-groups/{}", clusterId, groupId);
 
-        ConsumerGroup group = consumerService.getGroup(clusterId, groupId);
-
-        return ResponseEntity.ok(ApiResponse.ok(group));
+        return consumerService.getGroup(clusterId, groupId)
+                .thenApply(group -> MetadataSnapshotResponses.ok(metadataSnapshotter, group));
     }
 
     /**
@@ -88,14 +94,13 @@ public class ConsumerController {
      * @return 멤버 목록
      */
     @GetMapping("/{groupId}/members")
-    public ResponseEntity<ApiResponse<List<ConsumerMember>>> getConsumerGroupMembers(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ConsumerMember>>>> getConsumerGroupMembers(
             @PathVariable String clusterId,
             @PathVariable String groupId) {
         log.debug("GET /api/v1/clusters/{}/consumer-groups/{}/members", clusterId, groupId);
 
-        List<ConsumerMember> members = consumerService.getMembers(clusterId, groupId);
-
-        return ResponseEntity.ok(ApiResponse.ok(members));
+        return consumerService.getMembers(clusterId, groupId)
+                .thenApply(members -> MetadataSnapshotResponses.ok(metadataSnapshotter, members));
     }
 
     /**
@@ -106,15 +111,13 @@ public class ConsumerController {
      * @return Lag 정보
      */
     @GetMapping("/{groupId}/lag")
-    public ResponseEntity<ApiResponse<ConsumerLagResponse>> getLag(
+    public CompletableFuture<ResponseEntity<ApiResponse<ConsumerLagResponse>>> getLag(
             @PathVariable String clusterId,
             @PathVariable String groupId
     ) {
         log.debug("GET /api/v1/clusters/{}/consumer-groups/{}/lag", clusterId, groupId);
 
-        ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
-        ConsumerLagResponse response = ConsumerLagResponse.from(summary);
-
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        return consumerLagService.getLagSummary(clusterId, groupId)
+                .thenApply(summary -> ResponseEntity.ok(ApiResponse.ok(ConsumerLagResponse.from(summary))));
     }
 }
@@ -0,0 +1,100 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.ApiResponse;
+import com.kafkalens.domain.consumer.ClusterLagOverview;
+import com.kafkalens.domain.consumer.ConsumerLagService;
+import com.kafkalens.domain.consumer.LagHistory;
+import com.kafkalens.domain.consumer.LagSampler;
+import com.kafkalens.domain.consumer.TopLagReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 클러스터 전체 Lag API 컨트롤러.
+ *
+ * <p>특정 그룹이 아닌 클러스터의 모든 컨슈머 그룹을 대상으로 하는 Lag REST API 엔드포인트를 제공합니다.
+ * 그룹 하나의 Lag는 {@link ConsumerController}에서 조회합니다.</p>
+ *
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag - 모든 컨슈머 그룹 Lag 개요 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag/top - Lag가 큰 그룹-파티션, 그룹, 토픽 상위 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag/history - 컨슈머 그룹 파티션별 Lag 이력 조회</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/clusters/{clusterId}/lag")
+public class LagController {
+
+    private static final Logger log = LoggerFactory.getLogger(LagController.class);
+
+    private final ConsumerLagService consumerLagService;
+    private final LagSampler lagSampler;
+
+    /**
+     * LagController 생성자.
+     *
+     * @param consumerLagService 컨슈머 Lag 서비스
+     * @param lagSampler         컨슈머 Lag 샘플러
+     */
+    public LagController(ConsumerLagService consumerLagService, LagSampler lagSampler) {
+        this.consumerLagService = consumerLagService;
+        this.lagSampler = lagSampler;
+    }
+
+    /**
+     * 모든 컨슈머 그룹의 Lag 개요를 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 그룹 ID순 Lag 개요
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<ApiResponse<ClusterLagOverview>>> getClusterLag(
+            @PathVariable String clusterId) {
+        log.debug("GET /api/v1/clusters/{}/lag", clusterId);
+
+        return consumerLagService.getClusterLagOverview(clusterId)
+                .thenApply(overview -> ResponseEntity.ok(ApiResponse.ok(overview)));
+    }
+
+    /**
+     * 클러스터 전체에서 Lag가 큰 그룹-파티션, 컨슈머 그룹, 토픽을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param limit     목록별 최대 개수 (기본값: 10)
+     * @return Lag 내림차순 상위 목록
+     */
+    @GetMapping("/top")
+    public CompletableFuture<ResponseEntity<ApiResponse<TopLagReport>>> getTopLag(
+            @PathVariable String clusterId,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/v1/clusters/{}/lag/top?limit={}", clusterId, limit);
+
+        return consumerLagService.getTopLag(clusterId, limit)
+                .thenApply(report -> ResponseEntity.ok(ApiResponse.ok(report)));
+    }
+
+    /**
+     * 백그라운드 샘플링으로 기록된 컨슈머 그룹의 파티션별 Lag 이력을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupId   컨슈머 그룹 ID
+     * @param topic     토픽 이름 (생략하면 모든 토픽)
+     * @param partition 파티션 번호 (생략하면 모든 파티션)
+     * @return 파티션별 Lag 시계열과 추세
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<LagHistory>> getLagHistory(
+            @PathVariable String clusterId,
+            @RequestParam String groupId,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) Integer partition) {
+        log.debug("GET /api/v1/clusters/{}/lag/history?groupId={}&topic={}&partition={}",
+                clusterId, groupId, topic, partition);
+
+        return ResponseEntity.ok(ApiResponse.ok(lagSampler.getHistory(clusterId, groupId, topic, partition)));
+    }
+}
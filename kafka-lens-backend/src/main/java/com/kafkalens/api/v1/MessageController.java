@@ -1,6 +1,7 @@
 package com.kafkalens.api.v1;
 
 import com.kafkalens.common.ApiResponse;
+import com.kafkalens.common.RequestTimeout;
 import com.kafkalens.domain.message.KafkaMessage;
 import com.kafkalens.domain.message.MessageFetchRequest;
 import com.kafkalens.domain.message.MessageService;
@@ -43,7 +44,8 @@ public class MessageController {
      * 토픽에서 메시지를 조회합니다.
      *
      * <p>지정된 파티션과 오프셋에서 메시지를 조회합니다.
-     * 최대 조회 제한은 1000건입니다 (Constitution).</p>
+     * 최대 조회 제한은 1000건입니다 (Constitution).
+     * 30초 안에 읽은 메시지까지만 반환합니다.</p>
      *
      * @param clusterId 클러스터 ID
      * @param topicName 토픽 이름
@@ -53,6 +55,7 @@ public class MessageController {
      * @return 메시지 목록
      */
     @GetMapping
+    @RequestTimeout(millis = 30000)
     public ResponseEntity<ApiResponse<List<KafkaMessage>>> getMessages(
             @PathVariable String clusterId,
             @PathVariable String topicName,
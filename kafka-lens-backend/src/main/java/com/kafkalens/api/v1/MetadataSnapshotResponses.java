@@ -0,0 +1,38 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.ApiResponse;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 메타데이터 스냅샷 기반 응답 헬퍼.
+ *
+ * <p>응답 데이터를 스냅샷에서 읽었으면 그 스냅샷의 버전과 경과 시간(밀리초)을
+ * {@code X-Metadata-Version}, {@code X-Metadata-Staleness-Ms} 헤더로 응답에 추가합니다.
+ * 브로커에 직접 조회한 응답에는 그동안 스냅샷이 만들어졌더라도 헤더가 붙지 않습니다.</p>
+ */
+final class MetadataSnapshotResponses {
+
+    static final String VERSION_HEADER = "X-Metadata-Version";
+    static final String STALENESS_HEADER = "X-Metadata-Staleness-Ms";
+
+    private MetadataSnapshotResponses() {
+    }
+
+    /**
+     * 스냅샷 헤더를 포함한 성공 응답을 생성합니다.
+     *
+     * @param snapshotter 클러스터 메타데이터 스냅샷터
+     * @param result      조회 결과와 읽은 스냅샷
+     * @param <T>         데이터 타입
+     * @return 성공 응답
+     */
+    static <T> ResponseEntity<ApiResponse<T>> ok(ClusterMetadataSnapshotter snapshotter, SnapshotResult<T> result) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        result.source().ifPresent(snapshot -> builder
+                .header(VERSION_HEADER, String.valueOf(snapshot.version()))
+                .header(STALENESS_HEADER, String.valueOf(snapshotter.staleness(snapshot).toMillis())));
+        return builder.body(ApiResponse.ok(result.data()));
+    }
+}
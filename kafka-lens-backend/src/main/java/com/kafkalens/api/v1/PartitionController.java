@@ -0,0 +1,61 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.ApiResponse;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.PartitionIssue;
+import com.kafkalens.domain.topic.PartitionHealthReport;
+import com.kafkalens.domain.topic.TopicService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파티션 상태 API 컨트롤러.
+ *
+ * <p>클러스터 전체의 비정상 파티션 REST API 엔드포인트를 제공합니다. 메타데이터 스냅샷의 인덱스에서
+ * 응답하므로 몇 초 간격으로 폴링해도 브로커 조회가 늘어나지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/partitions/health - 비정상 파티션 조회</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/clusters/{clusterId}/partitions")
+public class PartitionController {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionController.class);
+
+    private final TopicService topicService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+
+    /**
+     * PartitionController 생성자.
+     *
+     * @param topicService        토픽 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     */
+    public PartitionController(TopicService topicService, ClusterMetadataSnapshotter metadataSnapshotter) {
+        this.topicService = topicService;
+        this.metadataSnapshotter = metadataSnapshotter;
+    }
+
+    /**
+     * 비정상 파티션을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param issue     문제 유형 (없으면 모든 유형)
+     * @return 파티션 상태 보고서
+     */
+    @GetMapping("/health")
+    public CompletableFuture<ResponseEntity<ApiResponse<PartitionHealthReport>>> getPartitionHealth(
+            @PathVariable String clusterId,
+            @RequestParam(required = false) PartitionIssue issue) {
+        log.debug("GET /api/v1/clusters/{}/partitions/health?issue={}", clusterId, issue);
+
+        return topicService.getPartitionHealth(clusterId, issue)
+                .thenApply(report -> MetadataSnapshotResponses.ok(metadataSnapshotter, report));
+    }
+}
@@ -0,0 +1,74 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.ApiResponse;
+import com.kafkalens.domain.storage.BrokerStorage;
+import com.kafkalens.domain.storage.StorageUsageService;
+import com.kafkalens.domain.storage.TopicStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 디스크 사용량 API 컨트롤러.
+ *
+ * <p>브로커 로그 디렉터리 조회 결과를 집계한 디스크 사용량 REST API 엔드포인트를 제공합니다.
+ * 응답은 {@code kafka.storage.usage.ttl-ms} 동안 보관되는 집계 결과에서 만들어집니다.</p>
+ *
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/storage/topics - 크기가 큰 토픽 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/storage/brokers - 브로커별, 로그 디렉터리별 사용량 조회</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/clusters/{clusterId}/storage")
+public class StorageController {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageController.class);
+
+    private final StorageUsageService storageUsageService;
+
+    /**
+     * StorageController 생성자.
+     *
+     * @param storageUsageService 디스크 사용량 서비스
+     */
+    public StorageController(StorageUsageService storageUsageService) {
+        this.storageUsageService = storageUsageService;
+    }
+
+    /**
+     * 크기가 큰 토픽부터 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param limit     최대 개수 (기본값: 20)
+     * @return 크기 내림차순 토픽 사용량
+     */
+    @GetMapping("/topics")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<TopicStorage>>>> getLargestTopics(
+            @PathVariable String clusterId,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/v1/clusters/{}/storage/topics?limit={}", clusterId, limit);
+
+        return storageUsageService.getLargestTopics(clusterId, limit)
+                .thenApply(topics -> ResponseEntity.ok(ApiResponse.ok(topics)));
+    }
+
+    /**
+     * 브로커별, 로그 디렉터리별 사용량을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 ID순 사용량
+     */
+    @GetMapping("/brokers")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<BrokerStorage>>>> getBrokerUsage(
+            @PathVariable String clusterId) {
+        log.debug("GET /api/v1/clusters/{}/storage/brokers", clusterId);
+
+        return storageUsageService.getBrokerUsage(clusterId)
+                .thenApply(brokers -> ResponseEntity.ok(ApiResponse.ok(brokers)));
+    }
+}
@@ -1,8 +1,13 @@
 package com.kafkalens.api.v1;
 
 import com.kafkalens.common.ApiResponse;
+import com.kafkalens.domain.consumer.ConsumerService;
+import com.kafkalens.domain.consumer.TopicConsumerGroup;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.topic.ConfigValueOperator;
 import com.kafkalens.domain.topic.PartitionInfo;
 import com.kafkalens.domain.topic.Topic;
+import com.kafkalens.domain.topic.TopicConfigMatch;
 import com.kafkalens.domain.topic.TopicDetail;
 import com.kafkalens.domain.topic.TopicService;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 토픽 API 컨트롤러.
@@ -19,8 +25,10 @@ import java.util.List;
  *
  * <ul>
  *   <li>GET /api/v1/clusters/{clusterId}/topics - 토픽 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/topics?configKey=... - 설정 값으로 토픽 검색</li>
  *   <li>GET /api/v1/clusters/{clusterId}/topics/{topicName} - 토픽 상세 조회</li>
  *   <li>GET /api/v1/clusters/{clusterId}/topics/{topicName}/partitions - 파티션 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/topics/{topicName}/consumer-groups - 토픽을 소비하는 컨슈머 그룹 조회</li>
  * </ul>
  */
 @RestController
@@ -30,14 +38,24 @@ public class TopicController {
     private static final Logger log = LoggerFactory.getLogger(TopicController.class);
 
     private final TopicService topicService;
+    private final ConsumerService consumerService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
 
     /**
      * TopicController 생성자.
      *
-     * @param topicService 토픽 서비스
+     * @param topicService        토픽 서비스
+     * @param consumerService     컨슈머 그룹 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
      */
-    public TopicController(TopicService topicService) {
+    public TopicController(
+            TopicService topicService,
+            ConsumerService consumerService,
+            ClusterMetadataSnapshotter metadataSnapshotter
+    ) {
         this.topicService = topicService;
+        this.consumerService = consumerService;
+        this.metadataSnapshotter = metadataSnapshotter;
     }
 
     /**
@@ -48,14 +66,40 @@ public class TopicController {
      * @return 토픽 목록
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Topic>>> getTopics(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<Topic>>>> getTopics(
             @PathVariable String clusterId,
             @RequestParam(defaultValue = "false") boolean includeInternal) {
         log.debug("GET /api/v1/clusters/{}/topics?includeInternal={}", clusterId, includeInternal);
 
-        List<Topic> topics = topicService.listTopics(clusterId, includeInternal);
+        return topicService.listTopics(clusterId, includeInternal)
+                .thenApply(topics -> MetadataSnapshotResponses.ok(metadataSnapshotter, topics));
+    }
 
-        return ResponseEntity.ok(ApiResponse.ok(topics));
+    /**
+     * 설정 값으로 클러스터 전체 토픽을 검색합니다.
+     *
+     * <p>예: {@code ?configKey=retention.ms&operator=GT&configValue=604800000}은 보존 기간이 7일을 넘는 토픽,
+     * {@code ?configKey=cleanup.policy&operator=CONTAINS&configValue=delete}는 삭제 정책을 쓰는 토픽을 찾습니다.</p>
+     *
+     * @param clusterId      클러스터 ID
+     * @param configKey      설정 키
+     * @param operator       비교 연산자 (기본값: EQ)
+     * @param configValue    기준 값 (없으면 모든 토픽의 적용 값)
+     * @param overriddenOnly 토픽 수준에서 지정된 토픽만 반환할지 여부 (기본값: false)
+     * @return 검색 결과
+     */
+    @GetMapping(params = "configKey")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<TopicConfigMatch>>>> findTopicsByConfig(
+            @PathVariable String clusterId,
+            @RequestParam String configKey,
+            @RequestParam(defaultValue = "EQ") ConfigValueOperator operator,
+            @RequestParam(required = false) String configValue,
+            @RequestParam(defaultValue = "false") boolean overriddenOnly) {
+        log.debug("GET /api/v1/clusters/{}/topics?configKey={}&operator={}&configValue={}",
+                clusterId, configKey, operator, configValue);
+
+        return topicService.findTopicsByConfig(clusterId, configKey, operator, configValue, overriddenOnly)
+                .thenApply(matches -> MetadataSnapshotResponses.ok(metadataSnapshotter, matches));
     }
 
     /**
@@ -66,14 +110,13 @@ public class TopicController {
      * @return 토픽 상세 정보
      */
     @GetMapping("/{topicName}")
-    public ResponseEntity<ApiResponse<TopicDetail>> getTopic(
+    public CompletableFuture<ResponseEntity<ApiResponse<TopicDetail>>> getTopic(
             @PathVariable String clusterId,
             @PathVariable String topicName) {
         log.debug("GET /api/v1/clusters/{}/topics/{}", clusterId, topicName);
 
-        TopicDetail topic = topicService.getTopic(clusterId, topicName);
-
-        return ResponseEntity.ok(ApiResponse.ok(topic));
+        return topicService.getTopic(clusterId, topicName)
+                .thenApply(topic -> MetadataSnapshotResponses.ok(metadataSnapshotter, topic));
     }
 
     /**
@@ -84,13 +127,32 @@ public class TopicController {
      * @return 파티션 목록
      */
     @GetMapping("/{topicName}/partitions")
-    public ResponseEntity<ApiResponse<List<PartitionInfo>>> getTopicPartitions(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<PartitionInfo>>>> getTopicPartitions(
             @PathVariable String clusterId,
             @PathVariable String topicName) {
         log.debug("GET /api/v1/clusters/{}/topics/{}/partitions", clusterId, topicName);
 
-        List<PartitionInfo> partitions = topicService.getTopicPartitions(clusterId, topicName);
+        return topicService.getTopicPartitions(clusterId, topicName)
+                .thenApply(partitions -> MetadataSnapshotResponses.ok(metadataSnapshotter, partitions));
+    }
+
+    /**
+     * 토픽을 소비하는 컨슈머 그룹을 조회합니다.
+     *
+     * <p>토픽의 파티션을 할당받았거나 토픽에 오프셋을 커밋한 그룹과, 그룹별 토픽 Lag를 반환합니다.
+     * 토픽 삭제나 파티션 변경 전에 영향받는 그룹을 확인하는 데 사용합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 컨슈머 그룹
+     */
+    @GetMapping("/{topicName}/consumer-groups")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<TopicConsumerGroup>>>> getTopicConsumerGroups(
+            @PathVariable String clusterId,
+            @PathVariable String topicName) {
+        log.debug("GET /api/v1/clusters/{}/topics/{}/consumer-groups", clusterId, topicName);
 
-        return ResponseEntity.ok(ApiResponse.ok(partitions));
+        return consumerService.getTopicConsumerGroups(clusterId, topicName)
+                .thenApply(groups -> MetadataSnapshotResponses.ok(metadataSnapshotter, groups));
     }
 }
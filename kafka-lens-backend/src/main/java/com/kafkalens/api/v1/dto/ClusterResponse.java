@@ -17,6 +17,7 @@ import java.util.List;
  * @param bootstrapServers 부트스트랩 서버 목록
  * @param securityProtocol 보안 프로토콜 (PLAINTEXT, SSL, SASL_PLAINTEXT, SASL_SSL)
  * @param isProduction     프로덕션 환경 여부
+ * @param circuitState     Admin 서킷 상태 (CLOSED, HALF_OPEN, OPEN)
  */
 public record ClusterResponse(
         String id,
@@ -25,7 +26,8 @@ public record ClusterResponse(
         String environment,
         List<String> bootstrapServers,
         String securityProtocol,
-        boolean isProduction
+        boolean isProduction,
+        String circuitState
 ) {
     /**
      * Cluster 엔티티에서 ClusterResponse를 생성합니다.
@@ -34,6 +36,17 @@ public record ClusterResponse(
      * @return ClusterResponse 인스턴스
      */
     public static ClusterResponse from(Cluster cluster) {
+        return from(cluster, null);
+    }
+
+    /**
+     * Cluster 엔티티와 서킷 상태로 ClusterResponse를 생성합니다.
+     *
+     * @param cluster      Cluster 엔티티
+     * @param circuitState Admin 서킷 상태
+     * @return ClusterResponse 인스턴스
+     */
+    public static ClusterResponse from(Cluster cluster, String circuitState) {
         String protocol = cluster.security() != null
                 ? cluster.security().protocol()
                 : "PLAINTEXT";
@@ -45,7 +58,8 @@ public record ClusterResponse(
                 cluster.environment(),
                 cluster.bootstrapServers(),
                 protocol,
-                cluster.isProduction()
+                cluster.isProduction(),
+                circuitState
         );
     }
 
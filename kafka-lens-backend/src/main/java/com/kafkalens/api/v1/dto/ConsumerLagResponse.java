@@ -16,6 +16,9 @@ import java.util.stream.Collectors;
  * @param partitionCount 파티션 수
  * @param warningCount  warning 상태 파티션 수
  * @param criticalCount critical 상태 파티션 수
+ * @param maxLagSeconds 파티션 추정 Lag 중 최댓값 (초, 추정할 수 없으면 null)
+ * @param timeWarningCount  시간 기준 warning 상태 파티션 수
+ * @param timeCriticalCount 시간 기준 critical 상태 파티션 수
  * @param topics        토픽별 Lag 요약 목록
  */
 public record ConsumerLagResponse(
@@ -24,6 +27,9 @@ public record ConsumerLagResponse(
         int partitionCount,
         long warningCount,
         long criticalCount,
+        Long maxLagSeconds,
+        long timeWarningCount,
+        long timeCriticalCount,
         List<TopicLagResponse> topics
 ) {
     /**
@@ -43,6 +49,9 @@ public record ConsumerLagResponse(
                 summary.partitionCount(),
                 summary.warningCount(),
                 summary.criticalCount(),
+                summary.maxLagSeconds(),
+                summary.timeWarningCount(),
+                summary.timeCriticalCount(),
                 topics
         );
     }
@@ -89,13 +98,17 @@ public record ConsumerLagResponse(
      * @param endOffset     로그 끝 오프셋
      * @param lag           Lag
      * @param status        상태 (normal, warning, critical)
+     * @param lagSeconds    추정 Lag (초, 추정할 수 없으면 null)
+     * @param timeStatus    시간 기준 상태 (normal, warning, critical, unknown)
      */
     public record PartitionLagResponse(
             int partition,
             long currentOffset,
             long endOffset,
             long lag,
-            String status
+            String status,
+            Long lagSeconds,
+            String timeStatus
     ) {
         /**
          * ConsumerLag에서 응답 DTO를 생성합니다.
@@ -109,7 +122,9 @@ public record ConsumerLagResponse(
                     lag.currentOffset(),
                     lag.endOffset(),
                     lag.lag(),
-                    lag.getStatus()
+                    lag.getStatus(),
+                    lag.lagSeconds(),
+                    lag.getTimeStatus()
             );
         }
     }
@@ -0,0 +1,57 @@
+package com.kafkalens.common;
+
+/**
+ * 백그라운드 작업 표시.
+ *
+ * <p>메타데이터 스냅샷 갱신, 랙 샘플링처럼 사용자 요청이 아닌 주기 작업이 Kafka를 호출하는 동안
+ * 현재 스레드에 연결됩니다. AdminClient 풀은 이 표시가 있는 호출을 사용으로 보지 않으므로,
+ * 주기 작업만 남은 클러스터도 유휴 정리 대상이 됩니다.</p>
+ *
+ * <p>{@link RequestDeadline}과 같이 스레드 로컬에 보관되므로 비동기 후속 단계로 넘길 때는
+ * {@link #isActive()}로 꺼낸 값을 {@link #attach(boolean)}로 다시 연결해야 합니다.</p>
+ */
+public final class BackgroundWork {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private BackgroundWork() {
+    }
+
+    /**
+     * 현재 스레드를 백그라운드 작업으로 표시합니다. 반환된 Scope를 닫으면 이전 값으로 복원됩니다.
+     *
+     * @return 복원용 Scope
+     */
+    public static RequestDeadline.Scope begin() {
+        return attach(true);
+    }
+
+    /**
+     * 백그라운드 작업 여부를 현재 스레드에 연결합니다. 반환된 Scope를 닫으면 이전 값으로 복원됩니다.
+     *
+     * @param active 백그라운드 작업이면 true
+     * @return 복원용 Scope
+     */
+    public static RequestDeadline.Scope attach(boolean active) {
+        boolean previous = isActive();
+        set(active);
+        return () -> set(previous);
+    }
+
+    /**
+     * 현재 스레드가 백그라운드 작업을 수행 중인지 확인합니다.
+     *
+     * @return 백그라운드 작업이면 true
+     */
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    private static void set(boolean active) {
+        if (active) {
+            ACTIVE.set(Boolean.TRUE);
+        } else {
+            ACTIVE.remove();
+        }
+    }
+}
@@ -56,6 +56,21 @@ public final class ErrorCode {
      */
     public static final String CLUSTER_CONFIG_ERROR = "CLUSTER_CONFIG_ERROR";
 
+    /**
+     * 클러스터의 동시 Admin 작업 수와 대기열 초과 (503)
+     */
+    public static final String CLUSTER_OVERLOADED = "CLUSTER_OVERLOADED";
+
+    /**
+     * 클러스터의 초당 Admin 작업 수 제한 초과 (429)
+     */
+    public static final String CLUSTER_RATE_LIMITED = "CLUSTER_RATE_LIMITED";
+
+    /**
+     * 연속된 연결 실패로 서킷이 열려 요청을 즉시 거부함 (503)
+     */
+    public static final String CLUSTER_UNAVAILABLE = "CLUSTER_UNAVAILABLE";
+
     // === Kafka 관련 에러 ===
 
     /**
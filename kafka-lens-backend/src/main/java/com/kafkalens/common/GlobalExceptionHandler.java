@@ -271,7 +271,11 @@ public class GlobalExceptionHandler {
 
             case ErrorCode.KAFKA_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
 
+            case ErrorCode.CLUSTER_RATE_LIMITED -> HttpStatus.TOO_MANY_REQUESTS;
+
             case ErrorCode.SERVICE_UNAVAILABLE,
+                 ErrorCode.CLUSTER_OVERLOADED,
+                 ErrorCode.CLUSTER_UNAVAILABLE,
                  ErrorCode.KAFKA_CONNECTION_ERROR,
                  ErrorCode.CLUSTER_CONNECTION_ERROR -> HttpStatus.SERVICE_UNAVAILABLE;
 
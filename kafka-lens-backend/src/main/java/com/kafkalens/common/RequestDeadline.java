@@ -0,0 +1,143 @@
+package com.kafkalens.common;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 마감 시각.
+ *
+ * <p>HTTP 요청마다 클라이언트가 결과를 기다리는 최대 시각을 담고, 현재 스레드에 연결되어
+ * Kafka 호출까지 전달됩니다. Admin 호출의 {@code timeoutMs}와 컨슈머 poll 시간은
+ * 남은 시간으로 줄어들고, 마감이 지났거나 클라이언트가 요청을 포기해 {@link #cancel()}된 뒤에는
+ * 새 작업을 시작하지 않습니다.</p>
+ *
+ * <p>스레드 로컬에 보관되므로 비동기 후속 단계로 넘길 때는 {@link #current()}로 꺼낸 값을
+ * {@link #attach(RequestDeadline)}로 다시 연결해야 합니다.</p>
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+    private volatile boolean cancelled;
+
+    private RequestDeadline(long deadlineNanos, LongSupplier nanoClock) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 지금부터 {@code timeout} 뒤에 끝나는 마감을 생성합니다.
+     *
+     * @param timeout 남은 시간
+     * @return 요청 마감
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return after(timeout, System::nanoTime);
+    }
+
+    /**
+     * 주어진 시계 기준으로 {@code timeout} 뒤에 끝나는 마감을 생성합니다.
+     *
+     * @param timeout   남은 시간
+     * @param nanoClock 나노초 시계
+     * @return 요청 마감
+     */
+    public static RequestDeadline after(Duration timeout, LongSupplier nanoClock) {
+        return new RequestDeadline(nanoClock.getAsLong() + timeout.toNanos(), nanoClock);
+    }
+
+    /**
+     * 현재 스레드에 연결된 마감을 반환합니다.
+     *
+     * @return 요청 마감 (없으면 empty)
+     */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 마감을 현재 스레드에 연결합니다. 반환된 Scope를 닫으면 이전 값으로 복원됩니다.
+     *
+     * @param deadline 요청 마감 (null이면 연결 해제)
+     * @return 복원용 Scope
+     */
+    public static Scope attach(RequestDeadline deadline) {
+        RequestDeadline previous = CURRENT.get();
+        set(deadline);
+        return () -> set(previous);
+    }
+
+    /**
+     * 현재 마감까지 남은 시간과 {@code fallback} 중 짧은 쪽을 반환합니다.
+     *
+     * @param fallback 마감이 없을 때의 기본 시간
+     * @return 사용할 타임아웃
+     */
+    public static Duration remainingOr(Duration fallback) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return fallback;
+        }
+        Duration remaining = deadline.remaining();
+        return remaining.compareTo(fallback) < 0 ? remaining : fallback;
+    }
+
+    /**
+     * 현재 스레드의 마감이 지났거나 취소되었는지 확인합니다.
+     *
+     * @return 마감이 지났으면 true (마감이 없으면 false)
+     */
+    public static boolean isCurrentExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    /**
+     * 남은 시간을 반환합니다.
+     *
+     * @return 남은 시간 (지났거나 취소되었으면 0)
+     */
+    public Duration remaining() {
+        if (cancelled) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - nanoClock.getAsLong()));
+    }
+
+    /**
+     * 마감이 지났거나 취소되었는지 확인합니다.
+     *
+     * @return 더 이상 기다리는 클라이언트가 없으면 true
+     */
+    public boolean isExpired() {
+        return cancelled || deadlineNanos - nanoClock.getAsLong() <= 0;
+    }
+
+    /**
+     * 클라이언트가 요청을 포기했을 때 마감을 즉시 만료시킵니다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * 스레드 연결 범위.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
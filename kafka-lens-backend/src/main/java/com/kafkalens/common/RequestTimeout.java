@@ -0,0 +1,24 @@
+package com.kafkalens.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 요청 마감 시간.
+ *
+ * <p>컨트롤러 메서드(또는 클래스)에 붙이면 해당 요청의 {@link RequestDeadline}이 이 시간으로 설정됩니다.
+ * 클라이언트가 {@code X-Request-Timeout-Ms} 헤더로 더 짧은 시간을 보내면 헤더 값이 우선합니다.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequestTimeout {
+
+    /**
+     * 마감 시간 (밀리초).
+     */
+    long millis();
+}
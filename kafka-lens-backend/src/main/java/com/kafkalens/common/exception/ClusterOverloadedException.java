@@ -0,0 +1,46 @@
+package com.kafkalens.common.exception;
+
+import com.kafkalens.common.ErrorCode;
+
+import java.util.Map;
+
+/**
+ * 클러스터의 Admin 작업 허용량을 넘어 요청이 거부될 때 발생하는 예외.
+ */
+public class ClusterOverloadedException extends KafkaLensException {
+
+    private ClusterOverloadedException(String errorCode, String message, Map<String, Object> details) {
+        super(errorCode, message, details);
+    }
+
+    /**
+     * 동시 실행 수와 대기열이 모두 가득 찼을 때의 예외를 생성합니다.
+     *
+     * @param clusterId     클러스터 ID
+     * @param maxConcurrent 최대 동시 실행 수
+     * @param maxQueued     최대 대기 수
+     * @return ClusterOverloadedException
+     */
+    public static ClusterOverloadedException bulkheadFull(String clusterId, int maxConcurrent, int maxQueued) {
+        return new ClusterOverloadedException(
+                ErrorCode.CLUSTER_OVERLOADED,
+                String.format("Too many concurrent admin operations on cluster %s", clusterId),
+                Map.of("clusterId", clusterId, "maxConcurrent", maxConcurrent, "maxQueued", maxQueued)
+        );
+    }
+
+    /**
+     * 초당 작업 수 제한을 넘었을 때의 예외를 생성합니다.
+     *
+     * @param clusterId           클러스터 ID
+     * @param operationsPerSecond 초당 허용 작업 수
+     * @return ClusterOverloadedException
+     */
+    public static ClusterOverloadedException rateLimited(String clusterId, double operationsPerSecond) {
+        return new ClusterOverloadedException(
+                ErrorCode.CLUSTER_RATE_LIMITED,
+                String.format("Admin operation rate limit exceeded on cluster %s", clusterId),
+                Map.of("clusterId", clusterId, "operationsPerSecond", operationsPerSecond)
+        );
+    }
+}
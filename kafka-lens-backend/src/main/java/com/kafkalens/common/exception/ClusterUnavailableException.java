@@ -0,0 +1,26 @@
+package com.kafkalens.common.exception;
+
+import com.kafkalens.common.ErrorCode;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 클러스터의 서킷이 열려 요청을 즉시 거부할 때 발생하는 예외.
+ */
+public class ClusterUnavailableException extends KafkaLensException {
+
+    /**
+     * 클러스터 ID와 재시도 가능 시점으로 예외를 생성합니다.
+     *
+     * @param clusterId  클러스터 ID
+     * @param retryAfter 다시 시도할 수 있을 때까지 남은 시간
+     */
+    public ClusterUnavailableException(String clusterId, Duration retryAfter) {
+        super(
+                ErrorCode.CLUSTER_UNAVAILABLE,
+                String.format("Cluster %s is unreachable; failing fast until the circuit closes", clusterId),
+                Map.of("clusterId", clusterId, "retryAfterMs", retryAfter.toMillis())
+        );
+    }
+}
@@ -37,4 +37,21 @@ public class KafkaTimeoutException extends KafkaLensException {
                 Map.of("operation", operation)
         );
     }
+
+    private KafkaTimeoutException(String message, Map<String, Object> details) {
+        super(ErrorCode.KAFKA_TIMEOUT, message, details);
+    }
+
+    /**
+     * 요청 마감이 지나 Kafka 호출을 보내지 않았을 때의 예외를 생성합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return KafkaTimeoutException
+     */
+    public static KafkaTimeoutException deadlineExceeded(String clusterId) {
+        return new KafkaTimeoutException(
+                String.format("Request deadline exceeded before Kafka call on cluster %s", clusterId),
+                Map.of("clusterId", clusterId, "reason", "deadlineExceeded")
+        );
+    }
 }
@@ -0,0 +1,140 @@
+package com.kafkalens.config;
+
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.RequestTimeout;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 요청 마감 인터셉터.
+ *
+ * <p>요청마다 {@link RequestDeadline}을 만들어 요청 스레드에 연결합니다. 마감 시간은
+ * {@code X-Request-Timeout-Ms} 헤더와 핸들러의 {@link RequestTimeout} 중 짧은 값이며,
+ * 둘 다 없으면 {@code defaultTimeout}을 사용합니다 (0이면 마감 없음).
+ * 모든 값은 {@code maxTimeout}을 넘지 않습니다.</p>
+ *
+ * <p>비동기 응답({@code CompletableFuture})을 기다리던 클라이언트가 연결을 끊거나 비동기 처리가
+ * 타임아웃되면 마감을 취소하여, 아직 시작하지 않은 후속 Kafka 호출이 전송되지 않도록 합니다.</p>
+ */
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestDeadlineInterceptor.class);
+
+    /**
+     * 클라이언트가 마감 시간을 지정하는 헤더.
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private static final String DEADLINE_ATTRIBUTE = RequestDeadlineInterceptor.class.getName() + ".deadline";
+    private static final String SCOPE_ATTRIBUTE = RequestDeadlineInterceptor.class.getName() + ".scope";
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineInterceptor(Duration defaultTimeout, Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline deadline = (RequestDeadline) request.getAttribute(DEADLINE_ATTRIBUTE);
+        if (deadline == null) {
+            Duration timeout = resolveTimeout(request, handler);
+            if (timeout == null) {
+                return true;
+            }
+            deadline = RequestDeadline.after(timeout);
+            request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+            WebAsyncUtils.getAsyncManager(request)
+                    .registerDeferredResultInterceptor(DEADLINE_ATTRIBUTE, new CancelOnAbandon(deadline));
+        }
+        request.setAttribute(SCOPE_ATTRIBUTE, RequestDeadline.attach(deadline));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        detach(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        detach(request);
+    }
+
+    /**
+     * 요청에 적용할 마감 시간을 결정합니다.
+     *
+     * @return 마감 시간 (마감을 두지 않으면 null)
+     */
+    Duration resolveTimeout(HttpServletRequest request, Object handler) {
+        Duration timeout = defaultTimeout.isZero() || defaultTimeout.isNegative() ? null : defaultTimeout;
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestTimeout annotation = AnnotatedElementUtils.findMergedAnnotation(
+                    handlerMethod.getMethod(), RequestTimeout.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(
+                        handlerMethod.getBeanType(), RequestTimeout.class);
+            }
+            if (annotation != null) {
+                timeout = Duration.ofMillis(annotation.millis());
+            }
+        }
+
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+                if (!requested.isNegative() && (timeout == null || requested.compareTo(timeout) < 0)) {
+                    timeout = requested;
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, header);
+            }
+        }
+
+        if (timeout != null && timeout.compareTo(maxTimeout) > 0) {
+            timeout = maxTimeout;
+        }
+        return timeout;
+    }
+
+    private static void detach(HttpServletRequest request) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope instanceof RequestDeadline.Scope deadlineScope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            deadlineScope.close();
+        }
+    }
+
+    /**
+     * 비동기 처리 중 클라이언트가 떠나면 마감을 취소합니다.
+     */
+    private record CancelOnAbandon(RequestDeadline deadline) implements DeferredResultProcessingInterceptor {
+
+        @Override
+        public <T> boolean handleTimeout(NativeWebRequest request, DeferredResult<T> deferredResult) {
+            deadline.cancel();
+            return true;
+        }
+
+        @Override
+        public <T> boolean handleError(NativeWebRequest request, DeferredResult<T> deferredResult, Throwable t) {
+            deadline.cancel();
+            return true;
+        }
+    }
+}
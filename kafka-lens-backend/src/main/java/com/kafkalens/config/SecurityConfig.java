@@ -30,7 +30,7 @@ import java.util.List;
  * <h3>보안 설정</h3>
  * <ul>
  *     <li>/api/** - 인증 필요</li>
- *     <li>/actuator/health - 공개 접근 허용</li>
+ *     <li>/actuator/health, /actuator/health/** (liveness, readiness 그룹) - 공개 접근 허용</li>
  *     <li>기타 엔드포인트 - 공개 접근 허용</li>
  * </ul>
  *
@@ -77,7 +77,7 @@ public class SecurityConfig {
                 // 요청 인가 설정
                 .authorizeHttpRequests(auth -> auth
                         // Actuator 헬스 체크는 공개
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
                         // API 엔드포인트는 인증 필요
                         .requestMatchers("/api/**").authenticated()
                         // 기타 요청은 공개
@@ -156,6 +156,11 @@ public class SecurityConfig {
                 "Origin",
                 "X-Requested-With"
         ));
+        // 프론트엔드에서 읽을 수 있는 응답 헤더 (메타데이터 스냅샷 버전/경과 시간)
+        configuration.setExposedHeaders(Arrays.asList(
+                "X-Metadata-Version",
+                "X-Metadata-Staleness-Ms"
+        ));
         // 자격 증명 허용
         configuration.setAllowCredentials(true);
         // 캐시 시간 (초)
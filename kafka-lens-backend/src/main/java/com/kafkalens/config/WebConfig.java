@@ -0,0 +1,38 @@
+package com.kafkalens.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Spring MVC 설정.
+ *
+ * <p>API 요청에 {@link RequestDeadlineInterceptor}를 적용합니다.</p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    /**
+     * WebConfig 생성자.
+     *
+     * @param defaultTimeoutMs 헤더나 엔드포인트 설정이 없을 때의 요청 마감 시간 (0이면 마감 없음)
+     * @param maxTimeoutMs     요청 마감 시간 상한
+     */
+    public WebConfig(
+            @Value("${kafka.admin.request-deadline.default-ms:0}") long defaultTimeoutMs,
+            @Value("${kafka.admin.request-deadline.max-ms:60000}") long maxTimeoutMs
+    ) {
+        this.requestDeadlineInterceptor = new RequestDeadlineInterceptor(
+                Duration.ofMillis(defaultTimeoutMs), Duration.ofMillis(maxTimeoutMs));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestDeadlineInterceptor).addPathPatterns("/api/**");
+    }
+}
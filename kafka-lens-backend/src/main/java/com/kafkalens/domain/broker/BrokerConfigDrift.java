@@ -0,0 +1,30 @@
+package com.kafkalens.domain.broker;
+
+import java.util.List;
+
+/**
+ * 브로커 간 설정 불일치 정보.
+ *
+ * <p>같은 설정 키에 브로커마다 다른 값이 적용된 경우를 나타냅니다.
+ * 가장 많은 브로커가 사용하는 값을 기준 값으로 보고, 나머지 브로커를 이탈 브로커로 분류합니다.</p>
+ *
+ * @param key              설정 키
+ * @param majorityValue    가장 많은 브로커가 사용하는 값
+ * @param outlierBrokerIds 기준 값과 다른 값을 사용하는 브로커 ID 목록
+ * @param values           값별 브로커 목록 (브로커 수 내림차순)
+ */
+public record BrokerConfigDrift(
+        String key,
+        String majorityValue,
+        List<Integer> outlierBrokerIds,
+        List<ValueGroup> values
+) {
+    /**
+     * 같은 값을 사용하는 브로커 묶음.
+     *
+     * @param value     설정 값
+     * @param brokerIds 브로커 ID 목록 (오름차순)
+     */
+    public record ValueGroup(String value, List<Integer> brokerIds) {
+    }
+}
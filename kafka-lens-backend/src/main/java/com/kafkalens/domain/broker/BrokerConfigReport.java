@@ -0,0 +1,16 @@
+package com.kafkalens.domain.broker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클러스터 전체 브로커 설정 조회 결과.
+ *
+ * @param configs 브로커 ID -> 설정 키 -> 값 (민감 설정 제외)
+ * @param drift   브로커 간 설정 불일치 목록 (설정 키 오름차순)
+ */
+public record BrokerConfigReport(
+        Map<Integer, Map<String, String>> configs,
+        List<BrokerConfigDrift> drift
+) {
+}
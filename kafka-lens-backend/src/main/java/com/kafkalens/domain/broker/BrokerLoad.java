@@ -0,0 +1,31 @@
+package com.kafkalens.domain.broker;
+
+/**
+ * 브로커 부하 정보.
+ *
+ * <p>편차는 {@code (실제 - 이상값) / 이상값}이며, 양수면 이상값보다 많이 맡고 있다는 뜻입니다.</p>
+ *
+ * @param brokerId          브로커 ID
+ * @param rack              브로커 랙 정보 (null 가능)
+ * @param leaderCount       리더 파티션 수
+ * @param replicaCount      레플리카 수
+ * @param sizeBytes         디스크 사용량 (바이트. 집계가 없으면 null)
+ * @param bytesInPerSec     추정 초당 유입 바이트 (최근 두 디스크 사용량 집계 사이의 리더 로그 증가량. 없으면 null)
+ * @param idealLeaderCount  랙을 고려한 이상적인 리더 수
+ * @param idealReplicaCount 랙을 고려한 이상적인 레플리카 수
+ * @param leaderSkew        리더 수 편차
+ * @param replicaSkew       레플리카 수 편차
+ */
+public record BrokerLoad(
+        int brokerId,
+        String rack,
+        int leaderCount,
+        int replicaCount,
+        Long sizeBytes,
+        Double bytesInPerSec,
+        double idealLeaderCount,
+        double idealReplicaCount,
+        double leaderSkew,
+        double replicaSkew
+) {
+}
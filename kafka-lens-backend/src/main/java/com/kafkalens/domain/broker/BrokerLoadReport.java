@@ -0,0 +1,180 @@
+package com.kafkalens.domain.broker;
+
+import com.kafkalens.domain.storage.BrokerStorage;
+import com.kafkalens.domain.storage.StorageUsage;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 클러스터 브로커 부하 분포.
+ *
+ * <p>모든 브로커에 랙이 지정되어 있으면 랙 인지 배치를 기준으로, 랙마다 같은 몫을 맡고 랙 안에서는
+ * 브로커끼리 나누는 것을 이상값으로 봅니다. 랙이 없으면 모든 브로커가 같은 몫을 맡는 것이 이상값입니다.
+ * 클러스터 편차는 브로커 편차 절댓값 중 가장 큰 값입니다.</p>
+ *
+ * @param partitionCount  파티션 수
+ * @param replicaCount    현재 브로커에 있는 레플리카 수
+ * @param rackAware       랙 인지 기준 사용 여부
+ * @param leaderSkew      클러스터 리더 수 편차
+ * @param replicaSkew     클러스터 레플리카 수 편차
+ * @param bytesInWindowMs 유입량 추정에 사용한 두 집계 사이 간격 (밀리초. 추정하지 못했으면 null)
+ * @param brokers         브로커 ID순 부하 정보
+ */
+public record BrokerLoadReport(
+        int partitionCount,
+        int replicaCount,
+        boolean rackAware,
+        double leaderSkew,
+        double replicaSkew,
+        Long bytesInWindowMs,
+        List<BrokerLoad> brokers
+) {
+    public BrokerLoadReport {
+        brokers = brokers != null ? List.copyOf(brokers) : List.of();
+    }
+
+    /**
+     * 토픽 상세와 디스크 사용량으로 브로커 부하를 계산합니다.
+     *
+     * <p>파티션 수만큼 반복하므로 브로커 ID를 정렬된 배열의 위치로 바꿔 int/long 배열에 누적하며,
+     * 파티션마다 박싱된 값을 만들지 않습니다. 현재 브로커 목록에 없는 브로커의 레플리카와 리더가 없는 파티션은
+     * 브로커 부하에서 제외합니다.</p>
+     *
+     * <p>유입량은 각 파티션의 로그 증가량을 리더 브로커에 더해 추정합니다. 보존 정책으로 세그먼트가 지워진
+     * 파티션은 증가량을 0으로 보므로 실제보다 작게 추정될 수 있습니다.</p>
+     *
+     * @param nodes         브로커 노드 목록
+     * @param topics        토픽 상세
+     * @param usage         마지막 디스크 사용량 집계 (없으면 null)
+     * @param previousUsage 직전 디스크 사용량 집계 (없으면 null)
+     * @return 브로커 부하 분포
+     */
+    public static BrokerLoadReport compute(
+            Collection<Node> nodes,
+            Collection<TopicDescription> topics,
+            StorageUsage usage,
+            StorageUsage previousUsage
+    ) {
+        int[] ids = nodes.stream().mapToInt(Node::id).sorted().distinct().toArray();
+        int brokerCount = ids.length;
+        String[] racks = new String[brokerCount];
+        for (Node node : nodes) {
+            racks[Arrays.binarySearch(ids, node.id())] = node.rack();
+        }
+
+        int[] leaders = new int[brokerCount];
+        int[] replicas = new int[brokerCount];
+        long[] growthBytes = new long[brokerCount];
+        long windowMs = usage != null && previousUsage != null
+                ? Duration.between(previousUsage.computedAt(), usage.computedAt()).toMillis() : 0;
+        int partitionCount = 0;
+        int totalLeaders = 0;
+        int totalReplicas = 0;
+
+        for (TopicDescription topic : topics) {
+            for (TopicPartitionInfo partition : topic.partitions()) {
+                partitionCount++;
+                for (Node replica : partition.replicas()) {
+                    int index = Arrays.binarySearch(ids, replica.id());
+                    if (index >= 0) {
+                        replicas[index]++;
+                        totalReplicas++;
+                    }
+                }
+                int leader = partition.leader() != null ? Arrays.binarySearch(ids, partition.leader().id()) : -1;
+                if (leader < 0) {
+                    continue;
+                }
+                leaders[leader]++;
+                totalLeaders++;
+                if (windowMs > 0) {
+                    TopicPartition tp = new TopicPartition(topic.name(), partition.partition());
+                    long previous = previousUsage.partitionSizeBytes(tp);
+                    long current = usage.partitionSizeBytes(tp);
+                    if (previous >= 0 && current > previous) {
+                        growthBytes[leader] += current - previous;
+                    }
+                }
+            }
+        }
+
+        long[] sizes = new long[brokerCount];
+        Arrays.fill(sizes, -1);
+        if (usage != null) {
+            for (BrokerStorage storage : usage.brokers()) {
+                int index = Arrays.binarySearch(ids, storage.brokerId());
+                if (index >= 0) {
+                    sizes[index] = storage.sizeBytes();
+                }
+            }
+        }
+
+        boolean rackAware = brokerCount > 0 && Arrays.stream(racks).allMatch(Objects::nonNull);
+        double[] shares = idealShares(racks, rackAware);
+
+        List<BrokerLoad> loads = new ArrayList<>(brokerCount);
+        double leaderSkew = 0;
+        double replicaSkew = 0;
+        for (int i = 0; i < brokerCount; i++) {
+            double idealLeaders = shares[i] * totalLeaders;
+            double idealReplicas = shares[i] * totalReplicas;
+            double brokerLeaderSkew = skew(leaders[i], idealLeaders);
+            double brokerReplicaSkew = skew(replicas[i], idealReplicas);
+            leaderSkew = Math.max(leaderSkew, Math.abs(brokerLeaderSkew));
+            replicaSkew = Math.max(replicaSkew, Math.abs(brokerReplicaSkew));
+            loads.add(new BrokerLoad(
+                    ids[i],
+                    racks[i],
+                    leaders[i],
+                    replicas[i],
+                    sizes[i] >= 0 ? sizes[i] : null,
+                    windowMs > 0 ? round(growthBytes[i] * 1000.0 / windowMs) : null,
+                    round(idealLeaders),
+                    round(idealReplicas),
+                    brokerLeaderSkew,
+                    brokerReplicaSkew));
+        }
+
+        return new BrokerLoadReport(partitionCount, totalReplicas, rackAware, leaderSkew, replicaSkew,
+                windowMs > 0 ? windowMs : null, loads);
+    }
+
+    /**
+     * 브로커별 이상적인 몫을 계산합니다 (합계 1).
+     */
+    private static double[] idealShares(String[] racks, boolean rackAware) {
+        double[] shares = new double[racks.length];
+        if (!rackAware) {
+            Arrays.fill(shares, racks.length > 0 ? 1.0 / racks.length : 0);
+            return shares;
+        }
+        // 브로커 수만큼의 항목만 다루므로 맵을 사용
+        Map<String, Integer> brokersPerRack = new HashMap<>();
+        for (String rack : racks) {
+            brokersPerRack.merge(rack, 1, Integer::sum);
+        }
+        for (int i = 0; i < racks.length; i++) {
+            shares[i] = 1.0 / brokersPerRack.size() / brokersPerRack.get(racks[i]);
+        }
+        return shares;
+    }
+
+    private static double skew(int actual, double ideal) {
+        return ideal > 0 ? round((actual - ideal) / ideal) : 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -2,69 +2,209 @@ package com.kafkalens.domain.broker;
 
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.storage.StorageUsage;
+import com.kafkalens.domain.storage.StorageUsageService;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
 import org.apache.kafka.common.Node;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * 브로커 서비스.
  *
  * <p>브로커 관련 비즈니스 로직을 처리합니다.
- * 브로커 목록 조회, 상태 확인 등의 기능을 제공합니다.</p>
+ * 브로커 목록 조회, 상태 확인, 브로커 설정 조회와 브로커 간 설정 불일치 계산,
+ * 브로커 부하 분포 계산 기능을 제공합니다.</p>
+ *
+ * <p>메타데이터 스냅샷이 있으면 스냅샷에서 읽고, 없으면 브로커에 직접 조회합니다.</p>
  */
 @Service
 public class BrokerService {
 
     private static final Logger log = LoggerFactory.getLogger(BrokerService.class);
 
+    /**
+     * 브로커마다 다른 것이 정상인 설정 키. 불일치 계산에서 제외합니다.
+     */
+    static final Set<String> PER_BROKER_CONFIG_KEYS = Set.of(
+            "broker.id", "node.id", "broker.rack",
+            "listeners", "advertised.listeners", "advertised.host.name", "advertised.port", "host.name", "port",
+            "log.dir", "log.dirs", "metadata.log.dir");
+
     private final AdminClientWrapper adminClientWrapper;
     private final ClusterService clusterService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+    private final StorageUsageService storageUsageService;
 
     /**
      * BrokerService 생성자.
      *
-     * @param adminClientWrapper Kafka AdminClient 래퍼
-     * @param clusterService     클러스터 서비스
+     * @param adminClientWrapper  Kafka AdminClient 래퍼
+     * @param clusterService      클러스터 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     * @param storageUsageService 디스크 사용량 서비스
      */
-    public BrokerService(AdminClientWrapper adminClientWrapper, ClusterService clusterService) {
+    public BrokerService(
+            AdminClientWrapper adminClientWrapper,
+            ClusterService clusterService,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            StorageUsageService storageUsageService
+    ) {
         this.adminClientWrapper = adminClientWrapper;
         this.clusterService = clusterService;
+        this.metadataSnapshotter = metadataSnapshotter;
+        this.storageUsageService = storageUsageService;
     }
 
     /**
      * 클러스터의 브로커 목록을 조회합니다.
      *
      * @param clusterId 클러스터 ID
-     * @return 브로커 목록 (ID 오름차순 정렬)
+     * @return 브로커 목록 (ID 오름차순 정렬)과 읽은 스냅샷
      * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
      */
-    public List<Broker> listBrokers(String clusterId) {
+    public CompletableFuture<SnapshotResult<List<Broker>>> listBrokers(String clusterId) {
         log.debug("Listing brokers for cluster: {}", clusterId);
 
         validateClusterExists(clusterId);
 
-        AdminClientWrapper.ClusterInfo clusterInfo = adminClientWrapper.describeCluster(clusterId);
-
-        if (clusterInfo.nodes() == null || clusterInfo.nodes().isEmpty()) {
-            log.debug("No brokers found for cluster: {}", clusterId);
-            return List.of();
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        if (snapshot.isPresent()) {
+            return CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(snapshot.get(),
+                    toBrokers(clusterId, snapshot.get().brokers(), snapshot.get().controllerId())));
         }
 
-        int controllerId = clusterInfo.controller() != null ? clusterInfo.controller().id() : -1;
+        return adminClientWrapper.describeClusterAsync(clusterId)
+                .thenApply(clusterInfo -> SnapshotResult.direct(toBrokers(clusterId, clusterInfo.nodes(),
+                        clusterInfo.controller() != null ? clusterInfo.controller().id() : -1)));
+    }
 
-        List<Broker> brokers = clusterInfo.nodes().stream()
-                .map(node -> toBroker(node, controllerId))
-                .sorted(Comparator.comparingInt(Broker::id))
-                .collect(Collectors.toList());
+    /**
+     * 클러스터의 모든 브로커 설정을 한 번에 조회하고 브로커 간 설정 불일치를 계산합니다.
+     *
+     * <p>모든 브로커의 설정을 하나의 describeConfigs 요청으로 조회하며, 결과는 브로커별로 캐싱됩니다.
+     * 브로커 ID, 리스너, 로그 디렉터리처럼 브로커마다 다른 것이 정상인 설정은 불일치에서 제외합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 설정과 불일치 목록
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<BrokerConfigReport> getBrokerConfigs(String clusterId) {
+        log.debug("Describing all broker configs for cluster: {}", clusterId);
 
-        log.info("Found {} brokers for cluster: {}", brokers.size(), clusterId);
-        return brokers;
+        validateClusterExists(clusterId);
+
+        CompletableFuture<Collection<Node>> nodes = metadataSnapshotter.getSnapshot(clusterId)
+                .map(snapshot -> CompletableFuture.<Collection<Node>>completedFuture(snapshot.brokers()))
+                .orElseGet(() -> adminClientWrapper.describeClusterAsync(clusterId)
+                        .thenApply(clusterInfo -> clusterInfo.nodes() != null ? clusterInfo.nodes() : List.of()));
+
+        return nodes.thenCompose(brokerNodes -> brokerNodes.isEmpty()
+                        ? CompletableFuture.completedFuture(Map.<Integer, Map<String, String>>of())
+                        : adminClientWrapper.describeBrokerConfigsAsync(clusterId,
+                                brokerNodes.stream().map(Node::id).collect(Collectors.toList())))
+                .thenApply(configs -> {
+                    Map<Integer, Map<String, String>> sorted = new TreeMap<>();
+                    configs.forEach((brokerId, config) -> sorted.put(brokerId, new TreeMap<>(config)));
+                    return new BrokerConfigReport(sorted, computeDrift(sorted));
+                });
+    }
+
+    /**
+     * 브로커별 리더 수, 레플리카 수, 디스크 사용량, 추정 유입량과 랙 인지 기준 편차를 계산합니다.
+     *
+     * <p>메타데이터 스냅샷의 토픽 상세로 계산하므로 몇 초 간격으로 조회해도 브로커 조회가 늘어나지 않습니다.
+     * 스냅샷이 없으면 모든 토픽(내부 토픽 포함)을 청크 단위로 조회합니다. 디스크 사용량과 유입량은
+     * {@link StorageUsageService}의 최근 집계를 기다리지 않고 사용하며, 집계가 없으면 비워 둡니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 부하 분포와 읽은 스냅샷
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<SnapshotResult<BrokerLoadReport>> getBrokerLoad(String clusterId) {
+        log.debug("Computing broker load for cluster: {}", clusterId);
+
+        validateClusterExists(clusterId);
+
+        Optional<StorageUsageService.RecentUsages> usages = storageUsageService.peekRecentUsages(clusterId);
+        StorageUsage usage = usages.map(StorageUsageService.RecentUsages::latest).orElse(null);
+        StorageUsage previousUsage = usages.map(StorageUsageService.RecentUsages::previous).orElse(null);
+
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        if (snapshot.isPresent()) {
+            return CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(snapshot.get(),
+                    BrokerLoadReport.compute(
+                            snapshot.get().brokers(), snapshot.get().topics().values(), usage, previousUsage)));
+        }
+
+        return adminClientWrapper.describeClusterAsync(clusterId)
+                .thenCombine(adminClientWrapper.listTopicsAsync(clusterId, true)
+                                .thenCompose(topicNames -> adminClientWrapper.describeTopicsInChunksAsync(
+                                        clusterId, topicNames)),
+                        (clusterInfo, topics) -> {
+                            if (topics.isPartial()) {
+                                log.warn("{} topics on cluster {} could not be described",
+                                        topics.failedTopics().size(), clusterId);
+                            }
+                            return SnapshotResult.direct(BrokerLoadReport.compute(
+                                    clusterInfo.nodes() != null ? clusterInfo.nodes() : List.of(),
+                                    topics.descriptions().values(), usage, previousUsage));
+                        });
+    }
+
+    /**
+     * 브로커 간 설정 불일치를 계산합니다.
+     *
+     * <p>값이 없는 브로커(민감 설정 등)는 해당 키의 비교에서 제외합니다.</p>
+     *
+     * @param configs 브로커 ID -> 설정 맵
+     * @return 값이 둘 이상인 설정 키의 불일치 목록 (키 오름차순)
+     */
+    static List<BrokerConfigDrift> computeDrift(Map<Integer, Map<String, String>> configs) {
+        // 설정 키 -> 값 -> 브로커 ID 목록
+        Map<String, Map<String, List<Integer>>> brokersByValue = new TreeMap<>();
+        configs.forEach((brokerId, config) -> config.forEach((key, value) -> {
+            if (!PER_BROKER_CONFIG_KEYS.contains(key)) {
+                brokersByValue.computeIfAbsent(key, k -> new HashMap<>())
+                        .computeIfAbsent(value, v -> new ArrayList<>())
+                        .add(brokerId);
+            }
+        }));
+
+        List<BrokerConfigDrift> drift = new ArrayList<>();
+        brokersByValue.forEach((key, values) -> {
+            if (values.size() < 2) {
+                return;
+            }
+            List<BrokerConfigDrift.ValueGroup> groups = values.entrySet().stream()
+                    .map(e -> new BrokerConfigDrift.ValueGroup(
+                            e.getKey(), e.getValue().stream().sorted().collect(Collectors.toList())))
+                    .sorted(Comparator.<BrokerConfigDrift.ValueGroup>comparingInt(g -> -g.brokerIds().size())
+                            .thenComparing(BrokerConfigDrift.ValueGroup::value))
+                    .collect(Collectors.toList());
+            List<Integer> outliers = groups.stream().skip(1)
+                    .flatMap(group -> group.brokerIds().stream())
+                    .sorted()
+                    .collect(Collectors.toList());
+            drift.add(new BrokerConfigDrift(key, groups.get(0).value(), outliers, groups));
+        });
+        return drift;
     }
 
     // === Private Helper Methods ===
@@ -78,6 +218,24 @@ public class BrokerService {
         }
     }
 
+    /**
+     * 브로커 노드 목록을 브로커 목록으로 변환합니다.
+     */
+    private List<Broker> toBrokers(String clusterId, Collection<Node> nodes, int controllerId) {
+        if (nodes == null || nodes.isEmpty()) {
+            log.debug("No brokers found for cluster: {}", clusterId);
+            return List.of();
+        }
+
+        List<Broker> brokers = nodes.stream()
+                .map(node -> toBroker(node, controllerId))
+                .sorted(Comparator.comparingInt(Broker::id))
+                .collect(Collectors.toList());
+
+        log.info("Found {} brokers for cluster: {}", brokers.size(), clusterId);
+        return brokers;
+    }
+
     /**
      * Kafka Node를 Broker 도메인 객체로 변환합니다.
      *
@@ -1,5 +1,6 @@
 package com.kafkalens.domain.cluster;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,7 @@ import java.util.Objects;
  * @param bootstrapServers 부트스트랩 서버 목록
  * @param security         보안 설정
  * @param properties       추가 Admin Client 프로퍼티
+ * @param metadataRefreshInterval 메타데이터 스냅샷 갱신 주기 (선택사항, 없으면 전역 기본값)
  */
 public record Cluster(
         String id,
@@ -26,7 +28,8 @@ public record Cluster(
         String environment,
         List<String> bootstrapServers,
         SecurityConfig security,
-        Map<String, String> properties
+        Map<String, String> properties,
+        Duration metadataRefreshInterval
 ) {
     /**
      * Cluster 생성자.
@@ -47,6 +50,11 @@ public record Cluster(
         bootstrapServers = List.copyOf(bootstrapServers);
         properties = properties != null ? Map.copyOf(properties) : Collections.emptyMap();
         security = security != null ? security : SecurityConfig.plaintext();
+
+        if (metadataRefreshInterval != null
+                && (metadataRefreshInterval.isZero() || metadataRefreshInterval.isNegative())) {
+            throw new IllegalArgumentException("Metadata refresh interval must be positive");
+        }
     }
 
     /**
@@ -167,6 +175,7 @@ public record Cluster(
         private List<String> bootstrapServers;
         private SecurityConfig security;
         private Map<String, String> properties;
+        private Duration metadataRefreshInterval;
 
         public Builder id(String id) {
             this.id = id;
@@ -208,8 +217,14 @@ public record Cluster(
             return this;
         }
 
+        public Builder metadataRefreshInterval(Duration metadataRefreshInterval) {
+            this.metadataRefreshInterval = metadataRefreshInterval;
+            return this;
+        }
+
         public Cluster build() {
-            return new Cluster(id, name, description, environment, bootstrapServers, security, properties);
+            return new Cluster(id, name, description, environment, bootstrapServers, security, properties,
+                    metadataRefreshInterval);
         }
     }
 }
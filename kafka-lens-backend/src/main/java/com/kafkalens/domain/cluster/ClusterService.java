@@ -2,12 +2,22 @@ package com.kafkalens.domain.cluster;
 
 import com.kafkalens.api.v1.dto.ConnectionTestResult;
 import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.infrastructure.kafka.AdminCircuitBreaker;
 import com.kafkalens.infrastructure.kafka.AdminClientFactory;
+import com.kafkalens.infrastructure.kafka.AdminLatencyTracker;
+import com.kafkalens.infrastructure.kafka.AdminMetadataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 클러스터 서비스.
@@ -22,16 +32,35 @@ public class ClusterService {
 
     private final ClusterRepository clusterRepository;
     private final AdminClientFactory adminClientFactory;
+    private final AdminMetadataCache metadataCache;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+    private final AdminCircuitBreaker circuitBreaker;
+    private final AdminLatencyTracker latencyTracker;
 
     /**
      * ClusterService 생성자.
      *
-     * @param clusterRepository  클러스터 저장소
-     * @param adminClientFactory AdminClient 팩토리
+     * @param clusterRepository   클러스터 저장소
+     * @param adminClientFactory  AdminClient 팩토리
+     * @param metadataCache       클러스터 메타데이터 캐시
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     * @param circuitBreaker      클러스터별 Admin 서킷 브레이커
+     * @param latencyTracker      클러스터별 Admin 지연 시간 추적기
      */
-    public ClusterService(ClusterRepository clusterRepository, AdminClientFactory adminClientFactory) {
+    public ClusterService(
+            ClusterRepository clusterRepository,
+            AdminClientFactory adminClientFactory,
+            AdminMetadataCache metadataCache,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            AdminCircuitBreaker circuitBreaker,
+            AdminLatencyTracker latencyTracker
+    ) {
         this.clusterRepository = clusterRepository;
         this.adminClientFactory = adminClientFactory;
+        this.metadataCache = metadataCache;
+        this.metadataSnapshotter = metadataSnapshotter;
+        this.circuitBreaker = circuitBreaker;
+        this.latencyTracker = latencyTracker;
     }
 
     /**
@@ -78,6 +107,16 @@ public class ClusterService {
         return clusterRepository.findByEnvironment(environment);
     }
 
+    /**
+     * 클러스터의 Admin 서킷 상태를 조회합니다.
+     *
+     * @param id 클러스터 ID
+     * @return 서킷 상태
+     */
+    public AdminCircuitBreaker.State getCircuitState(String id) {
+        return circuitBreaker.getState(id);
+    }
+
     /**
      * 클러스터 연결을 테스트합니다.
      *
@@ -131,9 +170,34 @@ public class ClusterService {
 
     /**
      * 클러스터 설정을 다시 로드합니다.
+     *
+     * <p>설정이 변경되었거나 제거된 클러스터의 메타데이터 캐시와 스냅샷을 비우고 서킷과 지연 시간 기록을 초기화하며,
+     * 새로 추가된 클러스터의 스냅샷 갱신을 시작합니다.</p>
      */
     public void reloadClusters() {
         log.info("Reloading cluster configuration");
+
+        Map<String, Cluster> before = toMapById(clusterRepository.findAll());
         clusterRepository.reload();
+        Map<String, Cluster> after = toMapById(clusterRepository.findAll());
+
+        Set<String> clusterIds = new HashSet<>(before.keySet());
+        clusterIds.addAll(after.keySet());
+        Set<String> changedClusterIds = new HashSet<>();
+        for (String clusterId : clusterIds) {
+            if (!Objects.equals(before.get(clusterId), after.get(clusterId))) {
+                log.info("Cluster configuration changed, flushing metadata cache: {}", clusterId);
+                metadataCache.invalidate(clusterId);
+                circuitBreaker.reset(clusterId);
+                latencyTracker.reset(clusterId);
+                changedClusterIds.add(clusterId);
+            }
+        }
+        metadataSnapshotter.onClustersReloaded(changedClusterIds);
+    }
+
+    private Map<String, Cluster> toMapById(List<Cluster> clusters) {
+        return clusters.stream()
+                .collect(Collectors.toMap(Cluster::id, Function.identity(), (a, b) -> b));
     }
 }
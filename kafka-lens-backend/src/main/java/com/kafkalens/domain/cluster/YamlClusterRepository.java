@@ -13,6 +13,7 @@ import org.yaml.snakeyaml.Yaml;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -153,6 +154,10 @@ public class YamlClusterRepository implements ClusterRepository {
         Map<String, Object> clusterProps = (Map<String, Object>) data.getOrDefault("properties", Collections.emptyMap());
         Map<String, String> properties = parseProperties(mergeMaps(defaultProps, clusterProps));
 
+        // 메타데이터 스냅샷 갱신 주기 (클러스터 설정이 기본값을 덮어씀)
+        Object refreshInterval = data.getOrDefault("metadata-refresh-interval-ms",
+                defaults.get("metadata-refresh-interval-ms"));
+
         return Cluster.builder()
                 .id(id)
                 .name(name)
@@ -161,6 +166,7 @@ public class YamlClusterRepository implements ClusterRepository {
                 .bootstrapServers(bootstrapServers)
                 .security(security)
                 .properties(properties)
+                .metadataRefreshInterval(parseDurationMillis(refreshInterval))
                 .build();
     }
 
@@ -232,6 +238,16 @@ public class YamlClusterRepository implements ClusterRepository {
         return result;
     }
 
+    /**
+     * 밀리초 값을 Duration으로 파싱합니다.
+     */
+    private Duration parseDurationMillis(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return Duration.ofMillis(Long.parseLong(String.valueOf(value)));
+    }
+
     /**
      * 두 맵을 병합합니다 (클러스터 설정이 기본값을 덮어씁니다).
      */
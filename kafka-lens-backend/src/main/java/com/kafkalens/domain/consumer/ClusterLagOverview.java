@@ -0,0 +1,29 @@
+package com.kafkalens.domain.consumer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클러스터 전체 컨슈머 그룹 Lag 개요.
+ *
+ * @param totalLag     모든 그룹의 총 Lag 합
+ * @param groups       그룹 ID순 그룹별 Lag 개요
+ * @param failedGroups 오프셋 조회에 실패해 빠진 그룹 ID
+ */
+public record ClusterLagOverview(
+        long totalLag,
+        List<GroupLagOverview> groups,
+        Set<String> failedGroups
+) {
+    public ClusterLagOverview {
+        groups = groups != null ? List.copyOf(groups) : List.of();
+        failedGroups = failedGroups != null ? Set.copyOf(failedGroups) : Set.of();
+    }
+
+    /**
+     * 일부 그룹이 빠졌는지 여부를 반환합니다.
+     */
+    public boolean isPartial() {
+        return !failedGroups.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 클러스터 전체 컨슈머 그룹 오프셋.
+ *
+ * <p>Lag 계산의 원본 데이터로, 그룹별 커밋 오프셋과 커밋된 파티션의 끝 오프셋을 함께 담습니다.</p>
+ *
+ * @param committedOffsets 그룹 ID -> TopicPartition -> 커밋된 오프셋 맵
+ * @param endOffsets       TopicPartition -> 끝 오프셋 맵 (삭제된 토픽 등은 없을 수 있음)
+ * @param failedGroups     오프셋 조회에 실패해 빠진 그룹 ID
+ */
+public record ClusterOffsets(
+        Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets,
+        Map<TopicPartition, Long> endOffsets,
+        Set<String> failedGroups
+) {
+    public ClusterOffsets {
+        committedOffsets = committedOffsets != null ? committedOffsets : Map.of();
+        endOffsets = endOffsets != null ? endOffsets : Map.of();
+        failedGroups = failedGroups != null ? Set.copyOf(failedGroups) : Set.of();
+    }
+}
@@ -6,12 +6,16 @@ package com.kafkalens.domain.consumer;
  * <p>특정 파티션에 대한 컨슈머 그룹의 Lag 정보를 표현합니다.
  * Lag = endOffset - currentOffset 으로 계산됩니다.</p>
  *
+ * <p>{@code lagSeconds}는 커밋 오프셋의 메시지가 생산된 뒤 지난 시간으로, {@link LagSampler}가 기록한
+ * 끝 오프셋 이력에서 추정합니다. 이력이 없으면 null이며, 시간 기준 상태는 "unknown"입니다.</p>
+ *
  * @param groupId       컨슈머 그룹 ID
  * @param topic         토픽 이름
  * @param partition     파티션 번호
  * @param currentOffset 현재 커밋된 오프셋
  * @param endOffset     로그 끝 오프셋
  * @param lag           Lag (endOffset - currentOffset)
+ * @param lagSeconds    추정 Lag (초, 추정할 수 없으면 null)
  */
 public record ConsumerLag(
         String groupId,
@@ -19,13 +23,19 @@ public record ConsumerLag(
         int partition,
         long currentOffset,
         long endOffset,
-        long lag
+        long lag,
+        Long lagSeconds
 ) {
     /**
      * Lag 임계값 (1000 이상이면 warning)
      */
     public static final long WARNING_THRESHOLD = 1000L;
 
+    /**
+     * 시간 기준 Lag 임계값 (60초 이상이면 warning)
+     */
+    public static final long WARNING_THRESHOLD_SECONDS = 60L;
+
     /**
      * ConsumerLag 생성자.
      * lag가 음수가 되지 않도록 보장합니다.
@@ -54,7 +64,17 @@ public record ConsumerLag(
             long endOffset
     ) {
         long calculatedLag = Math.max(0L, endOffset - currentOffset);
-        return new ConsumerLag(groupId, topic, partition, currentOffset, endOffset, calculatedLag);
+        return new ConsumerLag(groupId, topic, partition, currentOffset, endOffset, calculatedLag, null);
+    }
+
+    /**
+     * 추정 Lag(초)를 지정한 복사본을 반환합니다.
+     *
+     * @param seconds 추정 Lag (초, 추정할 수 없으면 null)
+     * @return ConsumerLag 인스턴스
+     */
+    public ConsumerLag withLagSeconds(Long seconds) {
+        return new ConsumerLag(groupId, topic, partition, currentOffset, endOffset, lag, seconds);
     }
 
     /**
@@ -89,4 +109,39 @@ public record ConsumerLag(
         }
         return "normal";
     }
+
+    /**
+     * 추정 Lag가 시간 기준 warning 임계값 이상인지 확인합니다.
+     *
+     * @return 추정 Lag >= 60초 이면 true (추정할 수 없으면 false)
+     */
+    public boolean isTimeWarning() {
+        return lagSeconds != null && lagSeconds >= WARNING_THRESHOLD_SECONDS;
+    }
+
+    /**
+     * 추정 Lag가 시간 기준 critical 임계값 이상인지 확인합니다.
+     * (600초 이상이면 critical)
+     *
+     * @return 추정 Lag >= 600초 이면 true (추정할 수 없으면 false)
+     */
+    public boolean isTimeCritical() {
+        return lagSeconds != null && lagSeconds >= WARNING_THRESHOLD_SECONDS * 10;
+    }
+
+    /**
+     * 시간 기준 Lag 상태를 반환합니다.
+     *
+     * @return "critical", "warning", "normal", 또는 추정할 수 없으면 "unknown"
+     */
+    public String getTimeStatus() {
+        if (lagSeconds == null) {
+            return "unknown";
+        } else if (isTimeCritical()) {
+            return "critical";
+        } else if (isTimeWarning()) {
+            return "warning";
+        }
+        return "normal";
+    }
 }
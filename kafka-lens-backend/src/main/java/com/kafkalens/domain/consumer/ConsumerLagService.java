@@ -3,43 +3,90 @@ package com.kafkalens.domain.consumer;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.ClusterRepository;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * 컨슈머 Lag 서비스.
  *
  * <p>컨슈머 그룹의 Lag를 계산하고 요약 정보를 제공합니다.
  * Lag = endOffset - currentOffset 으로 계산됩니다.</p>
+ *
+ * <p>클러스터 전체 Lag는 그룹 오프셋을 다중 그룹 요청으로 청크 단위 조회하고,
+ * 모든 그룹이 커밋한 파티션의 합집합에 대해 끝 오프셋을 한 번만 조회하여 계산합니다.</p>
+ *
+ * <p>파티션별 Lag에는 {@link LagHistoryStore}에 기록된 끝 오프셋 이력으로 추정한 시간 기준 Lag(초)를
+ * 함께 담습니다. 추정은 메모리의 이력만 읽으므로 브로커를 추가로 호출하지 않습니다.</p>
+ *
+ * <p>{@link ConsumerOffsetsLagEngine}이 클러스터의 {@code __consumer_offsets}를 따라잡았으면, 클러스터 전체 오프셋은
+ * 그룹 오프셋을 조회하지 않고 엔진의 커밋 오프셋과 주기적으로 조회한 끝 오프셋에서 가져옵니다.</p>
  */
 @Service
 public class ConsumerLagService {
 
     private static final Logger log = LoggerFactory.getLogger(ConsumerLagService.class);
 
+    /**
+     * Lag 상위 목록별 최대 개수.
+     */
+    public static final int MAX_TOP_LAG_LIMIT = 1000;
+
     private final ClusterRepository clusterRepository;
     private final AdminClientWrapper adminClientWrapper;
+    private final LagHistoryStore historyStore;
+    private final ConsumerOffsetsLagEngine lagEngine;
+    private final Clock clock;
 
     /**
      * ConsumerLagService 생성자.
      *
      * @param clusterRepository  클러스터 저장소
      * @param adminClientWrapper AdminClient 래퍼
+     * @param historyStore       Lag 이력 저장소
+     * @param lagEngine          __consumer_offsets 기반 증분 Lag 엔진
      */
+    @Autowired
     public ConsumerLagService(
             ClusterRepository clusterRepository,
-            AdminClientWrapper adminClientWrapper
+            AdminClientWrapper adminClientWrapper,
+            LagHistoryStore historyStore,
+            ConsumerOffsetsLagEngine lagEngine
+    ) {
+        this(clusterRepository, adminClientWrapper, historyStore, lagEngine, Clock.systemUTC());
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    ConsumerLagService(
+            ClusterRepository clusterRepository,
+            AdminClientWrapper adminClientWrapper,
+            LagHistoryStore historyStore,
+            ConsumerOffsetsLagEngine lagEngine,
+            Clock clock
     ) {
         this.clusterRepository = clusterRepository;
         this.adminClientWrapper = adminClientWrapper;
+        this.historyStore = historyStore;
+        this.lagEngine = lagEngine;
+        this.clock = clock;
     }
 
     /**
@@ -61,7 +108,7 @@ public class ConsumerLagService {
      * @return ConsumerLagSummary
      * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
      */
-    public ConsumerLagSummary getLagSummary(String clusterId, String groupId) {
+    public CompletableFuture<ConsumerLagSummary> getLagSummary(String clusterId, String groupId) {
         log.debug("Getting lag summary for cluster: {}, group: {}", clusterId, groupId);
 
         // 클러스터 존재 확인
@@ -70,26 +117,168 @@ public class ConsumerLagService {
         }
 
         // 컨슈머 그룹 오프셋 조회
-        Map<TopicPartition, OffsetAndMetadata> consumerOffsets =
-                adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId);
+        return adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId)
+                .thenCompose(consumerOffsets -> {
+                    // 오프셋이 없으면 빈 요약 반환
+                    if (consumerOffsets == null || consumerOffsets.isEmpty()) {
+                        log.debug("No offsets found for consumer group: {}", groupId);
+                        return CompletableFuture.completedFuture(ConsumerLagSummary.empty(groupId));
+                    }
+
+                    // End 오프셋 조회
+                    return adminClientWrapper.getEndOffsetsAsync(clusterId, consumerOffsets.keySet())
+                            .thenApply(endOffsets -> toLagSummary(clusterId, groupId, consumerOffsets, endOffsets));
+                });
+    }
+
+    /**
+     * 클러스터의 모든 컨슈머 그룹 Lag 개요를 조회합니다.
+     *
+     * <p>그룹마다 오프셋과 끝 오프셋을 따로 조회하지 않고, 그룹 오프셋은 청크 단위 다중 그룹 요청으로,
+     * 끝 오프셋은 중복을 제거한 파티션 합집합에 대해 한 번만 조회한 뒤 한 번 훑어 그룹별로 집계합니다.
+     * 오프셋 조회에 실패한 청크의 그룹은 {@link ClusterLagOverview#failedGroups()}에 담습니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 그룹 ID순 Lag 개요
+     * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
+     */
+    public CompletableFuture<ClusterLagOverview> getClusterLagOverview(String clusterId) {
+        log.debug("Getting lag overview of all consumer groups for cluster: {}", clusterId);
+
+        return fetchClusterOffsets(clusterId).thenApply(offsets -> toLagOverview(
+                offsets.committedOffsets(), offsets.endOffsets(), offsets.failedGroups()));
+    }
+
+    /**
+     * 클러스터 전체에서 Lag가 큰 그룹-파티션, 컨슈머 그룹, 토픽을 조회합니다.
+     *
+     * <p>이미 메모리에 있는 오프셋을 우선 사용합니다. 증분 Lag 엔진이 준비되었으면 엔진의 오프셋을,
+     * 아니면 {@link LagSampler}가 마지막으로 기록한 회차를 사용하고, 둘 다 없을 때만
+     * {@link #fetchClusterOffsets(String)}로 조회합니다. 목록은 크기가 {@code limit}인 힙으로 고르므로
+     * 그룹-파티션 수에 대해 O(P log N)입니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param limit     목록별 최대 개수 (1 ~ {@value #MAX_TOP_LAG_LIMIT}로 보정)
+     * @return Lag 내림차순 상위 목록
+     * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
+     */
+    public CompletableFuture<TopLagReport> getTopLag(String clusterId, int limit) {
+        log.debug("Getting top {} lag for cluster: {}", limit, clusterId);
+
+        if (!clusterRepository.existsById(clusterId)) {
+            throw new ClusterNotFoundException(clusterId);
+        }
+
+        int effectiveLimit = Math.max(1, Math.min(limit, MAX_TOP_LAG_LIMIT));
+
+        Optional<ClusterOffsets> tailed = lagEngine.currentOffsets(clusterId);
+        if (tailed.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    TopLagSelector.select(tailed.get(), effectiveLimit, clock.instant()));
+        }
+
+        Optional<LagHistoryStore.LatestSample> sampled = historyStore.latest(clusterId);
+        if (sampled.isPresent()) {
+            return CompletableFuture.completedFuture(TopLagSelector.select(
+                    sampled.get().offsets(), effectiveLimit, sampled.get().sampledAt()));
+        }
+
+        return fetchClusterOffsets(clusterId)
+                .thenApply(offsets -> TopLagSelector.select(offsets, effectiveLimit, clock.instant()));
+    }
+
+    /**
+     * 토픽에 오프셋을 커밋한 컨슈머 그룹과 그룹별 Lag를 조회합니다.
+     *
+     * <p>{@link #getTopLag(String, int)}와 같은 순서로 메모리의 오프셋을 사용합니다. {@link LagSampler}가
+     * 기록한 회차는 기록할 때 만든 {@link TopicLagIndex}에서 바로 읽고, 증분 Lag 엔진의 오프셋은
+     * 해당 토픽만 집계합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 그룹별 Lag ({@link LagRank#name()}은 그룹 ID)
+     * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
+     */
+    public CompletableFuture<List<LagRank>> getTopicGroupLag(String clusterId, String topicName) {
+        log.debug("Getting consumer group lag of topic {} for cluster: {}", topicName, clusterId);
+
+        if (!clusterRepository.existsById(clusterId)) {
+            throw new ClusterNotFoundException(clusterId);
+        }
+
+        Optional<ClusterOffsets> tailed = lagEngine.currentOffsets(clusterId);
+        if (tailed.isPresent()) {
+            return CompletableFuture.completedFuture(TopicLagIndex.groups(tailed.get(), topicName));
+        }
+
+        Optional<LagHistoryStore.LatestSample> sampled = historyStore.latest(clusterId);
+        if (sampled.isPresent()) {
+            return CompletableFuture.completedFuture(sampled.get().topicLag().groups(topicName));
+        }
+
+        return fetchClusterOffsets(clusterId).thenApply(offsets -> TopicLagIndex.groups(offsets, topicName));
+    }
+
+    /**
+     * 클러스터의 모든 컨슈머 그룹 커밋 오프셋과, 커밋된 파티션들의 끝 오프셋을 조회합니다.
+     *
+     * <p>그룹 오프셋은 청크 단위 다중 그룹 요청으로, 끝 오프셋은 중복을 제거한 파티션 합집합에 대해
+     * 한 번만 조회합니다. 클러스터 전체 Lag 개요와 Lag 샘플링이 함께 사용합니다.
+     * 증분 Lag 엔진이 준비된 클러스터는 브로커를 호출하지 않고 엔진의 오프셋을 반환합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 그룹별 커밋 오프셋과 파티션별 끝 오프셋
+     * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
+     */
+    public CompletableFuture<ClusterOffsets> fetchClusterOffsets(String clusterId) {
+        if (!clusterRepository.existsById(clusterId)) {
+            throw new ClusterNotFoundException(clusterId);
+        }
 
-        // 오프셋이 없으면 빈 요약 반환
-        if (consumerOffsets == null || consumerOffsets.isEmpty()) {
-            log.debug("No offsets found for consumer group: {}", groupId);
-            return ConsumerLagSummary.empty(groupId);
+        Optional<ClusterOffsets> tailed = lagEngine.currentOffsets(clusterId);
+        if (tailed.isPresent()) {
+            log.debug("Using consumer offsets lag engine for cluster: {}", clusterId);
+            return CompletableFuture.completedFuture(tailed.get());
         }
 
-        // 토픽 파티션 목록
-        Set<TopicPartition> topicPartitions = consumerOffsets.keySet();
+        return adminClientWrapper.listConsumerGroupsAsync(clusterId)
+                .thenCompose(listings -> adminClientWrapper.listConsumerGroupOffsetsInChunksAsync(clusterId,
+                        listings.stream().map(ConsumerGroupListing::groupId).collect(Collectors.toList())))
+                .thenCompose(groupOffsets -> {
+                    if (groupOffsets.isPartial()) {
+                        log.warn("Offsets of {} consumer groups on cluster {} could not be listed",
+                                groupOffsets.failedGroups().size(), clusterId);
+                    }
+
+                    Set<TopicPartition> partitions = new HashSet<>();
+                    groupOffsets.offsets().values().forEach(offsets -> partitions.addAll(offsets.keySet()));
+                    if (partitions.isEmpty()) {
+                        return CompletableFuture.completedFuture(new ClusterOffsets(
+                                groupOffsets.offsets(), Map.of(), groupOffsets.failedGroups()));
+                    }
 
-        // End 오프셋 조회
-        Map<TopicPartition, Long> endOffsets =
-                adminClientWrapper.getEndOffsets(clusterId, topicPartitions);
+                    return adminClientWrapper.getEndOffsetsAsync(clusterId, partitions)
+                            .thenApply(endOffsets -> new ClusterOffsets(
+                                    groupOffsets.offsets(), endOffsets, groupOffsets.failedGroups()));
+                });
+    }
+
+    // === Private Helper Methods ===
 
+    /**
+     * 커밋 오프셋과 End 오프셋으로 Lag 요약을 만듭니다.
+     */
+    private ConsumerLagSummary toLagSummary(
+            String clusterId,
+            String groupId,
+            Map<TopicPartition, OffsetAndMetadata> consumerOffsets,
+            Map<TopicPartition, Long> endOffsets
+    ) {
         // 파티션별 Lag 계산
         List<ConsumerLag> partitionLags = new ArrayList<>();
+        Instant now = clock.instant();
 
-        for (TopicPartition tp : topicPartitions) {
+        for (TopicPartition tp : consumerOffsets.keySet()) {
             OffsetAndMetadata offsetAndMetadata = consumerOffsets.get(tp);
             Long endOffset = endOffsets.get(tp);
 
@@ -103,7 +292,9 @@ public class ConsumerLagService {
                         tp.partition(),
                         currentOffset,
                         endOffset
-                );
+                ).withLagSeconds(lag > 0
+                        ? historyStore.estimateLagSeconds(clusterId, tp, currentOffset, now).orElse(null)
+                        : Long.valueOf(0L));
 
                 partitionLags.add(consumerLag);
 
@@ -123,9 +314,60 @@ public class ConsumerLagService {
 
         ConsumerLagSummary summary = ConsumerLagSummary.of(groupId, partitionLags);
 
-        log.info("Lag summary for group {}: totalLag={}, partitions={}, warnings={}",
-                groupId, summary.totalLag(), summary.partitionCount(), summary.warningCount());
+        log.info("Lag summary for group {}: totalLag={}, maxLagSeconds={}, partitions={}, warnings={}",
+                groupId, summary.totalLag(), summary.maxLagSeconds(), summary.partitionCount(),
+                summary.warningCount());
 
         return summary;
     }
+
+    /**
+     * 그룹별 커밋 오프셋과 끝 오프셋으로 그룹별 Lag 개요를 만듭니다.
+     *
+     * <p>끝 오프셋이 없는 파티션(삭제된 토픽 등)은 제외합니다.</p>
+     */
+    private ClusterLagOverview toLagOverview(
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> groupOffsets,
+            Map<TopicPartition, Long> endOffsets,
+            Set<String> failedGroups
+    ) {
+        List<GroupLagOverview> groups = new ArrayList<>(groupOffsets.size());
+        long clusterLag = 0;
+
+        for (Map.Entry<String, Map<TopicPartition, OffsetAndMetadata>> group : groupOffsets.entrySet()) {
+            long totalLag = 0;
+            long maxLag = 0;
+            int partitionCount = 0;
+            int warningCount = 0;
+            int criticalCount = 0;
+
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> committed : group.getValue().entrySet()) {
+                Long endOffset = endOffsets.get(committed.getKey());
+                if (endOffset == null) {
+                    continue;
+                }
+                long lag = calculateLag(committed.getValue().offset(), endOffset);
+                totalLag += lag;
+                maxLag = Math.max(maxLag, lag);
+                partitionCount++;
+                if (lag >= ConsumerLag.WARNING_THRESHOLD) {
+                    warningCount++;
+                }
+                if (lag >= ConsumerLag.WARNING_THRESHOLD * 10) {
+                    criticalCount++;
+                }
+            }
+
+            groups.add(new GroupLagOverview(
+                    group.getKey(), totalLag, maxLag, partitionCount, warningCount, criticalCount));
+            clusterLag += totalLag;
+        }
+
+        groups.sort(Comparator.comparing(GroupLagOverview::groupId));
+
+        log.info("Lag overview: {} groups, totalLag={}, failedGroups={}",
+                groups.size(), clusterLag, failedGroups.size());
+
+        return new ClusterLagOverview(clusterLag, groups, failedGroups);
+    }
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -89,6 +90,41 @@ public record ConsumerLagSummary(
                 .count();
     }
 
+    /**
+     * 파티션 추정 Lag(초) 중 최댓값을 반환합니다.
+     *
+     * @return 최대 추정 Lag (초, 추정된 파티션이 없으면 null)
+     */
+    public Long maxLagSeconds() {
+        return partitionLags.stream()
+                .map(ConsumerLag::lagSeconds)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+    }
+
+    /**
+     * 시간 기준 warning 상태인 파티션 수를 반환합니다.
+     *
+     * @return 시간 기준 warning 상태 파티션 수
+     */
+    public long timeWarningCount() {
+        return partitionLags.stream()
+                .filter(ConsumerLag::isTimeWarning)
+                .count();
+    }
+
+    /**
+     * 시간 기준 critical 상태인 파티션 수를 반환합니다.
+     *
+     * @return 시간 기준 critical 상태 파티션 수
+     */
+    public long timeCriticalCount() {
+        return partitionLags.stream()
+                .filter(ConsumerLag::isTimeCritical)
+                .count();
+    }
+
     /**
      * 전체 Lag가 warning 임계값 이상인지 확인합니다.
      *
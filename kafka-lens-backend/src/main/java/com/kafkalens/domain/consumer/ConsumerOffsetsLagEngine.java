@@ -0,0 +1,375 @@
+package com.kafkalens.domain.consumer;
+
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import com.kafkalens.infrastructure.kafka.ConsumerOffsetsDecoder;
+import com.kafkalens.infrastructure.kafka.KafkaConsumerFactory;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@code __consumer_offsets}를 구독하는 증분 Lag 엔진.
+ *
+ * <p>{@code kafka.lag.engine.enabled}가 켜져 있으면 대상 클러스터마다 전용 스레드에서
+ * {@link KafkaConsumerFactory}로 만든 컨슈머를 내부 토픽의 모든 파티션에 할당(그룹 가입 없음)하여 처음부터 읽고,
+ * 오프셋 커밋 레코드를 {@link ConsumerOffsetsDecoder}로 해석해 그룹별 커밋 오프셋 맵을 커밋마다 갱신합니다.
+ * 오프셋 삭제와 그룹 삭제 레코드는 맵에서 제거합니다. 트랜잭션으로 커밋된 오프셋(sendOffsetsToTransaction)이
+ * 중단된 경우를 반영하지 않도록 {@code isolation.level=read_committed}로 읽습니다.
+ * 대상 클러스터는 {@code kafka.lag.engine.cluster-ids}(쉼표 구분, 비어 있으면 모든 클러스터)로 지정합니다.</p>
+ *
+ * <p>끝 오프셋은 {@code kafka.lag.engine.end-offsets-interval-ms}마다 커밋된 파티션 합집합에 대해 한 번에
+ * 조회합니다. 따라서 그룹 수와 관계없이 브로커 비용이 거의 일정하며, 커밋 오프셋은 거의 실시간, 끝 오프셋은
+ * 최대 한 주기만큼 늦습니다. 끝 오프셋 조회는 {@link BackgroundWork}로 표시되어 AdminClient 풀의 유휴 시간을
+ * 늘리지 않으며, 풀이 유휴 정리된 클러스터는 다시 요청이 올 때까지 조회를 건너뛰고 끝 오프셋을 최신이 아닌
+ * 것으로 표시합니다.</p>
+ *
+ * <p>시작 시점의 끝까지 읽기 전(따라잡기 중)이거나 따라잡은 뒤 끝 오프셋을 아직 조회하지 못했으면
+ * {@link #currentOffsets(String)}는 빈 Optional을 반환하며, 호출하는 쪽은 listConsumerGroupOffsets로 조회합니다.
+ * 컨슈머 오류가 나면 상태를 버리고 {@code kafka.lag.engine.retry-backoff-ms} 뒤 처음부터 다시 읽습니다.</p>
+ */
+@Component
+public class ConsumerOffsetsLagEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumerOffsetsLagEngine.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * 중단된 트랜잭션의 오프셋 커밋을 반영하지 않도록 커밋된 레코드만 읽습니다.
+     */
+    static final Map<String, Object> CONSUMER_OVERRIDES =
+            Map.of(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+
+    private final ClusterRepository clusterRepository;
+    private final KafkaConsumerFactory consumerFactory;
+    private final AdminClientWrapper adminClientWrapper;
+    private final boolean enabled;
+    private final Set<String> clusterIds;
+    private final Duration endOffsetsInterval;
+    private final Duration retryBackoff;
+
+    private final Map<String, Tail> tails = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * ConsumerOffsetsLagEngine 생성자.
+     *
+     * @param clusterRepository    클러스터 저장소
+     * @param consumerFactory      Kafka Consumer 팩토리
+     * @param adminClientWrapper   AdminClient 래퍼
+     * @param enabled              엔진 사용 여부
+     * @param clusterIds           대상 클러스터 ID (비어 있으면 모든 클러스터)
+     * @param endOffsetsIntervalMs 끝 오프셋 조회 주기 (밀리초)
+     * @param retryBackoffMs       컨슈머 오류 후 다시 읽기까지 대기 시간 (밀리초)
+     */
+    public ConsumerOffsetsLagEngine(
+            ClusterRepository clusterRepository,
+            KafkaConsumerFactory consumerFactory,
+            AdminClientWrapper adminClientWrapper,
+            @Value("${kafka.lag.engine.enabled:false}") boolean enabled,
+            @Value("${kafka.lag.engine.cluster-ids:}") Set<String> clusterIds,
+            @Value("${kafka.lag.engine.end-offsets-interval-ms:10000}") long endOffsetsIntervalMs,
+            @Value("${kafka.lag.engine.retry-backoff-ms:10000}") long retryBackoffMs
+    ) {
+        this.clusterRepository = clusterRepository;
+        this.consumerFactory = consumerFactory;
+        this.adminClientWrapper = adminClientWrapper;
+        this.enabled = enabled;
+        this.clusterIds = clusterIds != null
+                ? clusterIds.stream().filter(id -> !id.isBlank()).collect(Collectors.toSet())
+                : Set.of();
+        this.endOffsetsInterval = Duration.ofMillis(endOffsetsIntervalMs);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+    }
+
+    /**
+     * 애플리케이션 기동 후 대상 클러스터의 구독을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lag-engine-end-offsets");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncClusters();
+    }
+
+    /**
+     * 모든 구독을 중지합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        tails.values().forEach(Tail::stop);
+        tails.clear();
+    }
+
+    /**
+     * 엔진이 유지하는 클러스터의 커밋 오프셋과 끝 오프셋을 반환합니다.
+     *
+     * <p>끝 오프셋을 아직 조회하지 못한 파티션은 {@link ClusterOffsets#endOffsets()}에 없습니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 그룹별 커밋 오프셋과 끝 오프셋 (엔진 대상이 아니거나 아직 따라잡는 중이면 빈 Optional)
+     */
+    public Optional<ClusterOffsets> currentOffsets(String clusterId) {
+        Tail tail = tails.get(clusterId);
+        if (tail == null || !tail.isReady()) {
+            return Optional.empty();
+        }
+
+        Map<String, Map<TopicPartition, OffsetAndMetadata>> committed = new HashMap<>(tail.committed.size());
+        tail.committed.forEach((groupId, offsets) -> {
+            Map<TopicPartition, OffsetAndMetadata> groupOffsets = new HashMap<>(offsets.size());
+            offsets.forEach((tp, offset) -> groupOffsets.put(tp, new OffsetAndMetadata(offset)));
+            if (!groupOffsets.isEmpty()) {
+                committed.put(groupId, groupOffsets);
+            }
+        });
+        return Optional.of(new ClusterOffsets(committed, tail.endOffsets, Set.of()));
+    }
+
+    /**
+     * 레코드 하나를 커밋 오프셋 맵에 반영합니다.
+     *
+     * @param committed 그룹 ID -> 파티션 -> 커밋 오프셋 맵
+     * @param record    해석된 레코드
+     */
+    static void apply(Map<String, Map<TopicPartition, Long>> committed, ConsumerOffsetsDecoder.OffsetCommit record) {
+        if (record.isGroupDeletion()) {
+            committed.remove(record.groupId());
+        } else if (record.isOffsetDeletion()) {
+            committed.computeIfPresent(record.groupId(), (id, offsets) -> {
+                offsets.remove(record.partition());
+                return offsets.isEmpty() ? null : offsets;
+            });
+        } else {
+            committed.computeIfAbsent(record.groupId(), id -> new ConcurrentHashMap<>())
+                    .put(record.partition(), record.offset());
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 구독하지 않는 대상 클러스터의 구독을 시작하고, 제거된 클러스터의 구독을 중지합니다.
+     */
+    private synchronized void syncClusters() {
+        if (scheduler == null) {
+            return;
+        }
+
+        for (Cluster cluster : clusterRepository.findAll()) {
+            if ((clusterIds.isEmpty() || clusterIds.contains(cluster.id())) && !tails.containsKey(cluster.id())) {
+                Tail tail = new Tail(cluster.id());
+                tails.put(cluster.id(), tail);
+                tail.thread.start();
+                scheduleEndOffsets(tail, Duration.ZERO);
+            }
+        }
+        tails.entrySet().removeIf(entry -> {
+            if (clusterRepository.existsById(entry.getKey())) {
+                return false;
+            }
+            log.info("Cluster {} was removed, stopping consumer offsets lag engine", entry.getKey());
+            entry.getValue().stop();
+            return true;
+        });
+    }
+
+    private void scheduleEndOffsets(Tail tail, Duration delay) {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || !tail.running) {
+            return;
+        }
+        current.schedule(() -> refreshEndOffsets(tail), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 커밋된 파티션 합집합의 끝 오프셋을 한 번에 조회하고, 끝나면 다음 조회를 예약합니다.
+     */
+    private void refreshEndOffsets(Tail tail) {
+        syncClusters();
+        if (!tail.running) {
+            return;
+        }
+
+        // 따라잡은 뒤 모은 파티션으로 조회해야 끝 오프셋이 모든 커밋 파티션을 포함함
+        boolean caughtUp = tail.caughtUp;
+        Set<TopicPartition> partitions = new HashSet<>();
+        tail.committed.values().forEach(offsets -> partitions.addAll(offsets.keySet()));
+        if (partitions.isEmpty()) {
+            tail.endOffsets = Map.of();
+            tail.endOffsetsCurrent = caughtUp;
+            scheduleEndOffsets(tail, endOffsetsInterval);
+            return;
+        }
+        if (adminClientWrapper.isClientIdle(tail.clusterId)) {
+            // 유휴 정리된 풀을 다시 만들지 않고, 그동안은 호출하는 쪽이 직접 조회하도록 함
+            tail.endOffsetsCurrent = false;
+            scheduleEndOffsets(tail, endOffsetsInterval);
+            return;
+        }
+
+        try (RequestDeadline.Scope ignored = BackgroundWork.begin()) {
+            adminClientWrapper.getEndOffsetsAsync(tail.clusterId, partitions).whenComplete((endOffsets, error) -> {
+                if (error != null) {
+                    log.warn("Failed to refresh end offsets for lag engine of cluster {}: {}",
+                            tail.clusterId, error.getMessage());
+                } else {
+                    tail.endOffsets = Map.copyOf(endOffsets);
+                    tail.endOffsetsCurrent = caughtUp && tail.caughtUp;
+                }
+                scheduleEndOffsets(tail, endOffsetsInterval);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh end offsets for lag engine of cluster {}: {}", tail.clusterId, e.getMessage());
+            scheduleEndOffsets(tail, endOffsetsInterval);
+        }
+    }
+
+    /**
+     * 클러스터 하나의 {@code __consumer_offsets} 구독 상태.
+     */
+    private final class Tail implements Runnable {
+
+        private final String clusterId;
+        private final Thread thread;
+        private final Map<String, Map<TopicPartition, Long>> committed = new ConcurrentHashMap<>();
+
+        private volatile Map<TopicPartition, Long> endOffsets = Map.of();
+        private volatile boolean endOffsetsCurrent;
+        private volatile boolean caughtUp;
+        private volatile boolean running = true;
+        private volatile KafkaConsumer<byte[], byte[]> consumer;
+
+        private Tail(String clusterId) {
+            this.clusterId = clusterId;
+            this.thread = new Thread(this, "lag-engine-" + clusterId);
+            this.thread.setDaemon(true);
+        }
+
+        private boolean isReady() {
+            return caughtUp && endOffsetsCurrent;
+        }
+
+        private void stop() {
+            running = false;
+            KafkaConsumer<byte[], byte[]> current = consumer;
+            if (current != null) {
+                current.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Optional<Cluster> cluster = clusterRepository.findById(clusterId);
+                if (cluster.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    tail(cluster.get());
+                } catch (WakeupException e) {
+                    // stop()에 의한 중지
+                } catch (RuntimeException e) {
+                    log.warn("Consumer offsets lag engine of cluster {} failed, restarting in {} ms: {}",
+                            clusterId, retryBackoff.toMillis(), e.getMessage());
+                } finally {
+                    consumer = null;
+                    caughtUp = false;
+                    endOffsetsCurrent = false;
+                    committed.clear();
+                }
+
+                if (running) {
+                    try {
+                        Thread.sleep(retryBackoff.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 내부 토픽을 처음부터 읽고, 시작 시점의 끝에 도달하면 따라잡은 것으로 표시한 뒤 계속 읽습니다.
+         */
+        private void tail(Cluster cluster) {
+            try (KafkaConsumer<byte[], byte[]> offsetsConsumer = consumerFactory.createConsumer(
+                    cluster, consumerFactory.generateTemporaryGroupId(), CONSUMER_OVERRIDES)) {
+                consumer = offsetsConsumer;
+                if (!running) {
+                    return;
+                }
+
+                List<TopicPartition> partitions = offsetsConsumer.partitionsFor(ConsumerOffsetsDecoder.TOPIC).stream()
+                        .map(info -> new TopicPartition(info.topic(), info.partition()))
+                        .collect(Collectors.toList());
+                offsetsConsumer.assign(partitions);
+                offsetsConsumer.seekToBeginning(partitions);
+                Map<TopicPartition, Long> catchUpTargets = new HashMap<>(offsetsConsumer.endOffsets(partitions));
+
+                log.info("Consumer offsets lag engine of cluster {} started reading {} partitions",
+                        clusterId, partitions.size());
+
+                long records = 0;
+                while (running) {
+                    for (ConsumerRecord<byte[], byte[]> record : offsetsConsumer.poll(POLL_TIMEOUT)) {
+                        ConsumerOffsetsDecoder.decode(record.key(), record.value())
+                                .ifPresent(decoded -> apply(committed, decoded));
+                        records++;
+                    }
+
+                    if (!caughtUp) {
+                        catchUpTargets.entrySet().removeIf(target ->
+                                offsetsConsumer.position(target.getKey()) >= target.getValue());
+                        if (catchUpTargets.isEmpty()) {
+                            caughtUp = true;
+                            log.info("Consumer offsets lag engine of cluster {} caught up after {} records, {} groups",
+                                    clusterId, records, committed.size());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
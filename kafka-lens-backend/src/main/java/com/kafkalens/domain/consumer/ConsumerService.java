@@ -1,6 +1,10 @@
 package com.kafkalens.domain.consumer;
 
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.TopicConsumerIndex;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.ConsumerGroupListing;
@@ -11,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +23,11 @@ import java.util.stream.Collectors;
  *
  * <p>컨슈머 그룹 관련 비즈니스 로직을 처리합니다.
  * 컨슈머 그룹 목록 조회, 상세 조회, 멤버 조회 등의 기능을 제공합니다.</p>
+ *
+ * <p>메타데이터 스냅샷이 있으면 스냅샷에서 읽고, 없으면 브로커에 직접 조회합니다.</p>
+ *
+ * <p>토픽을 소비하는 그룹은 스냅샷의 {@link TopicConsumerIndex}(멤버 할당)와
+ * {@link ConsumerLagService#getTopicGroupLag(String, String)}의 토픽별 커밋 오프셋 인덱스를 합쳐 구합니다.</p>
  */
 @Service
 public class ConsumerService {
@@ -26,55 +36,54 @@ public class ConsumerService {
 
     private final ClusterService clusterService;
     private final AdminClientWrapper adminClientWrapper;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+    private final ConsumerLagService consumerLagService;
 
     /**
      * ConsumerService 생성자.
      *
-     * @param clusterService     클러스터 서비스
-     * @param adminClientWrapper AdminClient 래퍼
+     * @param clusterService      클러스터 서비스
+     * @param adminClientWrapper  AdminClient 래퍼
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     * @param consumerLagService  컨슈머 Lag 서비스
      */
-    public ConsumerService(ClusterService clusterService, AdminClientWrapper adminClientWrapper) {
+    public ConsumerService(
+            ClusterService clusterService,
+            AdminClientWrapper adminClientWrapper,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            ConsumerLagService consumerLagService
+    ) {
         this.clusterService = clusterService;
         this.adminClientWrapper = adminClientWrapper;
+        this.metadataSnapshotter = metadataSnapshotter;
+        this.consumerLagService = consumerLagService;
     }
 
     /**
      * 클러스터의 모든 컨슈머 그룹 목록을 조회합니다.
      *
      * @param clusterId 클러스터 ID
-     * @return 컨슈머 그룹 목록
+     * @return 컨슈머 그룹 목록과 읽은 스냅샷
      */
-    public List<ConsumerGroup> listGroups(String clusterId) {
+    public CompletableFuture<SnapshotResult<List<ConsumerGroup>>> listGroups(String clusterId) {
         log.debug("Listing consumer groups for cluster: {}", clusterId);
 
         // 클러스터 존재 확인
         clusterService.findById(clusterId);
 
-        // 컨슈머 그룹 목록 조회
-        Collection<ConsumerGroupListing> listings = adminClientWrapper.listConsumerGroups(clusterId);
-
-        if (listings.isEmpty()) {
-            log.debug("No consumer groups found for cluster: {}", clusterId);
-            return List.of();
+        // 스냅샷이 있으면 스냅샷에서 조회
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        if (snapshot.isPresent()) {
+            return CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(
+                    snapshot.get(), toConsumerGroups(snapshot.get().consumerGroups())));
         }
 
-        // 그룹 ID 목록 추출
-        Set<String> groupIds = listings.stream()
-                .map(ConsumerGroupListing::groupId)
-                .collect(Collectors.toSet());
-
-        // 그룹 상세 정보 조회
-        Map<String, ConsumerGroupDescription> descriptions =
-                adminClientWrapper.describeConsumerGroups(clusterId, groupIds);
-
-        // 도메인 모델로 변환
-        List<ConsumerGroup> groups = descriptions.values().stream()
-                .map(this::toConsumerGroup)
-                .sorted(Comparator.comparing(ConsumerGroup::groupId))
-                .collect(Collectors.toList());
-
-        log.info("Found {} consumer groups for cluster: {}", groups.size(), clusterId);
-        return groups;
+        return describeAllGroups(clusterId)
+                .thenApply(descriptions -> {
+                    List<ConsumerGroup> groups = toConsumerGroups(descriptions);
+                    log.info("Found {} consumer groups for cluster: {}", groups.size(), clusterId);
+                    return SnapshotResult.direct(groups);
+                });
     }
 
     /**
@@ -82,26 +91,34 @@ public class ConsumerService {
      *
      * @param clusterId 클러스터 ID
      * @param groupId   그룹 ID
-     * @return 컨슈머 그룹 상세 정보
+     * @return 컨슈머 그룹 상세 정보와 읽은 스냅샷
      */
-    public ConsumerGroup getGroup(String clusterId, String groupId) {
+    public CompletableFuture<SnapshotResult<ConsumerGroup>> getGroup(String clusterId, String groupId) {
         log.debug("Getting consumer group {} for cluster: {}", groupId, clusterId);
 
         // 클러스터 존재 확인
         clusterService.findById(clusterId);
 
-        // 그룹 상세 정보 조회
-        Map<String, ConsumerGroupDescription> descriptions =
-                adminClientWrapper.describeConsumerGroups(clusterId, Collections.singleton(groupId));
-
-        ConsumerGroupDescription description = descriptions.get(groupId);
-        if (description == null) {
-            log.warn("Consumer group not found: {} in cluster: {}", groupId, clusterId);
-            // TODO: ConsumerGroupNotFoundException 추가 가능
-            throw new IllegalArgumentException("Consumer group not found: " + groupId);
+        // 스냅샷에 있는 그룹이면 스냅샷에서 조회
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        Optional<ConsumerGroupDescription> cached = snapshot.map(s -> s.consumerGroups().get(groupId));
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    SnapshotResult.fromSnapshot(snapshot.get(), toConsumerGroup(cached.get())));
         }
 
-        return toConsumerGroup(description);
+        // 그룹 상세 정보 조회
+        return adminClientWrapper.describeConsumerGroupsAsync(clusterId, Collections.singleton(groupId))
+                .thenApply(descriptions -> {
+                    ConsumerGroupDescription description = descriptions.get(groupId);
+                    if (description == null) {
+                        log.warn("Consumer group not found: {} in cluster: {}", groupId, clusterId);
+                        // TODO: ConsumerGroupNotFoundException 추가 가능
+                        throw new IllegalArgumentException("Consumer group not found: " + groupId);
+                    }
+
+                    return SnapshotResult.direct(toConsumerGroup(description));
+                });
     }
 
     /**
@@ -109,19 +126,101 @@ public class ConsumerService {
      *
      * @param clusterId 클러스터 ID
      * @param groupId   그룹 ID
-     * @return 멤버 목록
+     * @return 멤버 목록과 읽은 스냅샷
      */
-    public List<ConsumerMember> getMembers(String clusterId, String groupId) {
+    public CompletableFuture<SnapshotResult<List<ConsumerMember>>> getMembers(String clusterId, String groupId) {
         log.debug("Getting members for consumer group {} in cluster: {}", groupId, clusterId);
 
         // 그룹 정보 조회
-        ConsumerGroup group = getGroup(clusterId, groupId);
+        return getGroup(clusterId, groupId).thenApply(group -> group.map(ConsumerGroup::members));
+    }
 
-        return group.members();
+    /**
+     * 토픽을 소비하는 컨슈머 그룹과 그룹별 Lag를 조회합니다.
+     *
+     * <p>토픽의 파티션을 할당받은 그룹과 토픽에 오프셋을 커밋한 그룹의 합집합입니다. 스냅샷과 Lag 샘플이
+     * 있으면 모든 그룹을 조회하지 않고 메모리의 역인덱스에서 바로 답합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 컨슈머 그룹 (소비하는 그룹이 없으면 빈 목록)과 읽은 스냅샷
+     */
+    public CompletableFuture<SnapshotResult<List<TopicConsumerGroup>>> getTopicConsumerGroups(
+            String clusterId, String topicName) {
+        log.debug("Getting consumer groups of topic {} for cluster: {}", topicName, clusterId);
+
+        // 클러스터 존재 확인
+        clusterService.findById(clusterId);
+
+        // 스냅샷이 있으면 스냅샷의 그룹 상세와 역인덱스 사용
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        CompletableFuture<Map<String, ConsumerGroupDescription>> descriptions = snapshot.isPresent()
+                ? CompletableFuture.completedFuture(snapshot.get().consumerGroups())
+                : describeAllGroups(clusterId);
+        CompletableFuture<List<LagRank>> committed = consumerLagService.getTopicGroupLag(clusterId, topicName);
+
+        return descriptions.thenCombine(committed, (groups, lags) -> {
+            Map<String, Integer> assigned = snapshot.isPresent()
+                    ? snapshot.get().topicConsumers().groups(topicName)
+                    : TopicConsumerIndex.of(groups).groups(topicName);
+            Map<String, LagRank> lagByGroup = lags.stream()
+                    .collect(Collectors.toMap(LagRank::name, lag -> lag));
+
+            Set<String> groupIds = new TreeSet<>(assigned.keySet());
+            groupIds.addAll(lagByGroup.keySet());
+
+            List<TopicConsumerGroup> result = new ArrayList<>(groupIds.size());
+            for (String groupId : groupIds) {
+                ConsumerGroupDescription description = groups.get(groupId);
+                LagRank lag = lagByGroup.get(groupId);
+                result.add(new TopicConsumerGroup(
+                        groupId,
+                        description != null ? formatState(description.state()) : null,
+                        assigned.getOrDefault(groupId, 0),
+                        lag != null ? lag.partitionCount() : 0,
+                        lag != null ? lag.totalLag() : null,
+                        lag != null ? lag.maxLag() : null));
+            }
+
+            log.debug("Found {} consumer groups of topic {} for cluster: {}", result.size(), topicName, clusterId);
+            return new SnapshotResult<>(result, snapshot.orElse(null));
+        });
     }
 
     // === Private Helper Methods ===
 
+    /**
+     * 클러스터의 모든 컨슈머 그룹 상세를 브로커에서 조회합니다.
+     */
+    private CompletableFuture<Map<String, ConsumerGroupDescription>> describeAllGroups(String clusterId) {
+        // 컨슈머 그룹 목록 조회
+        return adminClientWrapper.listConsumerGroupsAsync(clusterId)
+                .thenCompose(listings -> {
+                    if (listings.isEmpty()) {
+                        log.debug("No consumer groups found for cluster: {}", clusterId);
+                        return CompletableFuture.completedFuture(Map.<String, ConsumerGroupDescription>of());
+                    }
+
+                    // 그룹 ID 목록 추출
+                    Set<String> groupIds = listings.stream()
+                            .map(ConsumerGroupListing::groupId)
+                            .collect(Collectors.toSet());
+
+                    // 그룹 상세 정보 조회
+                    return adminClientWrapper.describeConsumerGroupsAsync(clusterId, groupIds);
+                });
+    }
+
+    /**
+     * 컨슈머 그룹 상세 목록을 그룹 ID 순으로 정렬된 도메인 모델로 변환합니다.
+     */
+    private List<ConsumerGroup> toConsumerGroups(Map<String, ConsumerGroupDescription> descriptions) {
+        return descriptions.values().stream()
+                .map(this::toConsumerGroup)
+                .sorted(Comparator.comparing(ConsumerGroup::groupId))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Kafka ConsumerGroupDescription을 도메인 모델로 변환합니다.
      *
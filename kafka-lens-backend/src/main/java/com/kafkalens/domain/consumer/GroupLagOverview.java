@@ -0,0 +1,31 @@
+package com.kafkalens.domain.consumer;
+
+/**
+ * 컨슈머 그룹 Lag 개요.
+ *
+ * <p>클러스터 전체 Lag 조회에서 그룹마다 파티션별 Lag 대신 집계 값만 담습니다.</p>
+ *
+ * @param groupId        컨슈머 그룹 ID
+ * @param totalLag       총 Lag (모든 파티션의 합)
+ * @param maxLag         파티션 Lag 중 최댓값
+ * @param partitionCount 커밋된 오프셋이 있는 파티션 수
+ * @param warningCount   warning 상태 파티션 수
+ * @param criticalCount  critical 상태 파티션 수
+ */
+public record GroupLagOverview(
+        String groupId,
+        long totalLag,
+        long maxLag,
+        int partitionCount,
+        int warningCount,
+        int criticalCount
+) {
+    /**
+     * 전체 Lag가 warning 임계값 이상인지 확인합니다.
+     *
+     * @return 총 Lag >= 1000 이면 true
+     */
+    public boolean isWarning() {
+        return totalLag >= ConsumerLag.WARNING_THRESHOLD;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kafkalens.domain.consumer;
+
+import java.util.List;
+
+/**
+ * 컨슈머 그룹 Lag 이력.
+ *
+ * @param groupId          컨슈머 그룹 ID
+ * @param sampleIntervalMs 샘플링 주기 (밀리초)
+ * @param series           토픽 이름, 파티션 번호순 파티션별 시계열
+ */
+public record LagHistory(
+        String groupId,
+        long sampleIntervalMs,
+        List<LagSeries> series
+) {
+    public LagHistory {
+        series = series != null ? List.copyOf(series) : List.of();
+    }
+}
@@ -0,0 +1,342 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클러스터 하나의 그룹-파티션별 Lag 이력을 담는 고정 크기 링 버퍼.
+ *
+ * <p>샘플을 {@link ConsumerLag} 같은 객체로 보관하지 않고, 그룹-파티션마다 슬롯을 하나 배정하여
+ * 커밋 오프셋과 끝 오프셋을 {@code long[]}의 슬롯 행에 기록합니다. 행 길이는 보관할 샘플 수이고,
+ * 샘플 시각은 샘플링 회차마다 하나만 공용 {@code long[]}에 기록합니다. 배열은
+ * {@value #PAGE_SIZE}개 슬롯 단위 페이지로 필요할 때 한 번 할당되고 다시 커지지 않으므로,
+ * 메모리는 최대 {@code maxSeries x samples x 16}바이트를 넘지 않습니다.</p>
+ *
+ * <p>슬롯이 모두 배정되면 새 그룹-파티션은 기록하지 않고 {@link #droppedSeries()}로 셉니다.
+ * 보관 샘플 수만큼의 회차 동안 나타나지 않은 그룹-파티션의 슬롯은 회수하여 재사용합니다.</p>
+ *
+ * <p>끝 오프셋은 같은 파티션을 커밋한 그룹들이 공유하므로, 파티션마다 최근 기록된 슬롯 하나를 기억해 두고
+ * 그 슬롯의 (끝 오프셋, 시각) 쌍으로 커밋 오프셋이 생산된 시각을 보간하여 시간 기준 Lag를 추정합니다.</p>
+ *
+ * <p>샘플링 스레드의 기록과 요청 스레드의 조회가 겹칠 수 있으므로 모든 메서드는 동기화됩니다.</p>
+ */
+final class LagHistoryBuffer {
+
+    static final int PAGE_SIZE = 1024;
+
+    /**
+     * 해당 회차에 샘플이 없음을 나타내는 값. 오프셋은 음수가 아닙니다.
+     */
+    private static final long MISSING = -1L;
+
+    private final int samples;
+    private final int maxSeries;
+    private final long[] timestamps;
+    private final List<long[]> committedPages = new ArrayList<>();
+    private final List<long[]> endPages = new ArrayList<>();
+    private final List<long[]> lastSeenPages = new ArrayList<>();
+    private final int[] freeSlots;
+    private final Map<String, Map<TopicPartition, Integer>> slots = new HashMap<>();
+    private final Map<TopicPartition, Integer> partitionSlots = new HashMap<>();
+
+    private long tick = -1;
+    private int allocatedSlots;
+    private int freeCount;
+    private int seriesCount;
+    private long droppedSeries;
+
+    /**
+     * LagHistoryBuffer 생성자.
+     *
+     * @param samples   그룹-파티션별 보관 샘플 수
+     * @param maxSeries 최대 그룹-파티션 수
+     */
+    LagHistoryBuffer(int samples, int maxSeries) {
+        if (samples < 2 || maxSeries < 1) {
+            throw new IllegalArgumentException("samples must be >= 2 and maxSeries >= 1");
+        }
+        this.samples = samples;
+        this.maxSeries = maxSeries;
+        this.timestamps = new long[samples];
+        this.freeSlots = new int[maxSeries];
+    }
+
+    /**
+     * 샘플링 회차 하나를 기록합니다.
+     *
+     * <p>끝 오프셋이 없는 파티션은 기록하지 않습니다. 이번 회차에 나타나지 않은 그룹-파티션은
+     * 해당 회차가 비어 있는 것으로 기록됩니다.</p>
+     *
+     * @param timestamp 샘플링 시각
+     * @param offsets   그룹별 커밋 오프셋과 끝 오프셋
+     */
+    synchronized void record(Instant timestamp, ClusterOffsets offsets) {
+        tick++;
+        int column = (int) (tick % samples);
+        timestamps[column] = timestamp.toEpochMilli();
+
+        clearColumn(column);
+
+        for (Map.Entry<String, Map<TopicPartition, OffsetAndMetadata>> group
+                : offsets.committedOffsets().entrySet()) {
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> committed : group.getValue().entrySet()) {
+                Long endOffset = offsets.endOffsets().get(committed.getKey());
+                if (endOffset == null || committed.getValue() == null) {
+                    continue;
+                }
+                int slot = slotFor(group.getKey(), committed.getKey());
+                if (slot < 0) {
+                    continue;
+                }
+                int index = index(slot, column);
+                committedPages.get(page(slot))[index] = committed.getValue().offset();
+                endPages.get(page(slot))[index] = endOffset;
+                lastSeenPages.get(page(slot))[slot % PAGE_SIZE] = tick;
+                partitionSlots.put(committed.getKey(), slot);
+            }
+        }
+    }
+
+    /**
+     * 컨슈머 그룹의 파티션별 시계열을 반환합니다.
+     *
+     * @param groupId   컨슈머 그룹 ID
+     * @param topic     토픽 이름 (null이면 모든 토픽)
+     * @param partition 파티션 번호 (null이면 모든 파티션)
+     * @return 토픽 이름, 파티션 번호순 시계열
+     */
+    synchronized List<LagSeries> series(String groupId, String topic, Integer partition) {
+        Map<TopicPartition, Integer> groupSlots = slots.get(groupId);
+        if (groupSlots == null) {
+            return List.of();
+        }
+
+        int recorded = (int) Math.min(tick + 1, samples);
+        List<LagSeries> result = new ArrayList<>();
+        for (Map.Entry<TopicPartition, Integer> entry : groupSlots.entrySet()) {
+            TopicPartition tp = entry.getKey();
+            if ((topic != null && !topic.equals(tp.topic()))
+                    || (partition != null && partition != tp.partition())) {
+                continue;
+            }
+
+            int slot = entry.getValue();
+            long[] committed = committedPages.get(page(slot));
+            long[] end = endPages.get(page(slot));
+            List<LagSample> points = new ArrayList<>(recorded);
+            for (long t = tick - recorded + 1; t <= tick; t++) {
+                int column = (int) (t % samples);
+                int index = index(slot, column);
+                if (committed[index] != MISSING) {
+                    points.add(LagSample.of(
+                            Instant.ofEpochMilli(timestamps[column]), committed[index], end[index]));
+                }
+            }
+            result.add(LagSeries.of(tp.topic(), tp.partition(), points));
+        }
+
+        result.sort(Comparator.comparing(LagSeries::topic).thenComparingInt(LagSeries::partition));
+        return result;
+    }
+
+    /**
+     * 커밋 오프셋의 메시지가 생산된 뒤 지난 시간(초)을 추정합니다.
+     *
+     * <p>끝 오프셋이 커밋 오프셋을 처음 넘어선 두 샘플 사이에서 생산 시각을 선형 보간합니다.
+     * 커밋 오프셋이 보관된 이력보다 오래되었으면 이력 전체의 평균 유입 속도로 외삽하고, 이력 동안
+     * 유입이 없었으면 가장 오래된 샘플 시각을 하한으로 사용합니다. 커밋 오프셋이 마지막 끝 오프셋 이상이면
+     * 0입니다.</p>
+     *
+     * @param tp              파티션
+     * @param committedOffset 커밋된 오프셋
+     * @param now             기준 시각
+     * @return 추정 Lag (초). 파티션 이력이 없거나 샘플이 하나뿐이어서 추정할 수 없으면 빈 Optional
+     */
+    synchronized Optional<Long> estimateLagSeconds(TopicPartition tp, long committedOffset, Instant now) {
+        Integer slot = partitionSlots.get(tp);
+        if (slot == null) {
+            return Optional.empty();
+        }
+
+        long[] end = endPages.get(page(slot));
+        int recorded = (int) Math.min(tick + 1, samples);
+        long previousTime = 0;
+        long previousEnd = MISSING;
+        for (long t = tick - recorded + 1; t <= tick; t++) {
+            int column = (int) (t % samples);
+            long endOffset = end[index(slot, column)];
+            if (endOffset == MISSING) {
+                continue;
+            }
+            long time = timestamps[column];
+
+            if (endOffset > committedOffset) {
+                long producedAt;
+                if (previousEnd != MISSING) {
+                    // 이전 샘플과 이번 샘플 사이에 끝 오프셋이 committedOffset + 1이 된 시각
+                    producedAt = previousTime + (long) ((double) (committedOffset + 1 - previousEnd)
+                            / (endOffset - previousEnd) * (time - previousTime));
+                } else {
+                    // 보관된 이력보다 오래됨: 이력 전체의 평균 유입 속도로 외삽
+                    producedAt = extrapolate(slot, committedOffset, time, endOffset);
+                    if (producedAt == Long.MIN_VALUE) {
+                        return Optional.empty();
+                    }
+                }
+                return Optional.of(Math.max(0L, (now.toEpochMilli() - producedAt) / 1000));
+            }
+
+            previousTime = time;
+            previousEnd = endOffset;
+        }
+
+        // 커밋 오프셋이 마지막 끝 오프셋 이상이면 따라잡은 상태
+        return previousEnd != MISSING ? Optional.of(0L) : Optional.empty();
+    }
+
+    /**
+     * 슬롯이 배정된 그룹-파티션 수를 반환합니다.
+     */
+    synchronized int seriesCount() {
+        return seriesCount;
+    }
+
+    /**
+     * 슬롯이 부족하여 기록하지 못한 그룹-파티션 배정 시도 수를 반환합니다.
+     */
+    synchronized long droppedSeries() {
+        return droppedSeries;
+    }
+
+    /**
+     * 할당된 배열의 크기(바이트)를 반환합니다.
+     */
+    synchronized long allocatedBytes() {
+        long bytes = (long) timestamps.length * Long.BYTES + (long) freeSlots.length * Integer.BYTES;
+        for (int i = 0; i < committedPages.size(); i++) {
+            bytes += ((long) committedPages.get(i).length + endPages.get(i).length + lastSeenPages.get(i).length)
+                    * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 이번 회차 열을 비우고, 보관 샘플 수만큼의 회차 동안 나타나지 않은 그룹-파티션의 슬롯을 회수합니다.
+     */
+    private void clearColumn(int column) {
+        Iterator<Map<TopicPartition, Integer>> groups = slots.values().iterator();
+        while (groups.hasNext()) {
+            Iterator<Map.Entry<TopicPartition, Integer>> groupSlots = groups.next().entrySet().iterator();
+            while (groupSlots.hasNext()) {
+                Map.Entry<TopicPartition, Integer> entry = groupSlots.next();
+                int slot = entry.getValue();
+                if (tick - lastSeenPages.get(page(slot))[slot % PAGE_SIZE] >= samples) {
+                    groupSlots.remove();
+                    partitionSlots.remove(entry.getKey(), entry.getValue());
+                    freeSlots[freeCount++] = slot;
+                    seriesCount--;
+                } else {
+                    int index = index(slot, column);
+                    committedPages.get(page(slot))[index] = MISSING;
+                    endPages.get(page(slot))[index] = MISSING;
+                }
+            }
+        }
+        slots.values().removeIf(Map::isEmpty);
+    }
+
+    /**
+     * 가장 오래된 샘플보다 오래된 커밋 오프셋의 생산 시각을 이력 전체의 평균 유입 속도로 외삽합니다.
+     *
+     * @return 추정 생산 시각 (에포크 밀리초). 이력 동안 유입이 없었으면 가장 오래된 샘플 시각,
+     * 샘플이 하나뿐이면 {@link Long#MIN_VALUE}
+     */
+    private long extrapolate(int slot, long committedOffset, long oldestTime, long oldestEnd) {
+        long[] end = endPages.get(page(slot));
+        long latestTime = oldestTime;
+        long latestEnd = oldestEnd;
+        int recorded = (int) Math.min(tick + 1, samples);
+        for (long t = tick; t > tick - recorded; t--) {
+            int column = (int) (t % samples);
+            if (end[index(slot, column)] != MISSING) {
+                latestTime = timestamps[column];
+                latestEnd = end[index(slot, column)];
+                break;
+            }
+        }
+
+        if (latestTime <= oldestTime) {
+            return Long.MIN_VALUE;
+        }
+        if (latestEnd <= oldestEnd) {
+            return oldestTime;
+        }
+        double offsetsPerMs = (double) (latestEnd - oldestEnd) / (latestTime - oldestTime);
+        return oldestTime - (long) ((oldestEnd - committedOffset - 1) / offsetsPerMs);
+    }
+
+    /**
+     * 그룹-파티션의 슬롯을 반환하고, 없으면 새로 배정합니다.
+     *
+     * @return 슬롯 번호 (슬롯이 부족하면 -1)
+     */
+    private int slotFor(String groupId, TopicPartition tp) {
+        Map<TopicPartition, Integer> groupSlots = slots.get(groupId);
+        Integer existing = groupSlots != null ? groupSlots.get(tp) : null;
+        if (existing != null) {
+            return existing;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (allocatedSlots < maxSeries) {
+            slot = allocatedSlots++;
+            if (page(slot) == committedPages.size()) {
+                allocatePage();
+            }
+        } else {
+            droppedSeries++;
+            return -1;
+        }
+
+        // 배정 전 회차는 샘플 없음
+        int rowStart = index(slot, 0);
+        Arrays.fill(committedPages.get(page(slot)), rowStart, rowStart + samples, MISSING);
+        Arrays.fill(endPages.get(page(slot)), rowStart, rowStart + samples, MISSING);
+
+        slots.computeIfAbsent(groupId, id -> new HashMap<>()).put(tp, slot);
+        seriesCount++;
+        return slot;
+    }
+
+    /**
+     * 다음 페이지를 할당합니다. 마지막 페이지는 최대 그룹-파티션 수까지만 할당합니다.
+     */
+    private void allocatePage() {
+        int pageSlots = Math.min(PAGE_SIZE, maxSeries - committedPages.size() * PAGE_SIZE);
+        committedPages.add(new long[pageSlots * samples]);
+        endPages.add(new long[pageSlots * samples]);
+        lastSeenPages.add(new long[pageSlots]);
+    }
+
+    private static int page(int slot) {
+        return slot / PAGE_SIZE;
+    }
+
+    private int index(int slot, int column) {
+        return (slot % PAGE_SIZE) * samples + column;
+    }
+}
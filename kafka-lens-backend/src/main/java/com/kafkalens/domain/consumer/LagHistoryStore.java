@@ -0,0 +1,129 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터별 Lag 이력 저장소.
+ *
+ * <p>{@link LagSampler}가 기록한 샘플을 클러스터별 {@link LagHistoryBuffer}에 보관하고,
+ * 이력 조회와 시간 기준 Lag 추정에 사용합니다. 그룹-파티션마다 최근 {@code kafka.lag.history.samples}개
+ * 샘플을 보관하며, 클러스터별 그룹-파티션 수는 {@code kafka.lag.history.max-series}로 제한됩니다.</p>
+ *
+ * <p>가장 최근 회차의 오프셋은 그대로 보관하여 클러스터 전체 Lag 상위 목록을 브로커 호출 없이 계산하는 데 사용합니다.
+ * 같은 회차로 토픽별 컨슈머 그룹 Lag 역인덱스({@link TopicLagIndex})도 기록 시점에 한 번 만들어 둡니다.</p>
+ */
+@Component
+public class LagHistoryStore {
+
+    private final int samples;
+    private final int maxSeries;
+
+    private final Map<String, LagHistoryBuffer> buffers = new ConcurrentHashMap<>();
+    private final Map<String, LatestSample> latestSamples = new ConcurrentHashMap<>();
+
+    /**
+     * LagHistoryStore 생성자.
+     *
+     * @param samples   그룹-파티션별 보관 샘플 수
+     * @param maxSeries 클러스터별 최대 그룹-파티션 수
+     */
+    @Autowired
+    public LagHistoryStore(
+            @Value("${kafka.lag.history.samples:30}") int samples,
+            @Value("${kafka.lag.history.max-series:100000}") int maxSeries
+    ) {
+        this.samples = Math.max(2, samples);
+        this.maxSeries = Math.max(1, maxSeries);
+    }
+
+    /**
+     * 클러스터의 샘플링 회차 하나를 기록합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param sampledAt 샘플링 시각
+     * @param offsets   그룹별 커밋 오프셋과 끝 오프셋
+     * @return 슬롯이 부족하여 이번 회차에 기록하지 못한 그룹-파티션 수
+     */
+    long record(String clusterId, Instant sampledAt, ClusterOffsets offsets) {
+        LagHistoryBuffer buffer = buffers.computeIfAbsent(clusterId, id -> new LagHistoryBuffer(samples, maxSeries));
+        long droppedBefore = buffer.droppedSeries();
+        buffer.record(sampledAt, offsets);
+        latestSamples.put(clusterId, new LatestSample(sampledAt, offsets, TopicLagIndex.of(offsets)));
+        return buffer.droppedSeries() - droppedBefore;
+    }
+
+    /**
+     * 컨슈머 그룹의 파티션별 시계열을 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupId   컨슈머 그룹 ID
+     * @param topic     토픽 이름 (null이면 모든 토픽)
+     * @param partition 파티션 번호 (null이면 모든 파티션)
+     * @return 토픽 이름, 파티션 번호순 시계열 (이력이 없으면 빈 목록)
+     */
+    public List<LagSeries> series(String clusterId, String groupId, String topic, Integer partition) {
+        LagHistoryBuffer buffer = buffers.get(clusterId);
+        return buffer != null ? buffer.series(groupId, topic, partition) : List.of();
+    }
+
+    /**
+     * 커밋 오프셋의 메시지가 생산된 뒤 지난 시간(초)을 추정합니다.
+     *
+     * @param clusterId       클러스터 ID
+     * @param tp              파티션
+     * @param committedOffset 커밋된 오프셋
+     * @param now             기준 시각
+     * @return 추정 Lag (초). 이력이 부족하여 추정할 수 없으면 빈 Optional
+     * @see LagHistoryBuffer#estimateLagSeconds(TopicPartition, long, Instant)
+     */
+    public Optional<Long> estimateLagSeconds(String clusterId, TopicPartition tp, long committedOffset, Instant now) {
+        LagHistoryBuffer buffer = buffers.get(clusterId);
+        return buffer != null ? buffer.estimateLagSeconds(tp, committedOffset, now) : Optional.empty();
+    }
+
+    /**
+     * 클러스터의 가장 최근 샘플링 회차를 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 가장 최근 회차의 시각과 오프셋 (샘플이 없으면 빈 Optional)
+     */
+    public Optional<LatestSample> latest(String clusterId) {
+        return Optional.ofNullable(latestSamples.get(clusterId));
+    }
+
+    /**
+     * 클러스터의 이력을 버립니다.
+     *
+     * @param clusterId 클러스터 ID
+     */
+    void remove(String clusterId) {
+        buffers.remove(clusterId);
+        latestSamples.remove(clusterId);
+    }
+
+    /**
+     * 클러스터의 링 버퍼를 반환합니다.
+     */
+    Optional<LagHistoryBuffer> buffer(String clusterId) {
+        return Optional.ofNullable(buffers.get(clusterId));
+    }
+
+    /**
+     * 가장 최근 샘플링 회차.
+     *
+     * @param sampledAt 샘플링 시각
+     * @param offsets   그룹별 커밋 오프셋과 끝 오프셋
+     * @param topicLag  같은 오프셋으로 만든 토픽별 컨슈머 그룹 Lag 인덱스
+     */
+    public record LatestSample(Instant sampledAt, ClusterOffsets offsets, TopicLagIndex topicLag) {
+    }
+}
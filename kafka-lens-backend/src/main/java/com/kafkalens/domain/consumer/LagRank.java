@@ -0,0 +1,17 @@
+package com.kafkalens.domain.consumer;
+
+/**
+ * 클러스터 전체에서 Lag가 큰 그룹 또는 토픽.
+ *
+ * @param name           컨슈머 그룹 ID 또는 토픽 이름
+ * @param totalLag       총 Lag (그룹-파티션 Lag의 합)
+ * @param maxLag         그룹-파티션 Lag 중 최댓값
+ * @param partitionCount 집계한 그룹-파티션 수
+ */
+public record LagRank(
+        String name,
+        long totalLag,
+        long maxLag,
+        int partitionCount
+) {
+}
@@ -0,0 +1,30 @@
+package com.kafkalens.domain.consumer;
+
+import java.time.Instant;
+
+/**
+ * 파티션 Lag 샘플.
+ *
+ * @param timestamp     샘플링 시각
+ * @param currentOffset 커밋된 오프셋
+ * @param endOffset     로그 끝 오프셋
+ * @param lag           Lag (endOffset - currentOffset, 최소 0)
+ */
+public record LagSample(
+        Instant timestamp,
+        long currentOffset,
+        long endOffset,
+        long lag
+) {
+    /**
+     * 오프셋으로 샘플을 생성합니다.
+     *
+     * @param timestamp     샘플링 시각
+     * @param currentOffset 커밋된 오프셋
+     * @param endOffset     로그 끝 오프셋
+     * @return LagSample 인스턴스
+     */
+    public static LagSample of(Instant timestamp, long currentOffset, long endOffset) {
+        return new LagSample(timestamp, currentOffset, endOffset, Math.max(0L, endOffset - currentOffset));
+    }
+}
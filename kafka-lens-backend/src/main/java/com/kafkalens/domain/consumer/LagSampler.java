@@ -0,0 +1,214 @@
+package com.kafkalens.domain.consumer;
+
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨슈머 Lag 샘플러.
+ *
+ * <p>설정된 클러스터마다 백그라운드에서 {@code kafka.lag.history.sample-interval-ms} 주기로 모든 컨슈머 그룹의
+ * 커밋 오프셋과 끝 오프셋을 조회하여 {@link LagHistoryStore}에 기록합니다. 조회는
+ * {@link ConsumerLagService#fetchClusterOffsets(String)}의 배치 요청을 그대로 사용합니다.</p>
+ *
+ * <p>그룹-파티션마다 최근 {@code kafka.lag.history.samples}개 샘플을 보관하며, 클러스터별 그룹-파티션 수는
+ * {@code kafka.lag.history.max-series}로 제한되므로 메모리는 클러스터당 최대
+ * {@code max-series x samples x 16}바이트입니다. 기록된 끝 오프셋과 시각은 시간 기준 Lag 추정에도
+ * 사용됩니다. 클러스터별 샘플링은 이전 샘플링이 끝난 뒤 다음 샘플링을
+ * 예약하므로 겹치지 않으며, 실패한 회차는 기록하지 않습니다.</p>
+ *
+ * <p>샘플링은 {@link BackgroundWork}로 표시되어 AdminClient 풀의 유휴 시간을 늘리지 않으며, 사용자 요청이 없어
+ * 풀이 유휴 정리된 클러스터는 다시 요청이 올 때까지 샘플링을 건너뜁니다.</p>
+ */
+@Component
+public class LagSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(LagSampler.class);
+
+    private final ConsumerLagService consumerLagService;
+    private final AdminClientWrapper adminClientWrapper;
+    private final LagHistoryStore historyStore;
+    private final ClusterRepository clusterRepository;
+    private final boolean enabled;
+    private final Duration sampleInterval;
+    private final Clock clock;
+
+    private final Map<String, ScheduledFuture<?>> scheduledSamples = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    @Autowired
+    public LagSampler(
+            ConsumerLagService consumerLagService,
+            AdminClientWrapper adminClientWrapper,
+            LagHistoryStore historyStore,
+            ClusterRepository clusterRepository,
+            @Value("${kafka.lag.history.enabled:true}") boolean enabled,
+            @Value("${kafka.lag.history.sample-interval-ms:60000}") long sampleIntervalMs
+    ) {
+        this(consumerLagService, adminClientWrapper, historyStore, clusterRepository, enabled,
+                Duration.ofMillis(sampleIntervalMs), Clock.systemUTC());
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    LagSampler(
+            ConsumerLagService consumerLagService,
+            AdminClientWrapper adminClientWrapper,
+            LagHistoryStore historyStore,
+            ClusterRepository clusterRepository,
+            boolean enabled,
+            Duration sampleInterval,
+            Clock clock
+    ) {
+        this.consumerLagService = consumerLagService;
+        this.adminClientWrapper = adminClientWrapper;
+        this.historyStore = historyStore;
+        this.clusterRepository = clusterRepository;
+        this.enabled = enabled;
+        this.sampleInterval = sampleInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 기동 후 모든 클러스터의 샘플링을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lag-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncClusters();
+    }
+
+    /**
+     * 샘플링을 중지합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        scheduledSamples.clear();
+    }
+
+    /**
+     * 컨슈머 그룹의 Lag 이력을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupId   컨슈머 그룹 ID
+     * @param topic     토픽 이름 (null이면 모든 토픽)
+     * @param partition 파티션 번호 (null이면 모든 파티션)
+     * @return 파티션별 Lag 시계열 (샘플이 없으면 빈 시계열)
+     * @throws ClusterNotFoundException 클러스터가 존재하지 않는 경우
+     */
+    public LagHistory getHistory(String clusterId, String groupId, String topic, Integer partition) {
+        if (!clusterRepository.existsById(clusterId)) {
+            throw new ClusterNotFoundException(clusterId);
+        }
+
+        return new LagHistory(groupId, sampleInterval.toMillis(),
+                historyStore.series(clusterId, groupId, topic, partition));
+    }
+
+    /**
+     * 클러스터의 Lag를 한 번 샘플링하여 기록합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 기록 완료 Future (조회에 실패하면 예외로 완료)
+     */
+    public CompletableFuture<Void> sample(String clusterId) {
+        CompletableFuture<ClusterOffsets> fetched;
+        try (RequestDeadline.Scope ignored = BackgroundWork.begin()) {
+            fetched = consumerLagService.fetchClusterOffsets(clusterId);
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+
+        return fetched.thenAccept(offsets -> {
+            long dropped = historyStore.record(clusterId, clock.instant(), offsets);
+            if (dropped > 0) {
+                log.warn("Lag history of cluster {} is full, {} group-partitions were not recorded",
+                        clusterId, dropped);
+            }
+            historyStore.buffer(clusterId).ifPresent(buffer -> log.debug(
+                    "Sampled lag of cluster {}: {} series, {} bytes allocated",
+                    clusterId, buffer.seriesCount(), buffer.allocatedBytes()));
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn("Failed to sample lag for cluster {}: {}", clusterId, error.getMessage());
+            }
+        });
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 샘플링이 예약되지 않은 클러스터의 샘플링을 즉시 예약합니다.
+     */
+    private void syncClusters() {
+        if (scheduler == null) {
+            return;
+        }
+        for (Cluster cluster : clusterRepository.findAll()) {
+            if (!scheduledSamples.containsKey(cluster.id())) {
+                scheduleSample(cluster.id(), Duration.ZERO);
+            }
+        }
+    }
+
+    private synchronized void scheduleSample(String clusterId, Duration delay) {
+        ScheduledExecutorService current = scheduler;
+        if (current == null) {
+            return;
+        }
+        scheduledSamples.put(clusterId,
+                current.schedule(() -> runSample(clusterId), delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void runSample(String clusterId) {
+        if (!clusterRepository.existsById(clusterId)) {
+            log.info("Cluster {} was removed, dropping lag history", clusterId);
+            historyStore.remove(clusterId);
+            scheduledSamples.remove(clusterId);
+            return;
+        }
+
+        syncClusters();
+        if (adminClientWrapper.isClientIdle(clusterId)) {
+            log.debug("Cluster {} has no recent requests, skipping lag sample", clusterId);
+            scheduleSample(clusterId, sampleInterval);
+            return;
+        }
+        sample(clusterId).whenComplete((ignored, error) -> scheduleSample(clusterId, sampleInterval));
+    }
+}
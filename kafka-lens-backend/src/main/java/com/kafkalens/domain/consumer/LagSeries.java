@@ -0,0 +1,58 @@
+package com.kafkalens.domain.consumer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 컨슈머 그룹 파티션의 Lag 시계열.
+ *
+ * @param topic              토픽 이름
+ * @param partition          파티션 번호
+ * @param lagChangePerSecond 첫 샘플과 마지막 샘플 사이의 초당 Lag 변화량 (양수면 증가, 음수면 감소)
+ * @param samples            오래된 순 샘플
+ */
+public record LagSeries(
+        String topic,
+        int partition,
+        double lagChangePerSecond,
+        List<LagSample> samples
+) {
+    public LagSeries {
+        samples = samples != null ? List.copyOf(samples) : List.of();
+    }
+
+    /**
+     * 샘플로 시계열을 생성하고 초당 Lag 변화량을 계산합니다.
+     *
+     * @param topic     토픽 이름
+     * @param partition 파티션 번호
+     * @param samples   오래된 순 샘플
+     * @return LagSeries 인스턴스
+     */
+    public static LagSeries of(String topic, int partition, List<LagSample> samples) {
+        double change = 0.0;
+        if (samples.size() >= 2) {
+            LagSample first = samples.get(0);
+            LagSample last = samples.get(samples.size() - 1);
+            long elapsedMs = Duration.between(first.timestamp(), last.timestamp()).toMillis();
+            if (elapsedMs > 0) {
+                change = (last.lag() - first.lag()) * 1000.0 / elapsedMs;
+            }
+        }
+        return new LagSeries(topic, partition, change, samples);
+    }
+
+    /**
+     * Lag 추세를 반환합니다.
+     *
+     * @return "growing", "draining", 또는 "stable"
+     */
+    public String getTrend() {
+        if (lagChangePerSecond > 0) {
+            return "growing";
+        } else if (lagChangePerSecond < 0) {
+            return "draining";
+        }
+        return "stable";
+    }
+}
@@ -0,0 +1,31 @@
+package com.kafkalens.domain.consumer;
+
+/**
+ * 클러스터 전체에서 Lag가 큰 그룹-파티션.
+ *
+ * @param groupId   컨슈머 그룹 ID
+ * @param topic     토픽 이름
+ * @param partition 파티션 번호
+ * @param lag       Lag (메시지 수)
+ */
+public record PartitionLagRank(
+        String groupId,
+        String topic,
+        int partition,
+        long lag
+) {
+    /**
+     * Lag 상태를 반환합니다.
+     *
+     * @return "normal", "warning", "critical" 중 하나
+     * @see ConsumerLag#getStatus()
+     */
+    public String getStatus() {
+        if (lag >= ConsumerLag.WARNING_THRESHOLD * 10) {
+            return "critical";
+        } else if (lag >= ConsumerLag.WARNING_THRESHOLD) {
+            return "warning";
+        }
+        return "normal";
+    }
+}
@@ -0,0 +1,42 @@
+package com.kafkalens.domain.consumer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클러스터 전체 Lag 상위 목록.
+ *
+ * @param asOf           Lag 계산에 사용한 오프셋의 기준 시각
+ * @param limit          목록별 최대 개수
+ * @param totalLag       모든 그룹-파티션 Lag의 합
+ * @param partitionCount 집계한 그룹-파티션 수
+ * @param partitions     Lag 내림차순 그룹-파티션
+ * @param groups         총 Lag 내림차순 컨슈머 그룹
+ * @param topics         총 Lag 내림차순 토픽 (모든 그룹의 합)
+ * @param failedGroups   오프셋 조회에 실패해 빠진 그룹 ID
+ */
+public record TopLagReport(
+        Instant asOf,
+        int limit,
+        long totalLag,
+        int partitionCount,
+        List<PartitionLagRank> partitions,
+        List<LagRank> groups,
+        List<LagRank> topics,
+        Set<String> failedGroups
+) {
+    public TopLagReport {
+        partitions = partitions != null ? List.copyOf(partitions) : List.of();
+        groups = groups != null ? List.copyOf(groups) : List.of();
+        topics = topics != null ? List.copyOf(topics) : List.of();
+        failedGroups = failedGroups != null ? Set.copyOf(failedGroups) : Set.of();
+    }
+
+    /**
+     * 일부 그룹이 빠졌는지 여부를 반환합니다.
+     */
+    public boolean isPartial() {
+        return !failedGroups.isEmpty();
+    }
+}
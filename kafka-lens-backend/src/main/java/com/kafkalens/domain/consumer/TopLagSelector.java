@@ -0,0 +1,190 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클러스터 전체 오프셋에서 Lag 상위 목록을 고릅니다.
+ *
+ * <p>그룹-파티션, 그룹, 토픽 목록마다 크기가 {@code limit}인 최소 힙을 두고 오프셋을 한 번 훑으므로
+ * 그룹-파티션 수가 P일 때 O(P log N)입니다. 힙의 최솟값보다 Lag가 큰 항목만 결과 객체를 만들고,
+ * 토픽별 합계는 토픽당 {@code long[]} 하나로 누적하므로 P에 비례하는 할당이 없습니다.
+ * Lag가 0인 항목은 목록에 넣지 않습니다.</p>
+ */
+final class TopLagSelector {
+
+    private static final Comparator<PartitionLagRank> PARTITION_ORDER =
+            Comparator.comparingLong(PartitionLagRank::lag).reversed()
+                    .thenComparing(PartitionLagRank::groupId)
+                    .thenComparing(PartitionLagRank::topic)
+                    .thenComparingInt(PartitionLagRank::partition);
+
+    private static final Comparator<LagRank> RANK_ORDER =
+            Comparator.comparingLong(LagRank::totalLag).reversed()
+                    .thenComparing(LagRank::name);
+
+    private static final int TOTAL = 0;
+    private static final int MAX = 1;
+    private static final int COUNT = 2;
+
+    private TopLagSelector() {
+    }
+
+    /**
+     * Lag 상위 목록을 고릅니다.
+     *
+     * @param offsets 그룹별 커밋 오프셋과 끝 오프셋
+     * @param limit   목록별 최대 개수 (1 이상)
+     * @param asOf    오프셋의 기준 시각
+     * @return Lag 상위 목록
+     */
+    static TopLagReport select(ClusterOffsets offsets, int limit, Instant asOf) {
+        Map<TopicPartition, Long> endOffsets = offsets.endOffsets();
+        BoundedHeap<PartitionLagRank> partitionHeap = new BoundedHeap<>(limit);
+        BoundedHeap<LagRank> groupHeap = new BoundedHeap<>(limit);
+        Map<String, long[]> topicTotals = new HashMap<>();
+        long clusterLag = 0;
+        int partitionCount = 0;
+
+        for (Map.Entry<String, Map<TopicPartition, OffsetAndMetadata>> group
+                : offsets.committedOffsets().entrySet()) {
+            String groupId = group.getKey();
+            long groupLag = 0;
+            long groupMaxLag = 0;
+            int groupPartitions = 0;
+
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> committed : group.getValue().entrySet()) {
+                TopicPartition tp = committed.getKey();
+                Long endOffset = endOffsets.get(tp);
+                if (endOffset == null || committed.getValue() == null) {
+                    continue;
+                }
+                long lag = Math.max(0L, endOffset - committed.getValue().offset());
+                groupLag += lag;
+                groupMaxLag = Math.max(groupMaxLag, lag);
+                groupPartitions++;
+
+                long[] topic = topicTotals.computeIfAbsent(tp.topic(), name -> new long[3]);
+                topic[TOTAL] += lag;
+                topic[MAX] = Math.max(topic[MAX], lag);
+                topic[COUNT]++;
+
+                if (partitionHeap.accepts(lag)) {
+                    partitionHeap.offer(lag, new PartitionLagRank(groupId, tp.topic(), tp.partition(), lag));
+                }
+            }
+
+            clusterLag += groupLag;
+            partitionCount += groupPartitions;
+            if (groupHeap.accepts(groupLag)) {
+                groupHeap.offer(groupLag, new LagRank(groupId, groupLag, groupMaxLag, groupPartitions));
+            }
+        }
+
+        BoundedHeap<LagRank> topicHeap = new BoundedHeap<>(limit);
+        for (Map.Entry<String, long[]> topic : topicTotals.entrySet()) {
+            long[] totals = topic.getValue();
+            if (topicHeap.accepts(totals[TOTAL])) {
+                topicHeap.offer(totals[TOTAL],
+                        new LagRank(topic.getKey(), totals[TOTAL], totals[MAX], (int) totals[COUNT]));
+            }
+        }
+
+        return new TopLagReport(asOf, limit, clusterLag, partitionCount,
+                partitionHeap.toSortedList(PARTITION_ORDER),
+                groupHeap.toSortedList(RANK_ORDER),
+                topicHeap.toSortedList(RANK_ORDER),
+                offsets.failedGroups());
+    }
+
+    /**
+     * Lag를 키로 하는 크기 제한 최소 힙.
+     *
+     * <p>키는 {@code long[]}에 두어 비교에 박싱이 없으며, 가득 차면 루트(최솟값)보다 큰 키만 루트를 대체합니다.</p>
+     */
+    static final class BoundedHeap<T> {
+
+        private final long[] keys;
+        private final Object[] values;
+        private int size;
+
+        BoundedHeap(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        /**
+         * 키가 힙에 들어갈 수 있는지 여부를 반환합니다. 결과 객체를 만들기 전에 확인합니다.
+         */
+        boolean accepts(long key) {
+            return key > 0 && keys.length > 0 && (size < keys.length || key > keys[0]);
+        }
+
+        void offer(long key, T value) {
+            if (!accepts(key)) {
+                return;
+            }
+            if (size < keys.length) {
+                keys[size] = key;
+                values[size] = value;
+                siftUp(size++);
+            } else {
+                keys[0] = key;
+                values[0] = value;
+                siftDown(0);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> toSortedList(Comparator<? super T> order) {
+            List<T> sorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sorted.add((T) values[i]);
+            }
+            sorted.sort(order);
+            return sorted;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= keys[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && keys[left + 1] < keys[left] ? left + 1 : left;
+                if (keys[index] <= keys[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
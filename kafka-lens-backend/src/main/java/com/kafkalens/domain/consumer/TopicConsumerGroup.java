@@ -0,0 +1,29 @@
+package com.kafkalens.domain.consumer;
+
+/**
+ * 토픽을 소비하는 컨슈머 그룹.
+ *
+ * <p>토픽의 파티션을 할당받았거나 토픽에 오프셋을 커밋한 그룹입니다.</p>
+ *
+ * @param groupId             컨슈머 그룹 ID
+ * @param state               그룹 상태 (그룹 상세가 없으면 null)
+ * @param assignedPartitions  멤버에게 할당된 토픽 파티션 수
+ * @param committedPartitions 오프셋이 커밋된 토픽 파티션 수
+ * @param totalLag            토픽 파티션 Lag의 합 (커밋된 오프셋이 없으면 null)
+ * @param maxLag              토픽 파티션 Lag 중 최댓값 (커밋된 오프셋이 없으면 null)
+ */
+public record TopicConsumerGroup(
+        String groupId,
+        String state,
+        int assignedPartitions,
+        int committedPartitions,
+        Long totalLag,
+        Long maxLag
+) {
+    /**
+     * 현재 토픽을 할당받아 소비 중인지 여부를 반환합니다.
+     */
+    public boolean isActive() {
+        return assignedPartitions > 0;
+    }
+}
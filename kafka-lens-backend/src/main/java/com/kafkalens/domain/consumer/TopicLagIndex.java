@@ -0,0 +1,114 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토픽별 컨슈머 그룹 Lag 역인덱스.
+ *
+ * <p>그룹별 커밋 오프셋을 뒤집어 토픽마다 오프셋을 커밋한 그룹과 그 토픽에 대한 그룹의 Lag 합계를 보관합니다.
+ * 항목의 {@link LagRank#name()}은 그룹 ID이고, 파티션 수는 커밋된 파티션 수입니다.
+ * 끝 오프셋이 없는 파티션(삭제된 토픽 등)은 파티션 수에만 포함하고 Lag에는 더하지 않습니다.</p>
+ */
+public final class TopicLagIndex {
+
+    /**
+     * 빈 인덱스.
+     */
+    public static final TopicLagIndex EMPTY = new TopicLagIndex(Map.of());
+
+    private static final int TOTAL = 0;
+    private static final int MAX = 1;
+    private static final int COUNT = 2;
+
+    private final Map<String, List<LagRank>> groupsByTopic;
+
+    private TopicLagIndex(Map<String, List<LagRank>> groupsByTopic) {
+        this.groupsByTopic = groupsByTopic;
+    }
+
+    /**
+     * 클러스터 전체 오프셋으로 모든 토픽의 인덱스를 만듭니다.
+     *
+     * @param offsets 그룹별 커밋 오프셋과 끝 오프셋
+     * @return 인덱스
+     */
+    public static TopicLagIndex of(ClusterOffsets offsets) {
+        return build(offsets, null);
+    }
+
+    /**
+     * 클러스터 전체 오프셋에서 토픽 하나의 그룹별 Lag만 집계합니다.
+     *
+     * @param offsets   그룹별 커밋 오프셋과 끝 오프셋
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 그룹별 Lag (커밋한 그룹이 없으면 빈 목록)
+     */
+    public static List<LagRank> groups(ClusterOffsets offsets, String topicName) {
+        return build(offsets, topicName).groups(topicName);
+    }
+
+    /**
+     * 토픽에 오프셋을 커밋한 컨슈머 그룹과 그룹별 Lag를 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 그룹별 Lag (없으면 빈 목록)
+     */
+    public List<LagRank> groups(String topicName) {
+        return groupsByTopic.getOrDefault(topicName, List.of());
+    }
+
+    /**
+     * 컨슈머 그룹이 오프셋을 커밋한 토픽 수를 반환합니다.
+     */
+    public int topicCount() {
+        return groupsByTopic.size();
+    }
+
+    /**
+     * 그룹-파티션을 한 번 훑어 토픽 -> 그룹 -> [Lag 합, 최대 Lag, 파티션 수]를 누적합니다.
+     *
+     * @param topicFilter 이 토픽만 집계 (null이면 모든 토픽)
+     */
+    private static TopicLagIndex build(ClusterOffsets offsets, String topicFilter) {
+        Map<TopicPartition, Long> endOffsets = offsets.endOffsets();
+        Map<String, Map<String, long[]>> totals = new HashMap<>();
+
+        for (Map.Entry<String, Map<TopicPartition, OffsetAndMetadata>> group
+                : offsets.committedOffsets().entrySet()) {
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> committed : group.getValue().entrySet()) {
+                TopicPartition tp = committed.getKey();
+                if (committed.getValue() == null || (topicFilter != null && !topicFilter.equals(tp.topic()))) {
+                    continue;
+                }
+                long[] total = totals.computeIfAbsent(tp.topic(), topic -> new HashMap<>())
+                        .computeIfAbsent(group.getKey(), groupId -> new long[3]);
+                total[COUNT]++;
+
+                Long endOffset = endOffsets.get(tp);
+                if (endOffset != null) {
+                    long lag = Math.max(0L, endOffset - committed.getValue().offset());
+                    total[TOTAL] += lag;
+                    total[MAX] = Math.max(total[MAX], lag);
+                }
+            }
+        }
+
+        Map<String, List<LagRank>> groupsByTopic = new HashMap<>(totals.size());
+        totals.forEach((topic, groups) -> {
+            List<LagRank> ranks = new ArrayList<>(groups.size());
+            groups.forEach((groupId, total) ->
+                    ranks.add(new LagRank(groupId, total[TOTAL], total[MAX], (int) total[COUNT])));
+            ranks.sort(Comparator.comparing(LagRank::name));
+            groupsByTopic.put(topic, List.copyOf(ranks));
+        });
+        return new TopicLagIndex(Collections.unmodifiableMap(groupsByTopic));
+    }
+}
@@ -1,5 +1,7 @@
 package com.kafkalens.domain.message;
 
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.exception.KafkaTimeoutException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterService;
 import com.kafkalens.infrastructure.kafka.KafkaConsumerFactory;
@@ -7,6 +9,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.record.TimestampType;
 import org.slf4j.Logger;
@@ -26,6 +29,10 @@ import java.util.*;
  *
  * <p>Kafka 토픽에서 메시지를 조회하는 비즈니스 로직을 처리합니다.
  * Constitution에 따라 최대 1000건의 메시지만 조회할 수 있습니다.</p>
+ *
+ * <p>요청에 {@link RequestDeadline}이 있으면 끝 오프셋 조회와 poll을 남은 시간 안에서 수행합니다.
+ * 끝 오프셋을 마감 안에 조회하지 못하면 {@link KafkaTimeoutException}으로 실패하고,
+ * poll 도중 마감이 지나면 그때까지 읽은 메시지만 반환합니다.</p>
  */
 @Service
 public class MessageService {
@@ -43,7 +50,7 @@ public class MessageService {
     public static final int DEFAULT_MESSAGE_LIMIT = 100;
 
     /**
-     * 메시지 폴링 타임아웃.
+     * 메시지 폴링 타임아웃 (요청 마감까지 남은 시간이 더 짧으면 그 시간).
      */
     private static final Duration POLL_TIMEOUT = Duration.ofSeconds(5);
 
@@ -81,7 +88,7 @@ public class MessageService {
         String groupId = consumerFactory.generateTemporaryGroupId();
 
         try (KafkaConsumer<byte[], byte[]> consumer = consumerFactory.createConsumer(cluster, groupId)) {
-            return fetchMessagesFromPartition(consumer, request, effectiveLimit);
+            return fetchMessagesFromPartition(clusterId, consumer, request, effectiveLimit);
         }
     }
 
@@ -89,6 +96,7 @@ public class MessageService {
      * 파티션에서 메시지를 조회합니다.
      */
     private List<KafkaMessage> fetchMessagesFromPartition(
+            String clusterId,
             KafkaConsumer<byte[], byte[]> consumer,
             MessageFetchRequest request,
             int limit) {
@@ -100,8 +108,20 @@ public class MessageService {
         long startOffset = request.offset() != null ? request.offset() : 0L;
         consumer.seek(tp, startOffset);
 
-        // 끝 오프셋 조회
-        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(List.of(tp));
+        // 끝 오프셋 조회 (아직 읽은 메시지가 없으므로 요청 마감 안에 조회하지 못하면 타임아웃으로 실패)
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        Map<TopicPartition, Long> endOffsets;
+        if (deadline.isEmpty()) {
+            endOffsets = consumer.endOffsets(List.of(tp));
+        } else if (deadline.get().isExpired()) {
+            throw KafkaTimeoutException.deadlineExceeded(clusterId);
+        } else {
+            try {
+                endOffsets = consumer.endOffsets(List.of(tp), deadline.get().remaining());
+            } catch (TimeoutException e) {
+                throw new KafkaTimeoutException(clusterId, "endOffsets", e);
+            }
+        }
         long endOffset = endOffsets.getOrDefault(tp, 0L);
 
         // 조회할 메시지가 없으면 빈 목록 반환
@@ -115,7 +135,14 @@ public class MessageService {
         int maxEmptyPolls = 3;
 
         while (remainingMessages > 0 && emptyPollCount < maxEmptyPolls) {
-            ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+            if (RequestDeadline.isCurrentExpired()) {
+                // 요청 마감이 지나면 지금까지 읽은 메시지만 반환
+                log.debug("Request deadline reached while fetching messages from topic: {}, partition: {}",
+                        request.topicName(), request.partition());
+                break;
+            }
+
+            ConsumerRecords<byte[], byte[]> records = consumer.poll(RequestDeadline.remainingOr(POLL_TIMEOUT));
 
             if (records.isEmpty()) {
                 emptyPollCount++;
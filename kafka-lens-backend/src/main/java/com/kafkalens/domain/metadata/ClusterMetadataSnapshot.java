@@ -0,0 +1,102 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 클러스터 메타데이터 스냅샷.
+ *
+ * <p>한 번의 백그라운드 갱신으로 수집한 브로커, 토픽(파티션 리더/ISR/레플리카 포함),
+ * 토픽 설정, 비정상 파티션, 컨슈머 그룹 정보를 담는 불변 객체입니다. 버전은 갱신마다 증가합니다.
+ * 토픽별 컨슈머 그룹 역인덱스는 컨슈머 그룹 상세와 함께 만들어집니다.</p>
+ *
+ * @param clusterId       클러스터 ID
+ * @param version         스냅샷 버전 (단조 증가)
+ * @param createdAt       스냅샷 생성 시각
+ * @param brokers         브로커 노드 목록
+ * @param controllerId    컨트롤러 브로커 ID (알 수 없으면 -1)
+ * @param topics          토픽 이름별 토픽 상세 (내부 토픽 포함)
+ * @param topicConfigs    토픽 설정 인덱스 (토픽 수준 지정 설정과 공통 기본값)
+ * @param partitionHealth 비정상 파티션 인덱스
+ * @param consumerGroups  그룹 ID별 컨슈머 그룹 상세
+ * @param topicConsumers  토픽별 컨슈머 그룹 역인덱스 (멤버 할당 기준)
+ */
+public record ClusterMetadataSnapshot(
+        String clusterId,
+        long version,
+        Instant createdAt,
+        List<Node> brokers,
+        int controllerId,
+        Map<String, TopicDescription> topics,
+        TopicConfigIndex topicConfigs,
+        PartitionHealthIndex partitionHealth,
+        Map<String, ConsumerGroupDescription> consumerGroups,
+        TopicConsumerIndex topicConsumers
+) {
+    /**
+     * ClusterMetadataSnapshot 생성자.
+     * 컬렉션은 불변 복사본으로 보관합니다.
+     */
+    public ClusterMetadataSnapshot {
+        Objects.requireNonNull(clusterId, "Cluster ID must not be null");
+        Objects.requireNonNull(createdAt, "Created time must not be null");
+        brokers = brokers != null ? List.copyOf(brokers) : List.of();
+        topics = topics != null ? Map.copyOf(topics) : Map.of();
+        topicConfigs = topicConfigs != null ? topicConfigs : TopicConfigIndex.EMPTY;
+        partitionHealth = partitionHealth != null ? partitionHealth : PartitionHealthIndex.of(topics);
+        consumerGroups = consumerGroups != null ? Map.copyOf(consumerGroups) : Map.of();
+        topicConsumers = topicConsumers != null ? topicConsumers : TopicConsumerIndex.of(consumerGroups);
+    }
+
+    /**
+     * 컨슈머 그룹 상세로 토픽별 컨슈머 그룹 역인덱스를 만들어 스냅샷을 생성합니다.
+     */
+    public ClusterMetadataSnapshot(
+            String clusterId,
+            long version,
+            Instant createdAt,
+            List<Node> brokers,
+            int controllerId,
+            Map<String, TopicDescription> topics,
+            TopicConfigIndex topicConfigs,
+            PartitionHealthIndex partitionHealth,
+            Map<String, ConsumerGroupDescription> consumerGroups
+    ) {
+        this(clusterId, version, createdAt, brokers, controllerId, topics, topicConfigs, partitionHealth,
+                consumerGroups, null);
+    }
+
+    /**
+     * 토픽 상세로 비정상 파티션 인덱스를 만들어 스냅샷을 생성합니다.
+     */
+    public ClusterMetadataSnapshot(
+            String clusterId,
+            long version,
+            Instant createdAt,
+            List<Node> brokers,
+            int controllerId,
+            Map<String, TopicDescription> topics,
+            TopicConfigIndex topicConfigs,
+            Map<String, ConsumerGroupDescription> consumerGroups
+    ) {
+        this(clusterId, version, createdAt, brokers, controllerId, topics, topicConfigs, null, consumerGroups, null);
+    }
+
+    /**
+     * 스냅샷이 만들어진 뒤 지난 시간을 반환합니다.
+     *
+     * @param now 기준 시각
+     * @return 스냅샷 나이 (음수가 되지 않음)
+     */
+    public Duration staleness(Instant now) {
+        Duration age = Duration.between(createdAt, now);
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+}
@@ -0,0 +1,468 @@
+package com.kafkalens.domain.metadata;
+
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import com.kafkalens.infrastructure.kafka.AdminMetadataCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Uuid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 클러스터 메타데이터 스냅샷터.
+ *
+ * <p>설정된 클러스터마다 백그라운드에서 주기적으로 {@link ClusterMetadataSnapshot}을 만들어
+ * 보관합니다. 서비스는 HTTP 요청마다 브로커를 호출하는 대신 최신 스냅샷을 읽습니다.</p>
+ *
+ * <p>클러스터별 갱신은 이전 갱신이 끝난 뒤 다음 갱신을 예약하므로 겹치지 않습니다.
+ * 갱신이 실패하면 이전 스냅샷을 그대로 유지합니다. 갱신 주기는 {@code clusters.yml}의
+ * {@code metadata-refresh-interval-ms}로 클러스터별로 지정하며, 없으면
+ * {@code kafka.metadata.snapshot.default-refresh-interval-ms}를 사용합니다.</p>
+ *
+ * <p>토픽은 증분으로 갱신합니다. 매 갱신마다 토픽 이름/ID 목록만 조회하여 이전 목록과 비교하고,
+ * 생성되었거나 같은 이름으로 다시 생성된(ID가 바뀐) 토픽만 상세 조회합니다. 삭제된 토픽은 제거하고,
+ * 기존 토픽은 {@code kafka.metadata.snapshot.revalidation-refreshes}번의 갱신에 걸쳐 나누어
+ * 다시 조회합니다(리더/ISR 변경 반영). 따라서 브로커 부하는 클러스터 크기가 아닌 변경량에 비례합니다.</p>
+ *
+ * <p>같은 토픽들의 설정은 청크 단위 describeConfigs로 함께 조회하여 {@link TopicConfigIndex}에 반영합니다.
+ * 인덱스는 토픽 수준에서 지정된 설정만 토픽별로 보관하므로 클러스터 전체 설정 검색에 사용됩니다.</p>
+ *
+ * <p>다시 조회한 토픽의 파티션 상태는 {@link PartitionHealthIndex}에 반영합니다. 언더 레플리케이션이나
+ * 오프라인 파티션이 있는 토픽은 회복이 바로 보이도록 재검증 차례와 관계없이 매번 다시 조회합니다.
+ * 문제 유형별 파티션 수는 {@code kafkalens.partitions.unhealthy} 게이지(cluster, issue 태그)로 노출됩니다.</p>
+ *
+ * <p>컨슈머 그룹은 매 갱신마다 모두 다시 조회하며, 멤버 할당으로 {@link TopicConsumerIndex}를 함께 만듭니다.</p>
+ *
+ * <p>갱신은 {@link BackgroundWork}로 표시되어 AdminClient 풀의 유휴 시간을 늘리지 않습니다. 사용자 요청이 없어
+ * 풀이 유휴 정리된 클러스터는 다시 요청이 올 때까지 갱신을 건너뛰고 스냅샷을 버리므로, 서비스는 그동안
+ * 브로커를 직접 조회합니다.</p>
+ */
+@Component
+public class ClusterMetadataSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMetadataSnapshotter.class);
+
+    static final String UNHEALTHY_PARTITIONS_METRIC = "kafkalens.partitions.unhealthy";
+
+    private final AdminClientWrapper adminClientWrapper;
+    private final AdminMetadataCache metadataCache;
+    private final ClusterRepository clusterRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration defaultRefreshInterval;
+    private final int revalidationRefreshes;
+    private final Clock clock;
+
+    private final Map<String, ClusterMetadataSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, TopicRefreshState> topicStates = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+    private final Set<String> gaugedClusters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ClusterMetadataSnapshotter(
+            AdminClientWrapper adminClientWrapper,
+            AdminMetadataCache metadataCache,
+            ClusterRepository clusterRepository,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.metadata.snapshot.enabled:true}") boolean enabled,
+            @Value("${kafka.metadata.snapshot.default-refresh-interval-ms:30000}") long defaultRefreshIntervalMs,
+            @Value("${kafka.metadata.snapshot.revalidation-refreshes:10}") int revalidationRefreshes
+    ) {
+        this(adminClientWrapper, metadataCache, clusterRepository, meterRegistry, enabled,
+                Duration.ofMillis(defaultRefreshIntervalMs), revalidationRefreshes, Clock.systemUTC());
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    ClusterMetadataSnapshotter(
+            AdminClientWrapper adminClientWrapper,
+            AdminMetadataCache metadataCache,
+            ClusterRepository clusterRepository,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            Duration defaultRefreshInterval,
+            int revalidationRefreshes,
+            Clock clock
+    ) {
+        this.adminClientWrapper = adminClientWrapper;
+        this.metadataCache = metadataCache;
+        this.clusterRepository = clusterRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.defaultRefreshInterval = defaultRefreshInterval;
+        this.revalidationRefreshes = Math.max(1, revalidationRefreshes);
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 기동 후 모든 클러스터의 백그라운드 갱신을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metadata-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncClusters();
+    }
+
+    /**
+     * 백그라운드 갱신을 중지합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        scheduledRefreshes.clear();
+    }
+
+    /**
+     * 클러스터의 최신 스냅샷을 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 스냅샷 (아직 만들어지지 않았거나 비활성화된 경우 빈 Optional)
+     */
+    public Optional<ClusterMetadataSnapshot> getSnapshot(String clusterId) {
+        return Optional.ofNullable(snapshots.get(clusterId));
+    }
+
+    /**
+     * 클러스터 설정 리로드를 반영합니다.
+     *
+     * <p>설정이 변경되었거나 제거된 클러스터의 스냅샷을 버리고, 남아 있는 클러스터는 즉시 다시 만듭니다.
+     * 새로 추가된 클러스터는 갱신을 시작합니다. 제거된 클러스터의 갱신은 다음 예약 시점에 종료되며,
+     * 비정상 파티션 게이지는 바로 제거합니다.</p>
+     *
+     * @param changedClusterIds 설정이 변경되었거나 제거된 클러스터 ID 목록
+     */
+    public synchronized void onClustersReloaded(Collection<String> changedClusterIds) {
+        for (String clusterId : changedClusterIds) {
+            snapshots.remove(clusterId);
+            topicStates.remove(clusterId);
+            if (!clusterRepository.existsById(clusterId) && gaugedClusters.remove(clusterId)) {
+                meterRegistry.find(UNHEALTHY_PARTITIONS_METRIC).tag("cluster", clusterId).meters()
+                        .forEach(meterRegistry::remove);
+            }
+            if (scheduler != null && scheduledRefreshes.containsKey(clusterId)
+                    && clusterRepository.existsById(clusterId)) {
+                refresh(clusterId);
+            }
+        }
+        syncClusters();
+    }
+
+    /**
+     * 클러스터의 스냅샷을 새로 만들어 저장합니다.
+     *
+     * <p>실패하면 이전 스냅샷을 유지하고 실패한 Future를 반환합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 새 스냅샷
+     */
+    public CompletableFuture<ClusterMetadataSnapshot> refresh(String clusterId) {
+        CompletableFuture<RefreshResult> refreshed;
+        try (RequestDeadline.Scope ignored = BackgroundWork.begin()) {
+            refreshed = buildSnapshot(clusterId);
+        } catch (RuntimeException e) {
+            refreshed = CompletableFuture.failedFuture(e);
+        }
+
+        return refreshed.whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Failed to refresh metadata snapshot for cluster {}, keeping previous snapshot: {}",
+                        clusterId, error.getMessage());
+            } else if (clusterRepository.existsById(clusterId)) {
+                snapshots.put(clusterId, result.snapshot());
+                topicStates.put(clusterId, result.topicState());
+                registerHealthGauges(clusterId);
+                log.debug("Refreshed metadata snapshot v{} for cluster {} ({} topics, {} described, {} groups)",
+                        result.snapshot().version(), clusterId, result.snapshot().topics().size(),
+                        result.describedTopics(), result.snapshot().consumerGroups().size());
+            }
+        }).thenApply(RefreshResult::snapshot);
+    }
+
+    /**
+     * 스냅샷의 경과 시간을 반환합니다.
+     *
+     * @param snapshot 스냅샷
+     * @return 생성 후 경과 시간
+     */
+    public Duration staleness(ClusterMetadataSnapshot snapshot) {
+        return snapshot.staleness(clock.instant());
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 갱신이 예약되지 않은 클러스터의 갱신을 즉시 예약합니다.
+     */
+    private void syncClusters() {
+        if (scheduler == null) {
+            return;
+        }
+        for (Cluster cluster : clusterRepository.findAll()) {
+            if (!scheduledRefreshes.containsKey(cluster.id())) {
+                scheduleRefresh(cluster.id(), Duration.ZERO);
+            }
+        }
+    }
+
+    private synchronized void scheduleRefresh(String clusterId, Duration delay) {
+        ScheduledExecutorService current = scheduler;
+        if (current == null) {
+            return;
+        }
+        scheduledRefreshes.put(clusterId,
+                current.schedule(() -> runRefresh(clusterId), delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    void runRefresh(String clusterId) {
+        Optional<Cluster> cluster = clusterRepository.findById(clusterId);
+        if (cluster.isEmpty()) {
+            log.info("Cluster {} was removed, dropping metadata snapshot", clusterId);
+            snapshots.remove(clusterId);
+            topicStates.remove(clusterId);
+            scheduledRefreshes.remove(clusterId);
+            return;
+        }
+
+        Duration interval = cluster.get().metadataRefreshInterval() != null
+                ? cluster.get().metadataRefreshInterval()
+                : defaultRefreshInterval;
+
+        if (adminClientWrapper.isClientIdle(clusterId)) {
+            // 유휴 정리된 풀을 다시 만들지 않고, 오래된 스냅샷 대신 직접 조회하도록 버림
+            if (snapshots.remove(clusterId) != null) {
+                log.debug("Cluster {} has no recent requests, pausing metadata snapshot", clusterId);
+            }
+            topicStates.remove(clusterId);
+            scheduleRefresh(clusterId, interval);
+            return;
+        }
+
+        refresh(clusterId).whenComplete((result, error) -> scheduleRefresh(clusterId, interval));
+    }
+
+    /**
+     * 브로커, 토픽, 토픽 설정, 컨슈머 그룹을 동시에 조회하여 스냅샷을 만듭니다.
+     */
+    private CompletableFuture<RefreshResult> buildSnapshot(String clusterId) {
+        ClusterMetadataSnapshot previous = snapshots.get(clusterId);
+        TopicRefreshState previousState = previous != null
+                ? topicStates.getOrDefault(clusterId, TopicRefreshState.EMPTY)
+                : TopicRefreshState.EMPTY;
+
+        CompletableFuture<AdminClientWrapper.ClusterInfo> clusterInfo =
+                adminClientWrapper.describeClusterAsync(clusterId);
+        CompletableFuture<TopicRefresh> topics = adminClientWrapper.listTopicIdsAsync(clusterId, true)
+                .thenCompose(topicIds -> refreshTopics(clusterId, topicIds, previous, previousState));
+        CompletableFuture<Map<String, ConsumerGroupDescription>> consumerGroups =
+                adminClientWrapper.listConsumerGroupsAsync(clusterId).thenCompose(listings -> listings.isEmpty()
+                        ? CompletableFuture.completedFuture(Map.of())
+                        : adminClientWrapper.describeConsumerGroupsAsync(clusterId, listings.stream()
+                                .map(ConsumerGroupListing::groupId)
+                                .collect(Collectors.toSet())));
+
+        return CompletableFuture.allOf(clusterInfo, topics, consumerGroups)
+                .thenApply(ignored -> {
+                    AdminClientWrapper.ClusterInfo info = clusterInfo.join();
+                    TopicRefresh topicRefresh = topics.join();
+                    Map<String, ConsumerGroupDescription> groups = consumerGroups.join();
+                    ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot(
+                            clusterId,
+                            versions.incrementAndGet(),
+                            clock.instant(),
+                            info.nodes() != null ? List.copyOf(info.nodes()) : List.of(),
+                            info.controller() != null ? info.controller().id() : -1,
+                            topicRefresh.descriptions(),
+                            topicRefresh.configs(),
+                            topicRefresh.partitionHealth(),
+                            groups,
+                            TopicConsumerIndex.of(groups)
+                    );
+                    return new RefreshResult(snapshot, topicRefresh.state(), topicRefresh.describedTopics());
+                });
+    }
+
+    /**
+     * 이전 스냅샷과 토픽 ID를 비교하여 변경된 토픽과 재검증 차례인 토픽만 상세 조회합니다.
+     *
+     * <p>이전 스냅샷이 없으면 모든 토픽이 변경된 것으로 간주되어 전체를 조회합니다.</p>
+     */
+    private CompletableFuture<TopicRefresh> refreshTopics(
+            String clusterId,
+            Map<String, Uuid> topicIds,
+            ClusterMetadataSnapshot previous,
+            TopicRefreshState previousState
+    ) {
+        Map<String, TopicDescription> previousTopics = previous != null ? previous.topics() : Map.of();
+        TopicConfigIndex previousConfigs = previous != null ? previous.topicConfigs() : TopicConfigIndex.EMPTY;
+        PartitionHealthIndex previousHealth = previous != null
+                ? previous.partitionHealth() : PartitionHealthIndex.EMPTY;
+
+        // 생성/재생성된 토픽 (이전에 상세 조회에 성공한 토픽 ID와 다른 경우)
+        Set<String> changed = topicIds.entrySet().stream()
+                .filter(e -> !e.getValue().equals(previousState.topicIds().get(e.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        // 기존 토픽은 revalidationRefreshes번의 갱신에 걸쳐 순환하며 다시 조회
+        List<String> existing = topicIds.keySet().stream()
+                .filter(name -> !changed.contains(name) && previousTopics.containsKey(name))
+                .sorted()
+                .collect(Collectors.toList());
+        int batchSize = (existing.size() + revalidationRefreshes - 1) / revalidationRefreshes;
+        int cursor = existing.isEmpty() ? 0 : previousState.rotationCursor() % existing.size();
+        Set<String> toDescribe = new HashSet<>(changed);
+        for (int i = 0; i < batchSize; i++) {
+            toDescribe.add(existing.get((cursor + i) % existing.size()));
+        }
+        // 언더 레플리케이션/오프라인 파티션이 있는 토픽은 회복이 바로 반영되도록 매번 다시 조회
+        for (PartitionIssue issue : List.of(PartitionIssue.UNDER_REPLICATED, PartitionIssue.OFFLINE)) {
+            previousHealth.topicsWith(issue).stream().filter(topicIds::containsKey).forEach(toDescribe::add);
+        }
+        int nextCursor = existing.isEmpty() ? 0 : (cursor + batchSize) % existing.size();
+
+        if (toDescribe.isEmpty()) {
+            return CompletableFuture.completedFuture(new TopicRefresh(
+                    retainKeys(previousTopics, topicIds.keySet()),
+                    previousConfigs.toBuilder().retainTopics(topicIds.keySet()).build(),
+                    previousHealth.toBuilder().retainTopics(topicIds.keySet()).build(),
+                    new TopicRefreshState(retainKeys(previousState.topicIds(), topicIds.keySet()), nextCursor),
+                    0));
+        }
+
+        // 캐시된 값 대신 브로커의 최신 상태를 조회
+        for (String name : toDescribe) {
+            metadataCache.invalidate(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC, name);
+            metadataCache.invalidate(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, name);
+        }
+
+        CompletableFuture<Map<String, TopicDescription>> described = adminClientWrapper
+                .describeTopicsInChunksAsync(clusterId, toDescribe)
+                .thenApply(AdminClientWrapper.ChunkedTopicDescriptions::descriptions);
+        CompletableFuture<AdminClientWrapper.TopicConfigOverrides> configs =
+                adminClientWrapper.describeTopicConfigOverridesAsync(clusterId, toDescribe);
+
+        return described.thenCombine(configs, (newTopics, newConfigs) -> {
+            Map<String, TopicDescription> mergedTopics = new HashMap<>(retainKeys(previousTopics, topicIds.keySet()));
+            TopicConfigIndex.Builder mergedConfigs = previousConfigs.toBuilder().retainTopics(topicIds.keySet());
+            PartitionHealthIndex.Builder mergedHealth = previousHealth.toBuilder().retainTopics(topicIds.keySet());
+            Map<String, Uuid> knownIds = new HashMap<>(retainKeys(previousState.topicIds(), topicIds.keySet()));
+
+            // 변경된 토픽의 이전 정보는 더 이상 유효하지 않음
+            for (String name : changed) {
+                mergedTopics.remove(name);
+                mergedConfigs.removeTopic(name);
+                mergedHealth.removeTopic(name);
+                knownIds.remove(name);
+            }
+            mergedTopics.putAll(newTopics);
+            newTopics.values().forEach(mergedHealth::putTopic);
+            newConfigs.overrides().forEach(mergedConfigs::putTopic);
+            mergedConfigs.putDefaults(newConfigs.defaults());
+            for (String name : newTopics.keySet()) {
+                knownIds.put(name, topicIds.get(name));
+            }
+
+            return new TopicRefresh(mergedTopics, mergedConfigs.build(), mergedHealth.build(),
+                    new TopicRefreshState(knownIds, nextCursor), toDescribe.size());
+        });
+    }
+
+    /**
+     * 클러스터의 비정상 파티션 게이지를 처음 한 번 등록합니다. 스냅샷이 없으면 NaN을 보고합니다.
+     */
+    private void registerHealthGauges(String clusterId) {
+        if (!gaugedClusters.add(clusterId)) {
+            return;
+        }
+        for (PartitionIssue issue : PartitionIssue.values()) {
+            Gauge.builder(UNHEALTHY_PARTITIONS_METRIC, snapshots, current -> {
+                        ClusterMetadataSnapshot snapshot = current.get(clusterId);
+                        return snapshot != null ? snapshot.partitionHealth().count(issue) : Double.NaN;
+                    })
+                    .description("Partitions with the given health issue in the latest metadata snapshot")
+                    .tag("cluster", clusterId)
+                    .tag("issue", issue.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static <V> Map<String, V> retainKeys(Map<String, V> map, Set<String> keys) {
+        return map.entrySet().stream()
+                .filter(e -> keys.contains(e.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * 클러스터별 토픽 증분 갱신 상태.
+     *
+     * @param topicIds       상세 조회에 성공한 토픽의 ID
+     * @param rotationCursor 다음 재검증 시작 위치
+     */
+    private record TopicRefreshState(Map<String, Uuid> topicIds, int rotationCursor) {
+        static final TopicRefreshState EMPTY = new TopicRefreshState(Map.of(), 0);
+    }
+
+    /**
+     * 토픽 갱신 결과.
+     */
+    private record TopicRefresh(
+            Map<String, TopicDescription> descriptions,
+            TopicConfigIndex configs,
+            PartitionHealthIndex partitionHealth,
+            TopicRefreshState state,
+            int describedTopics
+    ) {
+    }
+
+    /**
+     * 스냅샷 갱신 결과.
+     */
+    private record RefreshResult(ClusterMetadataSnapshot snapshot, TopicRefreshState topicState, int describedTopics) {
+    }
+}
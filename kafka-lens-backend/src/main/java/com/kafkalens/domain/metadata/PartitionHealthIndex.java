@@ -0,0 +1,196 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 클러스터 전체 비정상 파티션 인덱스.
+ *
+ * <p>ISR이 레플리카보다 적거나(언더 레플리케이션), 리더가 없거나(오프라인),
+ * 리더가 선호 레플리카(레플리카 목록의 첫 번째)가 아닌 파티션만 토픽별로 보관합니다.
+ * 정상 토픽은 항목이 없으므로 인덱스 크기는 비정상 파티션 수에 비례합니다.
+ * 문제 유형별 개수는 만들 때 미리 계산하므로 자주 조회해도 부담이 없습니다.</p>
+ *
+ * <p>불변 객체이며, 스냅샷 갱신에서는 {@link #toBuilder()}로 이전 인덱스를 복사해
+ * 다시 조회한 토픽만 교체합니다.</p>
+ */
+public final class PartitionHealthIndex {
+
+    /**
+     * 빈 인덱스.
+     */
+    public static final PartitionHealthIndex EMPTY = new PartitionHealthIndex(Map.of());
+
+    private final Map<String, List<UnhealthyPartition>> partitionsByTopic;
+    private final int[] issueCounts;
+
+    private PartitionHealthIndex(Map<String, List<UnhealthyPartition>> partitionsByTopic) {
+        this.partitionsByTopic = partitionsByTopic;
+        this.issueCounts = new int[PartitionIssue.values().length];
+        partitionsByTopic.values().forEach(partitions -> partitions.forEach(partition ->
+                partition.issues().forEach(issue -> issueCounts[issue.ordinal()]++)));
+    }
+
+    /**
+     * 토픽 상세로 인덱스를 만듭니다.
+     *
+     * @param topics 토픽 이름 -> 토픽 상세
+     * @return 인덱스
+     */
+    public static PartitionHealthIndex of(Map<String, TopicDescription> topics) {
+        Builder builder = EMPTY.toBuilder();
+        topics.values().forEach(builder::putTopic);
+        return builder.build();
+    }
+
+    /**
+     * 이 인덱스를 시작점으로 하는 빌더를 반환합니다.
+     *
+     * @return 빌더
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * 문제 유형에 해당하는 파티션 수를 반환합니다.
+     *
+     * @param issue 문제 유형
+     * @return 파티션 수
+     */
+    public int count(PartitionIssue issue) {
+        return issueCounts[issue.ordinal()];
+    }
+
+    /**
+     * 문제가 하나라도 있는 파티션 수를 반환합니다.
+     */
+    public int size() {
+        return partitionsByTopic.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 문제 유형에 해당하는 파티션이 있는 토픽 이름을 반환합니다.
+     *
+     * @param issue 문제 유형
+     * @return 토픽 이름
+     */
+    public Set<String> topicsWith(PartitionIssue issue) {
+        return partitionsByTopic.entrySet().stream()
+                .filter(e -> e.getValue().stream().anyMatch(partition -> partition.issues().contains(issue)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 비정상 파티션을 반환합니다.
+     *
+     * @param issue 문제 유형 (null이면 모든 유형)
+     * @return 토픽 이름, 파티션 번호순 비정상 파티션
+     */
+    public List<UnhealthyPartition> partitions(PartitionIssue issue) {
+        return new TreeMap<>(partitionsByTopic).values().stream()
+                .flatMap(List::stream)
+                .filter(partition -> issue == null || partition.issues().contains(issue))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 토픽의 비정상 파티션을 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 파티션 번호순 비정상 파티션 (없으면 빈 목록)
+     */
+    public List<UnhealthyPartition> partitions(String topicName) {
+        return partitionsByTopic.getOrDefault(topicName, List.of());
+    }
+
+    /**
+     * 파티션의 문제 유형을 판정합니다.
+     *
+     * @param partition 파티션 정보
+     * @return 문제 유형 (정상이면 빈 Set)
+     */
+    static Set<PartitionIssue> issuesOf(TopicPartitionInfo partition) {
+        Set<PartitionIssue> issues = EnumSet.noneOf(PartitionIssue.class);
+        Node leader = partition.leader();
+        if (leader == null || leader.id() < 0) {
+            issues.add(PartitionIssue.OFFLINE);
+        } else if (!partition.replicas().isEmpty() && partition.replicas().get(0).id() != leader.id()) {
+            issues.add(PartitionIssue.NON_PREFERRED_LEADER);
+        }
+        if (partition.isr().size() < partition.replicas().size()) {
+            issues.add(PartitionIssue.UNDER_REPLICATED);
+        }
+        return issues;
+    }
+
+    /**
+     * 인덱스 빌더.
+     */
+    public static final class Builder {
+
+        private final Map<String, List<UnhealthyPartition>> partitionsByTopic;
+
+        private Builder(PartitionHealthIndex base) {
+            this.partitionsByTopic = new HashMap<>(base.partitionsByTopic);
+        }
+
+        /**
+         * 주어진 토픽만 남깁니다 (삭제된 토픽 제거).
+         */
+        public Builder retainTopics(Collection<String> topicNames) {
+            partitionsByTopic.keySet().retainAll(topicNames instanceof Set<?> ? topicNames : Set.copyOf(topicNames));
+            return this;
+        }
+
+        /**
+         * 토픽을 제거합니다.
+         */
+        public Builder removeTopic(String topicName) {
+            partitionsByTopic.remove(topicName);
+            return this;
+        }
+
+        /**
+         * 토픽 상세로 토픽의 비정상 파티션을 교체합니다.
+         *
+         * @param description 토픽 상세
+         */
+        public Builder putTopic(TopicDescription description) {
+            List<UnhealthyPartition> unhealthy = new ArrayList<>();
+            for (TopicPartitionInfo partition : description.partitions()) {
+                Set<PartitionIssue> issues = issuesOf(partition);
+                if (!issues.isEmpty()) {
+                    unhealthy.add(UnhealthyPartition.of(description.name(), partition, issues));
+                }
+            }
+            if (unhealthy.isEmpty()) {
+                partitionsByTopic.remove(description.name());
+            } else {
+                unhealthy.sort((a, b) -> Integer.compare(a.partition(), b.partition()));
+                partitionsByTopic.put(description.name(), List.copyOf(unhealthy));
+            }
+            return this;
+        }
+
+        /**
+         * 인덱스를 만듭니다.
+         */
+        public PartitionHealthIndex build() {
+            return new PartitionHealthIndex(Collections.unmodifiableMap(new HashMap<>(partitionsByTopic)));
+        }
+    }
+}
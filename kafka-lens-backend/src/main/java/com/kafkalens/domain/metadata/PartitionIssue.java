@@ -0,0 +1,22 @@
+package com.kafkalens.domain.metadata;
+
+/**
+ * 파티션 문제 유형.
+ */
+public enum PartitionIssue {
+
+    /**
+     * ISR이 레플리카 수보다 적음.
+     */
+    UNDER_REPLICATED,
+
+    /**
+     * 리더가 없음 (읽기/쓰기 불가).
+     */
+    OFFLINE,
+
+    /**
+     * 리더가 선호 레플리카(레플리카 목록의 첫 번째)가 아님. 브로커 간 리더 부하가 치우칠 수 있음.
+     */
+    NON_PREFERRED_LEADER
+}
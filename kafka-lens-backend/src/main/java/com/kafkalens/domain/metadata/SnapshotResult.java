@@ -0,0 +1,60 @@
+package com.kafkalens.domain.metadata;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 메타데이터 조회 결과와 그 출처.
+ *
+ * <p>스냅샷에서 읽은 결과는 읽은 스냅샷을 함께 담고, 브로커에 직접 조회한 결과는 스냅샷 없이 담습니다.
+ * 응답 헤더의 스냅샷 버전과 경과 시간은 조회가 끝난 시점의 최신 스냅샷이 아니라 이 스냅샷에서 계산합니다.</p>
+ *
+ * @param data     조회 결과
+ * @param snapshot 결과를 읽은 스냅샷 (브로커에 직접 조회했으면 null)
+ * @param <T>      결과 타입
+ */
+public record SnapshotResult<T>(T data, ClusterMetadataSnapshot snapshot) {
+
+    /**
+     * 스냅샷에서 읽은 결과를 생성합니다.
+     *
+     * @param snapshot 결과를 읽은 스냅샷
+     * @param data     조회 결과
+     * @param <T>      결과 타입
+     * @return 조회 결과
+     */
+    public static <T> SnapshotResult<T> fromSnapshot(ClusterMetadataSnapshot snapshot, T data) {
+        return new SnapshotResult<>(data, snapshot);
+    }
+
+    /**
+     * 브로커에 직접 조회한 결과를 생성합니다.
+     *
+     * @param data 조회 결과
+     * @param <T>  결과 타입
+     * @return 조회 결과
+     */
+    public static <T> SnapshotResult<T> direct(T data) {
+        return new SnapshotResult<>(data, null);
+    }
+
+    /**
+     * 결과를 읽은 스냅샷을 반환합니다.
+     *
+     * @return 스냅샷 (브로커에 직접 조회했으면 빈 Optional)
+     */
+    public Optional<ClusterMetadataSnapshot> source() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * 출처를 유지한 채 결과를 변환합니다.
+     *
+     * @param mapper 변환 함수
+     * @param <R>    변환 결과 타입
+     * @return 변환된 조회 결과
+     */
+    public <R> SnapshotResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new SnapshotResult<>(mapper.apply(data), snapshot);
+    }
+}
@@ -0,0 +1,258 @@
+package com.kafkalens.domain.metadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 클러스터 전체 토픽 설정 인덱스.
+ *
+ * <p>토픽마다 전체 설정(수십 개 항목)을 보관하는 대신, 토픽 수준에서 지정된 설정(기본값이 아닌 항목)만
+ * 토픽별로 보관하고 나머지는 클러스터 공통 기본값 하나로 보관합니다. 토픽별 항목은 키 순으로 정렬된
+ * {@code [key0, value0, key1, value1, ...]} 배열이며, 같은 키/값 문자열은 인덱스 전체에서 하나의
+ * 인스턴스를 공유합니다.</p>
+ *
+ * <p>불변 객체이며, 증분 갱신은 {@link #toBuilder()}로 이전 인덱스를 복사해 바뀐 토픽만 교체합니다.</p>
+ */
+public final class TopicConfigIndex {
+
+    /**
+     * 빈 인덱스.
+     */
+    public static final TopicConfigIndex EMPTY = new TopicConfigIndex(Map.of(), Map.of());
+
+    private static final String[] NO_OVERRIDES = new String[0];
+
+    private final Map<String, String[]> overrides;
+    private final Map<String, String> defaults;
+
+    private TopicConfigIndex(Map<String, String[]> overrides, Map<String, String> defaults) {
+        this.overrides = overrides;
+        this.defaults = defaults;
+    }
+
+    /**
+     * 토픽별 지정 설정과 기본값으로 인덱스를 만듭니다.
+     *
+     * @param overridesByTopic 토픽 이름 -> 토픽 수준에서 지정된 설정
+     * @param defaults         설정 키 -> 토픽이 따로 지정하지 않았을 때의 값
+     * @return 인덱스
+     */
+    public static TopicConfigIndex of(Map<String, Map<String, String>> overridesByTopic, Map<String, String> defaults) {
+        Builder builder = new Builder(EMPTY).putDefaults(defaults);
+        overridesByTopic.forEach(builder::putTopic);
+        return builder.build();
+    }
+
+    /**
+     * 이 인덱스를 시작점으로 하는 빌더를 반환합니다.
+     *
+     * @return 빌더
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * 인덱스된 토픽 수를 반환합니다.
+     */
+    public int size() {
+        return overrides.size();
+    }
+
+    /**
+     * 토픽이 인덱스에 있는지 확인합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 인덱스 포함 여부
+     */
+    public boolean contains(String topicName) {
+        return overrides.containsKey(topicName);
+    }
+
+    /**
+     * 인덱스된 토픽 이름을 반환합니다.
+     */
+    public Set<String> topics() {
+        return overrides.keySet();
+    }
+
+    /**
+     * 토픽 수준에서 지정된 설정을 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 설정 키 -> 값 (인덱스에 없는 토픽이면 빈 맵)
+     */
+    public Map<String, String> overrides(String topicName) {
+        String[] entries = overrides.getOrDefault(topicName, NO_OVERRIDES);
+        Map<String, String> result = new TreeMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            result.put(entries[i], entries[i + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * 기본값 위에 토픽 수준 설정을 덮어쓴 적용 설정을 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 적용 설정 (인덱스에 없는 토픽이면 빈 Optional)
+     */
+    public Optional<Map<String, String>> effectiveConfig(String topicName) {
+        if (!contains(topicName)) {
+            return Optional.empty();
+        }
+        Map<String, String> result = new TreeMap<>(defaults);
+        result.putAll(overrides(topicName));
+        return Optional.of(result);
+    }
+
+    /**
+     * 설정 키의 적용 값이 조건을 만족하는 토픽을 찾습니다.
+     *
+     * <p>토픽 수준에서 지정하지 않은 토픽은 기본값으로 판단합니다. 기본값도 없으면 제외합니다.</p>
+     *
+     * @param key         설정 키
+     * @param valueFilter 적용 값 조건
+     * @return 토픽 이름순 결과
+     */
+    public List<Match> find(String key, Predicate<String> valueFilter) {
+        String defaultValue = defaults.get(key);
+        boolean defaultMatches = defaultValue != null && valueFilter.test(defaultValue);
+
+        List<Match> matches = new ArrayList<>();
+        overrides.forEach((topicName, entries) -> {
+            int index = indexOf(entries, key);
+            if (index >= 0) {
+                if (valueFilter.test(entries[index + 1])) {
+                    matches.add(new Match(topicName, entries[index + 1], true));
+                }
+            } else if (defaultMatches) {
+                matches.add(new Match(topicName, defaultValue, false));
+            }
+        });
+        matches.sort(Comparator.comparing(Match::topic));
+        return matches;
+    }
+
+    /**
+     * 키 순으로 정렬된 항목 배열에서 키의 위치를 찾습니다.
+     */
+    private static int indexOf(String[] entries, String key) {
+        int low = 0;
+        int high = entries.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = entries[mid * 2].compareTo(key);
+            if (cmp == 0) {
+                return mid * 2;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 설정 검색 결과.
+     *
+     * @param topic      토픽 이름
+     * @param value      적용 값
+     * @param overridden 토픽 수준에서 지정된 값인지 여부
+     */
+    public record Match(String topic, String value, boolean overridden) {
+    }
+
+    /**
+     * 인덱스 빌더.
+     */
+    public static final class Builder {
+
+        private final Map<String, String[]> overrides;
+        private final Map<String, String> defaults;
+
+        private Builder(TopicConfigIndex base) {
+            this.overrides = new HashMap<>(base.overrides);
+            this.defaults = new HashMap<>(base.defaults);
+        }
+
+        /**
+         * 주어진 토픽만 남깁니다 (삭제된 토픽 제거).
+         */
+        public Builder retainTopics(Collection<String> topicNames) {
+            overrides.keySet().retainAll(topicNames instanceof Set<?> ? topicNames : Set.copyOf(topicNames));
+            return this;
+        }
+
+        /**
+         * 토픽을 제거합니다.
+         */
+        public Builder removeTopic(String topicName) {
+            overrides.remove(topicName);
+            return this;
+        }
+
+        /**
+         * 토픽의 지정 설정을 교체합니다.
+         *
+         * @param topicName    토픽 이름
+         * @param topicConfigs 토픽 수준에서 지정된 설정 (null 값은 무시)
+         */
+        public Builder putTopic(String topicName, Map<String, String> topicConfigs) {
+            String[] entries = topicConfigs.entrySet().stream()
+                    .filter(e -> e.getValue() != null)
+                    .sorted(Map.Entry.comparingByKey())
+                    .flatMap(e -> Stream.of(e.getKey(), e.getValue()))
+                    .toArray(String[]::new);
+            overrides.put(topicName, entries.length == 0 ? NO_OVERRIDES : entries);
+            return this;
+        }
+
+        /**
+         * 기본값을 추가하거나 교체합니다.
+         */
+        public Builder putDefaults(Map<String, String> values) {
+            values.forEach((key, value) -> {
+                if (value != null) {
+                    defaults.put(key, value);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * 같은 문자열이 하나의 인스턴스를 공유하도록 정리하여 인덱스를 만듭니다.
+         */
+        public TopicConfigIndex build() {
+            Map<String, String> strings = new HashMap<>();
+            Map<String, String> compactDefaults = new HashMap<>();
+            defaults.forEach((key, value) -> compactDefaults.put(
+                    strings.computeIfAbsent(key, k -> k), strings.computeIfAbsent(value, v -> v)));
+
+            Map<String, String[]> compactOverrides = new HashMap<>(overrides.size() * 4 / 3 + 1);
+            overrides.forEach((topicName, entries) -> {
+                String[] compact = entries.length == 0 ? NO_OVERRIDES : Arrays.copyOf(entries, entries.length);
+                for (int i = 0; i < compact.length; i++) {
+                    compact[i] = strings.computeIfAbsent(compact[i], s -> s);
+                }
+                compactOverrides.put(topicName, compact);
+            });
+            return new TopicConfigIndex(
+                    Collections.unmodifiableMap(compactOverrides),
+                    Collections.unmodifiableMap(compactDefaults));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 토픽별 컨슈머 그룹 역인덱스.
+ *
+ * <p>컨슈머 그룹 상세의 멤버 할당을 뒤집어 토픽마다 파티션을 할당받은 그룹과 할당 파티션 수를 보관합니다.
+ * 스냅샷 갱신마다 모든 그룹을 다시 조회하므로 인덱스도 스냅샷과 함께 새로 만들며,
+ * 크기는 할당된 그룹-토픽 쌍의 수에 비례합니다. 커밋 오프셋만 있는 그룹은 포함하지 않습니다.</p>
+ */
+public final class TopicConsumerIndex {
+
+    /**
+     * 빈 인덱스.
+     */
+    public static final TopicConsumerIndex EMPTY = new TopicConsumerIndex(Map.of());
+
+    private final Map<String, Map<String, Integer>> groupsByTopic;
+
+    private TopicConsumerIndex(Map<String, Map<String, Integer>> groupsByTopic) {
+        this.groupsByTopic = groupsByTopic;
+    }
+
+    /**
+     * 컨슈머 그룹 상세로 인덱스를 만듭니다.
+     *
+     * @param groups 그룹 ID -> 컨슈머 그룹 상세
+     * @return 인덱스
+     */
+    public static TopicConsumerIndex of(Map<String, ConsumerGroupDescription> groups) {
+        Map<String, Map<String, Integer>> groupsByTopic = new HashMap<>();
+        for (ConsumerGroupDescription group : groups.values()) {
+            for (MemberDescription member : group.members()) {
+                if (member.assignment() == null || member.assignment().topicPartitions() == null) {
+                    continue;
+                }
+                for (TopicPartition tp : member.assignment().topicPartitions()) {
+                    groupsByTopic.computeIfAbsent(tp.topic(), topic -> new TreeMap<>())
+                            .merge(group.groupId(), 1, Integer::sum);
+                }
+            }
+        }
+        groupsByTopic.replaceAll((topic, assigned) -> Collections.unmodifiableMap(assigned));
+        return new TopicConsumerIndex(Collections.unmodifiableMap(groupsByTopic));
+    }
+
+    /**
+     * 토픽의 파티션을 할당받은 컨슈머 그룹을 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 그룹 ID순 그룹 ID -> 할당 파티션 수 (없으면 빈 맵)
+     */
+    public Map<String, Integer> groups(String topicName) {
+        return groupsByTopic.getOrDefault(topicName, Map.of());
+    }
+
+    /**
+     * 할당된 컨슈머 그룹이 있는 토픽 수를 반환합니다.
+     */
+    public int topicCount() {
+        return groupsByTopic.size();
+    }
+}
@@ -0,0 +1,49 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 비정상 파티션.
+ *
+ * @param topic     토픽 이름
+ * @param partition 파티션 번호
+ * @param leader    리더 브로커 ID (리더가 없으면 -1)
+ * @param replicas  레플리카 브로커 ID 목록 (첫 번째가 선호 리더)
+ * @param isr       In-Sync Replicas 브로커 ID 목록
+ * @param issues    문제 유형
+ */
+public record UnhealthyPartition(
+        String topic,
+        int partition,
+        int leader,
+        List<Integer> replicas,
+        List<Integer> isr,
+        Set<PartitionIssue> issues
+) {
+    public UnhealthyPartition {
+        replicas = replicas != null ? List.copyOf(replicas) : List.of();
+        isr = isr != null ? List.copyOf(isr) : List.of();
+        issues = issues == null || issues.isEmpty()
+                ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(issues));
+    }
+
+    /**
+     * 파티션 정보로 비정상 파티션을 만듭니다.
+     */
+    static UnhealthyPartition of(String topic, TopicPartitionInfo partition, Set<PartitionIssue> issues) {
+        return new UnhealthyPartition(
+                topic,
+                partition.partition(),
+                partition.leader() != null ? partition.leader().id() : -1,
+                partition.replicas().stream().map(Node::id).collect(Collectors.toList()),
+                partition.isr().stream().map(Node::id).collect(Collectors.toList()),
+                issues);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * 클러스터 메타데이터 스냅샷 도메인 패키지.
+ * <p>
+ * 클러스터별 백그라운드 갱신으로 만든 불변 메타데이터 스냅샷과 이를 관리하는 스냅샷터를 포함합니다.
+ * </p>
+ *
+ * @since 0.1.0
+ */
+package com.kafkalens.domain.metadata;
@@ -0,0 +1,22 @@
+package com.kafkalens.domain.storage;
+
+import java.util.List;
+
+/**
+ * 브로커 디스크 사용량.
+ *
+ * @param brokerId     브로커 ID
+ * @param sizeBytes    브로커의 모든 레플리카 크기 합계 (바이트)
+ * @param replicaCount 브로커의 레플리카 수
+ * @param logDirs      로그 디렉터리별 사용량 (경로순)
+ */
+public record BrokerStorage(
+        int brokerId,
+        long sizeBytes,
+        int replicaCount,
+        List<LogDirStorage> logDirs
+) {
+    public BrokerStorage {
+        logDirs = logDirs == null ? List.of() : List.copyOf(logDirs);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kafkalens.domain.storage;
+
+/**
+ * 브로커 로그 디렉터리 디스크 사용량.
+ *
+ * @param path         로그 디렉터리 경로
+ * @param sizeBytes    디렉터리에 있는 레플리카 크기 합계 (바이트)
+ * @param replicaCount 디렉터리에 있는 레플리카 수
+ * @param totalBytes   볼륨 전체 용량 (브로커가 제공하지 않으면 null)
+ * @param usableBytes  볼륨 남은 용량 (브로커가 제공하지 않으면 null)
+ * @param error        디렉터리 오류 (오프라인 디렉터리 등, 정상이면 null)
+ */
+public record LogDirStorage(
+        String path,
+        long sizeBytes,
+        int replicaCount,
+        Long totalBytes,
+        Long usableBytes,
+        String error
+) {
+}
@@ -0,0 +1,199 @@
+package com.kafkalens.domain.storage;
+
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 클러스터 디스크 사용량 집계.
+ *
+ * <p>브로커별 describeLogDirs 결과를 한 번 훑어 토픽 합계, 브로커 합계, 로그 디렉터리 합계와
+ * 파티션별 레플리카 크기를 미리 계산해 둡니다. 토픽은 크기 내림차순으로 정렬해 두므로
+ * "가장 큰 토픽 N개" 조회는 요청 시점에 전체를 훑지 않고 앞에서 N개를 잘라 반환합니다.</p>
+ *
+ * <p>다른 로그 디렉터리로 이동 중인 레플리카(future replica)도 디스크를 차지하므로 합계에 포함합니다.
+ * 불변 객체입니다.</p>
+ */
+public final class StorageUsage {
+
+    private final Instant computedAt;
+    private final List<TopicStorage> topicsBySize;
+    private final Map<String, TopicStorage> topics;
+    private final Map<TopicPartition, Map<Integer, Long>> replicaSizes;
+    private final List<BrokerStorage> brokers;
+    private final Set<Integer> failedBrokers;
+
+    private StorageUsage(
+            Instant computedAt,
+            List<TopicStorage> topicsBySize,
+            Map<String, TopicStorage> topics,
+            Map<TopicPartition, Map<Integer, Long>> replicaSizes,
+            List<BrokerStorage> brokers,
+            Set<Integer> failedBrokers
+    ) {
+        this.computedAt = computedAt;
+        this.topicsBySize = topicsBySize;
+        this.topics = topics;
+        this.replicaSizes = replicaSizes;
+        this.brokers = brokers;
+        this.failedBrokers = failedBrokers;
+    }
+
+    /**
+     * 브로커별 로그 디렉터리 정보를 집계합니다.
+     *
+     * @param computedAt    조회 시각
+     * @param logDirs       브로커 ID -> 로그 디렉터리 경로 -> LogDirDescription
+     * @param failedBrokers 조회에 실패한 브로커 ID (집계에서 빠진 브로커)
+     * @return 집계 결과
+     */
+    public static StorageUsage aggregate(
+            Instant computedAt,
+            Map<Integer, Map<String, LogDirDescription>> logDirs,
+            Set<Integer> failedBrokers
+    ) {
+        Map<String, long[]> topicTotals = new HashMap<>();
+        Map<TopicPartition, Map<Integer, Long>> replicaSizes = new HashMap<>();
+        List<BrokerStorage> brokers = new ArrayList<>(logDirs.size());
+
+        new TreeMap<>(logDirs).forEach((brokerId, dirs) -> {
+            long brokerBytes = 0;
+            int brokerReplicas = 0;
+            List<LogDirStorage> dirUsages = new ArrayList<>(dirs.size());
+
+            for (Map.Entry<String, LogDirDescription> dir : new TreeMap<>(dirs).entrySet()) {
+                LogDirDescription description = dir.getValue();
+                long dirBytes = 0;
+                Map<TopicPartition, ReplicaInfo> replicas = description.error() == null
+                        ? description.replicaInfos() : Map.of();
+
+                for (Map.Entry<TopicPartition, ReplicaInfo> replica : replicas.entrySet()) {
+                    TopicPartition tp = replica.getKey();
+                    long size = replica.getValue().size();
+                    dirBytes += size;
+
+                    long[] topicTotal = topicTotals.computeIfAbsent(tp.topic(), t -> new long[2]);
+                    topicTotal[0] += size;
+                    topicTotal[1]++;
+                    replicaSizes.computeIfAbsent(tp, p -> new TreeMap<>()).merge(brokerId, size, Long::sum);
+                }
+
+                dirUsages.add(new LogDirStorage(dir.getKey(), dirBytes, replicas.size(),
+                        description.totalBytes().isPresent() ? description.totalBytes().getAsLong() : null,
+                        description.usableBytes().isPresent() ? description.usableBytes().getAsLong() : null,
+                        description.error() != null ? description.error().getMessage() : null));
+                brokerBytes += dirBytes;
+                brokerReplicas += replicas.size();
+            }
+            brokers.add(new BrokerStorage(brokerId, brokerBytes, brokerReplicas, dirUsages));
+        });
+
+        List<TopicStorage> topicsBySize = new ArrayList<>(topicTotals.size());
+        Map<String, TopicStorage> topics = new HashMap<>(topicTotals.size() * 4 / 3 + 1);
+        topicTotals.forEach((topic, total) -> {
+            TopicStorage storage = new TopicStorage(topic, total[0], (int) total[1]);
+            topicsBySize.add(storage);
+            topics.put(topic, storage);
+        });
+        topicsBySize.sort(Comparator.comparingLong(TopicStorage::sizeBytes).reversed()
+                .thenComparing(TopicStorage::topic));
+        replicaSizes.replaceAll((tp, sizes) -> Collections.unmodifiableMap(sizes));
+
+        return new StorageUsage(
+                computedAt,
+                Collections.unmodifiableList(topicsBySize),
+                Collections.unmodifiableMap(topics),
+                Collections.unmodifiableMap(replicaSizes),
+                List.copyOf(brokers),
+                Set.copyOf(failedBrokers));
+    }
+
+    /**
+     * 조회 시각을 반환합니다.
+     */
+    public Instant computedAt() {
+        return computedAt;
+    }
+
+    /**
+     * 조회에 실패해 집계에서 빠진 브로커 ID를 반환합니다.
+     */
+    public Set<Integer> failedBrokers() {
+        return failedBrokers;
+    }
+
+    /**
+     * 일부 브로커가 집계에서 빠졌는지 여부를 반환합니다.
+     */
+    public boolean isPartial() {
+        return !failedBrokers.isEmpty();
+    }
+
+    /**
+     * 크기가 큰 토픽부터 최대 {@code limit}개를 반환합니다.
+     *
+     * @param limit 최대 개수
+     * @return 크기 내림차순 토픽 사용량 (크기가 같으면 이름순)
+     */
+    public List<TopicStorage> largestTopics(int limit) {
+        return topicsBySize.subList(0, Math.max(0, Math.min(limit, topicsBySize.size())));
+    }
+
+    /**
+     * 토픽 사용량을 반환합니다.
+     *
+     * @param topicName 토픽 이름
+     * @return 토픽 사용량 (집계된 레플리카가 없으면 빈 Optional)
+     */
+    public Optional<TopicStorage> topic(String topicName) {
+        return Optional.ofNullable(topics.get(topicName));
+    }
+
+    /**
+     * 파티션의 브로커별 레플리카 크기를 반환합니다.
+     *
+     * @param topicPartition 토픽 파티션
+     * @return 브로커 ID -> 레플리카 크기 (바이트, 브로커 ID순. 집계된 레플리카가 없으면 빈 맵)
+     */
+    public Map<Integer, Long> replicaSizes(TopicPartition topicPartition) {
+        return replicaSizes.getOrDefault(topicPartition, Map.of());
+    }
+
+    /**
+     * 파티션 크기를 반환합니다.
+     *
+     * @param topicPartition 토픽 파티션
+     * @return 레플리카 중 가장 큰 크기 (바이트. 집계된 레플리카가 없으면 -1)
+     */
+    public long partitionSizeBytes(TopicPartition topicPartition) {
+        Map<Integer, Long> sizes = replicaSizes.get(topicPartition);
+        if (sizes == null) {
+            return -1;
+        }
+        long max = -1;
+        for (long size : sizes.values()) {
+            max = Math.max(max, size);
+        }
+        return max;
+    }
+
+    /**
+     * 브로커별 사용량을 반환합니다.
+     *
+     * @return 브로커 ID순 사용량
+     */
+    public List<BrokerStorage> brokers() {
+        return brokers;
+    }
+}
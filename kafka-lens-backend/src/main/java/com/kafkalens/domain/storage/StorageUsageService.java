@@ -0,0 +1,240 @@
+package com.kafkalens.domain.storage;
+
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.common.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 디스크 사용량 서비스.
+ *
+ * <p>모든 브로커의 describeLogDirs 결과를 {@link StorageUsage}로 집계하여 클러스터별로
+ * {@code kafka.storage.usage.ttl-ms} 동안 보관합니다. 조회는 집계 결과에서 바로 응답하며,
+ * 만료된 뒤 처음 들어온 요청이 다시 조회합니다. 동시에 들어온 요청은 진행 중인 조회 하나를 함께 기다립니다.
+ * 실패한 조회도 {@code kafka.storage.usage.failure-backoff-ms} 동안은 그대로 보관하여, 브로커가 응답하지 않는
+ * 동안 요청마다 전체 브로커 조회가 반복되지 않도록 합니다.</p>
+ *
+ * <p>토픽 목록처럼 사용량이 부가 정보인 화면은 {@link #peekUsage(String)}로 마지막 집계만 읽고,
+ * 만료되었으면 백그라운드 조회만 시작합니다. 직전 집계도 함께 보관하므로, 두 집계의 로그 크기 차이로
+ * 유입량을 추정하는 쪽은 {@link #peekRecentUsages(String)}를 사용합니다.</p>
+ */
+@Service
+public class StorageUsageService {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageUsageService.class);
+
+    private final AdminClientWrapper adminClientWrapper;
+    private final ClusterService clusterService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+    private final Duration ttl;
+    private final Duration failureBackoff;
+    private final Clock clock;
+
+    private final Map<String, CompletableFuture<StorageUsage>> usages = new ConcurrentHashMap<>();
+    private final Map<String, RecentUsages> recentUsages = new ConcurrentHashMap<>();
+    private final Map<String, Instant> failedAt = new ConcurrentHashMap<>();
+
+    /**
+     * StorageUsageService 생성자.
+     *
+     * @param adminClientWrapper  Kafka AdminClient 래퍼
+     * @param clusterService      클러스터 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     * @param ttlMs               집계 결과 보관 시간 (밀리초)
+     * @param failureBackoffMs    실패한 조회를 다시 시도하기까지 기다리는 시간 (밀리초)
+     */
+    @Autowired
+    public StorageUsageService(
+            AdminClientWrapper adminClientWrapper,
+            ClusterService clusterService,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            @Value("${kafka.storage.usage.ttl-ms:60000}") long ttlMs,
+            @Value("${kafka.storage.usage.failure-backoff-ms:10000}") long failureBackoffMs
+    ) {
+        this(adminClientWrapper, clusterService, metadataSnapshotter,
+                Duration.ofMillis(ttlMs), Duration.ofMillis(failureBackoffMs), Clock.systemUTC());
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    StorageUsageService(
+            AdminClientWrapper adminClientWrapper,
+            ClusterService clusterService,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            Duration ttl,
+            Duration failureBackoff,
+            Clock clock
+    ) {
+        this.adminClientWrapper = adminClientWrapper;
+        this.clusterService = clusterService;
+        this.metadataSnapshotter = metadataSnapshotter;
+        this.ttl = ttl;
+        this.failureBackoff = failureBackoff;
+        this.clock = clock;
+    }
+
+    /**
+     * 클러스터 디스크 사용량 집계를 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 보관 중인 집계 (없거나 만료되었으면 새로 조회한 집계)
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<StorageUsage> getUsage(String clusterId) {
+        validateClusterExists(clusterId);
+        return currentUsage(clusterId);
+    }
+
+    /**
+     * 크기가 큰 토픽부터 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param limit     최대 개수
+     * @return 크기 내림차순 토픽 사용량
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<List<TopicStorage>> getLargestTopics(String clusterId, int limit) {
+        log.debug("Getting {} largest topics for cluster: {}", limit, clusterId);
+        return getUsage(clusterId).thenApply(usage -> usage.largestTopics(limit));
+    }
+
+    /**
+     * 브로커별, 로그 디렉터리별 사용량을 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 브로커 ID순 사용량
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<List<BrokerStorage>> getBrokerUsage(String clusterId) {
+        log.debug("Getting broker storage usage for cluster: {}", clusterId);
+        return getUsage(clusterId).thenApply(StorageUsage::brokers);
+    }
+
+    /**
+     * 마지막으로 집계된 사용량을 기다리지 않고 반환합니다.
+     *
+     * <p>집계가 없거나 만료되었으면 백그라운드 조회를 시작하며, 그동안은 이전 집계(없으면 빈 Optional)를 반환합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 마지막 집계
+     */
+    public Optional<StorageUsage> peekUsage(String clusterId) {
+        return peekRecentUsages(clusterId).map(RecentUsages::latest);
+    }
+
+    /**
+     * 마지막 집계와 그 직전 집계를 기다리지 않고 반환합니다.
+     *
+     * <p>{@link #peekUsage(String)}와 같이 필요하면 백그라운드 조회를 시작합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 마지막 두 집계 (집계가 없으면 빈 Optional)
+     */
+    public Optional<RecentUsages> peekRecentUsages(String clusterId) {
+        currentUsage(clusterId);
+        return Optional.ofNullable(recentUsages.get(clusterId));
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 클러스터 존재 여부를 검증합니다.
+     */
+    private void validateClusterExists(String clusterId) {
+        if (!clusterService.existsById(clusterId)) {
+            throw new ClusterNotFoundException(clusterId);
+        }
+    }
+
+    /**
+     * 보관 중인 집계를 반환하고, 없거나 만료되었으면(실패했으면 재시도 대기 시간이 지났으면) 새 조회로 교체합니다.
+     */
+    private CompletableFuture<StorageUsage> currentUsage(String clusterId) {
+        return usages.compute(clusterId, (id, existing) -> isUsable(id, existing) ? existing : loadUsage(id));
+    }
+
+    private boolean isUsable(String clusterId, CompletableFuture<StorageUsage> usage) {
+        if (usage == null) {
+            return false;
+        }
+        if (!usage.isDone()) {
+            return true;
+        }
+        if (usage.isCompletedExceptionally()) {
+            return failedAt.get(clusterId).plus(failureBackoff).isAfter(clock.instant());
+        }
+        return usage.join().computedAt().plus(ttl).isAfter(clock.instant());
+    }
+
+    /**
+     * 모든 브로커의 로그 디렉터리를 조회하여 집계합니다.
+     *
+     * <p>요청 전송 단계에서 바로 실패해도(서킷 브레이커 등) 실패한 Future로 반환하여,
+     * {@link #peekUsage(String)}를 호출한 쪽이 예외를 받지 않도록 합니다. 실패 시각은 반환된 Future가
+     * 완료되기 전에 기록됩니다.</p>
+     */
+    private CompletableFuture<StorageUsage> loadUsage(String clusterId) {
+        CompletableFuture<StorageUsage> usage;
+        try {
+            usage = describeAndAggregate(clusterId);
+        } catch (RuntimeException e) {
+            usage = CompletableFuture.failedFuture(e);
+        }
+        return usage.whenComplete((result, error) -> {
+            if (error != null) {
+                failedAt.put(clusterId, clock.instant());
+            }
+        });
+    }
+
+    private CompletableFuture<StorageUsage> describeAndAggregate(String clusterId) {
+        log.debug("Describing log dirs for cluster: {}", clusterId);
+
+        CompletableFuture<Collection<Node>> nodes = metadataSnapshotter.getSnapshot(clusterId)
+                .map(snapshot -> CompletableFuture.<Collection<Node>>completedFuture(snapshot.brokers()))
+                .orElseGet(() -> adminClientWrapper.describeClusterAsync(clusterId)
+                        .thenApply(clusterInfo -> clusterInfo.nodes() != null ? clusterInfo.nodes() : List.of()));
+
+        return nodes
+                .thenCompose(brokerNodes -> adminClientWrapper.describeLogDirsAsync(clusterId,
+                        brokerNodes.stream().map(Node::id).collect(Collectors.toList())))
+                .thenApply(result -> {
+                    if (result.isPartial()) {
+                        log.warn("Log dirs of brokers {} on cluster {} could not be described",
+                                result.failedBrokers(), clusterId);
+                    }
+                    StorageUsage usage = StorageUsage.aggregate(
+                            clock.instant(), result.descriptions(), result.failedBrokers());
+                    recentUsages.compute(clusterId, (id, recent) ->
+                            new RecentUsages(usage, recent != null ? recent.latest() : null));
+                    return usage;
+                });
+    }
+
+    /**
+     * 클러스터의 최근 두 집계.
+     *
+     * @param latest   마지막 집계
+     * @param previous 직전 집계 (한 번만 집계되었으면 null)
+     */
+    public record RecentUsages(StorageUsage latest, StorageUsage previous) {
+    }
+}
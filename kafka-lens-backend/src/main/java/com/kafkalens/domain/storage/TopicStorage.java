@@ -0,0 +1,15 @@
+package com.kafkalens.domain.storage;
+
+/**
+ * 토픽 디스크 사용량.
+ *
+ * @param topic        토픽 이름
+ * @param sizeBytes    모든 레플리카의 디스크 사용량 합계 (바이트)
+ * @param replicaCount 크기가 집계된 레플리카 수
+ */
+public record TopicStorage(
+        String topic,
+        long sizeBytes,
+        int replicaCount
+) {
+}
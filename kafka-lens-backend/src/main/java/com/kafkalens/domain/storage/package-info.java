@@ -0,0 +1,9 @@
+/**
+ * Kafka 디스크 사용량 도메인 패키지.
+ * <p>
+ * 브로커 로그 디렉터리 조회 결과를 토픽별, 브로커별, 로그 디렉터리별 사용량으로 집계한 도메인 객체를 포함합니다.
+ * </p>
+ *
+ * @since 0.1.0
+ */
+package com.kafkalens.domain.storage;
@@ -0,0 +1,54 @@
+package com.kafkalens.domain.topic;
+
+import java.math.BigDecimal;
+
+/**
+ * 토픽 설정 검색의 값 비교 연산자.
+ *
+ * <p>{@code GT}, {@code GTE}, {@code LT}, {@code LTE}는 두 값을 숫자로 비교하며, 숫자가 아니면 일치하지 않습니다.
+ * {@code CONTAINS}는 쉼표로 구분된 목록 값({@code cleanup.policy=compact,delete} 등)에 항목이 있는지 확인합니다.</p>
+ */
+public enum ConfigValueOperator {
+
+    EQ, NE, GT, GTE, LT, LTE, CONTAINS;
+
+    /**
+     * 적용 값이 기준 값과 연산자 조건을 만족하는지 확인합니다.
+     *
+     * @param actual   토픽의 적용 값
+     * @param expected 기준 값
+     * @return 조건 만족 여부
+     */
+    public boolean test(String actual, String expected) {
+        return switch (this) {
+            case EQ -> actual.equals(expected);
+            case NE -> !actual.equals(expected);
+            case GT, GTE, LT, LTE -> compareNumeric(actual, expected);
+            case CONTAINS -> containsItem(actual, expected);
+        };
+    }
+
+    private boolean compareNumeric(String actual, String expected) {
+        int comparison;
+        try {
+            comparison = new BigDecimal(actual.trim()).compareTo(new BigDecimal(expected.trim()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return switch (this) {
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            case LT -> comparison < 0;
+            default -> comparison <= 0;
+        };
+    }
+
+    private static boolean containsItem(String actual, String expected) {
+        for (String item : actual.split(",")) {
+            if (item.trim().equals(expected.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
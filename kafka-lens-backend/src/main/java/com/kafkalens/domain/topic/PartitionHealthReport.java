@@ -0,0 +1,27 @@
+package com.kafkalens.domain.topic;
+
+import com.kafkalens.domain.metadata.UnhealthyPartition;
+
+import java.util.List;
+
+/**
+ * 클러스터 파티션 상태 보고서.
+ *
+ * <p>문제 유형별 개수는 조회 조건과 관계없이 클러스터 전체 기준이며,
+ * {@code partitions}만 요청한 문제 유형으로 걸러집니다.</p>
+ *
+ * @param underReplicated    언더 레플리케이션 파티션 수
+ * @param offline            오프라인 파티션 수
+ * @param nonPreferredLeader 선호 리더가 아닌 리더를 가진 파티션 수
+ * @param partitions         토픽 이름, 파티션 번호순 비정상 파티션
+ */
+public record PartitionHealthReport(
+        int underReplicated,
+        int offline,
+        int nonPreferredLeader,
+        List<UnhealthyPartition> partitions
+) {
+    public PartitionHealthReport {
+        partitions = partitions != null ? List.copyOf(partitions) : List.of();
+    }
+}
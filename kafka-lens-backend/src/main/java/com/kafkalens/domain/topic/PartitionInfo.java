@@ -2,20 +2,24 @@ package com.kafkalens.domain.topic;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Kafka 파티션 정보.
  *
  * <p>토픽 파티션의 상세 정보를 담고 있습니다.
- * 리더/레플리카 정보, 오프셋 정보를 포함합니다.</p>
+ * 리더/레플리카 정보, 오프셋 정보, 레플리카별 디스크 사용량을 포함합니다.</p>
  *
- * @param partition       파티션 번호 (0부터 시작)
- * @param leader          리더 브로커 ID
- * @param replicas        레플리카 브로커 ID 목록
- * @param isr             In-Sync Replicas 브로커 ID 목록
- * @param beginningOffset 시작 오프셋 (가장 오래된 메시지)
- * @param endOffset       종료 오프셋 (다음에 쓸 오프셋)
+ * @param partition        파티션 번호 (0부터 시작)
+ * @param leader           리더 브로커 ID
+ * @param replicas         레플리카 브로커 ID 목록
+ * @param isr              In-Sync Replicas 브로커 ID 목록
+ * @param beginningOffset  시작 오프셋 (가장 오래된 메시지)
+ * @param endOffset        종료 오프셋 (다음에 쓸 오프셋)
+ * @param replicaSizeBytes 브로커 ID -> 레플리카 디스크 사용량 (바이트, 아직 집계되지 않았으면 null)
  */
 public record PartitionInfo(
         int partition,
@@ -23,17 +27,19 @@ public record PartitionInfo(
         List<Integer> replicas,
         List<Integer> isr,
         long beginningOffset,
-        long endOffset
+        long endOffset,
+        Map<Integer, Long> replicaSizeBytes
 ) {
     /**
      * PartitionInfo 생성자.
      *
-     * @param partition       파티션 번호 (0 이상)
-     * @param leader          리더 브로커 ID
-     * @param replicas        레플리카 목록 (null 허용 안 함)
-     * @param isr             ISR 목록 (null 허용 안 함)
-     * @param beginningOffset 시작 오프셋 (0 이상)
-     * @param endOffset       종료 오프셋 (0 이상)
+     * @param partition        파티션 번호 (0 이상)
+     * @param leader           리더 브로커 ID
+     * @param replicas         레플리카 목록 (null 허용 안 함)
+     * @param isr              ISR 목록 (null 허용 안 함)
+     * @param beginningOffset  시작 오프셋 (0 이상)
+     * @param endOffset        종료 오프셋 (0 이상)
+     * @param replicaSizeBytes 레플리카별 디스크 사용량 (null 허용)
      */
     public PartitionInfo {
         if (partition < 0) {
@@ -51,6 +57,23 @@ public record PartitionInfo(
         if (endOffset < 0) {
             throw new IllegalArgumentException("End offset must be non-negative");
         }
+        if (replicaSizeBytes != null) {
+            replicaSizeBytes = Collections.unmodifiableMap(new TreeMap<>(replicaSizeBytes));
+        }
+    }
+
+    /**
+     * 디스크 사용량 없이 PartitionInfo를 생성합니다.
+     */
+    public PartitionInfo(
+            int partition,
+            int leader,
+            List<Integer> replicas,
+            List<Integer> isr,
+            long beginningOffset,
+            long endOffset
+    ) {
+        this(partition, leader, replicas, isr, beginningOffset, endOffset, null);
     }
 
     /**
@@ -63,6 +86,21 @@ public record PartitionInfo(
         return endOffset - beginningOffset;
     }
 
+    /**
+     * 파티션 데이터 크기를 반환합니다.
+     *
+     * <p>레플리카마다 세그먼트 정리 시점이 달라 크기가 조금씩 다르므로, 가장 큰 레플리카 크기를 사용합니다.</p>
+     *
+     * @return 가장 큰 레플리카 크기 (바이트, 집계되지 않았으면 null)
+     */
+    @JsonProperty("sizeBytes")
+    public Long sizeBytes() {
+        if (replicaSizeBytes == null || replicaSizeBytes.isEmpty()) {
+            return null;
+        }
+        return replicaSizeBytes.values().stream().max(Long::compare).orElse(null);
+    }
+
     /**
      * 파티션이 언더-레플리케이션 상태인지 확인합니다.
      *
@@ -93,6 +131,7 @@ public record PartitionInfo(
         private List<Integer> isr = List.of();
         private long beginningOffset;
         private long endOffset;
+        private Map<Integer, Long> replicaSizeBytes;
 
         public PartitionInfoBuilder partition(int partition) {
             this.partition = partition;
@@ -124,8 +163,13 @@ public record PartitionInfo(
             return this;
         }
 
+        public PartitionInfoBuilder replicaSizeBytes(Map<Integer, Long> replicaSizeBytes) {
+            this.replicaSizeBytes = replicaSizeBytes;
+            return this;
+        }
+
         public PartitionInfo build() {
-            return new PartitionInfo(partition, leader, replicas, isr, beginningOffset, endOffset);
+            return new PartitionInfo(partition, leader, replicas, isr, beginningOffset, endOffset, replicaSizeBytes);
         }
     }
 }
@@ -12,12 +12,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @param partitionCount    파티션 수
  * @param replicationFactor 복제 팩터
  * @param isInternal        내부 토픽 여부 (__consumer_offsets 등)
+ * @param sizeBytes         모든 레플리카의 디스크 사용량 합계 (바이트, 아직 집계되지 않았으면 null)
  */
 public record Topic(
         String name,
         int partitionCount,
         int replicationFactor,
-        @JsonProperty("internal") boolean isInternal
+        @JsonProperty("internal") boolean isInternal,
+        Long sizeBytes
 ) {
     /**
      * Topic 생성자.
@@ -40,6 +42,13 @@ public record Topic(
         }
     }
 
+    /**
+     * 디스크 사용량 없이 Topic을 생성합니다.
+     */
+    public Topic(String name, int partitionCount, int replicationFactor, boolean isInternal) {
+        this(name, partitionCount, replicationFactor, isInternal, null);
+    }
+
     /**
      * Builder를 사용하여 Topic을 생성합니다.
      *
@@ -57,6 +66,7 @@ public record Topic(
         private int partitionCount = 1;
         private int replicationFactor = 1;
         private boolean isInternal = false;
+        private Long sizeBytes;
 
         public TopicBuilder name(String name) {
             this.name = name;
@@ -78,8 +88,13 @@ public record Topic(
             return this;
         }
 
+        public TopicBuilder sizeBytes(Long sizeBytes) {
+            this.sizeBytes = sizeBytes;
+            return this;
+        }
+
         public Topic build() {
-            return new Topic(name, partitionCount, replicationFactor, isInternal);
+            return new Topic(name, partitionCount, replicationFactor, isInternal, sizeBytes);
         }
     }
 }
@@ -0,0 +1,19 @@
+package com.kafkalens.domain.topic;
+
+/**
+ * 토픽 설정 검색 결과.
+ *
+ * <p>클러스터 전체 토픽 설정 검색에서 조건을 만족한 토픽과 그 토픽에 적용되는 설정 값입니다.</p>
+ *
+ * @param topic      토픽 이름
+ * @param key        설정 키
+ * @param value      적용 값
+ * @param overridden 토픽 수준에서 지정된 값인지 여부 (false면 브로커 설정 또는 기본값)
+ */
+public record TopicConfigMatch(
+        String topic,
+        String key,
+        String value,
+        boolean overridden
+) {
+}
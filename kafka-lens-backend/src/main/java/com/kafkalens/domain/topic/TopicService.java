@@ -3,6 +3,15 @@ package com.kafkalens.domain.topic;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.common.exception.TopicNotFoundException;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.PartitionHealthIndex;
+import com.kafkalens.domain.metadata.PartitionIssue;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
+import com.kafkalens.domain.storage.StorageUsage;
+import com.kafkalens.domain.storage.StorageUsageService;
+import com.kafkalens.domain.storage.TopicStorage;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
@@ -13,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +30,13 @@ import java.util.stream.Collectors;
  *
  * <p>토픽 관련 비즈니스 로직을 처리합니다.
  * 토픽 목록 조회, 상세 조회, 파티션 정보 조회 등의 기능을 제공합니다.</p>
+ *
+ * <p>Kafka 조회는 {@link AdminClientWrapper}의 비동기 API로 수행하며,
+ * 결과는 {@link CompletableFuture}로 반환됩니다. 토픽 목록, 토픽 상세, 토픽 설정은
+ * 메타데이터 스냅샷이 있으면 스냅샷에서 읽고, 오프셋은 항상 브로커에 조회합니다.</p>
+ *
+ * <p>토픽과 파티션의 디스크 사용량은 {@link StorageUsageService}가 마지막으로 집계한 값을 붙이며,
+ * 집계를 기다리지 않습니다. 아직 집계가 없으면 사용량 없이 반환합니다.</p>
  */
 @Service
 public class TopicService {
@@ -28,104 +45,216 @@ public class TopicService {
 
     private final AdminClientWrapper adminClientWrapper;
     private final ClusterService clusterService;
+    private final ClusterMetadataSnapshotter metadataSnapshotter;
+    private final StorageUsageService storageUsageService;
 
     /**
      * TopicService 생성자.
      *
-     * @param adminClientWrapper Kafka AdminClient 래퍼
-     * @param clusterService     클러스터 서비스
+     * @param adminClientWrapper  Kafka AdminClient 래퍼
+     * @param clusterService      클러스터 서비스
+     * @param metadataSnapshotter 클러스터 메타데이터 스냅샷터
+     * @param storageUsageService 디스크 사용량 서비스
      */
-    public TopicService(AdminClientWrapper adminClientWrapper, ClusterService clusterService) {
+    public TopicService(
+            AdminClientWrapper adminClientWrapper,
+            ClusterService clusterService,
+            ClusterMetadataSnapshotter metadataSnapshotter,
+            StorageUsageService storageUsageService
+    ) {
         this.adminClientWrapper = adminClientWrapper;
         this.clusterService = clusterService;
+        this.metadataSnapshotter = metadataSnapshotter;
+        this.storageUsageService = storageUsageService;
     }
 
     /**
      * 클러스터의 토픽 목록을 조회합니다.
      *
+     * <p>토픽 상세는 청크 단위로 조회하며, 일부 청크가 실패하면 조회된 토픽만 반환합니다.</p>
+     *
      * @param clusterId       클러스터 ID
      * @param includeInternal 내부 토픽 포함 여부
-     * @return 토픽 목록
+     * @return 토픽 목록과 읽은 스냅샷
      * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
      */
-    public List<Topic> listTopics(String clusterId, boolean includeInternal) {
+    public CompletableFuture<SnapshotResult<List<Topic>>> listTopics(String clusterId, boolean includeInternal) {
         log.debug("Listing topics for cluster: {} (includeInternal: {})", clusterId, includeInternal);
 
         validateClusterExists(clusterId);
 
-        Set<String> topicNames = adminClientWrapper.listTopics(clusterId, includeInternal);
-
-        if (topicNames.isEmpty()) {
-            return List.of();
+        Optional<StorageUsage> usage = storageUsageService.peekUsage(clusterId);
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+        if (snapshot.isPresent()) {
+            return CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(snapshot.get(),
+                    snapshot.get().topics().values().stream()
+                            .filter(description -> includeInternal || !description.isInternal())
+                            .map(description -> toTopic(description, usage))
+                            .sorted(Comparator.comparing(Topic::name))
+                            .collect(Collectors.toList())));
         }
 
-        Map<String, TopicDescription> descriptions = adminClientWrapper.describeTopics(clusterId, topicNames);
-
-        return descriptions.values().stream()
-                .map(this::toTopic)
-                .sorted(Comparator.comparing(Topic::name))
-                .collect(Collectors.toList());
+        return adminClientWrapper.listTopicsAsync(clusterId, includeInternal)
+                .thenCompose(topicNames -> topicNames.isEmpty()
+                        ? CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                                Map.of(), Set.of()))
+                        : adminClientWrapper.describeTopicsInChunksAsync(clusterId, topicNames))
+                .thenApply(result -> {
+                    if (result.isPartial()) {
+                        log.warn("Listed {} topics for cluster {}; {} topics could not be described",
+                                result.descriptions().size(), clusterId, result.failedTopics().size());
+                    }
+                    return SnapshotResult.direct(result.descriptions().values().stream()
+                            .map(description -> toTopic(description, usage))
+                            .sorted(Comparator.comparing(Topic::name))
+                            .collect(Collectors.toList()));
+                });
     }
 
     /**
      * 토픽 상세 정보를 조회합니다.
      *
+     * <p>토픽 상세와 토픽 설정을 동시에 요청하고, 토픽 상세가 도착하면 시작/끝 오프셋을
+     * 동시에 요청합니다. 브로커 왕복은 직렬 4회에서 2단계로 줄어듭니다.</p>
+     *
+     * <p>토픽이 없으면 {@link TopicNotFoundException}으로 완료됩니다.</p>
+     *
      * @param clusterId 클러스터 ID
      * @param topicName 토픽 이름
-     * @return 토픽 상세 정보
+     * @return 토픽 상세 정보와 토픽 상세를 읽은 스냅샷
      * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
-     * @throws TopicNotFoundException   토픽을 찾을 수 없는 경우
      */
-    public TopicDetail getTopic(String clusterId, String topicName) {
+    public CompletableFuture<SnapshotResult<TopicDetail>> getTopic(String clusterId, String topicName) {
         log.debug("Getting topic detail for cluster: {}, topic: {}", clusterId, topicName);
 
         validateClusterExists(clusterId);
 
-        TopicDescription description = adminClientWrapper.describeTopic(clusterId, topicName);
+        Optional<ClusterMetadataSnapshot> snapshot = metadataSnapshotter.getSnapshot(clusterId);
+
+        // 토픽 설정은 토픽 상세와 독립적이므로 함께 전송
+        CompletableFuture<Map<String, Map<String, String>>> configs = snapshot
+                .flatMap(s -> s.topicConfigs().effectiveConfig(topicName))
+                .map(topicConfigs -> CompletableFuture.completedFuture(Map.of(topicName, topicConfigs)))
+                .orElseGet(() -> adminClientWrapper.describeTopicConfigsAsync(clusterId, Set.of(topicName)));
+
+        return describeExistingTopic(clusterId, topicName, snapshot)
+                .thenCompose(described -> getPartitionInfoList(clusterId, topicName, described.data())
+                        .thenCombine(configs, (partitions, topicConfigs) -> described.map(description ->
+                                TopicDetail.builder()
+                                        .name(description.name())
+                                        .partitionCount(description.partitions().size())
+                                        .replicationFactor(getReplicationFactor(description))
+                                        .isInternal(description.isInternal())
+                                        .partitions(partitions)
+                                        .configs(topicConfigs.getOrDefault(topicName, Map.of()))
+                                        .build())));
+    }
 
-        if (description == null) {
-            throw new TopicNotFoundException(clusterId, topicName);
-        }
+    /**
+     * 설정 값으로 클러스터 전체 토픽을 검색합니다.
+     *
+     * <p>메타데이터 스냅샷의 {@link TopicConfigIndex}에서 검색합니다. 스냅샷이 없으면 모든 토픽(내부 토픽 포함)의
+     * 설정을 청크 단위로 조회하여 임시 인덱스를 만듭니다. 토픽 수준에서 지정하지 않은 토픽은
+     * 클러스터 기본값으로 판단합니다.</p>
+     *
+     * @param clusterId      클러스터 ID
+     * @param key            설정 키 (예: retention.ms)
+     * @param operator       비교 연산자
+     * @param value          기준 값 (null이면 값과 관계없이 모든 토픽)
+     * @param overriddenOnly 토픽 수준에서 지정된 토픽만 반환할지 여부
+     * @return 토픽 이름순 검색 결과와 읽은 스냅샷
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<SnapshotResult<List<TopicConfigMatch>>> findTopicsByConfig(
+            String clusterId,
+            String key,
+            ConfigValueOperator operator,
+            String value,
+            boolean overriddenOnly
+    ) {
+        log.debug("Finding topics by config for cluster: {} ({} {} {})", clusterId, key, operator, value);
 
-        // 토픽 설정 조회
-        Map<String, Map<String, String>> configs = adminClientWrapper.describeTopicConfigs(
-                clusterId, Set.of(topicName));
-        Map<String, String> topicConfigs = configs.getOrDefault(topicName, Map.of());
+        validateClusterExists(clusterId);
 
-        // 파티션 정보 조회
-        List<PartitionInfo> partitions = getPartitionInfoList(clusterId, topicName, description);
+        CompletableFuture<SnapshotResult<TopicConfigIndex>> index = metadataSnapshotter.getSnapshot(clusterId)
+                .map(snapshot -> CompletableFuture.completedFuture(
+                        SnapshotResult.fromSnapshot(snapshot, snapshot.topicConfigs())))
+                .orElseGet(() -> adminClientWrapper.listTopicsAsync(clusterId, true)
+                        .thenCompose(topicNames -> adminClientWrapper.describeTopicConfigOverridesAsync(
+                                clusterId, topicNames))
+                        .thenApply(result -> {
+                            if (result.isPartial()) {
+                                log.warn("Configs of {} topics on cluster {} could not be described",
+                                        result.failedTopics().size(), clusterId);
+                            }
+                            return SnapshotResult.direct(TopicConfigIndex.of(result.overrides(), result.defaults()));
+                        }));
+
+        return index.thenApply(result -> result.map(topicConfigs -> topicConfigs
+                .find(key, actual -> value == null || operator.test(actual, value)).stream()
+                .filter(match -> !overriddenOnly || match.overridden())
+                .map(match -> new TopicConfigMatch(match.topic(), key, match.value(), match.overridden()))
+                .collect(Collectors.toList())));
+    }
 
-        return TopicDetail.builder()
-                .name(description.name())
-                .partitionCount(description.partitions().size())
-                .replicationFactor(getReplicationFactor(description))
-                .isInternal(description.isInternal())
-                .partitions(partitions)
-                .configs(topicConfigs)
-                .build();
+    /**
+     * 클러스터 전체의 비정상 파티션을 조회합니다.
+     *
+     * <p>메타데이터 스냅샷이 갱신될 때마다 바뀐 토픽만 반영하는 {@link PartitionHealthIndex}에서 읽으므로
+     * 토픽 상세를 다시 조회하지 않습니다. 스냅샷이 없으면 모든 토픽(내부 토픽 포함)을 청크 단위로 조회하여
+     * 임시 인덱스를 만듭니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param issue     문제 유형 (null이면 모든 유형)
+     * @return 파티션 상태 보고서와 읽은 스냅샷
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     */
+    public CompletableFuture<SnapshotResult<PartitionHealthReport>> getPartitionHealth(
+            String clusterId, PartitionIssue issue) {
+        log.debug("Getting partition health for cluster: {} (issue: {})", clusterId, issue);
+
+        validateClusterExists(clusterId);
+
+        CompletableFuture<SnapshotResult<PartitionHealthIndex>> index = metadataSnapshotter.getSnapshot(clusterId)
+                .map(snapshot -> CompletableFuture.completedFuture(
+                        SnapshotResult.fromSnapshot(snapshot, snapshot.partitionHealth())))
+                .orElseGet(() -> adminClientWrapper.listTopicsAsync(clusterId, true)
+                        .thenCompose(topicNames -> adminClientWrapper.describeTopicsInChunksAsync(
+                                clusterId, topicNames))
+                        .thenApply(result -> {
+                            if (result.isPartial()) {
+                                log.warn("{} topics on cluster {} could not be described",
+                                        result.failedTopics().size(), clusterId);
+                            }
+                            return SnapshotResult.direct(PartitionHealthIndex.of(result.descriptions()));
+                        }));
+
+        return index.thenApply(result -> result.map(health -> new PartitionHealthReport(
+                health.count(PartitionIssue.UNDER_REPLICATED),
+                health.count(PartitionIssue.OFFLINE),
+                health.count(PartitionIssue.NON_PREFERRED_LEADER),
+                health.partitions(issue))));
     }
 
     /**
      * 토픽의 파티션 목록을 조회합니다.
      *
+     * <p>토픽이 없으면 {@link TopicNotFoundException}으로 완료됩니다.</p>
+     *
      * @param clusterId 클러스터 ID
      * @param topicName 토픽 이름
-     * @return 파티션 목록
+     * @return 파티션 목록과 토픽 상세를 읽은 스냅샷
      * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
-     * @throws TopicNotFoundException   토픽을 찾을 수 없는 경우
      */
-    public List<PartitionInfo> getTopicPartitions(String clusterId, String topicName) {
+    public CompletableFuture<SnapshotResult<List<PartitionInfo>>> getTopicPartitions(
+            String clusterId, String topicName) {
         log.debug("Getting partitions for cluster: {}, topic: {}", clusterId, topicName);
 
         validateClusterExists(clusterId);
 
-        TopicDescription description = adminClientWrapper.describeTopic(clusterId, topicName);
-
-        if (description == null) {
-            throw new TopicNotFoundException(clusterId, topicName);
-        }
-
-        return getPartitionInfoList(clusterId, topicName, description);
+        return describeExistingTopic(clusterId, topicName, metadataSnapshotter.getSnapshot(clusterId))
+                .thenCompose(described -> getPartitionInfoList(clusterId, topicName, described.data())
+                        .thenApply(partitions -> described.map(description -> partitions)));
     }
 
     // === Private Helper Methods ===
@@ -139,15 +268,39 @@ public class TopicService {
         }
     }
 
+    /**
+     * 토픽 상세 정보를 조회하고, 토픽이 없으면 TopicNotFoundException으로 완료합니다.
+     *
+     * <p>스냅샷에 없는 토픽은 스냅샷 이후 생성되었을 수 있으므로 브로커에 조회합니다.</p>
+     */
+    private CompletableFuture<SnapshotResult<TopicDescription>> describeExistingTopic(
+            String clusterId, String topicName, Optional<ClusterMetadataSnapshot> snapshot) {
+        Optional<TopicDescription> cached = snapshot.map(s -> s.topics().get(topicName));
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(snapshot.get(), cached.get()));
+        }
+
+        return adminClientWrapper.describeTopicAsync(clusterId, topicName)
+                .thenApply(description -> {
+                    if (description == null) {
+                        throw new TopicNotFoundException(clusterId, topicName);
+                    }
+                    return SnapshotResult.direct(description);
+                });
+    }
+
     /**
      * TopicDescription을 Topic으로 변환합니다.
      */
-    private Topic toTopic(TopicDescription description) {
+    private Topic toTopic(TopicDescription description, Optional<StorageUsage> usage) {
         return Topic.builder()
                 .name(description.name())
                 .partitionCount(description.partitions().size())
                 .replicationFactor(getReplicationFactor(description))
                 .isInternal(description.isInternal())
+                .sizeBytes(usage.flatMap(u -> u.topic(description.name()))
+                        .map(TopicStorage::sizeBytes)
+                        .orElse(null))
                 .build();
     }
 
@@ -164,31 +317,36 @@ public class TopicService {
     /**
      * 파티션 정보 목록을 조회합니다.
      */
-    private List<PartitionInfo> getPartitionInfoList(String clusterId, String topicName, TopicDescription description) {
+    private CompletableFuture<List<PartitionInfo>> getPartitionInfoList(
+            String clusterId, String topicName, TopicDescription description) {
         List<TopicPartition> topicPartitions = description.partitions().stream()
                 .map(p -> new TopicPartition(topicName, p.partition()))
                 .collect(Collectors.toList());
-
-        // 오프셋 정보 조회
-        Map<TopicPartition, Long> beginningOffsets = adminClientWrapper.getBeginningOffsets(clusterId, topicPartitions);
-        Map<TopicPartition, Long> endOffsets = adminClientWrapper.getEndOffsets(clusterId, topicPartitions);
-
-        return description.partitions().stream()
-                .map(partitionInfo -> {
-                    TopicPartition tp = new TopicPartition(topicName, partitionInfo.partition());
-                    long beginningOffset = beginningOffsets.getOrDefault(tp, 0L);
-                    long endOffset = endOffsets.getOrDefault(tp, 0L);
-
-                    return toPartitionInfo(partitionInfo, beginningOffset, endOffset);
-                })
-                .sorted(Comparator.comparingInt(PartitionInfo::partition))
-                .collect(Collectors.toList());
+        Optional<StorageUsage> usage = storageUsageService.peekUsage(clusterId);
+
+        // 시작/끝 오프셋을 동시에 조회
+        return adminClientWrapper.getBeginningOffsetsAsync(clusterId, topicPartitions)
+                .thenCombine(adminClientWrapper.getEndOffsetsAsync(clusterId, topicPartitions),
+                        (beginningOffsets, endOffsets) -> description.partitions().stream()
+                                .map(partitionInfo -> {
+                                    TopicPartition tp = new TopicPartition(topicName, partitionInfo.partition());
+                                    long beginningOffset = beginningOffsets.getOrDefault(tp, 0L);
+                                    long endOffset = endOffsets.getOrDefault(tp, 0L);
+
+                                    return toPartitionInfo(partitionInfo, beginningOffset, endOffset,
+                                            usage.map(u -> u.replicaSizes(tp))
+                                                    .filter(sizes -> !sizes.isEmpty())
+                                                    .orElse(null));
+                                })
+                                .sorted(Comparator.comparingInt(PartitionInfo::partition))
+                                .collect(Collectors.toList()));
     }
 
     /**
      * TopicPartitionInfo를 PartitionInfo로 변환합니다.
      */
-    private PartitionInfo toPartitionInfo(TopicPartitionInfo partitionInfo, long beginningOffset, long endOffset) {
+    private PartitionInfo toPartitionInfo(
+            TopicPartitionInfo partitionInfo, long beginningOffset, long endOffset, Map<Integer, Long> replicaSizes) {
         return PartitionInfo.builder()
                 .partition(partitionInfo.partition())
                 .leader(partitionInfo.leader() != null ? partitionInfo.leader().id() : -1)
@@ -200,6 +358,7 @@ public class TopicService {
                         .collect(Collectors.toList()))
                 .beginningOffset(beginningOffset)
                 .endOffset(endOffset)
+                .replicaSizeBytes(replicaSizes)
                 .build();
     }
 }
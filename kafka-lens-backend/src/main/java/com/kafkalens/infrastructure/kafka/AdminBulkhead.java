@@ -0,0 +1,366 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.exception.ClusterOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 클러스터별 Admin 작업 벌크헤드.
+ *
+ * <p>클러스터마다 동시에 브로커로 나가는 Admin 작업 수를 구획별로 {@code kafka.admin.bulkhead.max-concurrent}로
+ * 제한합니다. 초과한 작업은 {@code kafka.admin.bulkhead.max-queued}까지 대기열에 쌓였다가 앞선 작업이
+ * 끝나면 순서대로 전송되고, 대기열도 가득 차면 즉시 {@code CLUSTER_OVERLOADED}로 거부됩니다.
+ * 대기는 스레드를 막지 않고 반환된 Future의 완료를 늦추는 방식으로 이루어집니다.</p>
+ *
+ * <p>또한 클러스터별 토큰 버킷으로 초당 작업 수를 {@code kafka.admin.rate-limit.operations-per-second}
+ * (순간 허용량 {@code burst})로 제한하며, 초과하면 {@code CLUSTER_RATE_LIMITED}로 거부합니다.
+ * 한 클러스터의 과부하가 브로커와 다른 클러스터의 요청 처리에 번지지 않도록 하기 위함입니다.</p>
+ *
+ * <p>구획(허용량, 대기열, 토큰 버킷)은 클러스터와 {@link Lane}마다 따로 둡니다. 사용자 요청은
+ * {@link AdminOperationClass}별로 나뉘어 전체 스캔이 단건 조회의 허용량을 쓰지 않으며, {@link BackgroundWork}로
+ * 표시된 주기 작업은 {@code kafka.admin.bulkhead.background.*}, {@code kafka.admin.rate-limit.background.*}의
+ * 별도 한도를 사용하므로 스냅샷 갱신 등이 토큰을 소진해도 사용자 요청은 거부되지 않습니다.</p>
+ *
+ * <p>거부 사유별 횟수({@code kafkalens.admin.bulkhead.rejected}), 대기 시간
+ * ({@code kafkalens.admin.bulkhead.wait}), 실행/대기 중 작업 수 게이지를 클러스터, 구획(class 태그)별로 노출합니다.</p>
+ */
+@Component
+public class AdminBulkhead {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminBulkhead.class);
+
+    static final String ACTIVE_METRIC = "kafkalens.admin.bulkhead.active";
+    static final String QUEUED_METRIC = "kafkalens.admin.bulkhead.queued";
+    static final String WAIT_METRIC = "kafkalens.admin.bulkhead.wait";
+    static final String REJECTED_METRIC = "kafkalens.admin.bulkhead.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final Limits userLimits;
+    private final Limits backgroundLimits;
+    private final LongSupplier nanoClock;
+
+    private final Map<CompartmentKey, Compartment> compartments = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdminBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.admin.bulkhead.max-concurrent:16}") int maxConcurrent,
+            @Value("${kafka.admin.bulkhead.max-queued:64}") int maxQueued,
+            @Value("${kafka.admin.rate-limit.operations-per-second:100}") double operationsPerSecond,
+            @Value("${kafka.admin.rate-limit.burst:200}") int burst,
+            @Value("${kafka.admin.bulkhead.background.max-concurrent:4}") int backgroundMaxConcurrent,
+            @Value("${kafka.admin.bulkhead.background.max-queued:64}") int backgroundMaxQueued,
+            @Value("${kafka.admin.rate-limit.background.operations-per-second:20}")
+            double backgroundOperationsPerSecond,
+            @Value("${kafka.admin.rate-limit.background.burst:40}") int backgroundBurst
+    ) {
+        this(meterRegistry, maxConcurrent, maxQueued, operationsPerSecond, burst, backgroundMaxConcurrent,
+                backgroundMaxQueued, backgroundOperationsPerSecond, backgroundBurst, System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    AdminBulkhead(
+            MeterRegistry meterRegistry,
+            int maxConcurrent,
+            int maxQueued,
+            double operationsPerSecond,
+            int burst,
+            int backgroundMaxConcurrent,
+            int backgroundMaxQueued,
+            double backgroundOperationsPerSecond,
+            int backgroundBurst,
+            LongSupplier nanoClock
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.userLimits = new Limits(maxConcurrent, maxQueued, operationsPerSecond, burst);
+        this.backgroundLimits = new Limits(backgroundMaxConcurrent, backgroundMaxQueued,
+                backgroundOperationsPerSecond, backgroundBurst);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 벌크헤드를 거쳐 Admin 작업을 실행합니다.
+     *
+     * <p>호출 스레드가 {@link BackgroundWork}로 표시되어 있으면 백그라운드 구획을, 아니면 작업 분류의 구획을
+     * 사용합니다. 허용량이 남아 있으면 즉시 {@code call}을 실행하고, 아니면 대기열에 넣어 앞선 작업이 끝날 때
+     * 실행합니다. 거부된 작업은 {@link ClusterOverloadedException}으로 실패한 Future를 반환합니다.</p>
+     *
+     * @param clusterId      클러스터 ID
+     * @param operationClass 작업 분류
+     * @param call           Admin 호출
+     * @param <T>            결과 타입
+     * @return 작업 결과 Future
+     */
+    public <T> KafkaFuture<T> submit(String clusterId, AdminOperationClass operationClass,
+                                     Supplier<KafkaFuture<T>> call) {
+        Lane lane = Lane.of(operationClass, BackgroundWork.isActive());
+        return compartments.computeIfAbsent(new CompartmentKey(clusterId, lane), Compartment::new).submit(call);
+    }
+
+    /**
+     * 클러스터에서 실행 중인 작업 수를 반환합니다 (모든 구획의 합).
+     *
+     * @param clusterId 클러스터 ID
+     * @return 실행 중인 작업 수
+     */
+    public int getActiveCount(String clusterId) {
+        int count = 0;
+        for (Lane lane : Lane.values()) {
+            count += getActiveCount(clusterId, lane);
+        }
+        return count;
+    }
+
+    /**
+     * 클러스터 구획에서 실행 중인 작업 수를 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param lane      구획
+     * @return 실행 중인 작업 수
+     */
+    int getActiveCount(String clusterId, Lane lane) {
+        Compartment compartment = compartments.get(new CompartmentKey(clusterId, lane));
+        return compartment != null ? compartment.active() : 0;
+    }
+
+    /**
+     * 클러스터에서 대기 중인 작업 수를 반환합니다 (모든 구획의 합).
+     *
+     * @param clusterId 클러스터 ID
+     * @return 대기 중인 작업 수
+     */
+    public int getQueuedCount(String clusterId) {
+        int count = 0;
+        for (Lane lane : Lane.values()) {
+            Compartment compartment = compartments.get(new CompartmentKey(clusterId, lane));
+            count += compartment != null ? compartment.queued() : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 벌크헤드 구획 분류.
+     */
+    enum Lane {
+
+        /**
+         * 사용자 요청 중 단건 조회.
+         */
+        INTERACTIVE,
+
+        /**
+         * 사용자 요청 중 전체 스캔.
+         */
+        SCAN,
+
+        /**
+         * 스냅샷 갱신, Lag 샘플링 등 주기 작업.
+         */
+        BACKGROUND;
+
+        static Lane of(AdminOperationClass operationClass, boolean background) {
+            if (background) {
+                return BACKGROUND;
+            }
+            return operationClass == AdminOperationClass.SCAN ? SCAN : INTERACTIVE;
+        }
+    }
+
+    /**
+     * 클러스터-구획별 벌크헤드 구획.
+     */
+    private final class Compartment {
+
+        private final String clusterId;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final double operationsPerSecond;
+        private final double burst;
+        private final String laneTag;
+        private final ArrayDeque<Pending<?>> queue = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private final Counter concurrencyRejections;
+        private final Counter rateRejections;
+
+        private int active;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Compartment(CompartmentKey key) {
+            Limits limits = key.lane() == Lane.BACKGROUND ? backgroundLimits : userLimits;
+            this.clusterId = key.clusterId();
+            this.maxConcurrent = limits.maxConcurrent();
+            this.maxQueued = limits.maxQueued();
+            this.operationsPerSecond = limits.operationsPerSecond();
+            this.burst = limits.burst();
+            this.laneTag = key.lane().name().toLowerCase();
+            this.tokens = burst;
+            this.lastRefillNanos = nanoClock.getAsLong();
+            this.waitTimer = Timer.builder(WAIT_METRIC)
+                    .description("Time admin operations waited in the cluster bulkhead queue")
+                    .tag("cluster", clusterId)
+                    .tag("class", laneTag)
+                    .register(meterRegistry);
+            this.concurrencyRejections = rejectedCounter("concurrency");
+            this.rateRejections = rejectedCounter("rate");
+            Gauge.builder(ACTIVE_METRIC, this, Compartment::active)
+                    .description("Admin operations running against the cluster")
+                    .tag("cluster", clusterId)
+                    .tag("class", laneTag)
+                    .register(meterRegistry);
+            Gauge.builder(QUEUED_METRIC, this, Compartment::queued)
+                    .description("Admin operations waiting in the cluster bulkhead queue")
+                    .tag("cluster", clusterId)
+                    .tag("class", laneTag)
+                    .register(meterRegistry);
+        }
+
+        private <T> KafkaFuture<T> submit(Supplier<KafkaFuture<T>> call) {
+            Pending<T> pending;
+            synchronized (this) {
+                if (!tryAcquireToken()) {
+                    rateRejections.increment();
+                    log.debug("Rate limited admin operation on cluster {}", clusterId);
+                    return failed(ClusterOverloadedException.rateLimited(clusterId, operationsPerSecond));
+                }
+                if (active >= maxConcurrent) {
+                    if (queue.size() >= maxQueued) {
+                        concurrencyRejections.increment();
+                        log.debug("Rejected admin operation on saturated cluster {}", clusterId);
+                        return failed(ClusterOverloadedException.bulkheadFull(clusterId, maxConcurrent, maxQueued));
+                    }
+                    pending = new Pending<>(call, new KafkaFutureImpl<>(), nanoClock.getAsLong());
+                    queue.add(pending);
+                    return pending.result();
+                }
+                active++;
+            }
+            return start(call);
+        }
+
+        /**
+         * 작업을 실행하고, 끝나면 허용량을 반납하거나 대기 중인 다음 작업을 실행합니다.
+         */
+        private <T> KafkaFuture<T> start(Supplier<KafkaFuture<T>> call) {
+            KafkaFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                release();
+                throw e;
+            }
+            future.whenComplete((value, error) -> release());
+            return future;
+        }
+
+        private void release() {
+            Pending<?> next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            waitTimer.record(nanoClock.getAsLong() - next.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            startQueued(next);
+        }
+
+        private <T> void startQueued(Pending<T> pending) {
+            KafkaFuture<T> future;
+            try {
+                future = start(pending.call());
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    pending.result().complete(value);
+                } else {
+                    pending.result().completeExceptionally(error);
+                }
+            });
+        }
+
+        private boolean tryAcquireToken() {
+            if (operationsPerSecond <= 0) {
+                return true;
+            }
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * operationsPerSecond / 1_000_000_000d);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private synchronized int active() {
+            return active;
+        }
+
+        private synchronized int queued() {
+            return queue.size();
+        }
+
+        private Counter rejectedCounter(String reason) {
+            return Counter.builder(REJECTED_METRIC)
+                    .description("Admin operations rejected by the cluster bulkhead")
+                    .tag("cluster", clusterId)
+                    .tag("class", laneTag)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static <T> KafkaFuture<T> failed(RuntimeException e) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    /**
+     * 구획 한도.
+     */
+    private record Limits(int maxConcurrent, int maxQueued, double operationsPerSecond, double burst) {
+
+        Limits {
+            maxConcurrent = Math.max(1, maxConcurrent);
+            maxQueued = Math.max(0, maxQueued);
+            burst = Math.max(1, burst);
+        }
+    }
+
+    /**
+     * 구획 키.
+     */
+    private record CompartmentKey(String clusterId, Lane lane) {
+    }
+
+    /**
+     * 대기 중인 작업.
+     */
+    private record Pending<T>(Supplier<KafkaFuture<T>> call, KafkaFutureImpl<T> result, long enqueuedAtNanos) {
+    }
+}
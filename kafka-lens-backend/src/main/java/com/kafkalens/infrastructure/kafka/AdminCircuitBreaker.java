@@ -0,0 +1,266 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.exception.ClusterUnavailableException;
+import com.kafkalens.common.exception.KafkaLensException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.DisconnectException;
+import org.apache.kafka.common.errors.NetworkException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 클러스터별 Admin 서킷 브레이커.
+ *
+ * <p>클러스터가 내려가 있으면 요청마다 {@code default-api-timeout-ms}만큼 기다린 뒤에야 실패하므로
+ * 스레드와 대기열이 쌓입니다. 이 브레이커는 클러스터별로 연속된 타임아웃/연결 오류를 세어
+ * {@code kafka.admin.circuit-breaker.failure-threshold}번에 이르면 열리고(OPEN),
+ * {@code open-duration-ms} 동안 요청을 브로커로 보내지 않고 {@code CLUSTER_UNAVAILABLE}로 즉시 실패시킵니다.
+ * 그 뒤 첫 요청 하나만 탐침으로 보내고(HALF_OPEN), 성공하면 닫고(CLOSED) 실패하면 다시 엽니다.
+ * 열린 동안 도착한 결과(열리기 전에 보낸 요청의 늦은 응답)는 무시하므로 대기 시간이 늘어나지 않습니다.</p>
+ *
+ * <p>브로커가 응답한 오류(권한 없음, 토픽 없음 등)는 클러스터에 도달한 것이므로 성공으로 보고,
+ * 벌크헤드 거부처럼 브로커로 나가지 않은 요청은 집계하지 않습니다.</p>
+ *
+ * <p>상태는 {@code kafkalens.admin.circuit.state} 게이지(0=CLOSED, 1=HALF_OPEN, 2=OPEN)와
+ * 전이 횟수 카운터 {@code kafkalens.admin.circuit.transitions}(cluster, state 태그)로 노출됩니다.</p>
+ */
+@Component
+public class AdminCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminCircuitBreaker.class);
+
+    static final String STATE_METRIC = "kafkalens.admin.circuit.state";
+    static final String TRANSITIONS_METRIC = "kafkalens.admin.circuit.transitions";
+
+    /**
+     * 서킷 상태.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdminCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.admin.circuit-breaker.enabled:true}") boolean enabled,
+            @Value("${kafka.admin.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${kafka.admin.circuit-breaker.open-duration-ms:30000}") long openDurationMs
+    ) {
+        this(meterRegistry, enabled, failureThreshold, Duration.ofMillis(openDurationMs), System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    AdminCircuitBreaker(
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            int failureThreshold,
+            Duration openDuration,
+            LongSupplier nanoClock
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 서킷을 거쳐 Admin 작업을 실행합니다.
+     *
+     * <p>서킷이 열려 있으면 {@code call}을 실행하지 않고 {@link ClusterUnavailableException}으로
+     * 실패한 Future를 반환합니다. 실행된 작업의 결과는 서킷 상태에 반영됩니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param call      Admin 호출
+     * @param <T>       결과 타입
+     * @return 작업 결과 Future
+     */
+    public <T> KafkaFuture<T> execute(String clusterId, Supplier<KafkaFuture<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Circuit circuit = circuits.computeIfAbsent(clusterId, Circuit::new);
+        long retryAfterNanos = circuit.tryAcquire();
+        if (retryAfterNanos >= 0) {
+            KafkaFutureImpl<T> rejected = new KafkaFutureImpl<>();
+            rejected.completeExceptionally(new ClusterUnavailableException(
+                    clusterId, Duration.ofNanos(retryAfterNanos)));
+            return rejected;
+        }
+
+        KafkaFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            circuit.onResult(e);
+            throw e;
+        }
+        future.whenComplete((value, error) -> circuit.onResult(error));
+        return future;
+    }
+
+    /**
+     * 클러스터의 서킷 상태를 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 서킷 상태 (아직 요청이 없었으면 CLOSED)
+     */
+    public State getState(String clusterId) {
+        Circuit circuit = circuits.get(clusterId);
+        return circuit != null ? circuit.state() : State.CLOSED;
+    }
+
+    /**
+     * 클러스터의 서킷을 초기화합니다 (클러스터 설정 변경 시).
+     *
+     * @param clusterId 클러스터 ID
+     */
+    public void reset(String clusterId) {
+        Circuit circuit = circuits.get(clusterId);
+        if (circuit != null) {
+            circuit.reset();
+        }
+    }
+
+    /**
+     * 서킷을 여는 실패(타임아웃, 연결 오류)인지 판단합니다.
+     */
+    static boolean isConnectivityFailure(Throwable error) {
+        Throwable cause = unwrap(error);
+        return cause instanceof TimeoutException
+                || cause instanceof DisconnectException
+                || cause instanceof NetworkException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 클러스터별 서킷.
+     */
+    private final class Circuit {
+
+        private final String clusterId;
+        private final Map<State, Counter> transitions = new ConcurrentHashMap<>();
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private boolean probeInFlight;
+
+        private Circuit(String clusterId) {
+            this.clusterId = clusterId;
+            Gauge.builder(STATE_METRIC, this, circuit -> circuit.state().ordinal())
+                    .description("Admin circuit state (0=closed, 1=half-open, 2=open)")
+                    .tag("cluster", clusterId)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 요청 허용 여부를 판단합니다.
+         *
+         * @return 허용되면 -1, 거부되면 다시 시도할 수 있을 때까지 남은 나노초
+         */
+        private synchronized long tryAcquire() {
+            if (state == State.CLOSED) {
+                return -1;
+            }
+
+            long remaining = openedAtNanos + openDuration.toNanos() - nanoClock.getAsLong();
+            if (state == State.OPEN && remaining <= 0) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                log.info("Sending probe request to cluster {}", clusterId);
+                return -1;
+            }
+            return Math.max(0, remaining);
+        }
+
+        private synchronized void onResult(Throwable error) {
+            if (state == State.OPEN) {
+                // 열리기 전에 보낸 요청의 늦은 결과 - 열린 시각을 늦추거나 대기 없이 닫지 않도록 무시
+                return;
+            }
+            if (error != null && unwrap(error) instanceof KafkaLensException) {
+                // 브로커로 나가지 않은 요청 - 탐침이었다면 다음 요청이 다시 탐침하도록 슬롯만 반납
+                probeInFlight = false;
+                return;
+            }
+
+            if (error == null || !isConnectivityFailure(error)) {
+                consecutiveFailures = 0;
+                if (state != State.CLOSED) {
+                    probeInFlight = false;
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                probeInFlight = false;
+                openedAtNanos = nanoClock.getAsLong();
+                transitionTo(State.OPEN);
+            }
+        }
+
+        private synchronized void reset() {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            if (state != State.CLOSED) {
+                transitionTo(State.CLOSED);
+            }
+        }
+
+        private synchronized State state() {
+            return state;
+        }
+
+        private void transitionTo(State next) {
+            log.info("Admin circuit for cluster {} changed: {} -> {}", clusterId, state, next);
+            state = next;
+            transitions.computeIfAbsent(next, s -> Counter.builder(TRANSITIONS_METRIC)
+                    .description("Admin circuit state transitions")
+                    .tag("cluster", clusterId)
+                    .tag("state", s.name().toLowerCase())
+                    .register(meterRegistry)).increment();
+        }
+    }
+}
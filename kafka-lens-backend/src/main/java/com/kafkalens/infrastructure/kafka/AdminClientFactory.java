@@ -1,37 +1,71 @@
 package com.kafkalens.infrastructure.kafka;
 
+import com.kafkalens.common.BackgroundWork;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.common.exception.KafkaConnectionException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.SslConfigs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * Kafka AdminClient 팩토리.
  *
- * <p>클러스터별 AdminClient 인스턴스를 생성하고 캐싱합니다.
+ * <p>클러스터별로 작은 AdminClient 풀을 생성하고 캐싱합니다. 풀은 작업 분류
+ * ({@link AdminOperationClass})별로 클라이언트를 나누어, 오래 걸리는 전체 스캔이
+ * describeCluster 같은 가벼운 조회를 지연시키지 않도록 합니다.
  * 연결 실패 시 적절한 예외를 발생시킵니다.</p>
+ *
+ * <p>{@link BackgroundWork}로 표시된 주기 작업의 호출은 풀의 마지막 사용 시각을 갱신하지 않으므로,
+ * 사용자 요청이 끊긴 클러스터의 풀은 주기 작업이 돌고 있어도 유휴 정리됩니다.</p>
+ *
+ * <p>풀 사용량은 {@code kafkalens.admin.pool.in-flight},
+ * {@code kafkalens.admin.pool.utilization} 게이지(cluster, class 태그)로 노출됩니다.</p>
  */
 @Component
 public class AdminClientFactory {
 
     private static final Logger log = LoggerFactory.getLogger(AdminClientFactory.class);
 
+    static final String IN_FLIGHT_METRIC = "kafkalens.admin.pool.in-flight";
+    static final String UTILIZATION_METRIC = "kafkalens.admin.pool.utilization";
+
+    private static final List<String> POOL_METRICS = List.of(
+            IN_FLIGHT_METRIC, UTILIZATION_METRIC,
+            PooledAdminClient.QUEUE_DEPTH_METRIC, PooledAdminClient.REQUEST_METRIC);
+
     private final ClusterRepository clusterRepository;
-    private final Map<String, AdminClient> clientCache = new ConcurrentHashMap<>();
+    private final AdminMetadataCache metadataCache;
+    private final MeterRegistry meterRegistry;
+    private final AdminCircuitBreaker circuitBreaker;
+    private final AdminBulkhead bulkhead;
+    private final Function<Properties, AdminClient> clientCreator;
+    private final LongSupplier nanoClock;
+    private final Map<String, ClientPool> clientCache = new ConcurrentHashMap<>();
+    private final Set<String> idleClosedClusters = ConcurrentHashMap.newKeySet();
 
     @Value("${kafka.admin.request-timeout-ms:30000}")
     private int requestTimeoutMs;
@@ -48,13 +82,49 @@ public class AdminClientFactory {
     @Value("${kafka.admin.retry-backoff-ms:1000}")
     private int retryBackoffMs;
 
-    public AdminClientFactory(ClusterRepository clusterRepository) {
+    @Value("${kafka.admin.pool.interactive-clients:1}")
+    private int interactiveClients;
+
+    @Value("${kafka.admin.pool.scan-clients:1}")
+    private int scanClients;
+
+    @Autowired
+    public AdminClientFactory(
+            ClusterRepository clusterRepository,
+            AdminMetadataCache metadataCache,
+            MeterRegistry meterRegistry,
+            AdminCircuitBreaker circuitBreaker,
+            AdminBulkhead bulkhead
+    ) {
+        this(clusterRepository, metadataCache, meterRegistry, circuitBreaker, bulkhead,
+                AdminClient::create, System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자. AdminClient 생성 방식과 시계를 주입할 수 있습니다.
+     */
+    AdminClientFactory(
+            ClusterRepository clusterRepository,
+            AdminMetadataCache metadataCache,
+            MeterRegistry meterRegistry,
+            AdminCircuitBreaker circuitBreaker,
+            AdminBulkhead bulkhead,
+            Function<Properties, AdminClient> clientCreator,
+            LongSupplier nanoClock
+    ) {
         this.clusterRepository = clusterRepository;
+        this.metadataCache = metadataCache;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.clientCreator = clientCreator;
+        this.nanoClock = nanoClock;
     }
 
     /**
      * 클러스터 ID로 AdminClient를 가져옵니다.
-     * 캐시된 인스턴스가 있으면 반환하고, 없으면 새로 생성합니다.
+     * 캐시된 풀이 있으면 그 풀의 {@link AdminOperationClass#INTERACTIVE} 클라이언트를 반환하고,
+     * 없으면 풀을 새로 생성합니다.
      *
      * @param clusterId 클러스터 ID
      * @return AdminClient 인스턴스
@@ -62,12 +132,43 @@ public class AdminClientFactory {
      * @throws KafkaConnectionException 연결에 실패한 경우
      */
     public AdminClient getOrCreate(String clusterId) {
-        return clientCache.computeIfAbsent(clusterId, this::createAdminClient);
+        return acquire(clusterId, AdminOperationClass.INTERACTIVE).admin();
+    }
+
+    /**
+     * 작업 분류에 맞는 풀 클라이언트를 가져옵니다.
+     *
+     * <p>같은 분류의 클라이언트 중 진행 중인 요청이 가장 적은 것을 고릅니다.</p>
+     *
+     * @param clusterId      클러스터 ID
+     * @param operationClass 작업 분류
+     * @return 풀 클라이언트
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     * @throws KafkaConnectionException 연결에 실패한 경우
+     */
+    public PooledAdminClient acquire(String clusterId, AdminOperationClass operationClass) {
+        return pool(clusterId).select(operationClass);
+    }
+
+    /**
+     * 클러스터의 AdminClient 풀을 미리 생성하고 각 클라이언트의 연결을 맺습니다.
+     *
+     * <p>풀의 모든 클라이언트에 describeCluster를 보내 인증 핸드셰이크와 메타데이터 부트스트랩을
+     * 끝내 둡니다. 반환된 Future는 모든 클라이언트의 응답이 오면 완료됩니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 모든 클라이언트의 연결이 끝나면 완료되는 Future
+     * @throws ClusterNotFoundException 클러스터를 찾을 수 없는 경우
+     * @throws KafkaConnectionException 클라이언트 생성에 실패한 경우
+     */
+    public KafkaFuture<Void> warmUp(String clusterId) {
+        return pool(clusterId).warmUp();
     }
 
     /**
      * 클러스터 ID로 새 AdminClient를 생성합니다.
-     * 기존 캐시된 인스턴스가 있으면 닫고 새로 생성합니다.
+     * 기존 캐시된 풀이 있으면 닫고 새로 생성합니다.
+     * 해당 클러스터의 메타데이터 캐시도 함께 비워집니다.
      *
      * @param clusterId 클러스터 ID
      * @return 새 AdminClient 인스턴스
@@ -78,20 +179,49 @@ public class AdminClientFactory {
     }
 
     /**
-     * 특정 클러스터의 AdminClient를 닫습니다.
+     * 특정 클러스터의 AdminClient 풀을 닫고 메타데이터 캐시를 비웁니다.
      *
      * @param clusterId 클러스터 ID
      */
     public void closeClient(String clusterId) {
-        AdminClient client = clientCache.remove(clusterId);
-        if (client != null) {
-            log.info("Closing AdminClient for cluster: {}", clusterId);
-            try {
-                client.close(Duration.ofSeconds(5));
-            } catch (Exception e) {
-                log.warn("Error closing AdminClient for cluster {}: {}", clusterId, e.getMessage());
+        metadataCache.invalidate(clusterId);
+        idleClosedClusters.remove(clusterId);
+        ClientPool pool = clientCache.remove(clusterId);
+        if (pool != null) {
+            log.info("Closing AdminClient pool for cluster: {}", clusterId);
+            pool.close();
+        }
+    }
+
+    /**
+     * 마지막 사용 후 {@code idleTtl} 이상 지났고 진행 중인 요청이 없는 클러스터의 풀을 닫습니다.
+     *
+     * <p>설정 변경이 아니므로 메타데이터 캐시는 비우지 않습니다. 닫힌 클러스터는 다음 요청에서
+     * 풀이 다시 생성되며, 그때까지 {@link #isIdleClosed(String)}가 true를 반환합니다.</p>
+     *
+     * @param idleTtl 유휴 허용 시간
+     * @return 닫힌 클러스터 ID 목록
+     */
+    public List<String> closeIdleClients(Duration idleTtl) {
+        long now = nanoClock.getAsLong();
+        List<String> closed = new ArrayList<>();
+        for (String clusterId : clientCache.keySet()) {
+            ClientPool[] evicted = new ClientPool[1];
+            clientCache.computeIfPresent(clusterId, (id, pool) -> {
+                if (pool.isIdle(now, idleTtl)) {
+                    evicted[0] = pool;
+                    return null;
+                }
+                return pool;
+            });
+            if (evicted[0] != null) {
+                log.info("Closing AdminClient pool for idle cluster: {}", clusterId);
+                idleClosedClusters.add(clusterId);
+                evicted[0].close();
+                closed.add(clusterId);
             }
         }
+        return closed;
     }
 
     /**
@@ -102,9 +232,9 @@ public class AdminClientFactory {
      */
     public boolean testConnection(String clusterId) {
         try {
-            AdminClient client = getOrCreate(clusterId);
+            PooledAdminClient client = acquire(clusterId, AdminOperationClass.INTERACTIVE);
             // 클러스터 ID 조회로 연결 테스트
-            client.describeCluster().clusterId().get();
+            client.call(admin -> admin.describeCluster().clusterId()).get();
             return true;
         } catch (Exception e) {
             log.warn("Connection test failed for cluster {}: {}", clusterId, e.getMessage());
@@ -123,14 +253,27 @@ public class AdminClientFactory {
     }
 
     /**
-     * 캐시된 클라이언트 수를 반환합니다.
+     * 클라이언트 풀이 캐시된 클러스터 수를 반환합니다.
      *
-     * @return 캐시된 클라이언트 수
+     * @return 캐시된 클러스터 수
      */
     public int getCachedClientCount() {
         return clientCache.size();
     }
 
+    /**
+     * 열려 있는 AdminClient 인스턴스 수를 반환합니다 (모든 클러스터 풀의 합).
+     *
+     * @return 열린 AdminClient 수
+     */
+    public int getOpenClientCount() {
+        int count = 0;
+        for (ClientPool pool : clientCache.values()) {
+            count += pool.size();
+        }
+        return count;
+    }
+
     /**
      * 클러스터가 캐시되어 있는지 확인합니다.
      *
@@ -141,16 +284,107 @@ public class AdminClientFactory {
         return clientCache.containsKey(clusterId);
     }
 
+    /**
+     * 클러스터의 풀이 유휴 정리된 뒤 사용자 요청이 없었는지 확인합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 유휴 정리된 뒤 사용자 요청이 없었으면 true
+     */
+    public boolean isIdleClosed(String clusterId) {
+        return idleClosedClusters.contains(clusterId);
+    }
+
     // === Private Methods ===
 
     /**
-     * 클러스터 ID로 AdminClient를 생성합니다.
+     * 클러스터의 풀을 가져오고(없으면 생성) 마지막 사용 시각을 갱신합니다.
+     * 유휴 정리와 겹치지 않도록 맵의 원자적 연산 안에서 갱신합니다.
+     *
+     * <p>{@link BackgroundWork} 호출은 사용으로 보지 않으므로 새로 만든 풀이 아니면 시각을 갱신하지 않습니다.</p>
+     */
+    private ClientPool pool(String clusterId) {
+        boolean background = BackgroundWork.isActive();
+        if (!background) {
+            idleClosedClusters.remove(clusterId);
+        }
+        return clientCache.compute(clusterId, (id, pool) -> {
+            if (pool != null && background) {
+                return pool;
+            }
+            ClientPool current = pool != null ? pool : createPool(id);
+            current.touch(nanoClock.getAsLong());
+            return current;
+        });
+    }
+
+    /**
+     * 클러스터 ID로 AdminClient 풀을 생성합니다.
      */
-    private AdminClient createAdminClient(String clusterId) {
+    private ClientPool createPool(String clusterId) {
         Cluster cluster = clusterRepository.findById(clusterId)
                 .orElseThrow(() -> new ClusterNotFoundException(clusterId));
 
-        return createAdminClient(cluster);
+        Map<AdminOperationClass, PooledAdminClient[]> clients = new EnumMap<>(AdminOperationClass.class);
+        try {
+            clients.put(AdminOperationClass.INTERACTIVE,
+                    createClients(cluster, AdminOperationClass.INTERACTIVE, interactiveClients));
+            clients.put(AdminOperationClass.SCAN,
+                    createClients(cluster, AdminOperationClass.SCAN, scanClients));
+        } catch (RuntimeException e) {
+            clients.values().forEach(created -> closeClients(clusterId, created));
+            removePoolMetrics(clusterId);
+            throw e;
+        }
+
+        ClientPool pool = new ClientPool(clusterId, clients);
+        for (AdminOperationClass operationClass : AdminOperationClass.values()) {
+            String classTag = operationClass.name().toLowerCase();
+            Gauge.builder(IN_FLIGHT_METRIC, pool, p -> p.inFlight(operationClass))
+                    .description("In-flight requests on the admin client pool")
+                    .tag("cluster", clusterId)
+                    .tag("class", classTag)
+                    .register(meterRegistry);
+            Gauge.builder(UTILIZATION_METRIC, pool, p -> p.utilization(operationClass))
+                    .description("Fraction of pooled admin clients with at least one in-flight request")
+                    .tag("cluster", clusterId)
+                    .tag("class", classTag)
+                    .register(meterRegistry);
+        }
+        return pool;
+    }
+
+    private PooledAdminClient[] createClients(Cluster cluster, AdminOperationClass operationClass, int size) {
+        PooledAdminClient[] clients = new PooledAdminClient[Math.max(1, size)];
+        try {
+            for (int i = 0; i < clients.length; i++) {
+                clients[i] = new PooledAdminClient(
+                        createAdminClient(cluster), circuitBreaker, bulkhead, meterRegistry,
+                        cluster.id(), operationClass);
+            }
+        } catch (RuntimeException e) {
+            closeClients(cluster.id(), clients);
+            throw e;
+        }
+        return clients;
+    }
+
+    private void closeClients(String clusterId, PooledAdminClient[] clients) {
+        for (PooledAdminClient client : clients) {
+            if (client == null) {
+                continue;
+            }
+            try {
+                client.admin().close(Duration.ofSeconds(5));
+            } catch (Exception e) {
+                log.warn("Error closing AdminClient for cluster {}: {}", clusterId, e.getMessage());
+            }
+        }
+    }
+
+    private void removePoolMetrics(String clusterId) {
+        for (String metric : POOL_METRICS) {
+            meterRegistry.find(metric).tag("cluster", clusterId).meters().forEach(meterRegistry::remove);
+        }
     }
 
     /**
@@ -162,7 +396,7 @@ public class AdminClientFactory {
         Properties props = buildProperties(cluster);
 
         try {
-            return AdminClient.create(props);
+            return clientCreator.apply(props);
         } catch (Exception e) {
             log.error("Failed to create AdminClient for cluster {}: {}", cluster.id(), e.getMessage());
             throw new KafkaConnectionException(cluster.id(), e);
@@ -259,4 +493,94 @@ public class AdminClientFactory {
 
         throw new IllegalArgumentException("Unsupported SASL mechanism: " + mechanism);
     }
+
+    /**
+     * 클러스터별 AdminClient 풀.
+     */
+    private final class ClientPool {
+
+        private final String clusterId;
+        private final Map<AdminOperationClass, PooledAdminClient[]> clients;
+        private final AtomicInteger cursor = new AtomicInteger();
+        private volatile long lastUsedNanos;
+
+        private ClientPool(String clusterId, Map<AdminOperationClass, PooledAdminClient[]> clients) {
+            this.clusterId = clusterId;
+            this.clients = clients;
+        }
+
+        /**
+         * 진행 중인 요청이 가장 적은 클라이언트를 고릅니다. 동률이면 순환하며 고릅니다.
+         */
+        private PooledAdminClient select(AdminOperationClass operationClass) {
+            PooledAdminClient[] candidates = clients.get(operationClass);
+            int offset = Math.floorMod(cursor.getAndIncrement(), candidates.length);
+            PooledAdminClient selected = candidates[offset];
+            for (int i = 1; i < candidates.length; i++) {
+                PooledAdminClient candidate = candidates[(offset + i) % candidates.length];
+                if (candidate.inFlight() < selected.inFlight()) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+
+        private KafkaFuture<Void> warmUp() {
+            List<KafkaFuture<?>> connections = new ArrayList<>();
+            for (PooledAdminClient[] pooled : clients.values()) {
+                for (PooledAdminClient client : pooled) {
+                    connections.add(client.call(admin -> admin.describeCluster().nodes()));
+                }
+            }
+            return KafkaFuture.allOf(connections.toArray(new KafkaFuture<?>[0]));
+        }
+
+        private void touch(long nowNanos) {
+            lastUsedNanos = nowNanos;
+        }
+
+        private boolean isIdle(long nowNanos, Duration idleTtl) {
+            if (nowNanos - lastUsedNanos < idleTtl.toNanos()) {
+                return false;
+            }
+            for (AdminOperationClass operationClass : clients.keySet()) {
+                if (inFlight(operationClass) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int size() {
+            int size = 0;
+            for (PooledAdminClient[] pooled : clients.values()) {
+                size += pooled.length;
+            }
+            return size;
+        }
+
+        private int inFlight(AdminOperationClass operationClass) {
+            int total = 0;
+            for (PooledAdminClient client : clients.get(operationClass)) {
+                total += client.inFlight();
+            }
+            return total;
+        }
+
+        private double utilization(AdminOperationClass operationClass) {
+            PooledAdminClient[] candidates = clients.get(operationClass);
+            int busy = 0;
+            for (PooledAdminClient client : candidates) {
+                if (client.inFlight() > 0) {
+                    busy++;
+                }
+            }
+            return (double) busy / candidates.length;
+        }
+
+        private void close() {
+            clients.values().forEach(pooled -> closeClients(clusterId, pooled));
+            removePoolMetrics(clusterId);
+        }
+    }
 }
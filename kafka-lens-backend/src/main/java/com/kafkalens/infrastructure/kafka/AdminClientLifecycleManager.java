@@ -0,0 +1,147 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시된 AdminClient 수명 관리자.
+ *
+ * <p>유휴 AdminClient도 네트워크 스레드와 브로커별 소켓을 유지하므로, 드물게 쓰이는 클러스터가
+ * 많으면 스레드와 메모리가 낭비됩니다. 이 관리자는 주기적으로 마지막 사용 후
+ * {@code kafka.admin.idle-eviction.ttl-ms} 이상 지난 클러스터의 풀을 닫습니다.
+ * 닫힌 클러스터는 다음 요청에서 {@link AdminClientFactory}가 투명하게 다시 생성합니다.
+ * TTL이 0이면 정리를 하지 않습니다.</p>
+ *
+ * <p>열린 클라이언트 수와 AdminClient 네트워크 스레드 수는
+ * {@code kafkalens.admin.clients.open}, {@code kafkalens.admin.clients.threads} 게이지로
+ * actuator metrics에 노출됩니다.</p>
+ */
+@Component
+public class AdminClientLifecycleManager {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminClientLifecycleManager.class);
+
+    static final String OPEN_CLIENTS_METRIC = "kafkalens.admin.clients.open";
+    static final String CLIENT_THREADS_METRIC = "kafkalens.admin.clients.threads";
+
+    /**
+     * AdminClient 네트워크 스레드 이름 접두사.
+     */
+    private static final String ADMIN_THREAD_PREFIX = "kafka-admin-client-thread";
+
+    private final AdminClientFactory adminClientFactory;
+    private final Duration idleTtl;
+    private final Duration checkInterval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public AdminClientLifecycleManager(
+            AdminClientFactory adminClientFactory,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.admin.idle-eviction.ttl-ms:600000}") long idleTtlMs,
+            @Value("${kafka.admin.idle-eviction.check-interval-ms:60000}") long checkIntervalMs
+    ) {
+        this.adminClientFactory = adminClientFactory;
+        this.idleTtl = Duration.ofMillis(idleTtlMs);
+        this.checkInterval = Duration.ofMillis(Math.max(1, checkIntervalMs));
+
+        Gauge.builder(OPEN_CLIENTS_METRIC, adminClientFactory, AdminClientFactory::getOpenClientCount)
+                .description("Open AdminClient instances across all cluster pools")
+                .register(meterRegistry);
+        Gauge.builder(CLIENT_THREADS_METRIC, AdminClientLifecycleManager::countAdminClientThreads)
+                .description("Live AdminClient network threads")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 후 유휴 클라이언트 정리를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (idleTtl.isZero() || idleTtl.isNegative() || scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-client-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::evictIdleClients,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started AdminClient idle eviction (ttl: {} ms)", idleTtl.toMillis());
+    }
+
+    /**
+     * 유휴 클라이언트 정리를 중지합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 유휴 클라이언트를 닫습니다.
+     *
+     * @return 닫힌 클러스터 ID 목록
+     */
+    public List<String> evictIdleClients() {
+        try {
+            List<String> closed = adminClientFactory.closeIdleClients(idleTtl);
+            if (!closed.isEmpty()) {
+                log.info("Closed idle AdminClient pools: {}", closed);
+            }
+            return closed;
+        } catch (RuntimeException e) {
+            // 스케줄 작업이 중단되지 않도록 예외를 삼킴
+            log.warn("AdminClient idle eviction failed: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 살아 있는 AdminClient 네트워크 스레드 수를 셉니다.
+     *
+     * <p>수집마다 호출되므로 모든 스레드의 스택을 덤프하는 {@code Thread.getAllStackTraces()} 대신
+     * 최상위 스레드 그룹을 열거합니다.</p>
+     */
+    static int countAdminClientThreads() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+
+        Thread[] threads = new Thread[root.activeCount() + 16];
+        int size;
+        // 열거 중 스레드가 늘어 배열이 가득 차면 더 큰 배열로 다시 열거
+        while ((size = root.enumerate(threads, true)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (threads[i].getName().startsWith(ADMIN_THREAD_PREFIX)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,149 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 시 AdminClient 예열기.
+ *
+ * <p>활성화되면 애플리케이션 기동 후 {@link ClusterRepository}의 모든 클러스터에 대해
+ * AdminClient 풀을 가상 스레드에서 병렬로 생성하고 연결을 맺어 둡니다. 첫 사용자 요청이
+ * 클라이언트 생성, SASL/SSL 핸드셰이크, 메타데이터 부트스트랩 비용을 치르지 않도록 하기 위함입니다.
+ * 전체 예열은 {@code kafka.admin.warm-up.timeout-ms} 안에 끝나며, 그때까지 연결되지 않은
+ * 클러스터는 {@link State#TIMED_OUT}으로 표시되고 연결은 백그라운드에서 계속됩니다.</p>
+ *
+ * <p>헬스 인디케이터({@code adminClientWarmer})로 클러스터별 예열 상태를 보고합니다. 예열이 끝나기
+ * 전에는 OUT_OF_SERVICE이므로 readiness 헬스 그룹에 포함하면 로드 밸런서가 예열 후에만
+ * 트래픽을 보냅니다. 일부 클러스터의 실패는 다른 클러스터의 트래픽을 막지 않도록 세부 정보로만 보고합니다.</p>
+ */
+@Component
+public class AdminClientWarmer implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminClientWarmer.class);
+
+    /**
+     * 클러스터별 예열 상태.
+     */
+    public enum State {
+        PENDING,
+        READY,
+        FAILED,
+        TIMED_OUT
+    }
+
+    private final AdminClientFactory adminClientFactory;
+    private final ClusterRepository clusterRepository;
+    private final boolean enabled;
+    private final Duration timeout;
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+    private volatile boolean completed;
+
+    public AdminClientWarmer(
+            AdminClientFactory adminClientFactory,
+            ClusterRepository clusterRepository,
+            @Value("${kafka.admin.warm-up.enabled:false}") boolean enabled,
+            @Value("${kafka.admin.warm-up.timeout-ms:30000}") long timeoutMs
+    ) {
+        this.adminClientFactory = adminClientFactory;
+        this.clusterRepository = clusterRepository;
+        this.enabled = enabled;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * 애플리케이션 기동 후 예열을 백그라운드에서 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("admin-client-warmer").start(this::warmUp);
+    }
+
+    /**
+     * 모든 클러스터의 AdminClient를 병렬로 예열하고, 끝나거나 제한 시간이 지나면 반환합니다.
+     */
+    public void warmUp() {
+        List<Cluster> clusters = clusterRepository.findAll();
+        clusters.forEach(cluster -> states.put(cluster.id(), State.PENDING));
+        log.info("Warming up AdminClients for {} clusters (timeout: {} ms)", clusters.size(), timeout.toMillis());
+
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Cluster cluster : clusters) {
+                executor.submit(() -> warmUpCluster(cluster.id(), deadlineNanos));
+            }
+        }
+
+        completed = true;
+        log.info("AdminClient warm-up finished: {}", states);
+    }
+
+    /**
+     * 클러스터의 예열 상태를 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 예열 상태 (예열 대상이 아니면 null)
+     */
+    public State getState(String clusterId) {
+        return states.get(clusterId);
+    }
+
+    /**
+     * 예열 단계가 끝났는지 확인합니다.
+     *
+     * @return 예열이 끝났거나 비활성화되어 있으면 true
+     */
+    public boolean isCompleted() {
+        return !enabled || completed;
+    }
+
+    @Override
+    public Health health() {
+        if (!enabled) {
+            return Health.up().withDetail("warmUp", "disabled").build();
+        }
+
+        Health.Builder builder = completed ? Health.up() : Health.outOfService();
+        return builder.withDetail("clusters", new LinkedHashMap<>(states)).build();
+    }
+
+    // === Private Methods ===
+
+    private void warmUpCluster(String clusterId, long deadlineNanos) {
+        try {
+            adminClientFactory.warmUp(clusterId)
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            states.put(clusterId, State.READY);
+        } catch (TimeoutException e) {
+            log.warn("AdminClient warm-up timed out for cluster {}", clusterId);
+            states.put(clusterId, State.TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            states.put(clusterId, State.FAILED);
+        } catch (Exception e) {
+            log.warn("AdminClient warm-up failed for cluster {}: {}", clusterId, e.getMessage());
+            states.put(clusterId, State.FAILED);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.kafkalens.infrastructure.kafka;
 
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.RequestDeadline;
 import com.kafkalens.common.exception.KafkaConnectionException;
+import com.kafkalens.common.exception.KafkaLensException;
 import com.kafkalens.common.exception.KafkaTimeoutException;
 import org.apache.kafka.clients.admin.*;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TimeoutException;
 import org.slf4j.Logger;
@@ -16,7 +21,16 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +38,21 @@ import java.util.stream.Collectors;
  *
  * <p>AdminClient 작업을 간편하게 수행할 수 있는 고수준 API를 제공합니다.
  * 타임아웃 처리와 예외 변환을 담당합니다.</p>
+ *
+ * <p>토픽 목록, 토픽 상세, 토픽 설정, 클러스터 정보 조회 결과는
+ * {@link AdminMetadataCache}에 클러스터별로 캐싱됩니다.
+ * 동시에 들어온 동일한 조회 요청은 {@link AdminRequestCoalescer}로 병합됩니다.</p>
+ *
+ * <p>목록 조회와 다건 describe는 {@link AdminOperationClass#SCAN} 클라이언트로,
+ * 클러스터 정보, 오프셋, 단건 조회는 {@link AdminOperationClass#INTERACTIVE} 클라이언트로 보냅니다.
+ * 모든 요청은 클러스터별 {@link AdminBulkhead}를 거치며, 거부되면 {@code ClusterOverloadedException}으로 실패합니다.</p>
+ *
+ * <p>각 작업에는 호출 스레드를 막지 않는 {@code xxxAsync} 변형이 있으며,
+ * 웹 요청 경로에서는 비동기 변형을 사용합니다.</p>
+ *
+ * <p>모든 Admin 호출의 {@code timeoutMs}는 {@link AdminLatencyTracker}가 클러스터/작업별 관측 지연 시간으로
+ * 계산한 적응형 타임아웃, {@code kafka.admin.default-api-timeout-ms}, 현재 요청의 {@link RequestDeadline}까지
+ * 남은 시간 중 가장 짧은 값입니다. 병합된 요청은 먼저 전송한 요청의 마감을 따릅니다.</p>
  */
 @Component
 public class AdminClientWrapper {
@@ -31,14 +60,35 @@ public class AdminClientWrapper {
     private static final Logger log = LoggerFactory.getLogger(AdminClientWrapper.class);
 
     private final AdminClientFactory adminClientFactory;
+    private final AdminMetadataCache metadataCache;
+    private final AdminRequestCoalescer requestCoalescer;
+    private final AdminLatencyTracker latencyTracker;
     private final Duration defaultTimeout;
+    private final int describeTopicsChunkSize;
+    private final int describeTopicsMaxConcurrency;
+    private final int describeConfigsChunkSize;
+    private final int listGroupOffsetsChunkSize;
 
     public AdminClientWrapper(
             AdminClientFactory adminClientFactory,
-            @Value("${kafka.admin.default-api-timeout-ms:60000}") int defaultTimeoutMs
+            AdminMetadataCache metadataCache,
+            AdminRequestCoalescer requestCoalescer,
+            AdminLatencyTracker latencyTracker,
+            @Value("${kafka.admin.default-api-timeout-ms:60000}") int defaultTimeoutMs,
+            @Value("${kafka.admin.describe-topics.chunk-size:500}") int describeTopicsChunkSize,
+            @Value("${kafka.admin.describe-topics.max-concurrency:4}") int describeTopicsMaxConcurrency,
+            @Value("${kafka.admin.describe-configs.chunk-size:1000}") int describeConfigsChunkSize,
+            @Value("${kafka.admin.list-group-offsets.chunk-size:100}") int listGroupOffsetsChunkSize
     ) {
         this.adminClientFactory = adminClientFactory;
+        this.metadataCache = metadataCache;
+        this.requestCoalescer = requestCoalescer;
+        this.latencyTracker = latencyTracker;
         this.defaultTimeout = Duration.ofMillis(defaultTimeoutMs);
+        this.describeTopicsChunkSize = Math.max(1, describeTopicsChunkSize);
+        this.describeTopicsMaxConcurrency = Math.max(1, describeTopicsMaxConcurrency);
+        this.describeConfigsChunkSize = Math.max(1, describeConfigsChunkSize);
+        this.listGroupOffsetsChunkSize = Math.max(1, listGroupOffsetsChunkSize);
     }
 
     // === Topic Operations ===
@@ -61,16 +111,27 @@ public class AdminClientWrapper {
      * @return 토픽 이름 목록
      */
     public Set<String> listTopics(String clusterId, boolean includeInternal) {
+        String cacheArgument = String.valueOf(includeInternal);
+        Optional<Set<String>> cached = metadataCache.get(
+                clusterId, AdminMetadataCache.Operation.LIST_TOPICS, cacheArgument);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         log.debug("Listing topics for cluster: {} (includeInternal: {})", clusterId, includeInternal);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
 
         ListTopicsOptions options = new ListTopicsOptions()
-                .listInternal(includeInternal)
-                .timeoutMs((int) defaultTimeout.toMillis());
+                .listInternal(includeInternal);
 
         try {
-            return client.listTopics(options).names().get();
+            Set<String> names = Set.copyOf(requestCoalescer.coalesce(clusterId, "listTopics", includeInternal,
+                    () -> send(client, clusterId, "listTopics", (admin, timeoutMs) ->
+                            admin.listTopics(options.timeoutMs(timeoutMs)).names())).get());
+            metadataCache.put(clusterId, AdminMetadataCache.Operation.LIST_TOPICS, cacheArgument,
+                    names, AdminMetadataCache.estimateTopicNames(names));
+            return names;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -82,17 +143,33 @@ public class AdminClientWrapper {
     /**
      * 토픽 상세 정보를 조회합니다.
      *
+     * <p>캐시에 있는 토픽은 캐시에서 반환하고, 나머지 토픽만 브로커에 조회합니다.</p>
+     *
      * @param clusterId  클러스터 ID
      * @param topicNames 토픽 이름 목록
      * @return 토픽 이름 -> TopicDescription 맵
      */
     public Map<String, TopicDescription> describeTopics(String clusterId, Collection<String> topicNames) {
-        log.debug("Describing topics for cluster {}: {}", clusterId, topicNames);
+        Map<String, TopicDescription> result = new HashMap<>();
+        List<String> missing = collectCached(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC, topicNames, result);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        log.debug("Describing topics for cluster {}: {}", clusterId, missing);
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(missing));
 
         try {
-            return client.describeTopics(topicNames).allTopicNames().get();
+            Map<String, TopicDescription> descriptions = requestCoalescer.coalesce(
+                    clusterId, "describeTopics", Set.copyOf(missing),
+                    () -> send(client, clusterId, "describeTopics", (admin, timeoutMs) ->
+                            admin.describeTopics(missing,
+                                    new DescribeTopicsOptions().timeoutMs(timeoutMs)).allTopicNames())).get();
+            cacheTopicDescriptions(clusterId, descriptions);
+            result.putAll(descriptions);
+            return result;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -121,27 +198,21 @@ public class AdminClientWrapper {
      * @return 토픽 이름 -> 설정 맵
      */
     public Map<String, Map<String, String>> describeTopicConfigs(String clusterId, Collection<String> topicNames) {
-        log.debug("Describing topic configs for cluster {}: {}", clusterId, topicNames);
+        Map<String, Map<String, String>> result = new HashMap<>();
+        List<String> missing = collectCached(
+                clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, topicNames, result);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        if (missing.isEmpty()) {
+            return result;
+        }
 
-        List<ConfigResource> resources = topicNames.stream()
-                .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
-                .collect(Collectors.toList());
+        log.debug("Describing topic configs for cluster {}: {}", clusterId, missing);
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(missing));
 
         try {
-            Map<ConfigResource, Config> configs = client.describeConfigs(resources).all().get();
-
-            Map<String, Map<String, String>> result = new HashMap<>();
-            for (Map.Entry<ConfigResource, Config> entry : configs.entrySet()) {
-                Map<String, String> configMap = entry.getValue().entries().stream()
-                        .collect(Collectors.toMap(
-                                ConfigEntry::name,
-                                ConfigEntry::value,
-                                (v1, v2) -> v2
-                        ));
-                result.put(entry.getKey().name(), configMap);
-            }
+            Map<ConfigResource, Config> configs = describeTopicConfigResources(client, clusterId, missing).get();
+            result.putAll(cacheTopicConfigs(clusterId, configs));
             return result;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -162,10 +233,13 @@ public class AdminClientWrapper {
     public Collection<ConsumerGroupListing> listConsumerGroups(String clusterId) {
         log.debug("Listing consumer groups for cluster: {}", clusterId);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
 
         try {
-            return client.listConsumerGroups().all().get();
+            return requestCoalescer.coalesce(clusterId, "listConsumerGroups", null,
+                    () -> send(client, clusterId, "listConsumerGroups", (admin, timeoutMs) ->
+                            admin.listConsumerGroups(new ListConsumerGroupsOptions().timeoutMs(timeoutMs)).all()))
+                    .get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -184,10 +258,13 @@ public class AdminClientWrapper {
     public Map<String, ConsumerGroupDescription> describeConsumerGroups(String clusterId, Collection<String> groupIds) {
         log.debug("Describing consumer groups for cluster {}: {}", clusterId, groupIds);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(groupIds));
 
         try {
-            return client.describeConsumerGroups(groupIds).all().get();
+            return requestCoalescer.coalesce(clusterId, "describeConsumerGroups", Set.copyOf(groupIds),
+                    () -> send(client, clusterId, "describeConsumerGroups", (admin, timeoutMs) ->
+                            admin.describeConsumerGroups(groupIds,
+                                    new DescribeConsumerGroupsOptions().timeoutMs(timeoutMs)).all())).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -206,12 +283,14 @@ public class AdminClientWrapper {
     public Map<TopicPartition, OffsetAndMetadata> listConsumerGroupOffsets(String clusterId, String groupId) {
         log.debug("Listing consumer group offsets for cluster {}, group: {}", clusterId, groupId);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
 
         try {
-            return client.listConsumerGroupOffsets(groupId)
-                    .partitionsToOffsetAndMetadata()
-                    .get();
+            return requestCoalescer.coalesce(clusterId, "listConsumerGroupOffsets", groupId,
+                    () -> send(client, clusterId, "listConsumerGroupOffsets", (admin, timeoutMs) ->
+                            admin.listConsumerGroupOffsets(groupId,
+                                    new ListConsumerGroupOffsetsOptions().timeoutMs(timeoutMs))
+                            .partitionsToOffsetAndMetadata())).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -229,17 +308,22 @@ public class AdminClientWrapper {
      * @return DescribeClusterResult
      */
     public ClusterInfo describeCluster(String clusterId) {
+        Optional<ClusterInfo> cached = metadataCache.get(
+                clusterId, AdminMetadataCache.Operation.DESCRIBE_CLUSTER, "");
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         log.debug("Describing cluster: {}", clusterId);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
 
         try {
-            DescribeClusterResult result = client.describeCluster();
-            String kafkaClusterId = result.clusterId().get();
-            Node controller = result.controller().get();
-            Collection<Node> nodes = result.nodes().get();
-
-            return new ClusterInfo(kafkaClusterId, controller, nodes);
+            ClusterInfo info = send(client, clusterId, "describeCluster", (admin, timeoutMs) ->
+                    describeClusterInfo(admin, new DescribeClusterOptions().timeoutMs(timeoutMs))).get();
+            metadataCache.put(clusterId, AdminMetadataCache.Operation.DESCRIBE_CLUSTER, "",
+                    info, AdminMetadataCache.estimateClusterInfo(info));
+            return info;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -258,19 +342,18 @@ public class AdminClientWrapper {
     public Map<String, String> describeBrokerConfig(String clusterId, int brokerId) {
         log.debug("Describing broker config for cluster {}, broker: {}", clusterId, brokerId);
 
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
 
         ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
 
         try {
-            Config config = client.describeConfigs(Collections.singleton(resource)).all().get().get(resource);
-
-            return config.entries().stream()
-                    .collect(Collectors.toMap(
-                            ConfigEntry::name,
-                            ConfigEntry::value,
-                            (v1, v2) -> v2
-                    ));
+            Config config = requestCoalescer.coalesce(clusterId, "describeBrokerConfig", brokerId,
+                    () -> send(client, clusterId, "describeBrokerConfig", (admin, timeoutMs) ->
+                            admin.describeConfigs(Collections.singleton(resource),
+                                    new DescribeConfigsOptions().timeoutMs(timeoutMs)).all()))
+                    .get().get(resource);
+
+            return toConfigMap(config);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -279,6 +362,18 @@ public class AdminClientWrapper {
         }
     }
 
+    /**
+     * 사용자 요청이 없어 클러스터의 AdminClient 풀이 유휴 정리되었는지 확인합니다.
+     *
+     * <p>주기 작업은 이 값이 true인 동안 호출을 건너뛰어, 정리된 풀을 다시 만들지 않습니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 유휴 정리된 뒤 사용자 요청이 없었으면 true
+     */
+    public boolean isClientIdle(String clusterId) {
+        return adminClientFactory.isIdleClosed(clusterId);
+    }
+
     // === Partition Operations ===
 
     /**
@@ -289,20 +384,10 @@ public class AdminClientWrapper {
      * @return TopicPartition -> 시작 오프셋 맵
      */
     public Map<TopicPartition, Long> getBeginningOffsets(String clusterId, Collection<TopicPartition> topicPartitions) {
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
-
-        Map<TopicPartition, OffsetSpec> offsetSpecs = topicPartitions.stream()
-                .collect(Collectors.toMap(tp -> tp, tp -> OffsetSpec.earliest()));
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassForPartitions(topicPartitions));
 
         try {
-            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> result =
-                    client.listOffsets(offsetSpecs).all().get();
-
-            return result.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> e.getValue().offset()
-                    ));
+            return toOffsetMap(listOffsets(client, clusterId, "getBeginningOffsets", topicPartitions, OffsetSpec::earliest).get());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -319,20 +404,10 @@ public class AdminClientWrapper {
      * @return TopicPartition -> 끝 오프셋 맵
      */
     public Map<TopicPartition, Long> getEndOffsets(String clusterId, Collection<TopicPartition> topicPartitions) {
-        AdminClient client = adminClientFactory.getOrCreate(clusterId);
-
-        Map<TopicPartition, OffsetSpec> offsetSpecs = topicPartitions.stream()
-                .collect(Collectors.toMap(tp -> tp, tp -> OffsetSpec.latest()));
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassForPartitions(topicPartitions));
 
         try {
-            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> result =
-                    client.listOffsets(offsetSpecs).all().get();
-
-            return result.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> e.getValue().offset()
-                    ));
+            return toOffsetMap(listOffsets(client, clusterId, "getEndOffsets", topicPartitions, OffsetSpec::latest).get());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaConnectionException(clusterId, "Operation interrupted");
@@ -341,6 +416,471 @@ public class AdminClientWrapper {
         }
     }
 
+    // === Async Operations ===
+    //
+    // 아래 메서드는 KafkaFuture.get()으로 호출 스레드를 막지 않고 CompletableFuture를 반환합니다.
+    // 실패는 동기 메서드와 같은 KafkaTimeoutException/KafkaConnectionException으로 완료되고,
+    // 콜백은 AdminClient 네트워크 스레드가 아닌 공용 풀에서 실행됩니다.
+
+    /**
+     * 클러스터의 토픽 목록을 비동기로 조회합니다.
+     *
+     * @param clusterId       클러스터 ID
+     * @param includeInternal 내부 토픽 포함 여부
+     * @return 토픽 이름 목록
+     */
+    public CompletableFuture<Set<String>> listTopicsAsync(String clusterId, boolean includeInternal) {
+        String cacheArgument = String.valueOf(includeInternal);
+        Optional<Set<String>> cached = metadataCache.get(
+                clusterId, AdminMetadataCache.Operation.LIST_TOPICS, cacheArgument);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+
+        ListTopicsOptions options = new ListTopicsOptions()
+                .listInternal(includeInternal);
+
+        return toCompletableFuture(clusterId, "listTopics", requestCoalescer.coalesce(
+                clusterId, "listTopics", includeInternal,
+                () -> send(client, clusterId, "listTopics", (admin, timeoutMs) ->
+                        admin.listTopics(options.timeoutMs(timeoutMs)).names())))
+                .thenApply(topicNames -> {
+                    Set<String> names = Set.copyOf(topicNames);
+                    metadataCache.put(clusterId, AdminMetadataCache.Operation.LIST_TOPICS, cacheArgument,
+                            names, AdminMetadataCache.estimateTopicNames(names));
+                    return names;
+                });
+    }
+
+    /**
+     * 클러스터의 토픽 이름과 토픽 ID를 비동기로 조회합니다.
+     *
+     * <p>같은 이름으로 다시 생성된 토픽은 ID가 바뀌므로, 이전 결과와 비교하면 생성/재생성된 토픽을
+     * 토픽 상세 조회 없이 찾을 수 있습니다. 변경 감지용이므로 캐시하지 않습니다.</p>
+     *
+     * @param clusterId       클러스터 ID
+     * @param includeInternal 내부 토픽 포함 여부
+     * @return 토픽 이름 -> 토픽 ID 맵
+     */
+    public CompletableFuture<Map<String, Uuid>> listTopicIdsAsync(String clusterId, boolean includeInternal) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+
+        ListTopicsOptions options = new ListTopicsOptions()
+                .listInternal(includeInternal);
+
+        return toCompletableFuture(clusterId, "listTopicIds", requestCoalescer.coalesce(
+                clusterId, "listTopicIds", includeInternal,
+                () -> send(client, clusterId, "listTopicIds", (admin, timeoutMs) ->
+                        admin.listTopics(options.timeoutMs(timeoutMs)).listings())))
+                .thenApply(listings -> listings.stream()
+                        .collect(Collectors.toUnmodifiableMap(TopicListing::name, TopicListing::topicId)));
+    }
+
+    /**
+     * 토픽 상세 정보를 비동기로 조회합니다.
+     *
+     * @param clusterId  클러스터 ID
+     * @param topicNames 토픽 이름 목록
+     * @return 토픽 이름 -> TopicDescription 맵
+     */
+    public CompletableFuture<Map<String, TopicDescription>> describeTopicsAsync(
+            String clusterId, Collection<String> topicNames) {
+        Map<String, TopicDescription> result = new HashMap<>();
+        List<String> missing = collectCached(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC, topicNames, result);
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(missing));
+
+        return toCompletableFuture(clusterId, "describeTopics", requestCoalescer.coalesce(
+                clusterId, "describeTopics", Set.copyOf(missing),
+                () -> send(client, clusterId, "describeTopics", (admin, timeoutMs) ->
+                        admin.describeTopics(missing,
+                                new DescribeTopicsOptions().timeoutMs(timeoutMs)).allTopicNames())))
+                .thenApply(descriptions -> {
+                    cacheTopicDescriptions(clusterId, descriptions);
+                    result.putAll(descriptions);
+                    return result;
+                });
+    }
+
+    /**
+     * 토픽 상세 정보를 청크 단위로 나누어 비동기로 조회합니다.
+     *
+     * @param clusterId  클러스터 ID
+     * @param topicNames 토픽 이름 목록
+     * @return 청크 조회 결과
+     * @see #describeTopicsInChunksAsync(String, Collection, Consumer)
+     */
+    public CompletableFuture<ChunkedTopicDescriptions> describeTopicsInChunksAsync(
+            String clusterId, Collection<String> topicNames) {
+        return describeTopicsInChunksAsync(clusterId, topicNames, chunk -> {
+        });
+    }
+
+    /**
+     * 토픽 상세 정보를 청크 단위로 나누어 비동기로 조회합니다.
+     *
+     * <p>캐시에 없는 토픽을 {@code kafka.admin.describe-topics.chunk-size}개씩 나누고,
+     * 최대 {@code kafka.admin.describe-topics.max-concurrency}개의 청크만 동시에 요청합니다.
+     * 청크가 완료될 때마다 결과를 병합하고 {@code chunkListener}에 전달합니다.</p>
+     *
+     * <p>일부 청크가 실패하면 해당 토픽을 {@link ChunkedTopicDescriptions#failedTopics()}에 담고
+     * 나머지 결과로 완료됩니다. 조회된 토픽이 하나도 없을 때만 예외로 완료됩니다.</p>
+     *
+     * @param clusterId     클러스터 ID
+     * @param topicNames    토픽 이름 목록
+     * @param chunkListener 청크(캐시 적중분 포함)가 완료될 때마다 호출되는 리스너
+     * @return 청크 조회 결과
+     */
+    public CompletableFuture<ChunkedTopicDescriptions> describeTopicsInChunksAsync(
+            String clusterId,
+            Collection<String> topicNames,
+            Consumer<Map<String, TopicDescription>> chunkListener
+    ) {
+        Map<String, TopicDescription> cached = new HashMap<>();
+        List<String> missing = collectCached(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC, topicNames, cached);
+
+        if (!cached.isEmpty()) {
+            chunkListener.accept(Collections.unmodifiableMap(cached));
+        }
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(new ChunkedTopicDescriptions(Map.copyOf(cached), Set.of()));
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+        List<List<String>> chunks = chunks(missing, describeTopicsChunkSize);
+
+        log.debug("Describing {} topics for cluster {} in {} chunks", missing.size(), clusterId, chunks.size());
+
+        return new ChunkedTopicDescribe(clusterId, client, chunks, cached, chunkListener)
+                .start(describeTopicsMaxConcurrency);
+    }
+
+    /**
+     * 단일 토픽 상세 정보를 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param topicName 토픽 이름
+     * @return TopicDescription
+     */
+    public CompletableFuture<TopicDescription> describeTopicAsync(String clusterId, String topicName) {
+        return describeTopicsAsync(clusterId, Collections.singleton(topicName))
+                .thenApply(descriptions -> descriptions.get(topicName));
+    }
+
+    /**
+     * 토픽 설정을 비동기로 조회합니다.
+     *
+     * @param clusterId  클러스터 ID
+     * @param topicNames 토픽 이름 목록
+     * @return 토픽 이름 -> 설정 맵
+     */
+    public CompletableFuture<Map<String, Map<String, String>>> describeTopicConfigsAsync(
+            String clusterId, Collection<String> topicNames) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        List<String> missing = collectCached(
+                clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, topicNames, result);
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(missing));
+
+        return toCompletableFuture(clusterId, "describeTopicConfigs",
+                describeTopicConfigResources(client, clusterId, missing))
+                .thenApply(configs -> {
+                    result.putAll(cacheTopicConfigs(clusterId, configs));
+                    return result;
+                });
+    }
+
+    /**
+     * 토픽 수준에서 지정된 설정과 클러스터 공통 기본값을 청크 단위로 비동기 조회합니다.
+     *
+     * <p>클러스터 전체 설정 인덱스용입니다. 토픽을 {@code kafka.admin.describe-configs.chunk-size}개씩
+     * 하나의 describeConfigs 요청으로 묶고, 최대 {@code kafka.admin.describe-topics.max-concurrency}개의
+     * 청크만 동시에 요청합니다. 설정 출처가 {@code DYNAMIC_TOPIC_CONFIG}인 항목만 토픽별로 담고,
+     * 나머지(브로커 설정/기본값)는 키마다 한 번만 {@link TopicConfigOverrides#defaults()}에 담습니다.
+     * 민감 설정처럼 값이 없는 항목은 제외합니다. 결과는 캐시하지 않습니다.</p>
+     *
+     * <p>일부 청크가 실패하면 해당 토픽을 {@link TopicConfigOverrides#failedTopics()}에 담고
+     * 나머지 결과로 완료됩니다. 조회된 토픽이 하나도 없을 때만 예외로 완료됩니다.</p>
+     *
+     * @param clusterId  클러스터 ID
+     * @param topicNames 토픽 이름 목록
+     * @return 토픽 설정 조회 결과
+     */
+    public CompletableFuture<TopicConfigOverrides> describeTopicConfigOverridesAsync(
+            String clusterId, Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return CompletableFuture.completedFuture(new TopicConfigOverrides(Map.of(), Map.of(), Set.of()));
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+        List<List<String>> chunks = chunks(List.copyOf(topicNames), describeConfigsChunkSize);
+
+        log.debug("Describing configs of {} topics for cluster {} in {} chunks",
+                topicNames.size(), clusterId, chunks.size());
+
+        return new ChunkedTopicConfigDescribe(clusterId, client, chunks).start(describeTopicsMaxConcurrency);
+    }
+
+    /**
+     * 모든 컨슈머 그룹 목록을 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 컨슈머 그룹 목록
+     */
+    public CompletableFuture<Collection<ConsumerGroupListing>> listConsumerGroupsAsync(String clusterId) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+
+        return toCompletableFuture(clusterId, "listConsumerGroups", requestCoalescer.coalesce(
+                clusterId, "listConsumerGroups", null,
+                () -> send(client, clusterId, "listConsumerGroups", (admin, timeoutMs) ->
+                        admin.listConsumerGroups(new ListConsumerGroupsOptions().timeoutMs(timeoutMs)).all())));
+    }
+
+    /**
+     * 컨슈머 그룹 상세 정보를 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupIds  그룹 ID 목록
+     * @return 그룹 ID -> ConsumerGroupDescription 맵
+     */
+    public CompletableFuture<Map<String, ConsumerGroupDescription>> describeConsumerGroupsAsync(
+            String clusterId, Collection<String> groupIds) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(groupIds));
+
+        return toCompletableFuture(clusterId, "describeConsumerGroups", requestCoalescer.coalesce(
+                clusterId, "describeConsumerGroups", Set.copyOf(groupIds),
+                () -> send(client, clusterId, "describeConsumerGroups", (admin, timeoutMs) ->
+                        admin.describeConsumerGroups(groupIds,
+                                new DescribeConsumerGroupsOptions().timeoutMs(timeoutMs)).all())));
+    }
+
+    /**
+     * 컨슈머 그룹의 오프셋을 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupId   그룹 ID
+     * @return TopicPartition -> OffsetAndMetadata 맵
+     */
+    public CompletableFuture<Map<TopicPartition, OffsetAndMetadata>> listConsumerGroupOffsetsAsync(
+            String clusterId, String groupId) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
+
+        return toCompletableFuture(clusterId, "listConsumerGroupOffsets", requestCoalescer.coalesce(
+                clusterId, "listConsumerGroupOffsets", groupId,
+                () -> send(client, clusterId, "listConsumerGroupOffsets", (admin, timeoutMs) ->
+                        admin.listConsumerGroupOffsets(groupId,
+                                new ListConsumerGroupOffsetsOptions().timeoutMs(timeoutMs))
+                        .partitionsToOffsetAndMetadata())));
+    }
+
+    /**
+     * 여러 컨슈머 그룹의 오프셋을 청크 단위로 비동기 조회합니다.
+     *
+     * <p>그룹을 {@code kafka.admin.list-group-offsets.chunk-size}개씩 하나의 다중 그룹
+     * listConsumerGroupOffsets 요청으로 묶고, 최대 {@code kafka.admin.describe-topics.max-concurrency}개의
+     * 청크만 동시에 요청합니다. AdminClient는 청크 안의 그룹을 코디네이터별 OffsetFetch 요청으로 모아 보냅니다.
+     * 커밋된 오프셋이 없는 파티션은 제외합니다.</p>
+     *
+     * <p>일부 청크가 실패하면 해당 그룹을 {@link ChunkedGroupOffsets#failedGroups()}에 담고
+     * 나머지 결과로 완료됩니다. 조회된 그룹이 하나도 없을 때만 예외로 완료됩니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param groupIds  그룹 ID 목록
+     * @return 그룹 오프셋 조회 결과
+     */
+    public CompletableFuture<ChunkedGroupOffsets> listConsumerGroupOffsetsInChunksAsync(
+            String clusterId, Collection<String> groupIds) {
+        if (groupIds.isEmpty()) {
+            return CompletableFuture.completedFuture(new ChunkedGroupOffsets(Map.of(), Set.of()));
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+        List<List<String>> chunks = chunks(List.copyOf(groupIds), listGroupOffsetsChunkSize);
+
+        log.debug("Listing offsets of {} consumer groups for cluster {} in {} chunks",
+                groupIds.size(), clusterId, chunks.size());
+
+        return new ChunkedGroupOffsetsFetch(clusterId, client, chunks).start(describeTopicsMaxConcurrency);
+    }
+
+    /**
+     * 클러스터 정보를 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @return 클러스터 정보
+     */
+    public CompletableFuture<ClusterInfo> describeClusterAsync(String clusterId) {
+        Optional<ClusterInfo> cached = metadataCache.get(
+                clusterId, AdminMetadataCache.Operation.DESCRIBE_CLUSTER, "");
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
+
+        return toCompletableFuture(clusterId, "describeCluster",
+                send(client, clusterId, "describeCluster", (admin, timeoutMs) ->
+                        describeClusterInfo(admin, new DescribeClusterOptions().timeoutMs(timeoutMs))))
+                .thenApply(info -> {
+                    metadataCache.put(clusterId, AdminMetadataCache.Operation.DESCRIBE_CLUSTER, "",
+                            info, AdminMetadataCache.estimateClusterInfo(info));
+                    return info;
+                });
+    }
+
+    /**
+     * 브로커 설정을 비동기로 조회합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param brokerId  브로커 ID
+     * @return 설정 맵
+     */
+    public CompletableFuture<Map<String, String>> describeBrokerConfigAsync(String clusterId, int brokerId) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.INTERACTIVE);
+
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
+
+        return toCompletableFuture(clusterId, "describeBrokerConfig", requestCoalescer.coalesce(
+                clusterId, "describeBrokerConfig", brokerId,
+                () -> send(client, clusterId, "describeBrokerConfig", (admin, timeoutMs) ->
+                        admin.describeConfigs(Collections.singleton(resource),
+                                new DescribeConfigsOptions().timeoutMs(timeoutMs)).all())))
+                .thenApply(configs -> toConfigMap(configs.get(resource)));
+    }
+
+    /**
+     * 여러 브로커의 설정을 한 번의 describeConfigs 요청으로 비동기 조회합니다.
+     *
+     * <p>브로커별 결과는 {@link AdminMetadataCache}에 캐싱되며, 캐시에 없는 브로커만 요청합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param brokerIds 브로커 ID 목록
+     * @return 브로커 ID -> 설정 맵
+     */
+    public CompletableFuture<Map<Integer, Map<String, String>>> describeBrokerConfigsAsync(
+            String clusterId, Collection<Integer> brokerIds) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        List<String> missing = collectCached(clusterId, AdminMetadataCache.Operation.DESCRIBE_BROKER_CONFIGS,
+                brokerIds.stream().map(String::valueOf).collect(Collectors.toList()), result);
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(toBrokerIdMap(result));
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassFor(missing));
+        List<ConfigResource> resources = missing.stream()
+                .map(brokerId -> new ConfigResource(ConfigResource.Type.BROKER, brokerId))
+                .collect(Collectors.toList());
+
+        return toCompletableFuture(clusterId, "describeBrokerConfigs", requestCoalescer.coalesce(
+                clusterId, "describeBrokerConfigs", Set.copyOf(missing),
+                () -> send(client, clusterId, "describeBrokerConfigs", (admin, timeoutMs) ->
+                        admin.describeConfigs(resources, new DescribeConfigsOptions().timeoutMs(timeoutMs)).all())))
+                .thenApply(configs -> {
+                    configs.forEach((resource, config) -> {
+                        Map<String, String> configMap = Collections.unmodifiableMap(toConfigMap(config));
+                        metadataCache.put(clusterId, AdminMetadataCache.Operation.DESCRIBE_BROKER_CONFIGS,
+                                resource.name(), configMap, AdminMetadataCache.estimateConfigs(configMap));
+                        result.put(resource.name(), configMap);
+                    });
+                    return toBrokerIdMap(result);
+                });
+    }
+
+    /**
+     * 브로커들의 로그 디렉터리 정보(디렉터리별 용량과 레플리카별 크기)를 비동기로 조회합니다.
+     *
+     * <p>브로커마다 별도의 describeLogDirs 요청을 동시에 보내므로, 느리거나 응답하지 않는 브로커가
+     * 다른 브로커의 결과를 막지 않습니다. 일부 브로커가 실패하면 나머지 결과와 실패한 브로커 ID로 완료하고,
+     * 모든 브로커가 실패하면 마지막 오류로 실패합니다.</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param brokerIds 브로커 ID 목록
+     * @return 브로커별 로그 디렉터리 정보
+     */
+    public CompletableFuture<LogDirDescriptions> describeLogDirsAsync(String clusterId, Collection<Integer> brokerIds) {
+        if (brokerIds.isEmpty()) {
+            return CompletableFuture.completedFuture(new LogDirDescriptions(Map.of(), Set.of()));
+        }
+
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, AdminOperationClass.SCAN);
+        Map<Integer, Map<String, LogDirDescription>> descriptions = new ConcurrentHashMap<>();
+        Set<Integer> failedBrokers = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<?>[] perBroker = brokerIds.stream()
+                .distinct()
+                .map(brokerId -> toCompletableFuture(clusterId, "describeLogDirs", requestCoalescer.coalesce(
+                        clusterId, "describeLogDirs", brokerId,
+                        () -> send(client, clusterId, "describeLogDirs", (admin, timeoutMs) ->
+                                admin.describeLogDirs(List.of(brokerId),
+                                        new DescribeLogDirsOptions().timeoutMs(timeoutMs)).allDescriptions())))
+                        .handle((result, error) -> {
+                            if (error != null) {
+                                log.warn("Failed to describe log dirs of broker {} on cluster {}: {}",
+                                        brokerId, clusterId, error.getMessage());
+                                failedBrokers.add(brokerId);
+                                errors.add(error);
+                            } else {
+                                descriptions.put(brokerId, result.getOrDefault(brokerId, Map.of()));
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(perBroker).thenApply(ignored -> {
+            if (descriptions.isEmpty() && !errors.isEmpty()) {
+                Throwable error = errors.get(errors.size() - 1);
+                throw error instanceof RuntimeException runtime ? runtime : new CompletionException(error);
+            }
+            return new LogDirDescriptions(Map.copyOf(descriptions), Set.copyOf(failedBrokers));
+        });
+    }
+
+    /**
+     * 토픽 파티션의 시작 오프셋을 비동기로 조회합니다.
+     *
+     * @param clusterId       클러스터 ID
+     * @param topicPartitions 토픽 파티션 목록
+     * @return TopicPartition -> 시작 오프셋 맵
+     */
+    public CompletableFuture<Map<TopicPartition, Long>> getBeginningOffsetsAsync(
+            String clusterId, Collection<TopicPartition> topicPartitions) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassForPartitions(topicPartitions));
+
+        return toCompletableFuture(clusterId, "getBeginningOffsets",
+                listOffsets(client, clusterId, "getBeginningOffsets", topicPartitions, OffsetSpec::earliest))
+                .thenApply(AdminClientWrapper::toOffsetMap);
+    }
+
+    /**
+     * 토픽 파티션의 끝 오프셋을 비동기로 조회합니다.
+     *
+     * <p>여러 토픽에 걸친 조회(그룹이나 클러스터 전체의 파티션 합집합)는 스캔 클라이언트로 전송됩니다.</p>
+     *
+     * @param clusterId       클러스터 ID
+     * @param topicPartitions 토픽 파티션 목록
+     * @return TopicPartition -> 끝 오프셋 맵
+     */
+    public CompletableFuture<Map<TopicPartition, Long>> getEndOffsetsAsync(
+            String clusterId, Collection<TopicPartition> topicPartitions) {
+        PooledAdminClient client = adminClientFactory.acquire(clusterId, operationClassForPartitions(topicPartitions));
+
+        return toCompletableFuture(clusterId, "getEndOffsets",
+                listOffsets(client, clusterId, "getEndOffsets", topicPartitions, OffsetSpec::latest))
+                .thenApply(AdminClientWrapper::toOffsetMap);
+    }
+
     // === Helper Classes ===
 
     /**
@@ -359,14 +899,341 @@ public class AdminClientWrapper {
         }
     }
 
+    /**
+     * 청크 단위 토픽 상세 조회 결과 레코드.
+     *
+     * @param descriptions 조회된 토픽 이름 -> TopicDescription 맵
+     * @param failedTopics 실패한 청크에 속한 토픽 이름
+     */
+    public record ChunkedTopicDescriptions(
+            Map<String, TopicDescription> descriptions,
+            Set<String> failedTopics
+    ) {
+        /**
+         * 일부 청크가 실패했는지 여부를 반환합니다.
+         */
+        public boolean isPartial() {
+            return !failedTopics.isEmpty();
+        }
+    }
+
+    /**
+     * 토픽 설정 청크 조회 결과 레코드.
+     *
+     * @param overrides    토픽 이름 -> 토픽 수준에서 지정된 설정 (지정된 설정이 없으면 빈 맵)
+     * @param defaults     설정 키 -> 토픽이 따로 지정하지 않았을 때 적용되는 값
+     * @param failedTopics 실패한 청크에 속한 토픽 이름
+     */
+    public record TopicConfigOverrides(
+            Map<String, Map<String, String>> overrides,
+            Map<String, String> defaults,
+            Set<String> failedTopics
+    ) {
+        /**
+         * 일부 청크가 실패했는지 여부를 반환합니다.
+         */
+        public boolean isPartial() {
+            return !failedTopics.isEmpty();
+        }
+    }
+
+    /**
+     * 청크 단위 컨슈머 그룹 오프셋 조회 결과 레코드.
+     *
+     * @param offsets      그룹 ID -> TopicPartition -> 커밋된 오프셋 맵
+     * @param failedGroups 실패한 청크에 속한 그룹 ID
+     */
+    public record ChunkedGroupOffsets(
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets,
+            Set<String> failedGroups
+    ) {
+        /**
+         * 일부 청크가 실패했는지 여부를 반환합니다.
+         */
+        public boolean isPartial() {
+            return !failedGroups.isEmpty();
+        }
+    }
+
+    /**
+     * 브로커별 로그 디렉터리 조회 결과 레코드.
+     *
+     * @param descriptions  브로커 ID -> 로그 디렉터리 경로 -> LogDirDescription 맵
+     * @param failedBrokers 조회에 실패한 브로커 ID
+     */
+    public record LogDirDescriptions(
+            Map<Integer, Map<String, LogDirDescription>> descriptions,
+            Set<Integer> failedBrokers
+    ) {
+        /**
+         * 일부 브로커가 실패했는지 여부를 반환합니다.
+         */
+        public boolean isPartial() {
+            return !failedBrokers.isEmpty();
+        }
+    }
+
+    /**
+     * 청크 단위 토픽 상세 조회 진행 상태.
+     *
+     * <p>대기 중인 청크를 큐에 두고, 청크 하나가 끝날 때마다 다음 청크를 전송하여
+     * 동시에 진행 중인 요청 수를 제한합니다.</p>
+     */
+    private final class ChunkedTopicDescribe {
+
+        private final String clusterId;
+        private final PooledAdminClient client;
+        private final Queue<List<String>> pendingChunks;
+        private final Map<String, TopicDescription> descriptions;
+        private final Set<String> failedTopics = ConcurrentHashMap.newKeySet();
+        private final Consumer<Map<String, TopicDescription>> chunkListener;
+        private final AtomicInteger remainingChunks;
+        private final CompletableFuture<ChunkedTopicDescriptions> result = new CompletableFuture<>();
+        private volatile Throwable lastError;
+
+        ChunkedTopicDescribe(
+                String clusterId,
+                PooledAdminClient client,
+                List<List<String>> chunks,
+                Map<String, TopicDescription> cached,
+                Consumer<Map<String, TopicDescription>> chunkListener
+        ) {
+            this.clusterId = clusterId;
+            this.client = client;
+            this.pendingChunks = new ConcurrentLinkedQueue<>(chunks);
+            this.descriptions = new ConcurrentHashMap<>(cached);
+            this.chunkListener = chunkListener;
+            this.remainingChunks = new AtomicInteger(chunks.size());
+        }
+
+        CompletableFuture<ChunkedTopicDescriptions> start(int maxConcurrency) {
+            for (int i = 0; i < maxConcurrency; i++) {
+                describeNextChunk();
+            }
+            return result;
+        }
+
+        private void describeNextChunk() {
+            List<String> chunk = pendingChunks.poll();
+            if (chunk == null) {
+                return;
+            }
+
+            toCompletableFuture(clusterId, "describeTopics", requestCoalescer.coalesce(
+                    clusterId, "describeTopics", Set.copyOf(chunk),
+                    () -> send(client, clusterId, "describeTopics", (admin, timeoutMs) ->
+                            admin.describeTopics(chunk,
+                                    new DescribeTopicsOptions().timeoutMs(timeoutMs)).allTopicNames())))
+                    .whenComplete((chunkDescriptions, error) -> {
+                        if (error == null) {
+                            cacheTopicDescriptions(clusterId, chunkDescriptions);
+                            descriptions.putAll(chunkDescriptions);
+                            chunkListener.accept(chunkDescriptions);
+                        } else {
+                            log.warn("Failed to describe {} topics on cluster {}: {}",
+                                    chunk.size(), clusterId, error.getMessage());
+                            failedTopics.addAll(chunk);
+                            lastError = error;
+                        }
+
+                        if (remainingChunks.decrementAndGet() == 0) {
+                            complete();
+                        } else {
+                            describeNextChunk();
+                        }
+                    });
+        }
+
+        private void complete() {
+            if (descriptions.isEmpty()) {
+                result.completeExceptionally(lastError);
+                return;
+            }
+            result.complete(new ChunkedTopicDescriptions(Map.copyOf(descriptions), Set.copyOf(failedTopics)));
+        }
+    }
+
+    /**
+     * 청크 단위 토픽 설정 조회 진행 상태.
+     *
+     * <p>{@link ChunkedTopicDescribe}와 같이 청크 하나가 끝날 때마다 다음 청크를 전송합니다.</p>
+     */
+    private final class ChunkedTopicConfigDescribe {
+
+        private final String clusterId;
+        private final PooledAdminClient client;
+        private final Queue<List<String>> pendingChunks;
+        private final Map<String, Map<String, String>> overrides = new ConcurrentHashMap<>();
+        private final Map<String, String> defaults = new ConcurrentHashMap<>();
+        private final Set<String> failedTopics = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger remainingChunks;
+        private final CompletableFuture<TopicConfigOverrides> result = new CompletableFuture<>();
+        private volatile Throwable lastError;
+
+        ChunkedTopicConfigDescribe(String clusterId, PooledAdminClient client, List<List<String>> chunks) {
+            this.clusterId = clusterId;
+            this.client = client;
+            this.pendingChunks = new ConcurrentLinkedQueue<>(chunks);
+            this.remainingChunks = new AtomicInteger(chunks.size());
+        }
+
+        CompletableFuture<TopicConfigOverrides> start(int maxConcurrency) {
+            for (int i = 0; i < maxConcurrency; i++) {
+                describeNextChunk();
+            }
+            return result;
+        }
+
+        private void describeNextChunk() {
+            List<String> chunk = pendingChunks.poll();
+            if (chunk == null) {
+                return;
+            }
+
+            toCompletableFuture(clusterId, "describeTopicConfigs",
+                    describeTopicConfigResources(client, clusterId, chunk))
+                    .whenComplete((configs, error) -> {
+                        if (error == null) {
+                            configs.forEach((resource, config) -> collect(resource.name(), config));
+                        } else {
+                            log.warn("Failed to describe configs of {} topics on cluster {}: {}",
+                                    chunk.size(), clusterId, error.getMessage());
+                            failedTopics.addAll(chunk);
+                            lastError = error;
+                        }
+
+                        if (remainingChunks.decrementAndGet() == 0) {
+                            complete();
+                        } else {
+                            describeNextChunk();
+                        }
+                    });
+        }
+
+        private void collect(String topicName, Config config) {
+            Map<String, String> topicOverrides = new HashMap<>();
+            for (ConfigEntry entry : config.entries()) {
+                if (entry.value() == null) {
+                    continue;
+                }
+                if (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG) {
+                    topicOverrides.put(entry.name(), entry.value());
+                } else {
+                    defaults.putIfAbsent(entry.name(), entry.value());
+                }
+            }
+            overrides.put(topicName, topicOverrides);
+        }
+
+        private void complete() {
+            if (overrides.isEmpty()) {
+                result.completeExceptionally(lastError);
+                return;
+            }
+            result.complete(new TopicConfigOverrides(
+                    Map.copyOf(overrides), Map.copyOf(defaults), Set.copyOf(failedTopics)));
+        }
+    }
+
+    /**
+     * 청크 단위 컨슈머 그룹 오프셋 조회 진행 상태.
+     *
+     * <p>{@link ChunkedTopicDescribe}와 같이 청크 하나가 끝날 때마다 다음 청크를 전송합니다.</p>
+     */
+    private final class ChunkedGroupOffsetsFetch {
+
+        private final String clusterId;
+        private final PooledAdminClient client;
+        private final Queue<List<String>> pendingChunks;
+        private final Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = new ConcurrentHashMap<>();
+        private final Set<String> failedGroups = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger remainingChunks;
+        private final CompletableFuture<ChunkedGroupOffsets> result = new CompletableFuture<>();
+        private volatile Throwable lastError;
+
+        ChunkedGroupOffsetsFetch(String clusterId, PooledAdminClient client, List<List<String>> chunks) {
+            this.clusterId = clusterId;
+            this.client = client;
+            this.pendingChunks = new ConcurrentLinkedQueue<>(chunks);
+            this.remainingChunks = new AtomicInteger(chunks.size());
+        }
+
+        CompletableFuture<ChunkedGroupOffsets> start(int maxConcurrency) {
+            for (int i = 0; i < maxConcurrency; i++) {
+                fetchNextChunk();
+            }
+            return result;
+        }
+
+        private void fetchNextChunk() {
+            List<String> chunk = pendingChunks.poll();
+            if (chunk == null) {
+                return;
+            }
+
+            Map<String, ListConsumerGroupOffsetsSpec> specs = new HashMap<>();
+            chunk.forEach(groupId -> specs.put(groupId, new ListConsumerGroupOffsetsSpec()));
+
+            toCompletableFuture(clusterId, "listConsumerGroupOffsets", requestCoalescer.coalesce(
+                    clusterId, "listConsumerGroupOffsets", Set.copyOf(chunk),
+                    () -> send(client, clusterId, "listConsumerGroupOffsets", (admin, timeoutMs) ->
+                            admin.listConsumerGroupOffsets(specs,
+                                    new ListConsumerGroupOffsetsOptions().timeoutMs(timeoutMs)).all())))
+                    .whenComplete((chunkOffsets, error) -> {
+                        if (error == null) {
+                            chunkOffsets.forEach((groupId, groupOffsets) ->
+                                    offsets.put(groupId, committed(groupOffsets)));
+                        } else {
+                            log.warn("Failed to list offsets of {} consumer groups on cluster {}: {}",
+                                    chunk.size(), clusterId, error.getMessage());
+                            failedGroups.addAll(chunk);
+                            lastError = error;
+                        }
+
+                        if (remainingChunks.decrementAndGet() == 0) {
+                            complete();
+                        } else {
+                            fetchNextChunk();
+                        }
+                    });
+        }
+
+        private Map<TopicPartition, OffsetAndMetadata> committed(Map<TopicPartition, OffsetAndMetadata> groupOffsets) {
+            Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>(groupOffsets.size() * 4 / 3 + 1);
+            groupOffsets.forEach((tp, offset) -> {
+                if (offset != null) {
+                    committed.put(tp, offset);
+                }
+            });
+            return committed;
+        }
+
+        private void complete() {
+            if (offsets.isEmpty() && lastError != null) {
+                result.completeExceptionally(lastError);
+                return;
+            }
+            result.complete(new ChunkedGroupOffsets(Map.copyOf(offsets), Set.copyOf(failedGroups)));
+        }
+    }
+
     // === Private Methods ===
 
     /**
      * ExecutionException을 적절한 예외로 변환합니다.
      */
     private RuntimeException handleExecutionException(String clusterId, String operation, ExecutionException e) {
-        Throwable cause = e.getCause();
+        return translateException(clusterId, operation, e.getCause());
+    }
 
+    /**
+     * Kafka 작업 실패 원인을 KafkaLens 예외로 변환합니다.
+     */
+    private RuntimeException translateException(String clusterId, String operation, Throwable cause) {
+        if (cause instanceof KafkaLensException kafkaLensException) {
+            // 벌크헤드 거부 등 이미 변환된 예외
+            return kafkaLensException;
+        }
         if (cause instanceof TimeoutException) {
             log.warn("Kafka operation timed out: {} on cluster {}", operation, clusterId);
             return new KafkaTimeoutException(clusterId, operation, cause);
@@ -375,4 +1242,235 @@ public class AdminClientWrapper {
         log.error("Kafka operation failed: {} on cluster {}", operation, clusterId, cause);
         return new KafkaConnectionException(clusterId, cause);
     }
+
+    /**
+     * KafkaFuture를 CompletableFuture로 변환합니다.
+     *
+     * <p>실패 원인은 {@link #translateException}으로 변환되며, 후속 콜백이 AdminClient
+     * 네트워크 스레드를 점유하지 않도록 공용 풀에서 완료합니다. 호출 시점의 {@link RequestDeadline}을
+     * 완료 스레드에 다시 연결하므로, 후속 단계에서 보내는 요청도 같은 마감을 따릅니다.
+     * {@link BackgroundWork} 표시도 같은 방식으로 전달됩니다.</p>
+     */
+    private <T> CompletableFuture<T> toCompletableFuture(String clusterId, String operation, KafkaFuture<T> future) {
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        boolean background = BackgroundWork.isActive();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.toCompletionStage().whenCompleteAsync((value, error) -> {
+            try (RequestDeadline.Scope ignored = RequestDeadline.attach(deadline);
+                 RequestDeadline.Scope ignoredBackground = BackgroundWork.attach(background)) {
+                if (error == null) {
+                    result.complete(value);
+                    return;
+                }
+                Throwable cause = error;
+                while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                        && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                result.completeExceptionally(translateException(clusterId, operation, cause));
+            }
+        }, ForkJoinPool.commonPool());
+        return result;
+    }
+
+    /**
+     * 풀 클라이언트로 Admin 호출을 전송하고 지연 시간을 기록합니다.
+     *
+     * <p>{@code call}에는 적응형 타임아웃, 기본 타임아웃, 요청 마감까지 남은 시간 중 가장 짧은 값이
+     * 전달되며, 벌크헤드 대기가 끝나 실제로 전송되는 시점에 계산됩니다.
+     * 연결 실패는 지연 시간으로 기록하지 않고, 요청 마감 때문에 줄어든 타임아웃으로 끝난 호출도 제외합니다.</p>
+     */
+    private <T> KafkaFuture<T> send(
+            PooledAdminClient client,
+            String clusterId,
+            String operation,
+            BiFunction<AdminClient, Integer, KafkaFuture<T>> call
+    ) {
+        return client.call(admin -> {
+            Duration operationTimeout = latencyTracker.timeoutFor(clusterId, operation);
+            if (operationTimeout.compareTo(defaultTimeout) > 0) {
+                operationTimeout = defaultTimeout;
+            }
+            Duration timeout = RequestDeadline.remainingOr(operationTimeout);
+            boolean deadlineBound = timeout.compareTo(operationTimeout) < 0;
+
+            long start = System.nanoTime();
+            KafkaFuture<T> future = call.apply(admin, (int) Math.max(1, timeout.toMillis()));
+            future.whenComplete((value, error) -> {
+                if (error == null || !AdminCircuitBreaker.isConnectivityFailure(error)) {
+                    latencyTracker.record(clusterId, operation, System.nanoTime() - start);
+                } else if (error instanceof TimeoutException && !deadlineBound) {
+                    // 실제 지연 시간은 알 수 없지만 적어도 타임아웃만큼은 걸림
+                    latencyTracker.record(clusterId, operation, timeout.toNanos());
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * 캐시에 있는 항목은 {@code result}에 담고, 캐시에 없는 이름 목록을 반환합니다.
+     */
+    private <V> List<String> collectCached(
+            String clusterId,
+            AdminMetadataCache.Operation operation,
+            Collection<String> names,
+            Map<String, V> result
+    ) {
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            Optional<V> cached = metadataCache.get(clusterId, operation, name);
+            if (cached.isPresent()) {
+                result.put(name, cached.get());
+            } else {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * describeCluster의 세 결과를 모아 ClusterInfo로 완료되는 Future를 반환합니다.
+     */
+    private static KafkaFuture<ClusterInfo> describeClusterInfo(AdminClient admin, DescribeClusterOptions options) {
+        DescribeClusterResult result = admin.describeCluster(options);
+        KafkaFuture<String> kafkaClusterId = result.clusterId();
+        KafkaFuture<Node> controller = result.controller();
+        KafkaFuture<Collection<Node>> nodes = result.nodes();
+        return KafkaFuture.allOf(kafkaClusterId, controller, nodes)
+                .thenApply(ignored -> new ClusterInfo(completedValue(kafkaClusterId), completedValue(controller),
+                        List.copyOf(completedValue(nodes))));
+    }
+
+    /**
+     * 이미 완료된 KafkaFuture의 값을 반환합니다.
+     */
+    private static <T> T completedValue(KafkaFuture<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+
+    /**
+     * 이름 목록을 청크 크기만큼 나눕니다.
+     */
+    private static List<List<String>> chunks(List<String> names, int chunkSize) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < names.size(); from += chunkSize) {
+            chunks.add(List.copyOf(names.subList(from, Math.min(from + chunkSize, names.size()))));
+        }
+        return chunks;
+    }
+
+    /**
+     * 조회 대상이 여러 개면 스캔, 하나면 단건 조회로 분류합니다.
+     */
+    private static AdminOperationClass operationClassFor(Collection<String> names) {
+        return names.size() > 1 ? AdminOperationClass.SCAN : AdminOperationClass.INTERACTIVE;
+    }
+
+    /**
+     * 조회 파티션이 여러 토픽에 걸치면 스캔, 한 토픽이면 단건 조회로 분류합니다.
+     *
+     * <p>토픽 상세의 오프셋 조회는 단건 조회로 남고, 그룹이나 클러스터 전체의 파티션 합집합은
+     * 스캔 클라이언트로 보내 가벼운 조회를 지연시키지 않도록 합니다.</p>
+     */
+    private static AdminOperationClass operationClassForPartitions(Collection<TopicPartition> topicPartitions) {
+        String topic = null;
+        for (TopicPartition tp : topicPartitions) {
+            if (topic == null) {
+                topic = tp.topic();
+            } else if (!topic.equals(tp.topic())) {
+                return AdminOperationClass.SCAN;
+            }
+        }
+        return AdminOperationClass.INTERACTIVE;
+    }
+
+    /**
+     * 토픽 상세 정보를 캐시에 저장합니다.
+     */
+    private void cacheTopicDescriptions(String clusterId, Map<String, TopicDescription> descriptions) {
+        descriptions.forEach((name, description) -> metadataCache.put(
+                clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC, name,
+                description, AdminMetadataCache.estimateTopicDescription(description)));
+    }
+
+    /**
+     * 토픽 설정 조회 요청을 전송합니다.
+     */
+    private KafkaFuture<Map<ConfigResource, Config>> describeTopicConfigResources(
+            PooledAdminClient client, String clusterId, List<String> topicNames) {
+        List<ConfigResource> resources = topicNames.stream()
+                .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                .collect(Collectors.toList());
+
+        return requestCoalescer.coalesce(clusterId, "describeTopicConfigs", Set.copyOf(topicNames),
+                () -> send(client, clusterId, "describeTopicConfigs", (admin, timeoutMs) ->
+                        admin.describeConfigs(resources, new DescribeConfigsOptions().timeoutMs(timeoutMs)).all()));
+    }
+
+    /**
+     * 토픽 설정을 변환하여 캐시에 저장하고, 토픽 이름 -> 설정 맵을 반환합니다.
+     */
+    private Map<String, Map<String, String>> cacheTopicConfigs(String clusterId, Map<ConfigResource, Config> configs) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (Map.Entry<ConfigResource, Config> entry : configs.entrySet()) {
+            Map<String, String> configMap = Collections.unmodifiableMap(toConfigMap(entry.getValue()));
+            String topicName = entry.getKey().name();
+            metadataCache.put(clusterId, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, topicName,
+                    configMap, AdminMetadataCache.estimateConfigs(configMap));
+            result.put(topicName, configMap);
+        }
+        return result;
+    }
+
+    /**
+     * 파티션 오프셋 조회 요청을 전송합니다.
+     */
+    private KafkaFuture<Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo>> listOffsets(
+            PooledAdminClient client,
+            String clusterId,
+            String operation,
+            Collection<TopicPartition> topicPartitions,
+            Supplier<OffsetSpec> offsetSpec
+    ) {
+        Map<TopicPartition, OffsetSpec> offsetSpecs = topicPartitions.stream()
+                .collect(Collectors.toMap(tp -> tp, tp -> offsetSpec.get()));
+
+        return requestCoalescer.coalesce(clusterId, operation, Set.copyOf(topicPartitions),
+                () -> send(client, clusterId, operation, (admin, timeoutMs) ->
+                        admin.listOffsets(offsetSpecs, new ListOffsetsOptions().timeoutMs(timeoutMs)).all()));
+    }
+
+    /**
+     * Config를 이름 -> 값 맵으로 변환합니다. 민감 설정처럼 값이 없는 항목은 제외합니다.
+     */
+    private static Map<String, String> toConfigMap(Config config) {
+        return config.entries().stream()
+                .filter(entry -> entry.value() != null)
+                .collect(Collectors.toMap(
+                        ConfigEntry::name,
+                        ConfigEntry::value,
+                        (v1, v2) -> v2
+                ));
+    }
+
+    /**
+     * 브로커 ID 문자열 키를 정수 키로 변환합니다.
+     */
+    private static Map<Integer, Map<String, String>> toBrokerIdMap(Map<String, Map<String, String>> configs) {
+        return configs.entrySet().stream()
+                .collect(Collectors.toMap(e -> Integer.valueOf(e.getKey()), Map.Entry::getValue));
+    }
+
+    /**
+     * ListOffsets 결과를 TopicPartition -> 오프셋 맵으로 변환합니다.
+     */
+    private static Map<TopicPartition, Long> toOffsetMap(
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> result) {
+        return result.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().offset()
+                ));
+    }
 }
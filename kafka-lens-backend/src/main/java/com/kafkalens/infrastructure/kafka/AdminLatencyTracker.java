@@ -0,0 +1,204 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터/작업별 Admin 호출 지연 시간 추적기와 적응형 타임아웃.
+ *
+ * <p>로컬 브로커와 대륙 간 클러스터는 왕복 시간이 백 배 넘게 차이 나므로 하나의 고정 타임아웃은
+ * 한쪽에는 너무 느긋하고 다른 쪽에는 너무 공격적입니다. 이 추적기는 (cluster, operation)마다
+ * 로그 구간 히스토그램으로 지연 시간을 모으고, {@code kafka.admin.adaptive-timeout.percentile}
+ * 백분위수에 {@code headroom-multiplier}를 곱한 값을 {@code min-ms}~{@code max-ms} 범위로 잘라
+ * 타임아웃으로 사용합니다. 표본이 {@code min-samples}보다 적으면 {@code max-ms}를 사용합니다.</p>
+ *
+ * <p>타임아웃으로 끝난 호출은 실제 지연 시간을 알 수 없으므로 사용한 타임아웃 값을 표본으로 넣습니다.
+ * 느려진 클러스터에서는 이 표본이 백분위수를 끌어올려 타임아웃이 스스로 늘어납니다.
+ * 히스토그램은 {@value #DECAY_SAMPLES}개 표본마다 모든 구간을 절반으로 줄여 최근 지연 시간을 따라갑니다.</p>
+ *
+ * <p>현재 타임아웃은 {@code kafkalens.admin.adaptive-timeout} 게이지(cluster, operation 태그, 밀리초)로 노출됩니다.</p>
+ */
+@Component
+public class AdminLatencyTracker {
+
+    static final String TIMEOUT_METRIC = "kafkalens.admin.adaptive-timeout";
+
+    /**
+     * 구간을 절반으로 줄이는 표본 수.
+     */
+    static final int DECAY_SAMPLES = 1024;
+
+    /**
+     * 구간 상한 (나노초). 100µs부터 1.25배씩 늘어나 10분을 넘을 때까지.
+     */
+    private static final long[] BUCKET_UPPER_NANOS = bucketBounds(100_000L, 1.25, Duration.ofMinutes(10).toNanos());
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final double headroomMultiplier;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+    private final int minSamples;
+
+    private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdminLatencyTracker(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.admin.adaptive-timeout.enabled:true}") boolean enabled,
+            @Value("${kafka.admin.adaptive-timeout.percentile:0.99}") double percentile,
+            @Value("${kafka.admin.adaptive-timeout.headroom-multiplier:3.0}") double headroomMultiplier,
+            @Value("${kafka.admin.adaptive-timeout.min-ms:2000}") long minTimeoutMs,
+            @Value("${kafka.admin.adaptive-timeout.max-ms:60000}") long maxTimeoutMs,
+            @Value("${kafka.admin.adaptive-timeout.min-samples:20}") int minSamples
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = Math.min(1.0, Math.max(0.5, percentile));
+        this.headroomMultiplier = Math.max(1.0, headroomMultiplier);
+        this.minTimeout = Duration.ofMillis(minTimeoutMs);
+        this.maxTimeout = Duration.ofMillis(Math.max(minTimeoutMs, maxTimeoutMs));
+        this.minSamples = Math.max(1, minSamples);
+    }
+
+    /**
+     * 작업 지연 시간을 기록합니다.
+     *
+     * @param clusterId    클러스터 ID
+     * @param operation    작업명
+     * @param latencyNanos 전송부터 완료까지의 시간 (타임아웃이면 사용한 타임아웃)
+     */
+    public void record(String clusterId, String operation, long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        histograms.computeIfAbsent(new Key(clusterId, operation), this::newHistogram).record(latencyNanos);
+    }
+
+    /**
+     * 작업에 사용할 타임아웃을 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param operation 작업명
+     * @return 적응형 타임아웃 (비활성화되었거나 표본이 부족하면 {@code max-ms})
+     */
+    public Duration timeoutFor(String clusterId, String operation) {
+        if (!enabled) {
+            return maxTimeout;
+        }
+        Histogram histogram = histograms.get(new Key(clusterId, operation));
+        return histogram != null ? histogram.timeout() : maxTimeout;
+    }
+
+    /**
+     * 클러스터의 지연 시간 기록을 지웁니다 (클러스터 설정 변경 시).
+     *
+     * @param clusterId 클러스터 ID
+     */
+    public void reset(String clusterId) {
+        histograms.forEach((key, histogram) -> {
+            if (key.clusterId().equals(clusterId)) {
+                histogram.clear();
+            }
+        });
+    }
+
+    // === Private Methods ===
+
+    private Histogram newHistogram(Key key) {
+        Histogram histogram = new Histogram();
+        Gauge.builder(TIMEOUT_METRIC, histogram, h -> h.timeout().toMillis())
+                .description("Adaptive admin operation timeout derived from observed latency")
+                .baseUnit("milliseconds")
+                .tag("cluster", key.clusterId())
+                .tag("operation", key.operation())
+                .register(meterRegistry);
+        return histogram;
+    }
+
+    private static long[] bucketBounds(long first, double factor, long last) {
+        long[] bounds = new long[128];
+        int count = 0;
+        double bound = first;
+        while (true) {
+            bounds[count++] = (long) bound;
+            if (bound >= last) {
+                return Arrays.copyOf(bounds, count);
+            }
+            bound *= factor;
+        }
+    }
+
+    /**
+     * 로그 구간 지연 시간 히스토그램.
+     */
+    private final class Histogram {
+
+        private final long[] counts = new long[BUCKET_UPPER_NANOS.length];
+        private long total;
+        private long sinceDecay;
+
+        private synchronized void record(long latencyNanos) {
+            int bucket = Arrays.binarySearch(BUCKET_UPPER_NANOS, latencyNanos);
+            if (bucket < 0) {
+                bucket = Math.min(-bucket - 1, counts.length - 1);
+            }
+            counts[bucket]++;
+            total++;
+
+            if (++sinceDecay >= DECAY_SAMPLES) {
+                sinceDecay = 0;
+                total = 0;
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] >>= 1;
+                    total += counts[i];
+                }
+            }
+        }
+
+        private synchronized Duration timeout() {
+            if (total < minSamples) {
+                return maxTimeout;
+            }
+
+            long rank = (long) Math.ceil(percentile * total);
+            long cumulative = 0;
+            int bucket = counts.length - 1;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    bucket = i;
+                    break;
+                }
+            }
+
+            long timeoutNanos = (long) (BUCKET_UPPER_NANOS[bucket] * headroomMultiplier);
+            Duration timeout = Duration.ofNanos(timeoutNanos);
+            if (timeout.compareTo(minTimeout) < 0) {
+                return minTimeout;
+            }
+            return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+        }
+
+        private synchronized void clear() {
+            Arrays.fill(counts, 0);
+            total = 0;
+            sinceDecay = 0;
+        }
+    }
+
+    /**
+     * 히스토그램 키.
+     */
+    private record Key(String clusterId, String operation) {
+    }
+}
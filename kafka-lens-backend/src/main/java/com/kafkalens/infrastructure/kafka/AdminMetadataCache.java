@@ -0,0 +1,308 @@
+package com.kafkalens.infrastructure.kafka;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 클러스터 메타데이터 캐시.
+ *
+ * <p>AdminClientWrapper의 메타데이터 조회 결과(토픽 목록, 토픽 상세, 토픽 설정, 클러스터 정보, 브로커 설정)를
+ * 클러스터별로 캐싱합니다. 작업 종류별로 TTL을 두고, 전체 추정 바이트 수가 상한을 넘으면
+ * 가장 오래 사용되지 않은 항목부터 제거합니다(LRU).</p>
+ *
+ * <p>클러스터 설정 리로드나 AdminClient 재생성 시 {@link #invalidate(String)}로
+ * 해당 클러스터의 항목을 모두 비웁니다.</p>
+ */
+@Component
+public class AdminMetadataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminMetadataCache.class);
+
+    /**
+     * 캐시 대상 작업 종류.
+     */
+    public enum Operation {
+        LIST_TOPICS,
+        DESCRIBE_TOPIC,
+        DESCRIBE_TOPIC_CONFIGS,
+        DESCRIBE_CLUSTER,
+        DESCRIBE_BROKER_CONFIGS
+    }
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Map<Operation, Duration> ttls;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public AdminMetadataCache(
+            @Value("${kafka.admin.cache.enabled:true}") boolean enabled,
+            @Value("${kafka.admin.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${kafka.admin.cache.list-topics-ttl-ms:10000}") long listTopicsTtlMs,
+            @Value("${kafka.admin.cache.describe-topics-ttl-ms:30000}") long describeTopicsTtlMs,
+            @Value("${kafka.admin.cache.topic-configs-ttl-ms:60000}") long topicConfigsTtlMs,
+            @Value("${kafka.admin.cache.describe-cluster-ttl-ms:10000}") long describeClusterTtlMs,
+            @Value("${kafka.admin.cache.broker-configs-ttl-ms:60000}") long brokerConfigsTtlMs
+    ) {
+        this(enabled, maxBytes, Map.of(
+                Operation.LIST_TOPICS, Duration.ofMillis(listTopicsTtlMs),
+                Operation.DESCRIBE_TOPIC, Duration.ofMillis(describeTopicsTtlMs),
+                Operation.DESCRIBE_TOPIC_CONFIGS, Duration.ofMillis(topicConfigsTtlMs),
+                Operation.DESCRIBE_CLUSTER, Duration.ofMillis(describeClusterTtlMs),
+                Operation.DESCRIBE_BROKER_CONFIGS, Duration.ofMillis(brokerConfigsTtlMs)
+        ), System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자. 시계를 주입할 수 있습니다.
+     */
+    AdminMetadataCache(boolean enabled, long maxBytes, Map<Operation, Duration> ttls, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttls = new EnumMap<>(ttls);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시된 값을 조회합니다. 만료된 항목은 제거 후 빈 값을 반환합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param operation 작업 종류
+     * @param argument  작업 인자 (토픽 이름 등)
+     * @param <T>       값 타입
+     * @return 캐시된 값 (없거나 만료되면 빈 Optional)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String clusterId, Operation operation, String argument) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CacheKey key = new CacheKey(clusterId, operation, argument);
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            if (entry.expiresAtNanos() - nanoClock.getAsLong() <= 0) {
+                removeEntry(key);
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of((T) entry.value());
+        }
+    }
+
+    /**
+     * 값을 캐시에 저장합니다.
+     *
+     * <p>추정 크기가 상한을 넘으면 LRU 순서로 다른 항목을 제거합니다.
+     * 단일 항목이 상한보다 크면 저장하지 않습니다.</p>
+     *
+     * @param clusterId      클러스터 ID
+     * @param operation      작업 종류
+     * @param argument       작업 인자
+     * @param value          저장할 값 (불변 객체여야 함)
+     * @param estimatedBytes 추정 크기 (바이트)
+     */
+    public void put(String clusterId, Operation operation, String argument, Object value, long estimatedBytes) {
+        if (!enabled || value == null) {
+            return;
+        }
+
+        Duration ttl = ttls.getOrDefault(operation, Duration.ZERO);
+        if (ttl.isZero() || ttl.isNegative() || estimatedBytes > maxBytes) {
+            return;
+        }
+
+        CacheKey key = new CacheKey(clusterId, operation, argument);
+        CacheEntry entry = new CacheEntry(value, nanoClock.getAsLong() + ttl.toNanos(), estimatedBytes);
+
+        synchronized (entries) {
+            removeEntry(key);
+            entries.put(key, entry);
+            totalBytes += estimatedBytes;
+            evictIfNecessary();
+        }
+    }
+
+    /**
+     * 특정 클러스터의 모든 캐시 항목을 제거합니다.
+     *
+     * @param clusterId 클러스터 ID
+     */
+    public void invalidate(String clusterId) {
+        synchronized (entries) {
+            Iterator<Map.Entry<CacheKey, CacheEntry>> it = entries.entrySet().iterator();
+            int removed = 0;
+            while (it.hasNext()) {
+                Map.Entry<CacheKey, CacheEntry> e = it.next();
+                if (e.getKey().clusterId().equals(clusterId)) {
+                    totalBytes -= e.getValue().estimatedBytes();
+                    it.remove();
+                    removed++;
+                }
+            }
+            if (removed > 0) {
+                log.debug("Invalidated {} metadata cache entries for cluster: {}", removed, clusterId);
+            }
+        }
+    }
+
+    /**
+     * 특정 클러스터의 특정 작업 항목을 제거합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param operation 작업 종류
+     * @param argument  작업 인자
+     */
+    public void invalidate(String clusterId, Operation operation, String argument) {
+        synchronized (entries) {
+            removeEntry(new CacheKey(clusterId, operation, argument));
+        }
+    }
+
+    /**
+     * 모든 캐시 항목을 제거합니다.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(entries.size(), totalBytes, maxBytes, hits.get(), misses.get(), evictions.get());
+        }
+    }
+
+    // === Size Estimation ===
+
+    /**
+     * 토픽 이름 집합의 크기를 추정합니다.
+     */
+    static long estimateTopicNames(Collection<String> names) {
+        long bytes = 64;
+        for (String name : names) {
+            bytes += estimateString(name) + 16;
+        }
+        return bytes;
+    }
+
+    /**
+     * TopicDescription의 크기를 추정합니다.
+     */
+    static long estimateTopicDescription(TopicDescription description) {
+        long bytes = 96 + estimateString(description.name());
+        for (TopicPartitionInfo partition : description.partitions()) {
+            bytes += 64 + 8L * (partition.replicas().size() + partition.isr().size());
+        }
+        return bytes;
+    }
+
+    /**
+     * 설정 맵의 크기를 추정합니다.
+     */
+    static long estimateConfigs(Map<String, String> configs) {
+        long bytes = 64;
+        for (Map.Entry<String, String> entry : configs.entrySet()) {
+            bytes += 32 + estimateString(entry.getKey()) + estimateString(entry.getValue());
+        }
+        return bytes;
+    }
+
+    /**
+     * 클러스터 정보의 크기를 추정합니다.
+     */
+    static long estimateClusterInfo(AdminClientWrapper.ClusterInfo info) {
+        long bytes = 64 + estimateString(info.clusterId());
+        if (info.nodes() != null) {
+            for (Node node : info.nodes()) {
+                bytes += 64 + estimateString(node.host()) + estimateString(node.rack());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateString(String value) {
+        return value == null ? 0 : 40L + value.length();
+    }
+
+    // === Private Methods ===
+
+    private void removeEntry(CacheKey key) {
+        CacheEntry previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.estimatedBytes();
+        }
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<CacheKey, CacheEntry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<CacheKey, CacheEntry> eldest = it.next();
+            totalBytes -= eldest.getValue().estimatedBytes();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 캐시 키.
+     */
+    private record CacheKey(String clusterId, Operation operation, String argument) {
+    }
+
+    /**
+     * 캐시 항목.
+     */
+    private record CacheEntry(Object value, long expiresAtNanos, long estimatedBytes) {
+    }
+
+    /**
+     * 캐시 통계 레코드.
+     *
+     * @param entryCount 항목 수
+     * @param totalBytes 추정 사용 바이트
+     * @param maxBytes   바이트 상한
+     * @param hits       적중 수
+     * @param misses     미스 수
+     * @param evictions  용량 초과로 제거된 항목 수
+     */
+    public record Stats(
+            int entryCount,
+            long totalBytes,
+            long maxBytes,
+            long hits,
+            long misses,
+            long evictions
+    ) {
+    }
+}
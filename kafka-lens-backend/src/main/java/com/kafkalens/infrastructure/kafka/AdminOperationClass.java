@@ -0,0 +1,21 @@
+package com.kafkalens.infrastructure.kafka;
+
+/**
+ * Admin 요청의 작업 분류.
+ *
+ * <p>AdminClient 풀은 작업 분류별로 별도의 클라이언트를 사용합니다.
+ * 큰 클러스터에서 오래 걸리는 전체 스캔이 지연에 민감한 단건 조회
+ * (클러스터 상태 확인, 오프셋 조회 등)를 가로막지 않도록 분리하기 위함입니다.</p>
+ */
+public enum AdminOperationClass {
+
+    /**
+     * 지연에 민감한 단건 조회 (describeCluster, 단일 토픽/그룹 조회, 오프셋 조회 등).
+     */
+    INTERACTIVE,
+
+    /**
+     * 응답이 크고 오래 걸릴 수 있는 전체 스캔 (토픽/컨슈머 그룹 목록, 다건 describe 등).
+     */
+    SCAN
+}
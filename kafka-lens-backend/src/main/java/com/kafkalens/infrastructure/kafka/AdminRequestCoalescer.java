@@ -0,0 +1,153 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Admin 요청 병합기 (single-flight).
+ *
+ * <p>같은 클러스터에 같은 작업/인자로 동시에 들어온 요청은 하나의 in-flight
+ * {@link KafkaFuture}를 공유합니다. 첫 요청만 브로커로 전송되고, 이후 요청은
+ * 그 결과를 기다립니다. Future가 완료되면 키가 제거되어 다음 요청은 새로 전송됩니다.</p>
+ *
+ * <p>첫 요청은 빈 Future를 먼저 등록한 뒤 맵 밖에서 호출을 전송하고 결과를 그 Future로 옮깁니다.
+ * 벌크헤드 대기나 서킷 브레이커 처리 중에도 맵의 다른 키가 막히지 않습니다.</p>
+ *
+ * <p>절약된 호출 수는 {@code kafkalens.admin.requests.coalesced} 카운터
+ * (cluster, operation 태그)로 노출됩니다.</p>
+ */
+@Component
+public class AdminRequestCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminRequestCoalescer.class);
+
+    static final String COALESCED_METRIC = "kafkalens.admin.requests.coalesced";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<RequestKey, KafkaFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<CounterKey, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final AtomicLong savedCalls = new AtomicLong();
+
+    public AdminRequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.admin.coalescing.enabled:true}") boolean enabled
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 요청을 병합하여 실행합니다.
+     *
+     * <p>같은 키의 요청이 진행 중이면 그 Future를 반환하고, 없으면 {@code call}을 실행하여
+     * 새 Future를 등록합니다. {@code arguments}는 값 기반 equals/hashCode를 가져야 합니다
+     * (예: {@code Set.copyOf(...)}).</p>
+     *
+     * @param clusterId 클러스터 ID
+     * @param operation 작업명
+     * @param arguments 작업 인자 (값 기반 비교 가능한 객체, null 허용)
+     * @param call      실제 Admin 호출
+     * @param <T>       결과 타입
+     * @return 공유되는 KafkaFuture
+     */
+    @SuppressWarnings("unchecked")
+    public <T> KafkaFuture<T> coalesce(
+            String clusterId,
+            String operation,
+            Object arguments,
+            Supplier<KafkaFuture<T>> call
+    ) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        RequestKey key = new RequestKey(clusterId, operation, arguments);
+        KafkaFutureImpl<T> shared = new KafkaFutureImpl<>();
+
+        KafkaFuture<T> existing = (KafkaFuture<T>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            savedCalls.incrementAndGet();
+            coalescedCounter(clusterId, operation).increment();
+            log.debug("Coalesced {} on cluster {} with in-flight request", operation, clusterId);
+            return existing;
+        }
+
+        KafkaFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+            throw e;
+        }
+
+        future.whenComplete((value, error) -> {
+            // 결과를 옮기기 전에 제거하여, 완료 후 들어온 요청은 새로 전송되도록 함
+            inFlight.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(unwrap(error));
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared;
+    }
+
+    /**
+     * 병합으로 절약된 누적 호출 수를 반환합니다.
+     *
+     * @return 절약된 호출 수
+     */
+    public long getSavedCallCount() {
+        return savedCalls.get();
+    }
+
+    /**
+     * 현재 진행 중인 요청 수를 반환합니다.
+     *
+     * @return in-flight 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // === Private Methods ===
+
+    private Counter coalescedCounter(String clusterId, String operation) {
+        return coalescedCounters.computeIfAbsent(new CounterKey(clusterId, operation), k ->
+                Counter.builder(COALESCED_METRIC)
+                        .description("Admin requests served by an identical in-flight request")
+                        .tag("cluster", clusterId)
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 요청 키.
+     */
+    private record RequestKey(String clusterId, String operation, Object arguments) {
+    }
+
+    /**
+     * 병합 카운터 키.
+     */
+    private record CounterKey(String clusterId, String operation) {
+    }
+}
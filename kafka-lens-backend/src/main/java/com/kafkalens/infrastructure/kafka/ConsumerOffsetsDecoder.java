@@ -0,0 +1,127 @@
+package com.kafkalens.infrastructure.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * {@code __consumer_offsets} 레코드 디코더.
+ *
+ * <p>그룹 코디네이터가 기록하는 내부 토픽 레코드 중 Lag 계산에 필요한 부분만 해석합니다.
+ * kafka-clients에는 이 형식의 디코더가 없으므로 브로커의 레코드 스키마를 직접 읽습니다.</p>
+ *
+ * <ul>
+ *   <li>키 버전 0, 1 (OffsetCommitKey): group, topic, partition. 값은 버전 뒤 첫 필드가 커밋된 오프셋이며
+ *       값 버전 0~4가 모두 같습니다. 값이 null이면 오프셋 삭제(만료, 그룹 삭제)입니다.</li>
+ *   <li>키 버전 2 (GroupMetadataKey): group. 값이 null일 때만 그룹 삭제로 해석하고, 나머지는 무시합니다.</li>
+ *   <li>그 밖의 키 버전(새 그룹 프로토콜 레코드 등)과 해석할 수 없는 레코드는 무시합니다.</li>
+ * </ul>
+ */
+public final class ConsumerOffsetsDecoder {
+
+    /**
+     * 컨슈머 그룹 오프셋 내부 토픽 이름.
+     */
+    public static final String TOPIC = "__consumer_offsets";
+
+    private static final short MAX_OFFSET_COMMIT_KEY_VERSION = 1;
+    private static final short GROUP_METADATA_KEY_VERSION = 2;
+    private static final short MAX_OFFSET_COMMIT_VALUE_VERSION = 4;
+
+    private ConsumerOffsetsDecoder() {
+    }
+
+    /**
+     * 레코드 키와 값을 해석합니다.
+     *
+     * @param key   레코드 키
+     * @param value 레코드 값 (tombstone이면 null)
+     * @return 오프셋 커밋, 오프셋 삭제 또는 그룹 삭제 (Lag와 관계없거나 해석할 수 없는 레코드는 빈 Optional)
+     */
+    public static Optional<OffsetCommit> decode(byte[] key, byte[] value) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+            short keyVersion = keyBuffer.getShort();
+
+            if (keyVersion >= 0 && keyVersion <= MAX_OFFSET_COMMIT_KEY_VERSION) {
+                String groupId = readString(keyBuffer);
+                String topic = readString(keyBuffer);
+                int partition = keyBuffer.getInt();
+                if (groupId == null || topic == null) {
+                    return Optional.empty();
+                }
+                TopicPartition tp = new TopicPartition(topic, partition);
+
+                if (value == null) {
+                    return Optional.of(new OffsetCommit(groupId, tp, OffsetCommit.DELETED));
+                }
+                ByteBuffer valueBuffer = ByteBuffer.wrap(value);
+                short valueVersion = valueBuffer.getShort();
+                if (valueVersion < 0 || valueVersion > MAX_OFFSET_COMMIT_VALUE_VERSION) {
+                    return Optional.empty();
+                }
+                return Optional.of(new OffsetCommit(groupId, tp, valueBuffer.getLong()));
+            }
+
+            if (keyVersion == GROUP_METADATA_KEY_VERSION && value == null) {
+                String groupId = readString(keyBuffer);
+                return groupId != null
+                        ? Optional.of(new OffsetCommit(groupId, null, OffsetCommit.DELETED))
+                        : Optional.empty();
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * int16 길이가 앞에 붙은 UTF-8 문자열을 읽습니다.
+     */
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 해석된 {@code __consumer_offsets} 레코드.
+     *
+     * @param groupId   컨슈머 그룹 ID
+     * @param partition 파티션 (그룹 삭제이면 null)
+     * @param offset    커밋된 오프셋 (삭제이면 {@link #DELETED})
+     */
+    public record OffsetCommit(String groupId, TopicPartition partition, long offset) {
+
+        /**
+         * 삭제를 나타내는 오프셋 값.
+         */
+        public static final long DELETED = -1L;
+
+        /**
+         * 그룹 전체가 삭제되었는지 여부를 반환합니다.
+         */
+        public boolean isGroupDeletion() {
+            return partition == null;
+        }
+
+        /**
+         * 파티션의 커밋 오프셋이 삭제되었는지 여부를 반환합니다.
+         */
+        public boolean isOffsetDeletion() {
+            return partition != null && offset == DELETED;
+        }
+    }
+}
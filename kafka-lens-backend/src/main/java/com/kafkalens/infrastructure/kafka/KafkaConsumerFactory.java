@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -44,9 +45,26 @@ public class KafkaConsumerFactory {
      * @return KafkaConsumer 인스턴스
      */
     public KafkaConsumer<byte[], byte[]> createConsumer(Cluster cluster, String groupIdSuffix) {
+        return createConsumer(cluster, groupIdSuffix, Map.of());
+    }
+
+    /**
+     * 추가 설정을 적용한 KafkaConsumer를 생성합니다.
+     *
+     * <p>추가 설정은 클러스터별 설정보다 나중에 적용되므로, 사용하는 쪽이 반드시 필요한 설정
+     * (예: {@code isolation.level})을 덮어쓸 수 없습니다.</p>
+     *
+     * @param cluster       클러스터 설정
+     * @param groupIdSuffix 그룹 ID 접미사
+     * @param overrides     추가 Consumer 설정
+     * @return KafkaConsumer 인스턴스
+     */
+    public KafkaConsumer<byte[], byte[]> createConsumer(
+            Cluster cluster, String groupIdSuffix, Map<String, Object> overrides) {
         log.debug("Creating KafkaConsumer for cluster: {}", cluster.id());
 
         Properties props = buildConsumerProperties(cluster, groupIdSuffix);
+        props.putAll(overrides);
 
         return new KafkaConsumer<>(props);
     }
@@ -0,0 +1,130 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.exception.KafkaTimeoutException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AdminClient 풀에 속한 클라이언트.
+ *
+ * <p>클라이언트를 통해 전송된 요청의 in-flight 수를 추적합니다. 풀은 이 값을 보고
+ * 가장 한가한 클라이언트를 고릅니다.</p>
+ *
+ * <p>모든 요청은 클러스터의 {@link AdminCircuitBreaker}와 {@link AdminBulkhead}를 거쳐 전송됩니다.
+ * 호출 시점의 {@link RequestDeadline}이 벌크헤드 대기 중에 지나거나 취소되면 브로커로 보내지 않고
+ * {@link KafkaTimeoutException}으로 실패합니다.</p>
+ *
+ * <p>AdminClient는 내부 요청 큐를 외부에 노출하지 않으므로, 전송 시점의 in-flight 수를
+ * {@code kafkalens.admin.pool.queue-depth}로, 전송부터 완료까지의 시간을
+ * {@code kafkalens.admin.pool.request}로 기록합니다 (cluster, class 태그).</p>
+ */
+public final class PooledAdminClient {
+
+    static final String QUEUE_DEPTH_METRIC = "kafkalens.admin.pool.queue-depth";
+    static final String REQUEST_METRIC = "kafkalens.admin.pool.request";
+
+    private final AdminClient admin;
+    private final AdminCircuitBreaker circuitBreaker;
+    private final AdminBulkhead bulkhead;
+    private final String clusterId;
+    private final AdminOperationClass operationClass;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final DistributionSummary queueDepth;
+    private final Timer requestTimer;
+
+    PooledAdminClient(AdminClient admin, AdminCircuitBreaker circuitBreaker, AdminBulkhead bulkhead,
+                      MeterRegistry meterRegistry, String clusterId, AdminOperationClass operationClass) {
+        this.admin = admin;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.clusterId = clusterId;
+        this.operationClass = operationClass;
+        this.queueDepth = DistributionSummary.builder(QUEUE_DEPTH_METRIC)
+                .description("In-flight requests on the pooled admin client when a request is dispatched")
+                .tag("cluster", clusterId)
+                .tag("class", operationClass.name().toLowerCase())
+                .register(meterRegistry);
+        this.requestTimer = Timer.builder(REQUEST_METRIC)
+                .description("Time from dispatch to completion of requests on the pooled admin client")
+                .tag("cluster", clusterId)
+                .tag("class", operationClass.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷 브레이커와 벌크헤드를 거쳐 AdminClient로 요청을 전송하고 완료까지 추적합니다.
+     *
+     * @param call AdminClient 호출
+     * @param <T>  결과 타입
+     * @return 호출 결과 Future
+     */
+    public <T> KafkaFuture<T> call(Function<AdminClient, KafkaFuture<T>> call) {
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        return circuitBreaker.execute(clusterId,
+                () -> bulkhead.submit(clusterId, operationClass, () -> dispatch(deadline, () -> call.apply(admin))));
+    }
+
+    /**
+     * 원본 AdminClient를 반환합니다.
+     *
+     * @return AdminClient
+     */
+    public AdminClient admin() {
+        return admin;
+    }
+
+    /**
+     * 작업 분류를 반환합니다.
+     *
+     * @return 작업 분류
+     */
+    public AdminOperationClass operationClass() {
+        return operationClass;
+    }
+
+    /**
+     * 현재 진행 중인 요청 수를 반환합니다.
+     *
+     * @return in-flight 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    // === Private Methods ===
+
+    private <T> KafkaFuture<T> dispatch(RequestDeadline deadline, Supplier<KafkaFuture<T>> call) {
+        if (deadline != null && deadline.isExpired()) {
+            // 기다리는 클라이언트가 없는 요청은 브로커로 보내지 않음
+            KafkaFutureImpl<T> expired = new KafkaFutureImpl<>();
+            expired.completeExceptionally(KafkaTimeoutException.deadlineExceeded(clusterId));
+            return expired;
+        }
+
+        queueDepth.record(inFlight.getAndIncrement());
+        long start = System.nanoTime();
+        KafkaFuture<T> future;
+        // 벌크헤드 대기 후 다른 스레드에서 전송되더라도 남은 시간으로 타임아웃을 계산하도록 마감을 다시 연결
+        try (RequestDeadline.Scope ignored = RequestDeadline.attach(deadline)) {
+            future = call.get();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+        future.whenComplete((value, error) -> {
+            inFlight.decrementAndGet();
+            requestTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        });
+        return future;
+    }
+}
@@ -0,0 +1,35 @@
+package com.kafkalens.api.v1;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 비동기 컨트롤러 테스트 지원.
+ *
+ * <p>{@code CompletableFuture}를 반환하는 컨트롤러는 비동기 응답을 시작하므로,
+ * 응답 본문을 검증하려면 결과를 다시 디스패치해야 합니다.</p>
+ */
+final class AsyncMockMvc {
+
+    private AsyncMockMvc() {
+    }
+
+    /**
+     * 비동기 응답이 시작되었는지 확인한 뒤 결과를 디스패치합니다.
+     *
+     * @param mockMvc        MockMvc
+     * @param requestBuilder 요청
+     * @return 디스패치된 응답
+     */
+    static ResultActions performAsync(MockMvc mockMvc, RequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
+}
@@ -4,7 +4,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kafkalens.common.GlobalExceptionHandler;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.broker.Broker;
+import com.kafkalens.domain.broker.BrokerConfigDrift;
+import com.kafkalens.domain.broker.BrokerConfigReport;
+import com.kafkalens.domain.broker.BrokerLoad;
+import com.kafkalens.domain.broker.BrokerLoadReport;
 import com.kafkalens.domain.broker.BrokerService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,8 +24,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -34,6 +48,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <p>테스트 API:</p>
  * <ul>
  *   <li>GET /api/v1/clusters/{clusterId}/brokers - 브로커 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/brokers/configs - 브로커 설정 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/brokers/load - 브로커 부하 분포 조회</li>
  * </ul>
  */
 @WebMvcTest(BrokerController.class)
@@ -50,6 +66,9 @@ class BrokerControllerTest {
     @MockBean
     private BrokerService brokerService;
 
+    @MockBean
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
     private static final String CLUSTER_ID = "local";
 
     @Nested
@@ -65,10 +84,11 @@ class BrokerControllerTest {
                     new Broker(1, "broker-1", 9092, "rack-b", false),
                     new Broker(2, "broker-2", 9092, "rack-c", false)
             );
-            given(brokerService.listBrokers(CLUSTER_ID)).willReturn(brokers);
+            given(brokerService.listBrokers(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(brokers)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -87,14 +107,51 @@ class BrokerControllerTest {
             verify(brokerService).listBrokers(CLUSTER_ID);
         }
 
+        @Test
+        @DisplayName("스냅샷에서 응답하면 스냅샷 버전과 경과 시간 헤더를 포함한다")
+        void getBrokers_withSnapshot_includesStalenessHeaders() throws Exception {
+            // given
+            ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot(CLUSTER_ID, 7, Instant.now(),
+                    List.of(), -1, Map.of(), TopicConfigIndex.EMPTY, Map.of());
+            given(brokerService.listBrokers(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.fromSnapshot(snapshot, List.of())));
+            given(metadataSnapshotter.staleness(snapshot)).willReturn(Duration.ofMillis(1234));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(MetadataSnapshotResponses.VERSION_HEADER, "7"))
+                    .andExpect(header().string(MetadataSnapshotResponses.STALENESS_HEADER, "1234"));
+        }
+
+        @Test
+        @DisplayName("브로커에 직접 조회한 응답은 그동안 스냅샷이 생겼어도 스냅샷 헤더를 포함하지 않는다")
+        void getBrokers_withoutSnapshot_omitsStalenessHeaders() throws Exception {
+            // given
+            ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot(CLUSTER_ID, 7, Instant.now(),
+                    List.of(), -1, Map.of(), TopicConfigIndex.EMPTY, Map.of());
+            given(brokerService.listBrokers(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(snapshot));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(MetadataSnapshotResponses.VERSION_HEADER))
+                    .andExpect(header().doesNotExist(MetadataSnapshotResponses.STALENESS_HEADER));
+        }
+
         @Test
         @DisplayName("브로커가 없으면 빈 목록을 반환한다")
         void getBrokers_noBrokers_returnsEmptyList() throws Exception {
             // given
-            given(brokerService.listBrokers(CLUSTER_ID)).willReturn(List.of());
+            given(brokerService.listBrokers(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -111,10 +168,11 @@ class BrokerControllerTest {
             List<Broker> brokers = List.of(
                     new Broker(0, "broker-0", 9092, null, true)
             );
-            given(brokerService.listBrokers(CLUSTER_ID)).willReturn(brokers);
+            given(brokerService.listBrokers(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(brokers)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers", CLUSTER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -144,6 +202,86 @@ class BrokerControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/brokers/configs")
+    class GetBrokerConfigs {
+
+        private final BrokerConfigReport report = new BrokerConfigReport(
+                Map.of(0, Map.of("num.io.threads", "8"), 1, Map.of("num.io.threads", "16")),
+                List.of(new BrokerConfigDrift("num.io.threads", "8", List.of(1), List.of(
+                        new BrokerConfigDrift.ValueGroup("8", List.of(0)),
+                        new BrokerConfigDrift.ValueGroup("16", List.of(1))))));
+
+        @Test
+        @DisplayName("브로커별 설정과 설정 불일치를 반환한다")
+        void getBrokerConfigs_returnsConfigsAndDrift() throws Exception {
+            // given
+            given(brokerService.getBrokerConfigs(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(report));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers/configs", CLUSTER_ID))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.configs.0['num.io.threads']", is("8")))
+                    .andExpect(jsonPath("$.data.configs.1['num.io.threads']", is("16")))
+                    .andExpect(jsonPath("$.data.drift[0].key", is("num.io.threads")))
+                    .andExpect(jsonPath("$.data.drift[0].outlierBrokerIds", contains(1)));
+        }
+
+        @Test
+        @DisplayName("drift 엔드포인트는 설정 불일치만 반환한다")
+        void getBrokerConfigDrift_returnsDriftOnly() throws Exception {
+            // given
+            given(brokerService.getBrokerConfigs(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(report));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers/configs/drift", CLUSTER_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].majorityValue", is("8")))
+                    .andExpect(jsonPath("$.data[0].values[1].brokerIds", contains(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/brokers/load")
+    class GetBrokerLoad {
+
+        @Test
+        @DisplayName("브로커별 부하와 편차를 반환한다")
+        void getBrokerLoad_returnsReport() throws Exception {
+            // given
+            given(brokerService.getBrokerLoad(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(
+                    new BrokerLoadReport(2, 2, false, 1.0, 0.0, null, List.of(
+                            new BrokerLoad(0, null, 2, 1, 1024L, null, 1.0, 1.0, 1.0, 0.0),
+                            new BrokerLoad(1, null, 0, 1, null, null, 1.0, 1.0, -1.0, 0.0))))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/brokers/load", CLUSTER_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.leaderSkew", is(1.0)))
+                    .andExpect(jsonPath("$.data.rackAware", is(false)))
+                    .andExpect(jsonPath("$.data.brokers", hasSize(2)))
+                    .andExpect(jsonPath("$.data.brokers[0].leaderCount", is(2)))
+                    .andExpect(jsonPath("$.data.brokers[0].sizeBytes", is(1024)))
+                    .andExpect(jsonPath("$.data.brokers[1].sizeBytes").doesNotExist())
+                    .andExpect(jsonPath("$.data.brokers[1].leaderSkew", is(-1.0)));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getBrokerLoad_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(brokerService.getBrokerLoad("unknown")).willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/brokers/load", "unknown"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+
     @Nested
     @DisplayName("에러 응답 형식")
     class ErrorResponseFormat {
@@ -6,6 +6,7 @@ import com.kafkalens.common.GlobalExceptionHandler;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.infrastructure.kafka.AdminCircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -125,6 +126,7 @@ class ClusterControllerTest {
         void getClusterById_existingCluster_returnsCluster() throws Exception {
             // given
             given(clusterService.findById("local")).willReturn(localCluster);
+            given(clusterService.getCircuitState("local")).willReturn(AdminCircuitBreaker.State.OPEN);
 
             // when & then
             mockMvc.perform(get("/api/v1/clusters/local")
@@ -132,6 +134,7 @@ class ClusterControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.circuitState", is("OPEN")))
                     .andExpect(jsonPath("$.data.id", is("local")))
                     .andExpect(jsonPath("$.data.name", is("Local Development")))
                     .andExpect(jsonPath("$.data.description", is("Local Kafka cluster for development")))
@@ -10,6 +10,8 @@ import com.kafkalens.domain.consumer.ConsumerLagService;
 import com.kafkalens.domain.consumer.ConsumerLagSummary;
 import com.kafkalens.domain.consumer.ConsumerService;
 import com.kafkalens.domain.consumer.TopicPartitionAssignment;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,7 +25,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -54,6 +58,9 @@ class ConsumerControllerTest {
     @MockBean
     private ConsumerLagService consumerLagService;
 
+    @MockBean
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
     private ConsumerGroup orderServiceGroup;
     private ConsumerGroup paymentServiceGroup;
 
@@ -107,10 +114,11 @@ class ConsumerControllerTest {
             // given
             String clusterId = "local";
             List<ConsumerGroup> groups = List.of(orderServiceGroup, paymentServiceGroup);
-            given(consumerService.listGroups(clusterId)).willReturn(groups);
+            given(consumerService.listGroups(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(groups)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -133,10 +141,11 @@ class ConsumerControllerTest {
         void getAllConsumerGroups_noGroups_returnsEmptyList() throws Exception {
             // given
             String clusterId = "local";
-            given(consumerService.listGroups(clusterId)).willReturn(List.of());
+            given(consumerService.listGroups(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -177,10 +186,11 @@ class ConsumerControllerTest {
             // given
             String clusterId = "local";
             String groupId = "order-service-group";
-            given(consumerService.getGroup(clusterId, groupId)).willReturn(orderServiceGroup);
+            given(consumerService.getGroup(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(orderServiceGroup)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -204,10 +214,11 @@ class ConsumerControllerTest {
             // given
             String clusterId = "local";
             String groupId = "order-service-group";
-            given(consumerService.getGroup(clusterId, groupId)).willReturn(orderServiceGroup);
+            given(consumerService.getGroup(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(orderServiceGroup)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -258,10 +269,11 @@ class ConsumerControllerTest {
                     .members(List.of())
                     .build();
 
-            given(consumerService.getGroup(clusterId, groupId)).willReturn(rebalancingGroup);
+            given(consumerService.getGroup(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(rebalancingGroup)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -284,10 +296,11 @@ class ConsumerControllerTest {
                     .members(List.of())
                     .build();
 
-            given(consumerService.getGroup(clusterId, groupId)).willReturn(emptyGroup);
+            given(consumerService.getGroup(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(emptyGroup)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -312,10 +325,11 @@ class ConsumerControllerTest {
                     .members(List.of())
                     .build();
 
-            given(consumerService.getGroup(clusterId, groupId)).willReturn(deadGroup);
+            given(consumerService.getGroup(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(deadGroup)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}", clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -334,10 +348,11 @@ class ConsumerControllerTest {
         void response_containsTimestamp() throws Exception {
             // given
             String clusterId = "local";
-            given(consumerService.listGroups(clusterId)).willReturn(List.of());
+            given(consumerService.listGroups(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(jsonPath("$.timestamp", notNullValue()));
@@ -348,10 +363,11 @@ class ConsumerControllerTest {
         void successResponse_hasSuccessTrue() throws Exception {
             // given
             String clusterId = "local";
-            given(consumerService.listGroups(clusterId)).willReturn(List.of(orderServiceGroup));
+            given(consumerService.listGroups(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of(orderServiceGroup))));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups", clusterId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(jsonPath("$.success", is(true)));
@@ -385,15 +401,16 @@ class ConsumerControllerTest {
             String groupId = "order-service-group";
 
             List<ConsumerLag> partitionLags = List.of(
-                    ConsumerLag.of(groupId, "topic-a", 0, 100L, 150L),
+                    ConsumerLag.of(groupId, "topic-a", 0, 100L, 150L).withLagSeconds(90L),
                     ConsumerLag.of(groupId, "topic-a", 1, 200L, 300L)
             );
             ConsumerLagSummary summary = ConsumerLagSummary.of(groupId, partitionLags);
 
-            given(consumerLagService.getLagSummary(clusterId, groupId)).willReturn(summary);
+            given(consumerLagService.getLagSummary(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(summary));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
                             clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
@@ -404,7 +421,12 @@ class ConsumerControllerTest {
                     .andExpect(jsonPath("$.data.partitionCount", is(2)))
                     .andExpect(jsonPath("$.data.topics", hasSize(1)))
                     .andExpect(jsonPath("$.data.topics[0].topic", is("topic-a")))
-                    .andExpect(jsonPath("$.data.topics[0].partitions", hasSize(2)));
+                    .andExpect(jsonPath("$.data.topics[0].partitions", hasSize(2)))
+                    .andExpect(jsonPath("$.data.maxLagSeconds", is(90)))
+                    .andExpect(jsonPath("$.data.timeWarningCount", is(1)))
+                    .andExpect(jsonPath("$.data.topics[0].partitions[0].lagSeconds", is(90)))
+                    .andExpect(jsonPath("$.data.topics[0].partitions[0].timeStatus", is("warning")))
+                    .andExpect(jsonPath("$.data.topics[0].partitions[1].timeStatus", is("unknown")));
 
             verify(consumerLagService).getLagSummary(clusterId, groupId);
         }
@@ -440,10 +462,11 @@ class ConsumerControllerTest {
 
             ConsumerLagSummary summary = ConsumerLagSummary.empty(groupId);
 
-            given(consumerLagService.getLagSummary(clusterId, groupId)).willReturn(summary);
+            given(consumerLagService.getLagSummary(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(summary));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
                             clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
@@ -469,10 +492,11 @@ class ConsumerControllerTest {
             );
             ConsumerLagSummary summary = ConsumerLagSummary.of(groupId, partitionLags);
 
-            given(consumerLagService.getLagSummary(clusterId, groupId)).willReturn(summary);
+            given(consumerLagService.getLagSummary(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(summary));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
                             clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
@@ -498,10 +522,11 @@ class ConsumerControllerTest {
             );
             ConsumerLagSummary summary = ConsumerLagSummary.of(groupId, partitionLags);
 
-            given(consumerLagService.getLagSummary(clusterId, groupId)).willReturn(summary);
+            given(consumerLagService.getLagSummary(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(summary));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/consumer-groups/{groupId}/lag",
                             clusterId, groupId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
@@ -0,0 +1,210 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.GlobalExceptionHandler;
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.consumer.ClusterLagOverview;
+import com.kafkalens.domain.consumer.ConsumerLagService;
+import com.kafkalens.domain.consumer.GroupLagOverview;
+import com.kafkalens.domain.consumer.LagHistory;
+import com.kafkalens.domain.consumer.LagRank;
+import com.kafkalens.domain.consumer.LagSample;
+import com.kafkalens.domain.consumer.LagSampler;
+import com.kafkalens.domain.consumer.LagSeries;
+import com.kafkalens.domain.consumer.PartitionLagRank;
+import com.kafkalens.domain.consumer.TopLagReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * LagController 통합 테스트.
+ *
+ * <p>테스트 API:</p>
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag - 모든 컨슈머 그룹 Lag 개요 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag/top - Lag가 큰 그룹-파티션, 그룹, 토픽 상위 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/lag/history - 컨슈머 그룹 파티션별 Lag 이력 조회</li>
+ * </ul>
+ */
+@WebMvcTest(LagController.class)
+@Import(GlobalExceptionHandler.class)
+@AutoConfigureMockMvc(addFilters = false)
+class LagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ConsumerLagService consumerLagService;
+
+    @MockBean
+    private LagSampler lagSampler;
+
+    private static final String CLUSTER_ID = "local";
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/lag")
+    class GetClusterLag {
+
+        @Test
+        @DisplayName("그룹별 Lag 개요와 실패한 그룹을 반환한다")
+        void getClusterLag_returnsOverview() throws Exception {
+            // given
+            given(consumerLagService.getClusterLagOverview(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                    new ClusterLagOverview(1500L,
+                            List.of(new GroupLagOverview("orders-consumer", 1500L, 1200L, 3, 1, 0)),
+                            Set.of("broken-group"))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/lag", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.totalLag", is(1500)))
+                    .andExpect(jsonPath("$.data.groups", hasSize(1)))
+                    .andExpect(jsonPath("$.data.groups[0].groupId", is("orders-consumer")))
+                    .andExpect(jsonPath("$.data.groups[0].maxLag", is(1200)))
+                    .andExpect(jsonPath("$.data.groups[0].warningCount", is(1)))
+                    .andExpect(jsonPath("$.data.failedGroups", contains("broken-group")))
+                    .andExpect(jsonPath("$.data.partial", is(true)));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getClusterLag_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(consumerLagService.getClusterLagOverview("unknown"))
+                    .willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/lag", "unknown"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/lag/top")
+    class GetTopLag {
+
+        @Test
+        @DisplayName("Lag 상위 그룹-파티션, 그룹, 토픽을 반환한다")
+        void getTopLag_returnsRanking() throws Exception {
+            // given
+            given(consumerLagService.getTopLag(CLUSTER_ID, 5)).willReturn(CompletableFuture.completedFuture(
+                    new TopLagReport(Instant.parse("2024-01-01T00:00:00Z"), 5, 15000L, 4,
+                            List.of(new PartitionLagRank("orders-consumer", "orders", 2, 12000L)),
+                            List.of(new LagRank("orders-consumer", 15000L, 12000L, 3)),
+                            List.of(new LagRank("orders", 15000L, 12000L, 3)),
+                            Set.of())));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/lag/top", CLUSTER_ID)
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalLag", is(15000)))
+                    .andExpect(jsonPath("$.data.partitions[0].groupId", is("orders-consumer")))
+                    .andExpect(jsonPath("$.data.partitions[0].partition", is(2)))
+                    .andExpect(jsonPath("$.data.partitions[0].status", is("critical")))
+                    .andExpect(jsonPath("$.data.groups[0].totalLag", is(15000)))
+                    .andExpect(jsonPath("$.data.topics[0].name", is("orders")))
+                    .andExpect(jsonPath("$.data.partial", is(false)));
+        }
+
+        @Test
+        @DisplayName("limit을 생략하면 10개를 조회한다")
+        void getTopLag_defaultLimit() throws Exception {
+            // given
+            given(consumerLagService.getTopLag(CLUSTER_ID, 10)).willReturn(CompletableFuture.completedFuture(
+                    new TopLagReport(Instant.parse("2024-01-01T00:00:00Z"), 10, 0L, 0,
+                            List.of(), List.of(), List.of(), Set.of())));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/lag/top", CLUSTER_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.limit", is(10)))
+                    .andExpect(jsonPath("$.data.partitions", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getTopLag_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(consumerLagService.getTopLag("unknown", 10)).willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/lag/top", "unknown"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/lag/history")
+    class GetLagHistory {
+
+        @Test
+        @DisplayName("파티션별 Lag 시계열과 추세를 반환한다")
+        void getLagHistory_returnsSeries() throws Exception {
+            // given
+            Instant t0 = Instant.parse("2024-01-01T00:00:00Z");
+            given(lagSampler.getHistory(CLUSTER_ID, "orders-consumer", "orders", null)).willReturn(
+                    new LagHistory("orders-consumer", 60000L, List.of(LagSeries.of("orders", 0, List.of(
+                            LagSample.of(t0, 100L, 200L),
+                            LagSample.of(t0.plusSeconds(60), 220L, 260L))))));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/lag/history", CLUSTER_ID)
+                            .param("groupId", "orders-consumer")
+                            .param("topic", "orders"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.groupId", is("orders-consumer")))
+                    .andExpect(jsonPath("$.data.sampleIntervalMs", is(60000)))
+                    .andExpect(jsonPath("$.data.series", hasSize(1)))
+                    .andExpect(jsonPath("$.data.series[0].samples", hasSize(2)))
+                    .andExpect(jsonPath("$.data.series[0].samples[1].lag", is(40)))
+                    .andExpect(jsonPath("$.data.series[0].trend", is("draining")));
+        }
+
+        @Test
+        @DisplayName("groupId가 없으면 400 에러를 반환한다")
+        void getLagHistory_missingGroupId_returns400() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/lag/history", CLUSTER_ID))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getLagHistory_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(lagSampler.getHistory("unknown", "orders-consumer", null, null))
+                    .willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/lag/history", "unknown")
+                            .param("groupId", "orders-consumer"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+}
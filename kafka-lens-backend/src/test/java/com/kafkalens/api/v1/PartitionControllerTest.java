@@ -0,0 +1,119 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.GlobalExceptionHandler;
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.PartitionIssue;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.UnhealthyPartition;
+import com.kafkalens.domain.topic.PartitionHealthReport;
+import com.kafkalens.domain.topic.TopicService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * PartitionController 통합 테스트.
+ *
+ * <p>테스트 API:</p>
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/partitions/health - 비정상 파티션 조회</li>
+ * </ul>
+ */
+@WebMvcTest(PartitionController.class)
+@Import(GlobalExceptionHandler.class)
+@AutoConfigureMockMvc(addFilters = false)
+class PartitionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TopicService topicService;
+
+    @MockBean
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    private static final String CLUSTER_ID = "local";
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/partitions/health")
+    class GetPartitionHealth {
+
+        @Test
+        @DisplayName("문제 유형별 개수와 비정상 파티션을 반환한다")
+        void getPartitionHealth_returnsReport() throws Exception {
+            // given
+            given(topicService.getPartitionHealth(CLUSTER_ID, null))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(
+                    new PartitionHealthReport(1, 0, 0, List.of(new UnhealthyPartition("orders", 2, 1,
+                            List.of(1, 2), List.of(1), Set.of(PartitionIssue.UNDER_REPLICATED)))))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/partitions/health", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.underReplicated", is(1)))
+                    .andExpect(jsonPath("$.data.offline", is(0)))
+                    .andExpect(jsonPath("$.data.partitions", hasSize(1)))
+                    .andExpect(jsonPath("$.data.partitions[0].topic", is("orders")))
+                    .andExpect(jsonPath("$.data.partitions[0].isr", contains(1)))
+                    .andExpect(jsonPath("$.data.partitions[0].issues", contains("UNDER_REPLICATED")));
+        }
+
+        @Test
+        @DisplayName("issue 파라미터로 문제 유형을 지정한다")
+        void getPartitionHealth_withIssue() throws Exception {
+            // given
+            given(topicService.getPartitionHealth(CLUSTER_ID, PartitionIssue.OFFLINE)).willReturn(
+                    CompletableFuture.completedFuture(SnapshotResult.direct(
+                            new PartitionHealthReport(1, 0, 0, List.of()))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/partitions/health", CLUSTER_ID)
+                            .param("issue", "OFFLINE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.partitions", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("알 수 없는 문제 유형은 400 에러를 반환한다")
+        void getPartitionHealth_invalidIssue_returns400() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/partitions/health", CLUSTER_ID)
+                            .param("issue", "SLOW"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error.code", is("BAD_REQUEST")));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getPartitionHealth_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(topicService.getPartitionHealth("unknown", null)).willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/partitions/health", "unknown"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.kafkalens.api.v1;
+
+import com.kafkalens.common.GlobalExceptionHandler;
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.storage.BrokerStorage;
+import com.kafkalens.domain.storage.LogDirStorage;
+import com.kafkalens.domain.storage.StorageUsageService;
+import com.kafkalens.domain.storage.TopicStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * StorageController 통합 테스트.
+ *
+ * <p>테스트 API:</p>
+ * <ul>
+ *   <li>GET /api/v1/clusters/{clusterId}/storage/topics - 크기가 큰 토픽 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/storage/brokers - 브로커별 사용량 조회</li>
+ * </ul>
+ */
+@WebMvcTest(StorageController.class)
+@Import(GlobalExceptionHandler.class)
+@AutoConfigureMockMvc(addFilters = false)
+class StorageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StorageUsageService storageUsageService;
+
+    private static final String CLUSTER_ID = "local";
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/storage/topics")
+    class GetLargestTopics {
+
+        @Test
+        @DisplayName("기본 20개까지 크기가 큰 토픽을 반환한다")
+        void getLargestTopics_defaultLimit() throws Exception {
+            // given
+            given(storageUsageService.getLargestTopics(CLUSTER_ID, 20)).willReturn(CompletableFuture.completedFuture(
+                    List.of(new TopicStorage("orders", 1450L, 4), new TopicStorage("clicks", 100L, 1))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/storage/topics", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andExpect(jsonPath("$.data[0].topic", is("orders")))
+                    .andExpect(jsonPath("$.data[0].sizeBytes", is(1450)))
+                    .andExpect(jsonPath("$.data[0].replicaCount", is(4)));
+        }
+
+        @Test
+        @DisplayName("limit 파라미터로 개수를 지정한다")
+        void getLargestTopics_withLimit() throws Exception {
+            // given
+            given(storageUsageService.getLargestTopics(CLUSTER_ID, 5))
+                    .willReturn(CompletableFuture.completedFuture(List.of()));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/storage/topics", CLUSTER_ID)
+                            .param("limit", "5")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(0)));
+
+            verify(storageUsageService).getLargestTopics(CLUSTER_ID, 5);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getLargestTopics_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(storageUsageService.getLargestTopics("unknown", 20))
+                    .willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/storage/topics", "unknown")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/storage/brokers")
+    class GetBrokerUsage {
+
+        @Test
+        @DisplayName("브로커별, 로그 디렉터리별 사용량을 반환한다")
+        void getBrokerUsage_returnsLogDirs() throws Exception {
+            // given
+            given(storageUsageService.getBrokerUsage(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                    List.of(new BrokerStorage(1, 600L, 2, List.of(
+                            new LogDirStorage("/data1", 600L, 2, 10_000L, 4_000L, null),
+                            new LogDirStorage("/broken", 0L, 0, null, null, "offline"))))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/storage/brokers", CLUSTER_ID)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].brokerId", is(1)))
+                    .andExpect(jsonPath("$.data[0].sizeBytes", is(600)))
+                    .andExpect(jsonPath("$.data[0].logDirs[0].path", is("/data1")))
+                    .andExpect(jsonPath("$.data[0].logDirs[0].usableBytes", is(4000)))
+                    .andExpect(jsonPath("$.data[0].logDirs[0].error").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].logDirs[1].error", is("offline")));
+        }
+    }
+}
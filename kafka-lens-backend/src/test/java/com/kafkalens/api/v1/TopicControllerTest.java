@@ -4,8 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kafkalens.common.GlobalExceptionHandler;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.common.exception.TopicNotFoundException;
+import com.kafkalens.domain.consumer.ConsumerService;
+import com.kafkalens.domain.consumer.TopicConsumerGroup;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.topic.ConfigValueOperator;
 import com.kafkalens.domain.topic.PartitionInfo;
 import com.kafkalens.domain.topic.Topic;
+import com.kafkalens.domain.topic.TopicConfigMatch;
 import com.kafkalens.domain.topic.TopicDetail;
 import com.kafkalens.domain.topic.TopicService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +28,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static com.kafkalens.api.v1.AsyncMockMvc.performAsync;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -39,7 +47,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <p>테스트 API:</p>
  * <ul>
  *   <li>GET /api/v1/clusters/{clusterId}/topics - 토픽 목록 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/topics?configKey=... - 설정 값으로 토픽 검색</li>
  *   <li>GET /api/v1/clusters/{clusterId}/topics/{topicName} - 토픽 상세 조회</li>
+ *   <li>GET /api/v1/clusters/{clusterId}/topics/{topicName}/consumer-groups - 토픽을 소비하는 컨슈머 그룹 조회</li>
  * </ul>
  */
 @WebMvcTest(TopicController.class)
@@ -56,6 +66,12 @@ class TopicControllerTest {
     @MockBean
     private TopicService topicService;
 
+    @MockBean
+    private ConsumerService consumerService;
+
+    @MockBean
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
     private static final String CLUSTER_ID = "local";
     private static final String TOPIC_NAME = "test-topic";
 
@@ -111,10 +127,11 @@ class TopicControllerTest {
         void getTopics_returnsTopicList() throws Exception {
             // given
             List<Topic> topics = List.of(topic1, topic2);
-            given(topicService.listTopics(CLUSTER_ID, false)).willReturn(topics);
+            given(topicService.listTopics(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(topics)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -135,10 +152,11 @@ class TopicControllerTest {
         @DisplayName("토픽이 없으면 빈 목록을 반환한다")
         void getTopics_noTopics_returnsEmptyList() throws Exception {
             // given
-            given(topicService.listTopics(CLUSTER_ID, false)).willReturn(List.of());
+            given(topicService.listTopics(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -154,10 +172,11 @@ class TopicControllerTest {
             // given
             Topic internalTopic = new Topic("__consumer_offsets", 50, 3, true);
             List<Topic> topics = List.of(topic1, internalTopic);
-            given(topicService.listTopics(CLUSTER_ID, true)).willReturn(topics);
+            given(topicService.listTopics(CLUSTER_ID, true))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(topics)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
                             .param("includeInternal", "true")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
@@ -196,10 +215,11 @@ class TopicControllerTest {
         @DisplayName("토픽 상세 정보를 반환한다")
         void getTopic_returnsTopicDetail() throws Exception {
             // given
-            given(topicService.getTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(topicDetail);
+            given(topicService.getTopic(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(topicDetail)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, TOPIC_NAME)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, TOPIC_NAME)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -219,10 +239,11 @@ class TopicControllerTest {
         @DisplayName("토픽 상세 정보에 파티션 목록이 포함된다")
         void getTopic_containsPartitions() throws Exception {
             // given
-            given(topicService.getTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(topicDetail);
+            given(topicService.getTopic(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(topicDetail)));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, TOPIC_NAME)
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, TOPIC_NAME)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -243,10 +264,11 @@ class TopicControllerTest {
         void getTopic_nonExistingTopic_returns404() throws Exception {
             // given
             given(topicService.getTopic(CLUSTER_ID, "unknown-topic"))
-                    .willThrow(new TopicNotFoundException(CLUSTER_ID, "unknown-topic"));
+                    .willReturn(CompletableFuture.failedFuture(
+                            new TopicNotFoundException(CLUSTER_ID, "unknown-topic")));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown-topic")
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown-topic")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isNotFound())
@@ -276,6 +298,67 @@ class TopicControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/topics?configKey=...")
+    class FindTopicsByConfig {
+
+        @Test
+        @DisplayName("설정 값 조건에 맞는 토픽을 반환한다")
+        void findTopicsByConfig_returnsMatches() throws Exception {
+            // given
+            given(topicService.findTopicsByConfig(
+                    CLUSTER_ID, "retention.ms", ConfigValueOperator.GT, "604800000", false))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of(
+                            new TopicConfigMatch("orders", "retention.ms", "1209600000", true)))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+                            .param("configKey", "retention.ms")
+                            .param("operator", "GT")
+                            .param("configValue", "604800000")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].topic", is("orders")))
+                    .andExpect(jsonPath("$.data[0].value", is("1209600000")))
+                    .andExpect(jsonPath("$.data[0].overridden", is(true)));
+
+            verify(topicService).findTopicsByConfig(
+                    CLUSTER_ID, "retention.ms", ConfigValueOperator.GT, "604800000", false);
+        }
+
+        @Test
+        @DisplayName("연산자를 지정하지 않으면 EQ로 검색한다")
+        void findTopicsByConfig_defaultsToEquals() throws Exception {
+            // given
+            given(topicService.findTopicsByConfig(CLUSTER_ID, "cleanup.policy", ConfigValueOperator.EQ, "delete", true))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of())));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+                            .param("configKey", "cleanup.policy")
+                            .param("configValue", "delete")
+                            .param("overriddenOnly", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(0)));
+
+            verify(topicService).findTopicsByConfig(
+                    CLUSTER_ID, "cleanup.policy", ConfigValueOperator.EQ, "delete", true);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 연산자는 400 에러를 반환한다")
+        void findTopicsByConfig_invalidOperator_returns400() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics", CLUSTER_ID)
+                            .param("configKey", "retention.ms")
+                            .param("operator", "LIKE"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error.code", is("BAD_REQUEST")));
+        }
+    }
+
     @Nested
     @DisplayName("에러 응답 형식")
     class ErrorResponseFormat {
@@ -285,10 +368,10 @@ class TopicControllerTest {
         void errorResponse_containsTimestamp() throws Exception {
             // given
             given(topicService.getTopic(CLUSTER_ID, "unknown"))
-                    .willThrow(new TopicNotFoundException(CLUSTER_ID, "unknown"));
+                    .willReturn(CompletableFuture.failedFuture(new TopicNotFoundException(CLUSTER_ID, "unknown")));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown")
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(jsonPath("$.timestamp", notNullValue()));
@@ -299,14 +382,56 @@ class TopicControllerTest {
         void topicErrorResponse_containsDetails() throws Exception {
             // given
             given(topicService.getTopic(CLUSTER_ID, "unknown"))
-                    .willThrow(new TopicNotFoundException(CLUSTER_ID, "unknown"));
+                    .willReturn(CompletableFuture.failedFuture(new TopicNotFoundException(CLUSTER_ID, "unknown")));
 
             // when & then
-            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown")
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}", CLUSTER_ID, "unknown")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(jsonPath("$.error.details.clusterId", is(CLUSTER_ID)))
                     .andExpect(jsonPath("$.error.details.topicName", is("unknown")));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/clusters/{clusterId}/topics/{topicName}/consumer-groups")
+    class GetTopicConsumerGroups {
+
+        @Test
+        @DisplayName("토픽을 소비하는 그룹과 그룹별 Lag를 반환한다")
+        void getTopicConsumerGroups_returnsGroups() throws Exception {
+            // given
+            given(consumerService.getTopicConsumerGroups(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(SnapshotResult.direct(List.of(
+                            new TopicConsumerGroup("orders-consumer", "Stable", 3, 3, 1500L, 1200L),
+                            new TopicConsumerGroup("replay-job", "Empty", 0, 3, 42L, 20L)))));
+
+            // when & then
+            performAsync(mockMvc, get("/api/v1/clusters/{clusterId}/topics/{topicName}/consumer-groups",
+                    CLUSTER_ID, TOPIC_NAME))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andExpect(jsonPath("$.data[0].groupId", is("orders-consumer")))
+                    .andExpect(jsonPath("$.data[0].active", is(true)))
+                    .andExpect(jsonPath("$.data[0].totalLag", is(1500)))
+                    .andExpect(jsonPath("$.data[1].groupId", is("replay-job")))
+                    .andExpect(jsonPath("$.data[1].active", is(false)))
+                    .andExpect(jsonPath("$.data[1].committedPartitions", is(3)));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터로 조회하면 404 에러를 반환한다")
+        void getTopicConsumerGroups_nonExistingCluster_returns404() throws Exception {
+            // given
+            given(consumerService.getTopicConsumerGroups("unknown", TOPIC_NAME))
+                    .willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/clusters/{clusterId}/topics/{topicName}/consumer-groups",
+                            "unknown", TOPIC_NAME))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error.code", is("CLUSTER_NOT_FOUND")));
+        }
+    }
 }
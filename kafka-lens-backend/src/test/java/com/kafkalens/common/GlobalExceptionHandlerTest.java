@@ -1,6 +1,7 @@
 package com.kafkalens.common;
 
 import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.common.exception.ClusterOverloadedException;
 import com.kafkalens.common.exception.KafkaConnectionException;
 import com.kafkalens.common.exception.KafkaLensException;
 import com.kafkalens.common.exception.KafkaTimeoutException;
@@ -91,6 +92,24 @@ class GlobalExceptionHandlerTest {
             assertEquals(ErrorCode.KAFKA_TIMEOUT, response.getBody().error().code());
         }
 
+        @Test
+        @DisplayName("벌크헤드 포화는 503, 작업 수 제한 초과는 429를 반환한다")
+        void shouldReturn503And429ForClusterOverload() {
+            // given
+            ClusterOverloadedException full = ClusterOverloadedException.bulkheadFull("test-cluster", 16, 64);
+            ClusterOverloadedException limited = ClusterOverloadedException.rateLimited("test-cluster", 100);
+
+            // when
+            ResponseEntity<ApiResponse<Void>> fullResponse = handler.handleKafkaLensException(full);
+            ResponseEntity<ApiResponse<Void>> limitedResponse = handler.handleKafkaLensException(limited);
+
+            // then
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, fullResponse.getStatusCode());
+            assertEquals(ErrorCode.CLUSTER_OVERLOADED, fullResponse.getBody().error().code());
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, limitedResponse.getStatusCode());
+            assertEquals(ErrorCode.CLUSTER_RATE_LIMITED, limitedResponse.getBody().error().code());
+        }
+
         @Test
         @DisplayName("일반 KafkaLensException은 500을 반환한다")
         void shouldReturn500ForGenericKafkaLensException() {
@@ -0,0 +1,129 @@
+package com.kafkalens.config;
+
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.RequestTimeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestDeadlineInterceptor 테스트 클래스.
+ */
+@DisplayName("RequestDeadlineInterceptor")
+class RequestDeadlineInterceptorTest {
+
+    private final RequestDeadlineInterceptor interceptor =
+            new RequestDeadlineInterceptor(Duration.ZERO, Duration.ofSeconds(60));
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.attach(null);
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    @Nested
+    @DisplayName("마감 시간 결정 테스트")
+    class ResolveTimeoutTest {
+
+        @Test
+        @DisplayName("헤더와 설정이 없으면 마감을 두지 않는다")
+        void shouldNotSetDeadlineByDefault() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // when
+            interceptor.preHandle(request, new MockHttpServletResponse(), handler("plain"));
+
+            // then
+            assertThat(RequestDeadline.current()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("헤더의 마감 시간을 사용한다")
+        void shouldUseHeaderTimeout() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "5000");
+
+            // when
+            Duration timeout = interceptor.resolveTimeout(request, handler("plain"));
+
+            // then
+            assertThat(timeout).isEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("엔드포인트 설정과 헤더 중 짧은 값을 사용한다")
+        void shouldUseShorterOfAnnotationAndHeader() throws Exception {
+            // given
+            MockHttpServletRequest longHeader = new MockHttpServletRequest();
+            longHeader.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "20000");
+            MockHttpServletRequest shortHeader = new MockHttpServletRequest();
+            shortHeader.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "1000");
+
+            // when & then
+            assertThat(interceptor.resolveTimeout(longHeader, handler("annotated")))
+                    .isEqualTo(Duration.ofSeconds(10));
+            assertThat(interceptor.resolveTimeout(shortHeader, handler("annotated")))
+                    .isEqualTo(Duration.ofSeconds(1));
+        }
+
+        @Test
+        @DisplayName("상한을 넘는 값과 잘못된 헤더는 무시한다")
+        void shouldCapAndIgnoreInvalidHeader() throws Exception {
+            // given
+            MockHttpServletRequest tooLong = new MockHttpServletRequest();
+            tooLong.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "600000");
+            MockHttpServletRequest invalid = new MockHttpServletRequest();
+            invalid.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "soon");
+
+            // when & then
+            assertThat(interceptor.resolveTimeout(tooLong, handler("plain"))).isEqualTo(Duration.ofSeconds(60));
+            assertThat(interceptor.resolveTimeout(invalid, handler("plain"))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("스레드 연결 테스트")
+    class AttachTest {
+
+        @Test
+        @DisplayName("요청 처리 중에만 마감이 스레드에 연결된다")
+        void shouldAttachDuringRequest() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            HandlerMethod handler = handler("annotated");
+
+            // when
+            interceptor.preHandle(request, response, handler);
+            boolean attached = RequestDeadline.current().isPresent();
+            interceptor.afterCompletion(request, response, handler, null);
+
+            // then
+            assertThat(attached).isTrue();
+            assertThat(RequestDeadline.current()).isEmpty();
+        }
+    }
+
+    static class SampleController {
+
+        public void plain() {
+        }
+
+        @RequestTimeout(millis = 10000)
+        public void annotated() {
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.kafkalens.domain.broker;
+
+import com.kafkalens.domain.storage.StorageUsage;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * BrokerLoadReport 단위 테스트.
+ */
+@DisplayName("BrokerLoadReport")
+class BrokerLoadReportTest {
+
+    private static final Node BROKER_0 = new Node(0, "broker-0", 9092, "rack-a");
+    private static final Node BROKER_1 = new Node(1, "broker-1", 9092, "rack-a");
+    private static final Node BROKER_2 = new Node(2, "broker-2", 9092, "rack-b");
+
+    private static TopicPartitionInfo partition(int partition, Node leader, Node... replicas) {
+        return new TopicPartitionInfo(partition, leader, List.of(replicas), List.of(replicas));
+    }
+
+    private static StorageUsage usage(Instant computedAt, long orders0Size, long orders1Size) {
+        return StorageUsage.aggregate(computedAt, Map.of(
+                0, Map.of("/data", new LogDirDescription(null, Map.of(
+                        new TopicPartition("orders", 0), new ReplicaInfo(orders0Size, 0L, false)))),
+                2, Map.of("/data", new LogDirDescription(null, Map.of(
+                        new TopicPartition("orders", 0), new ReplicaInfo(orders0Size, 0L, false),
+                        new TopicPartition("orders", 1), new ReplicaInfo(orders1Size, 0L, false))))),
+                Set.of());
+    }
+
+    @Nested
+    @DisplayName("리더/레플리카 분포")
+    class Distribution {
+
+        @Test
+        @DisplayName("랙이 있으면 랙마다 같은 몫을 이상값으로 본다")
+        void shouldUseRackAwareIdeal() {
+            // given: rack-a에 브로커 2대, rack-b에 1대, 파티션 4개 x 복제 2
+            List<TopicDescription> topics = List.of(new TopicDescription("orders", false, List.of(
+                    partition(0, BROKER_2, BROKER_2, BROKER_0),
+                    partition(1, BROKER_0, BROKER_0, BROKER_2),
+                    partition(2, BROKER_2, BROKER_2, BROKER_1),
+                    partition(3, BROKER_1, BROKER_1, BROKER_2))));
+
+            // when
+            BrokerLoadReport report = BrokerLoadReport.compute(
+                    List.of(BROKER_2, BROKER_0, BROKER_1), topics, null, null);
+
+            // then
+            assertThat(report.rackAware()).isTrue();
+            assertThat(report.brokers())
+                    .extracting(BrokerLoad::brokerId, BrokerLoad::idealReplicaCount, BrokerLoad::replicaCount)
+                    .containsExactly(tuple(0, 2.0, 2), tuple(1, 2.0, 2), tuple(2, 4.0, 4));
+            assertThat(report.replicaSkew()).isZero();
+            assertThat(report.brokers()).extracting(BrokerLoad::leaderCount).containsExactly(1, 1, 2);
+            assertThat(report.leaderSkew()).isZero();
+        }
+
+        @Test
+        @DisplayName("랙이 없으면 모든 브로커가 같은 몫을 맡는 것을 이상값으로 본다")
+        void shouldUseUniformIdealWithoutRacks() {
+            // given
+            Node broker0 = new Node(0, "broker-0", 9092);
+            Node broker1 = new Node(1, "broker-1", 9092);
+            List<TopicDescription> topics = List.of(new TopicDescription("orders", false, List.of(
+                    partition(0, broker0, broker0, broker1),
+                    partition(1, broker0, broker1, broker0))));
+
+            // when
+            BrokerLoadReport report = BrokerLoadReport.compute(List.of(broker0, broker1), topics, null, null);
+
+            // then
+            assertThat(report.rackAware()).isFalse();
+            assertThat(report.brokers()).extracting(BrokerLoad::leaderSkew).containsExactly(1.0, -1.0);
+            assertThat(report.leaderSkew()).isEqualTo(1.0);
+            assertThat(report.replicaSkew()).isZero();
+        }
+
+        @Test
+        @DisplayName("리더가 없는 파티션과 목록에 없는 브로커의 레플리카는 부하에서 제외한다")
+        void shouldSkipOfflineLeadersAndUnknownBrokers() {
+            // given
+            Node gone = new Node(9, "broker-9", 9092, "rack-c");
+            List<TopicDescription> topics = List.of(new TopicDescription("orders", false, List.of(
+                    new TopicPartitionInfo(0, Node.noNode(), List.of(gone), List.of()),
+                    partition(1, BROKER_0, BROKER_0, gone))));
+
+            // when
+            BrokerLoadReport report = BrokerLoadReport.compute(List.of(BROKER_0), topics, null, null);
+
+            // then
+            assertThat(report.partitionCount()).isEqualTo(2);
+            assertThat(report.replicaCount()).isEqualTo(1);
+            assertThat(report.brokers()).singleElement().satisfies(load -> {
+                assertThat(load.leaderCount()).isEqualTo(1);
+                assertThat(load.replicaCount()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("디스크 사용량과 유입량")
+    class Bytes {
+
+        private final List<TopicDescription> topics = List.of(new TopicDescription("orders", false, List.of(
+                partition(0, BROKER_0, BROKER_0, BROKER_2),
+                partition(1, BROKER_2, BROKER_2))));
+
+        @Test
+        @DisplayName("디스크 사용량을 붙이고, 직전 집계가 없으면 유입량을 비워 둔다")
+        void shouldAttachSizeWithoutRate() {
+            // when
+            BrokerLoadReport report = BrokerLoadReport.compute(List.of(BROKER_0, BROKER_1, BROKER_2), topics,
+                    usage(Instant.EPOCH, 100L, 50L), null);
+
+            // then
+            assertThat(report.brokers()).extracting(BrokerLoad::sizeBytes).containsExactly(100L, null, 150L);
+            assertThat(report.brokers()).extracting(BrokerLoad::bytesInPerSec).containsOnlyNulls();
+            assertThat(report.bytesInWindowMs()).isNull();
+        }
+
+        @Test
+        @DisplayName("두 집계 사이 파티션 로그 증가량을 리더 브로커의 유입량으로 추정한다")
+        void shouldEstimateBytesInFromGrowth() {
+            // given: 10초 동안 orders-0은 1000바이트 증가, orders-1은 보존 정책으로 줄어듦
+            StorageUsage previous = usage(Instant.EPOCH, 100L, 500L);
+            StorageUsage current = usage(Instant.EPOCH.plusSeconds(10), 1100L, 200L);
+
+            // when
+            BrokerLoadReport report = BrokerLoadReport.compute(
+                    List.of(BROKER_0, BROKER_1, BROKER_2), topics, current, previous);
+
+            // then
+            assertThat(report.bytesInWindowMs()).isEqualTo(10_000L);
+            assertThat(report.brokers()).extracting(BrokerLoad::bytesInPerSec).containsExactly(100.0, 0.0, 0.0);
+        }
+    }
+}
@@ -2,8 +2,15 @@ package com.kafkalens.domain.broker;
 
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
+import com.kafkalens.domain.storage.StorageUsageService;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,13 +19,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * BrokerService 단위 테스트.
@@ -28,6 +42,8 @@ import static org.mockito.Mockito.verify;
  * <p>테스트 시나리오:</p>
  * <ul>
  *   <li>listBrokers: 브로커 목록 조회</li>
+ *   <li>getBrokerConfigs: 전체 브로커 설정 조회와 설정 불일치 계산</li>
+ *   <li>getBrokerLoad: 브로커 부하 분포 계산</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -39,13 +55,19 @@ class BrokerServiceTest {
     @Mock
     private ClusterService clusterService;
 
+    @Mock
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    @Mock
+    private StorageUsageService storageUsageService;
+
     private BrokerService brokerService;
 
     private static final String CLUSTER_ID = "local";
 
     @BeforeEach
     void setUp() {
-        brokerService = new BrokerService(adminClientWrapper, clusterService);
+        brokerService = new BrokerService(adminClientWrapper, clusterService, metadataSnapshotter, storageUsageService);
     }
 
     @Nested
@@ -67,16 +89,18 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", controller, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            SnapshotResult<List<Broker>> result = brokerService.listBrokers(CLUSTER_ID).join();
 
             // then
-            assertThat(result).hasSize(3);
-            assertThat(result).extracting(Broker::id).containsExactlyInAnyOrder(0, 1, 2);
+            assertThat(result.data()).hasSize(3);
+            assertThat(result.data()).extracting(Broker::id).containsExactlyInAnyOrder(0, 1, 2);
+            assertThat(result.source()).isEmpty();
             verify(clusterService).existsById(CLUSTER_ID);
-            verify(adminClientWrapper).describeCluster(CLUSTER_ID);
+            verify(adminClientWrapper).describeClusterAsync(CLUSTER_ID);
         }
 
         @Test
@@ -92,10 +116,11 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", controller, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            List<Broker> result = brokerService.listBrokers(CLUSTER_ID).join().data();
 
             // then
             assertThat(result).hasSize(1);
@@ -120,10 +145,11 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", controller, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            List<Broker> result = brokerService.listBrokers(CLUSTER_ID).join().data();
 
             // then
             assertThat(result).hasSize(3);
@@ -152,10 +178,11 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", broker, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            List<Broker> result = brokerService.listBrokers(CLUSTER_ID).join().data();
 
             // then
             assertThat(result).hasSize(1);
@@ -177,10 +204,11 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", controller, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            List<Broker> result = brokerService.listBrokers(CLUSTER_ID).join().data();
 
             // then
             assertThat(result).hasSize(3);
@@ -197,15 +225,36 @@ class BrokerServiceTest {
 
             AdminClientWrapper.ClusterInfo clusterInfo =
                     new AdminClientWrapper.ClusterInfo("kafka-cluster-id", null, nodes);
-            given(adminClientWrapper.describeCluster(CLUSTER_ID)).willReturn(clusterInfo);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willReturn(CompletableFuture.completedFuture(clusterInfo));
 
             // when
-            List<Broker> result = brokerService.listBrokers(CLUSTER_ID);
+            List<Broker> result = brokerService.listBrokers(CLUSTER_ID).join().data();
 
             // then
             assertThat(result).isEmpty();
         }
 
+        @Test
+        @DisplayName("스냅샷이 있으면 브로커 호출 없이 스냅샷의 브로커 목록을 반환한다")
+        void testListBrokers_fromSnapshot_skipsAdminCalls() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot(CLUSTER_ID, 1, Instant.now(),
+                    List.of(new Node(1, "broker-1", 9092), new Node(0, "broker-0", 9092)), 1,
+                    Map.of(), TopicConfigIndex.EMPTY, Map.of());
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(snapshot));
+
+            // when
+            SnapshotResult<List<Broker>> result = brokerService.listBrokers(CLUSTER_ID).join();
+
+            // then
+            assertThat(result.data()).extracting(Broker::id).containsExactly(0, 1);
+            assertThat(result.data().get(1).isController()).isTrue();
+            assertThat(result.source()).containsSame(snapshot);
+            verifyNoInteractions(adminClientWrapper);
+        }
+
         @Test
         @DisplayName("존재하지 않는 클러스터로 조회하면 예외를 발생시킨다")
         void testListBrokers_nonExistingCluster_throwsException() {
@@ -218,4 +267,132 @@ class BrokerServiceTest {
                     .hasMessageContaining("unknown");
         }
     }
+
+    @Nested
+    @DisplayName("getBrokerConfigs()")
+    class GetBrokerConfigs {
+
+        @Test
+        @DisplayName("모든 브로커 설정을 한 번에 조회하고 다른 값을 쓰는 브로커를 찾는다")
+        void testGetBrokerConfigs_detectsDrift() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            List<Node> nodes = List.of(new Node(0, "broker-0", 9092), new Node(1, "broker-1", 9092),
+                    new Node(2, "broker-2", 9092));
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                    new AdminClientWrapper.ClusterInfo("kafka-cluster-id", nodes.get(0), nodes)));
+            given(adminClientWrapper.describeBrokerConfigsAsync(CLUSTER_ID, List.of(0, 1, 2)))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(
+                            0, Map.of("num.io.threads", "8", "broker.id", "0", "log.retention.hours", "168"),
+                            1, Map.of("num.io.threads", "8", "broker.id", "1", "log.retention.hours", "168"),
+                            2, Map.of("num.io.threads", "16", "broker.id", "2", "log.retention.hours", "168"))));
+
+            // when
+            BrokerConfigReport result = brokerService.getBrokerConfigs(CLUSTER_ID).join();
+
+            // then
+            assertThat(result.configs()).containsOnlyKeys(0, 1, 2);
+            assertThat(result.drift()).containsExactly(new BrokerConfigDrift("num.io.threads", "8", List.of(2),
+                    List.of(new BrokerConfigDrift.ValueGroup("8", List.of(0, 1)),
+                            new BrokerConfigDrift.ValueGroup("16", List.of(2)))));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 있으면 스냅샷의 브로커 목록을 사용한다")
+        void testGetBrokerConfigs_usesSnapshotBrokers() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    CLUSTER_ID, 1, Instant.now(), List.of(new Node(3, "broker-3", 9092)), 3,
+                    Map.of(), TopicConfigIndex.EMPTY, Map.of())));
+            given(adminClientWrapper.describeBrokerConfigsAsync(CLUSTER_ID, List.of(3)))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(3, Map.of("num.io.threads", "8"))));
+
+            // when
+            BrokerConfigReport result = brokerService.getBrokerConfigs(CLUSTER_ID).join();
+
+            // then
+            assertThat(result.configs().get(3)).containsEntry("num.io.threads", "8");
+            assertThat(result.drift()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("브로커마다 다른 것이 정상인 설정과 값이 없는 브로커는 불일치로 보지 않는다")
+        void testComputeDrift_ignoresPerBrokerKeysAndMissingValues() {
+            // given
+            Map<Integer, Map<String, String>> configs = Map.of(
+                    0, Map.of("listeners", "PLAINTEXT://broker-0:9092", "ssl.keystore.location", "/etc/ks"),
+                    1, Map.of("listeners", "PLAINTEXT://broker-1:9092"));
+
+            // when & then
+            assertThat(BrokerService.computeDrift(configs)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getBrokerLoad()")
+    class GetBrokerLoad {
+
+        private final Node broker0 = new Node(0, "broker-0", 9092);
+        private final Node broker1 = new Node(1, "broker-1", 9092);
+
+        private final TopicDescription orders = new TopicDescription("orders", false, List.of(
+                new TopicPartitionInfo(0, broker0, List.of(broker0, broker1), List.of(broker0, broker1)),
+                new TopicPartitionInfo(1, broker0, List.of(broker1, broker0), List.of(broker0, broker1))));
+
+        @Test
+        @DisplayName("스냅샷의 토픽 상세로 브로커 부하를 계산한다")
+        void testGetBrokerLoad_fromSnapshot() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(storageUsageService.peekRecentUsages(CLUSTER_ID)).willReturn(Optional.empty());
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    CLUSTER_ID, 1, Instant.now(), List.of(broker0, broker1), 0,
+                    Map.of("orders", orders), TopicConfigIndex.EMPTY, Map.of())));
+
+            // when
+            BrokerLoadReport result = brokerService.getBrokerLoad(CLUSTER_ID).join().data();
+
+            // then
+            assertThat(result.partitionCount()).isEqualTo(2);
+            assertThat(result.brokers()).extracting(BrokerLoad::brokerId, BrokerLoad::leaderCount)
+                    .containsExactly(tuple(0, 2), tuple(1, 0));
+            assertThat(result.leaderSkew()).isEqualTo(1.0);
+            assertThat(result.brokers()).extracting(BrokerLoad::sizeBytes).containsOnlyNulls();
+            verifyNoInteractions(adminClientWrapper);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 브로커 목록과 모든 토픽을 조회한다")
+        void testGetBrokerLoad_withoutSnapshot() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(storageUsageService.peekRecentUsages(CLUSTER_ID)).willReturn(Optional.empty());
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                    new AdminClientWrapper.ClusterInfo("kafka-cluster-id", broker0, List.of(broker0, broker1))));
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, true))
+                    .willReturn(CompletableFuture.completedFuture(Set.of("orders")));
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, Set.of("orders")))
+                    .willReturn(CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                            Map.of("orders", orders), Set.of())));
+
+            // when
+            BrokerLoadReport result = brokerService.getBrokerLoad(CLUSTER_ID).join().data();
+
+            // then
+            assertThat(result.replicaCount()).isEqualTo(4);
+            assertThat(result.brokers()).extracting(BrokerLoad::replicaCount).containsExactly(2, 2);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터면 예외를 던진다")
+        void testGetBrokerLoad_clusterNotFound() {
+            // given
+            given(clusterService.existsById("unknown")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> brokerService.getBrokerLoad("unknown"))
+                    .isInstanceOf(ClusterNotFoundException.class);
+        }
+    }
 }
@@ -2,7 +2,11 @@ package com.kafkalens.domain.cluster;
 
 import com.kafkalens.api.v1.dto.ConnectionTestResult;
 import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.infrastructure.kafka.AdminCircuitBreaker;
+import com.kafkalens.infrastructure.kafka.AdminLatencyTracker;
 import com.kafkalens.infrastructure.kafka.AdminClientFactory;
+import com.kafkalens.infrastructure.kafka.AdminMetadataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +17,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * ClusterService 단위 테스트.
@@ -33,6 +39,18 @@ class ClusterServiceTest {
     @Mock
     private AdminClientFactory adminClientFactory;
 
+    @Mock
+    private AdminMetadataCache metadataCache;
+
+    @Mock
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    @Mock
+    private AdminCircuitBreaker circuitBreaker;
+
+    @Mock
+    private AdminLatencyTracker latencyTracker;
+
     private ClusterService clusterService;
 
     private Cluster localCluster;
@@ -40,7 +58,9 @@ class ClusterServiceTest {
 
     @BeforeEach
     void setUp() {
-        clusterService = new ClusterService(clusterRepository, adminClientFactory);
+        clusterService = new ClusterService(
+                clusterRepository, adminClientFactory, metadataCache, metadataSnapshotter, circuitBreaker,
+                latencyTracker);
 
         localCluster = Cluster.builder()
                 .id("local")
@@ -232,4 +252,50 @@ class ClusterServiceTest {
             verify(clusterRepository).existsById("unknown");
         }
     }
+
+    @Nested
+    @DisplayName("reloadClusters()")
+    class ReloadClusters {
+
+        @Test
+        @DisplayName("설정이 변경되거나 제거된 클러스터의 메타데이터 캐시만 비운다")
+        void testReloadClusters_invalidatesChangedClustersOnly() {
+            // given
+            Cluster changedLocal = Cluster.builder()
+                    .id("local")
+                    .name("Local Development")
+                    .environment("development")
+                    .bootstrapServers("localhost:9093")
+                    .build();
+            given(clusterRepository.findAll())
+                    .willReturn(List.of(localCluster, prodCluster))
+                    .willReturn(List.of(changedLocal));
+
+            // when
+            clusterService.reloadClusters();
+
+            // then
+            verify(clusterRepository).reload();
+            verify(metadataCache).invalidate("local");
+            verify(metadataCache).invalidate("production");
+            verify(metadataSnapshotter).onClustersReloaded(Set.of("local", "production"));
+            verify(circuitBreaker).reset("local");
+            verify(circuitBreaker).reset("production");
+            verify(latencyTracker).reset("local");
+        }
+
+        @Test
+        @DisplayName("변경이 없으면 캐시를 비우지 않는다")
+        void testReloadClusters_noChanges_keepsCache() {
+            // given
+            given(clusterRepository.findAll()).willReturn(List.of(localCluster, prodCluster));
+
+            // when
+            clusterService.reloadClusters();
+
+            // then
+            verify(clusterRepository).reload();
+            verifyNoInteractions(metadataCache);
+        }
+    }
 }
@@ -13,6 +13,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -106,6 +107,36 @@ class YamlClusterRepositoryTest {
             assertEquals(3, clusters.size());
         }
 
+        @Test
+        @DisplayName("메타데이터 갱신 주기를 클러스터별로 지정하고 기본값을 상속한다")
+        void shouldParseMetadataRefreshInterval() {
+            // given
+            String yaml = """
+                    defaults:
+                      metadata-refresh-interval-ms: 20000
+                    clusters:
+                      - id: default-cluster
+                        name: "Default"
+                        bootstrap-servers:
+                          - localhost:9092
+                      - id: fast-cluster
+                        name: "Fast"
+                        bootstrap-servers:
+                          - localhost:9093
+                        metadata-refresh-interval-ms: 5000
+                    """;
+
+            repository = createRepositoryWithYaml(yaml);
+
+            // when
+            Cluster defaultCluster = repository.findById("default-cluster").orElseThrow();
+            Cluster fastCluster = repository.findById("fast-cluster").orElseThrow();
+
+            // then
+            assertEquals(Duration.ofSeconds(20), defaultCluster.metadataRefreshInterval());
+            assertEquals(Duration.ofSeconds(5), fastCluster.metadataRefreshInterval());
+        }
+
         @Test
         @DisplayName("기본값이 클러스터 설정에 적용된다")
         void shouldApplyDefaultsToCluster() {
@@ -4,6 +4,7 @@ import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.ClusterRepository;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,15 +15,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -33,19 +42,28 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class ConsumerLagServiceTest {
 
+    private static final Instant NOW = Instant.parse("2024-01-01T00:10:00Z");
+
     @Mock
     private ClusterRepository clusterRepository;
 
     @Mock
     private AdminClientWrapper adminClientWrapper;
 
+    @Mock
+    private ConsumerOffsetsLagEngine lagEngine;
+
     private ConsumerLagService consumerLagService;
 
+    private LagHistoryStore historyStore;
+
     private Cluster testCluster;
 
     @BeforeEach
     void setUp() {
-        consumerLagService = new ConsumerLagService(clusterRepository, adminClientWrapper);
+        historyStore = new LagHistoryStore(10, 100);
+        consumerLagService = new ConsumerLagService(clusterRepository, adminClientWrapper, historyStore, lagEngine,
+                Clock.fixed(NOW, ZoneOffset.UTC));
 
         testCluster = Cluster.builder()
                 .id("test-cluster")
@@ -123,19 +141,19 @@ class ConsumerLagServiceTest {
             consumerOffsets.put(tp0, new OffsetAndMetadata(100L));
             consumerOffsets.put(tp1, new OffsetAndMetadata(200L));
 
-            given(adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId))
-                    .willReturn(consumerOffsets);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(consumerOffsets));
 
             // end 오프셋 설정
             Map<TopicPartition, Long> endOffsets = new HashMap<>();
             endOffsets.put(tp0, 150L);  // lag = 50
             endOffsets.put(tp1, 300L);  // lag = 100
 
-            given(adminClientWrapper.getEndOffsets(eq(clusterId), any()))
-                    .willReturn(endOffsets);
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
 
             // then
             assertThat(summary).isNotNull();
@@ -144,8 +162,8 @@ class ConsumerLagServiceTest {
             assertThat(summary.partitionLags()).hasSize(2);
 
             verify(clusterRepository).existsById(clusterId);
-            verify(adminClientWrapper).listConsumerGroupOffsets(clusterId, groupId);
-            verify(adminClientWrapper).getEndOffsets(eq(clusterId), any());
+            verify(adminClientWrapper).listConsumerGroupOffsetsAsync(clusterId, groupId);
+            verify(adminClientWrapper).getEndOffsetsAsync(eq(clusterId), any());
         }
 
         @Test
@@ -178,17 +196,17 @@ class ConsumerLagServiceTest {
             TopicPartition tp0 = new TopicPartition("test-topic", 0);
             consumerOffsets.put(tp0, new OffsetAndMetadata(100L));
 
-            given(adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId))
-                    .willReturn(consumerOffsets);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(consumerOffsets));
 
             Map<TopicPartition, Long> endOffsets = new HashMap<>();
             endOffsets.put(tp0, 200L);
 
-            given(adminClientWrapper.getEndOffsets(eq(clusterId), any()))
-                    .willReturn(endOffsets);
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
 
             // then
             assertThat(summary.partitionLags()).hasSize(1);
@@ -209,11 +227,11 @@ class ConsumerLagServiceTest {
             String groupId = "test-group";
 
             given(clusterRepository.existsById(clusterId)).willReturn(true);
-            given(adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId))
-                    .willReturn(new HashMap<>());
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(new HashMap<>()));
 
             // when
-            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
 
             // then
             assertThat(summary).isNotNull();
@@ -237,18 +255,18 @@ class ConsumerLagServiceTest {
             consumerOffsets.put(tp1, new OffsetAndMetadata(50L));
             consumerOffsets.put(tp2, new OffsetAndMetadata(100L));
 
-            given(adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId))
-                    .willReturn(consumerOffsets);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(consumerOffsets));
 
             Map<TopicPartition, Long> endOffsets = new HashMap<>();
             endOffsets.put(tp1, 100L);  // lag = 50
             endOffsets.put(tp2, 200L);  // lag = 100
 
-            given(adminClientWrapper.getEndOffsets(eq(clusterId), any()))
-                    .willReturn(endOffsets);
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
 
             // then
             assertThat(summary.totalLag()).isEqualTo(150L);
@@ -273,17 +291,17 @@ class ConsumerLagServiceTest {
             TopicPartition tp0 = new TopicPartition("test-topic", 0);
             consumerOffsets.put(tp0, new OffsetAndMetadata(0L));
 
-            given(adminClientWrapper.listConsumerGroupOffsets(clusterId, groupId))
-                    .willReturn(consumerOffsets);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(consumerOffsets));
 
             Map<TopicPartition, Long> endOffsets = new HashMap<>();
             endOffsets.put(tp0, 1500L);  // lag = 1500 (>= 1000, warning)
 
-            given(adminClientWrapper.getEndOffsets(eq(clusterId), any()))
-                    .willReturn(endOffsets);
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId);
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
 
             // then
             assertThat(summary.partitionLags()).hasSize(1);
@@ -291,5 +309,447 @@ class ConsumerLagServiceTest {
             assertThat(lag.lag()).isEqualTo(1500L);
             assertThat(lag.isWarning()).isTrue();
         }
+
+        @Test
+        @DisplayName("기록된 끝 오프셋 이력으로 시간 기준 Lag를 추정한다")
+        void testGetLagSummary_withHistory_estimatesLagSeconds() {
+            // given
+            String clusterId = "test-cluster";
+            String groupId = "test-group";
+            TopicPartition tp0 = new TopicPartition("test-topic", 0);
+
+            // 끝 오프셋이 1분마다 600씩 증가 (초당 10)
+            for (int i = 0; i < 3; i++) {
+                historyStore.record(clusterId, NOW.minusSeconds(120 - i * 60L), new ClusterOffsets(
+                        Map.of(groupId, Map.of(tp0, new OffsetAndMetadata(0L))),
+                        Map.of(tp0, 1000L + i * 600L), Set.of()));
+            }
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(tp0, new OffsetAndMetadata(1299L))));
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(tp0, 2200L)));
+
+            // when
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
+
+            // then: 오프셋 1299는 끝 오프셋이 1000에서 1600이 되는 사이(90초 전)에 생산됨
+            ConsumerLag lag = summary.partitionLags().get(0);
+            assertThat(lag.lagSeconds()).isEqualTo(90L);
+            assertThat(lag.getTimeStatus()).isEqualTo("warning");
+            assertThat(summary.maxLagSeconds()).isEqualTo(90L);
+            assertThat(summary.timeWarningCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("이력이 없으면 시간 기준 Lag는 알 수 없다")
+        void testGetLagSummary_withoutHistory_lagSecondsUnknown() {
+            // given
+            String clusterId = "test-cluster";
+            String groupId = "test-group";
+            TopicPartition tp0 = new TopicPartition("test-topic", 0);
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupOffsetsAsync(clusterId, groupId))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(tp0, new OffsetAndMetadata(100L))));
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(tp0, 200L)));
+
+            // when
+            ConsumerLagSummary summary = consumerLagService.getLagSummary(clusterId, groupId).join();
+
+            // then
+            ConsumerLag lag = summary.partitionLags().get(0);
+            assertThat(lag.lagSeconds()).isNull();
+            assertThat(lag.getTimeStatus()).isEqualTo("unknown");
+            assertThat(summary.maxLagSeconds()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("getClusterLagOverview()")
+    class GetClusterLagOverview {
+
+        @Test
+        @DisplayName("모든 그룹의 파티션 합집합에 대해 끝 오프셋을 한 번만 조회해 그룹별로 집계한다")
+        void testGetClusterLagOverview_fetchesEndOffsetsOnceForUnion() {
+            // given
+            String clusterId = "test-cluster";
+            TopicPartition tp0 = new TopicPartition("orders", 0);
+            TopicPartition tp1 = new TopicPartition("orders", 1);
+            TopicPartition tp2 = new TopicPartition("payments", 0);
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of(
+                            new ConsumerGroupListing("group-b", false),
+                            new ConsumerGroupListing("group-a", false))));
+
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = Map.of(
+                    "group-a", Map.of(
+                            tp0, new OffsetAndMetadata(0L),
+                            tp1, new OffsetAndMetadata(90L)),
+                    "group-b", Map.of(
+                            tp1, new OffsetAndMetadata(100L),
+                            tp2, new OffsetAndMetadata(500L)));
+            given(adminClientWrapper.listConsumerGroupOffsetsInChunksAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(
+                            new AdminClientWrapper.ChunkedGroupOffsets(offsets, Set.of())));
+
+            Map<TopicPartition, Long> endOffsets = Map.of(
+                    tp0, 20000L,   // group-a lag = 20000 (critical)
+                    tp1, 1100L,    // group-a lag = 1010 (warning), group-b lag = 1000 (warning)
+                    tp2, 500L);    // group-b lag = 0
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
+
+            // when
+            ClusterLagOverview overview = consumerLagService.getClusterLagOverview(clusterId).join();
+
+            // then
+            assertThat(overview.totalLag()).isEqualTo(22010L);
+            assertThat(overview.isPartial()).isFalse();
+            assertThat(overview.groups())
+                    .extracting(GroupLagOverview::groupId)
+                    .containsExactly("group-a", "group-b");
+
+            GroupLagOverview groupA = overview.groups().get(0);
+            assertThat(groupA.totalLag()).isEqualTo(21010L);
+            assertThat(groupA.maxLag()).isEqualTo(20000L);
+            assertThat(groupA.partitionCount()).isEqualTo(2);
+            assertThat(groupA.warningCount()).isEqualTo(2);
+            assertThat(groupA.criticalCount()).isEqualTo(1);
+
+            GroupLagOverview groupB = overview.groups().get(1);
+            assertThat(groupB.totalLag()).isEqualTo(1000L);
+            assertThat(groupB.warningCount()).isEqualTo(1);
+            assertThat(groupB.criticalCount()).isZero();
+
+            verify(adminClientWrapper, times(1)).getEndOffsetsAsync(clusterId, Set.of(tp0, tp1, tp2));
+        }
+
+        @Test
+        @DisplayName("오프셋 조회에 실패한 그룹을 결과에 표시하고 끝 오프셋이 없는 파티션은 제외한다")
+        void testGetClusterLagOverview_reportsFailedGroups() {
+            // given
+            String clusterId = "test-cluster";
+            TopicPartition tp0 = new TopicPartition("orders", 0);
+            TopicPartition deleted = new TopicPartition("deleted-topic", 0);
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of(
+                            new ConsumerGroupListing("group-a", false),
+                            new ConsumerGroupListing("group-b", false))));
+            given(adminClientWrapper.listConsumerGroupOffsetsInChunksAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedGroupOffsets(
+                            Map.of("group-a", Map.of(
+                                    tp0, new OffsetAndMetadata(10L),
+                                    deleted, new OffsetAndMetadata(0L))),
+                            Set.of("group-b"))));
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(tp0, 30L)));
+
+            // when
+            ClusterLagOverview overview = consumerLagService.getClusterLagOverview(clusterId).join();
+
+            // then
+            assertThat(overview.isPartial()).isTrue();
+            assertThat(overview.failedGroups()).containsExactly("group-b");
+            assertThat(overview.groups()).hasSize(1);
+            assertThat(overview.groups().get(0).totalLag()).isEqualTo(20L);
+            assertThat(overview.groups().get(0).partitionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("커밋된 오프셋이 없으면 끝 오프셋을 조회하지 않는다")
+        void testGetClusterLagOverview_noCommittedOffsets_skipsEndOffsets() {
+            // given
+            String clusterId = "test-cluster";
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of()));
+            given(adminClientWrapper.listConsumerGroupOffsetsInChunksAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(
+                            new AdminClientWrapper.ChunkedGroupOffsets(Map.of(), Set.of())));
+
+            // when
+            ClusterLagOverview overview = consumerLagService.getClusterLagOverview(clusterId).join();
+
+            // then
+            assertThat(overview.totalLag()).isZero();
+            assertThat(overview.groups()).isEmpty();
+            verify(adminClientWrapper, never()).getEndOffsetsAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("증분 Lag 엔진이 준비되었으면 브로커를 호출하지 않고 엔진의 오프셋으로 집계한다")
+        void testGetClusterLagOverview_lagEngineReady_usesEngineOffsets() {
+            // given
+            String clusterId = "test-cluster";
+            TopicPartition tp0 = new TopicPartition("orders", 0);
+
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(lagEngine.currentOffsets(clusterId)).willReturn(Optional.of(new ClusterOffsets(
+                    Map.of("group-a", Map.of(tp0, new OffsetAndMetadata(70L))),
+                    Map.of(tp0, 100L),
+                    Set.of())));
+
+            // when
+            ClusterLagOverview overview = consumerLagService.getClusterLagOverview(clusterId).join();
+
+            // then
+            assertThat(overview.totalLag()).isEqualTo(30L);
+            assertThat(overview.groups()).extracting(GroupLagOverview::groupId).containsExactly("group-a");
+            verify(adminClientWrapper, never()).listConsumerGroupsAsync(any());
+            verify(adminClientWrapper, never()).getEndOffsetsAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터에서 조회하면 예외를 발생시킨다")
+        void testGetClusterLagOverview_nonExistingCluster_throwsException() {
+            // given
+            given(clusterRepository.existsById("unknown-cluster")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> consumerLagService.getClusterLagOverview("unknown-cluster"))
+                    .isInstanceOf(ClusterNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTopLag 메서드")
+    class GetTopLag {
+
+        private final TopicPartition orders0 = new TopicPartition("orders", 0);
+        private final TopicPartition orders1 = new TopicPartition("orders", 1);
+        private final TopicPartition payments0 = new TopicPartition("payments", 0);
+
+        private ClusterOffsets sampleOffsets() {
+            return new ClusterOffsets(
+                    Map.of(
+                            "group-a", Map.of(
+                                    orders0, new OffsetAndMetadata(0L),
+                                    orders1, new OffsetAndMetadata(90L)),
+                            "group-b", Map.of(
+                                    orders1, new OffsetAndMetadata(100L),
+                                    payments0, new OffsetAndMetadata(500L)),
+                            "group-c", Map.of(
+                                    payments0, new OffsetAndMetadata(200L))),
+                    Map.of(
+                            orders0, 20000L,   // group-a lag = 20000
+                            orders1, 1100L,    // group-a lag = 1010, group-b lag = 1000
+                            payments0, 500L),  // group-b lag = 0, group-c lag = 300
+                    Set.of("broken-group"));
+        }
+
+        @Test
+        @DisplayName("마지막 샘플에서 Lag가 큰 그룹-파티션, 그룹, 토픽을 내림차순으로 고른다")
+        void testGetTopLag_ranksLatestSample() {
+            // given
+            String clusterId = "test-cluster";
+            Instant sampledAt = NOW.minusSeconds(30);
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, sampledAt, sampleOffsets());
+
+            // when
+            TopLagReport report = consumerLagService.getTopLag(clusterId, 2).join();
+
+            // then
+            assertThat(report.asOf()).isEqualTo(sampledAt);
+            assertThat(report.limit()).isEqualTo(2);
+            assertThat(report.totalLag()).isEqualTo(22310L);
+            assertThat(report.partitionCount()).isEqualTo(5);
+            assertThat(report.partitions()).containsExactly(
+                    new PartitionLagRank("group-a", "orders", 0, 20000L),
+                    new PartitionLagRank("group-a", "orders", 1, 1010L));
+            assertThat(report.groups()).containsExactly(
+                    new LagRank("group-a", 21010L, 20000L, 2),
+                    new LagRank("group-b", 1000L, 1000L, 2));
+            assertThat(report.topics()).containsExactly(
+                    new LagRank("orders", 22010L, 20000L, 3),
+                    new LagRank("payments", 300L, 300L, 2));
+            assertThat(report.failedGroups()).containsExactly("broken-group");
+            verify(adminClientWrapper, never()).listConsumerGroupsAsync(any());
+        }
+
+        @Test
+        @DisplayName("Lag가 0인 항목은 목록에 넣지 않는다")
+        void testGetTopLag_excludesZeroLag() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, NOW, sampleOffsets());
+
+            // when
+            TopLagReport report = consumerLagService.getTopLag(clusterId, 10).join();
+
+            // then
+            assertThat(report.partitions()).hasSize(4)
+                    .extracting(PartitionLagRank::lag)
+                    .containsExactly(20000L, 1010L, 1000L, 300L);
+            assertThat(report.groups()).extracting(LagRank::name)
+                    .containsExactly("group-a", "group-b", "group-c");
+        }
+
+        @Test
+        @DisplayName("파티션이 limit보다 많으면 Lag가 가장 큰 limit개만 남긴다")
+        void testGetTopLag_keepsLargestAmongManyPartitions() {
+            // given
+            String clusterId = "test-cluster";
+            Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+            Map<TopicPartition, Long> endOffsets = new HashMap<>();
+            for (int partition = 0; partition < 1000; partition++) {
+                TopicPartition tp = new TopicPartition("events", partition);
+                committed.put(tp, new OffsetAndMetadata(0L));
+                endOffsets.put(tp, (partition * 7919L) % 1000 + 1);
+            }
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, NOW, new ClusterOffsets(Map.of("group", committed), endOffsets, Set.of()));
+
+            // when
+            TopLagReport report = consumerLagService.getTopLag(clusterId, 3).join();
+
+            // then
+            assertThat(report.partitions()).extracting(PartitionLagRank::lag).containsExactly(1000L, 999L, 998L);
+            assertThat(report.partitionCount()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("limit은 1 이상 최대 개수 이하로 보정한다")
+        void testGetTopLag_clampsLimit() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, NOW, sampleOffsets());
+
+            // when & then
+            assertThat(consumerLagService.getTopLag(clusterId, 0).join().partitions()).hasSize(1);
+            assertThat(consumerLagService.getTopLag(clusterId, 100000).join().limit())
+                    .isEqualTo(ConsumerLagService.MAX_TOP_LAG_LIMIT);
+        }
+
+        @Test
+        @DisplayName("증분 Lag 엔진이 준비되었으면 샘플보다 엔진의 오프셋을 사용한다")
+        void testGetTopLag_lagEngineReady_usesEngineOffsets() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, NOW.minusSeconds(60), sampleOffsets());
+            given(lagEngine.currentOffsets(clusterId)).willReturn(Optional.of(new ClusterOffsets(
+                    Map.of("group-a", Map.of(orders0, new OffsetAndMetadata(19990L))),
+                    Map.of(orders0, 20000L),
+                    Set.of())));
+
+            // when
+            TopLagReport report = consumerLagService.getTopLag(clusterId, 10).join();
+
+            // then
+            assertThat(report.asOf()).isEqualTo(NOW);
+            assertThat(report.partitions()).containsExactly(new PartitionLagRank("group-a", "orders", 0, 10L));
+        }
+
+        @Test
+        @DisplayName("샘플이 없으면 클러스터 오프셋을 조회한다")
+        void testGetTopLag_noSample_fetchesOffsets() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of(new ConsumerGroupListing("group-a", false))));
+            given(adminClientWrapper.listConsumerGroupOffsetsInChunksAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedGroupOffsets(
+                            Map.of("group-a", Map.of(orders0, new OffsetAndMetadata(40L))), Set.of())));
+            given(adminClientWrapper.getEndOffsetsAsync(eq(clusterId), any()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(orders0, 100L)));
+
+            // when
+            TopLagReport report = consumerLagService.getTopLag(clusterId, 10).join();
+
+            // then
+            assertThat(report.asOf()).isEqualTo(NOW);
+            assertThat(report.partitions()).containsExactly(new PartitionLagRank("group-a", "orders", 0, 60L));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터에서 조회하면 예외를 발생시킨다")
+        void testGetTopLag_nonExistingCluster_throwsException() {
+            // given
+            given(clusterRepository.existsById("unknown-cluster")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> consumerLagService.getTopLag("unknown-cluster", 10))
+                    .isInstanceOf(ClusterNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTopicGroupLag 메서드")
+    class GetTopicGroupLag {
+
+        private final TopicPartition orders0 = new TopicPartition("orders", 0);
+        private final TopicPartition orders1 = new TopicPartition("orders", 1);
+        private final TopicPartition payments0 = new TopicPartition("payments", 0);
+
+        @Test
+        @DisplayName("마지막 샘플의 역인덱스에서 토픽에 커밋한 그룹별 Lag를 반환한다")
+        void testGetTopicGroupLag_fromLatestSample() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            historyStore.record(clusterId, NOW, new ClusterOffsets(
+                    Map.of(
+                            "group-b", Map.of(
+                                    orders0, new OffsetAndMetadata(90L),
+                                    orders1, new OffsetAndMetadata(50L)),
+                            "group-a", Map.of(
+                                    orders0, new OffsetAndMetadata(100L),
+                                    payments0, new OffsetAndMetadata(0L))),
+                    Map.of(orders0, 100L, payments0, 10L),   // orders-1 끝 오프셋 없음
+                    Set.of()));
+
+            // when
+            List<LagRank> result = consumerLagService.getTopicGroupLag(clusterId, "orders").join();
+
+            // then
+            assertThat(result).containsExactly(
+                    new LagRank("group-a", 0L, 0L, 1),
+                    new LagRank("group-b", 10L, 10L, 2));
+            assertThat(consumerLagService.getTopicGroupLag(clusterId, "unknown").join()).isEmpty();
+            verify(adminClientWrapper, never()).listConsumerGroupsAsync(any());
+        }
+
+        @Test
+        @DisplayName("증분 Lag 엔진이 준비되었으면 엔진의 오프셋에서 토픽만 집계한다")
+        void testGetTopicGroupLag_lagEngineReady_usesEngineOffsets() {
+            // given
+            String clusterId = "test-cluster";
+            given(clusterRepository.existsById(clusterId)).willReturn(true);
+            given(lagEngine.currentOffsets(clusterId)).willReturn(Optional.of(new ClusterOffsets(
+                    Map.of("group-a", Map.of(
+                            orders0, new OffsetAndMetadata(70L),
+                            payments0, new OffsetAndMetadata(0L))),
+                    Map.of(orders0, 100L, payments0, 500L),
+                    Set.of())));
+
+            // when
+            List<LagRank> result = consumerLagService.getTopicGroupLag(clusterId, "orders").join();
+
+            // then
+            assertThat(result).containsExactly(new LagRank("group-a", 30L, 30L, 1));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터에서 조회하면 예외를 발생시킨다")
+        void testGetTopicGroupLag_nonExistingCluster_throwsException() {
+            // given
+            given(clusterRepository.existsById("unknown-cluster")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> consumerLagService.getTopicGroupLag("unknown-cluster", "orders"))
+                    .isInstanceOf(ClusterNotFoundException.class);
+        }
     }
 }
@@ -0,0 +1,110 @@
+package com.kafkalens.domain.consumer;
+
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import com.kafkalens.infrastructure.kafka.ConsumerOffsetsDecoder.OffsetCommit;
+import com.kafkalens.infrastructure.kafka.KafkaConsumerFactory;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * ConsumerOffsetsLagEngine 단위 테스트.
+ */
+@DisplayName("ConsumerOffsetsLagEngine")
+class ConsumerOffsetsLagEngineTest {
+
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition ORDERS_1 = new TopicPartition("orders", 1);
+
+    @Test
+    @DisplayName("커밋은 최신 오프셋으로 덮어쓰고, 오프셋 삭제와 그룹 삭제는 맵에서 제거한다")
+    void shouldApplyCommitsAndDeletions() {
+        // given
+        Map<String, Map<TopicPartition, Long>> committed = new HashMap<>();
+
+        // when
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-a", ORDERS_0, 10L));
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-a", ORDERS_0, 25L));
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-a", ORDERS_1, 5L));
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-b", ORDERS_0, 7L));
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-a", ORDERS_1, OffsetCommit.DELETED));
+
+        // then
+        assertThat(committed).containsOnlyKeys("group-a", "group-b");
+        assertThat(committed.get("group-a")).containsExactly(Map.entry(ORDERS_0, 25L));
+
+        // when: 마지막 오프셋 삭제와 그룹 삭제
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-a", ORDERS_0, OffsetCommit.DELETED));
+        ConsumerOffsetsLagEngine.apply(committed, new OffsetCommit("group-b", null, OffsetCommit.DELETED));
+
+        // then
+        assertThat(committed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화되었으면 구독하지 않고 오프셋을 제공하지 않는다")
+    void shouldNotProvideOffsetsWhenDisabled() {
+        // given
+        ClusterRepository clusterRepository = mock(ClusterRepository.class);
+        KafkaConsumerFactory consumerFactory = mock(KafkaConsumerFactory.class);
+        ConsumerOffsetsLagEngine engine = new ConsumerOffsetsLagEngine(clusterRepository, consumerFactory,
+                mock(AdminClientWrapper.class), false, Set.of(), 10000L, 10000L);
+
+        // when
+        engine.start();
+
+        // then
+        assertThat(engine.currentOffsets("test-cluster")).isEmpty();
+        verifyNoInteractions(clusterRepository, consumerFactory);
+    }
+
+    @Test
+    @DisplayName("중단된 트랜잭션의 커밋을 읽지 않도록 read_committed 컨슈머로 구독한다")
+    void shouldReadCommittedRecordsOnly() {
+        // given
+        Cluster cluster = Cluster.builder()
+                .id("test-cluster")
+                .name("Test Cluster")
+                .bootstrapServers("localhost:9092")
+                .build();
+        ClusterRepository clusterRepository = mock(ClusterRepository.class);
+        KafkaConsumerFactory consumerFactory = mock(KafkaConsumerFactory.class);
+        given(clusterRepository.findAll()).willReturn(List.of(cluster));
+        given(clusterRepository.findById("test-cluster")).willReturn(Optional.of(cluster));
+        given(clusterRepository.existsById("test-cluster")).willReturn(true);
+        given(consumerFactory.createConsumer(any(), any(), anyMap())).willThrow(new KafkaException("unavailable"));
+        ConsumerOffsetsLagEngine engine = new ConsumerOffsetsLagEngine(clusterRepository, consumerFactory,
+                mock(AdminClientWrapper.class), true, Set.of(), 10000L, 10000L);
+
+        try {
+            // when
+            engine.start();
+
+            // then
+            verify(consumerFactory, timeout(5000)).createConsumer(eq(cluster), any(),
+                    eq(Map.of(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed")));
+        } finally {
+            engine.stop();
+        }
+    }
+}
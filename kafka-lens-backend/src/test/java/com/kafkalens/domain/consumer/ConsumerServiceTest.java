@@ -3,6 +3,9 @@ package com.kafkalens.domain.consumer;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.ConsumerGroupListing;
@@ -19,7 +22,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -27,6 +32,7 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * ConsumerService 단위 테스트.
@@ -42,13 +48,20 @@ class ConsumerServiceTest {
     @Mock
     private AdminClientWrapper adminClientWrapper;
 
+    @Mock
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    @Mock
+    private ConsumerLagService consumerLagService;
+
     private ConsumerService consumerService;
 
     private Cluster testCluster;
 
     @BeforeEach
     void setUp() {
-        consumerService = new ConsumerService(clusterService, adminClientWrapper);
+        consumerService = new ConsumerService(clusterService, adminClientWrapper, metadataSnapshotter,
+                consumerLagService);
 
         testCluster = Cluster.builder()
                 .id("local")
@@ -74,7 +87,8 @@ class ConsumerServiceTest {
             ConsumerGroupListing group2 = createConsumerGroupListing("payment-service-group", false);
             Collection<ConsumerGroupListing> listings = List.of(group1, group2);
 
-            given(adminClientWrapper.listConsumerGroups(clusterId)).willReturn(listings);
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(listings));
 
             // Mock describeConsumerGroups to return descriptions
             ConsumerGroupDescription desc1 = createConsumerGroupDescription(
@@ -85,18 +99,18 @@ class ConsumerServiceTest {
                     "order-service-group", desc1,
                     "payment-service-group", desc2
             );
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            List<ConsumerGroup> result = consumerService.listGroups(clusterId);
+            List<ConsumerGroup> result = consumerService.listGroups(clusterId).join().data();
 
             // then
             assertThat(result).hasSize(2);
             assertThat(result).extracting(ConsumerGroup::groupId)
                     .containsExactlyInAnyOrder("order-service-group", "payment-service-group");
             verify(clusterService).findById(clusterId);
-            verify(adminClientWrapper).listConsumerGroups(clusterId);
+            verify(adminClientWrapper).listConsumerGroupsAsync(clusterId);
         }
 
         @Test
@@ -105,15 +119,16 @@ class ConsumerServiceTest {
             // given
             String clusterId = "local";
             given(clusterService.findById(clusterId)).willReturn(testCluster);
-            given(adminClientWrapper.listConsumerGroups(clusterId)).willReturn(List.of());
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of()));
 
             // when
-            List<ConsumerGroup> result = consumerService.listGroups(clusterId);
+            List<ConsumerGroup> result = consumerService.listGroups(clusterId).join().data();
 
             // then
             assertThat(result).isEmpty();
             verify(clusterService).findById(clusterId);
-            verify(adminClientWrapper).listConsumerGroups(clusterId);
+            verify(adminClientWrapper).listConsumerGroupsAsync(clusterId);
         }
 
         @Test
@@ -146,11 +161,11 @@ class ConsumerServiceTest {
             ConsumerGroupDescription description = createConsumerGroupDescription(
                     groupId, ConsumerGroupState.STABLE, 2);
             Map<String, ConsumerGroupDescription> descriptions = Map.of(groupId, description);
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            ConsumerGroup result = consumerService.getGroup(clusterId, groupId);
+            ConsumerGroup result = consumerService.getGroup(clusterId, groupId).join().data();
 
             // then
             assertThat(result).isNotNull();
@@ -158,7 +173,7 @@ class ConsumerServiceTest {
             assertThat(result.state()).isEqualTo("Stable");
             assertThat(result.memberCount()).isEqualTo(2);
             verify(clusterService).findById(clusterId);
-            verify(adminClientWrapper).describeConsumerGroups(eq(clusterId), anyCollection());
+            verify(adminClientWrapper).describeConsumerGroupsAsync(eq(clusterId), anyCollection());
         }
 
         @Test
@@ -172,17 +187,39 @@ class ConsumerServiceTest {
             ConsumerGroupDescription description = createConsumerGroupDescription(
                     groupId, ConsumerGroupState.STABLE, 1);
             Map<String, ConsumerGroupDescription> descriptions = Map.of(groupId, description);
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            ConsumerGroup result = consumerService.getGroup(clusterId, groupId);
+            ConsumerGroup result = consumerService.getGroup(clusterId, groupId).join().data();
 
             // then
             assertThat(result.coordinator()).isNotNull();
             assertThat(result.coordinator()).isEqualTo(0);  // Mock coordinator node ID
         }
 
+        @Test
+        @DisplayName("스냅샷에 있는 그룹은 브로커 호출 없이 반환한다")
+        void testGetGroup_fromSnapshot_skipsAdminCalls() {
+            // given
+            String clusterId = "local";
+            String groupId = "order-service-group";
+            given(clusterService.findById(clusterId)).willReturn(testCluster);
+
+            ConsumerGroupDescription description = createConsumerGroupDescription(
+                    groupId, ConsumerGroupState.EMPTY, 0);
+            given(metadataSnapshotter.getSnapshot(clusterId)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    clusterId, 1, Instant.now(), List.of(), -1, Map.of(), TopicConfigIndex.EMPTY,
+                    Map.of(groupId, description))));
+
+            // when
+            ConsumerGroup result = consumerService.getGroup(clusterId, groupId).join().data();
+
+            // then
+            assertThat(result.state()).isEqualTo("Empty");
+            verifyNoInteractions(adminClientWrapper);
+        }
+
         @Test
         @DisplayName("존재하지 않는 클러스터 ID로 조회하면 예외를 발생시킨다")
         void testGetGroup_nonExistingCluster_throwsException() {
@@ -214,11 +251,11 @@ class ConsumerServiceTest {
             ConsumerGroupDescription description = createConsumerGroupDescription(
                     groupId, ConsumerGroupState.STABLE, 2);
             Map<String, ConsumerGroupDescription> descriptions = Map.of(groupId, description);
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId);
+            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId).join().data();
 
             // then
             assertThat(result).hasSize(2);
@@ -238,11 +275,11 @@ class ConsumerServiceTest {
             ConsumerGroupDescription description = createConsumerGroupDescription(
                     groupId, ConsumerGroupState.STABLE, 1);
             Map<String, ConsumerGroupDescription> descriptions = Map.of(groupId, description);
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId);
+            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId).join().data();
 
             // then
             assertThat(result).hasSize(1);
@@ -262,17 +299,104 @@ class ConsumerServiceTest {
             ConsumerGroupDescription description = createConsumerGroupDescription(
                     groupId, ConsumerGroupState.EMPTY, 0);
             Map<String, ConsumerGroupDescription> descriptions = Map.of(groupId, description);
-            given(adminClientWrapper.describeConsumerGroups(eq(clusterId), anyCollection()))
-                    .willReturn(descriptions);
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(descriptions));
 
             // when
-            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId);
+            List<ConsumerMember> result = consumerService.getMembers(clusterId, groupId).join().data();
 
             // then
             assertThat(result).isEmpty();
         }
     }
 
+    @Nested
+    @DisplayName("getTopicConsumerGroups 메서드")
+    class GetTopicConsumerGroups {
+
+        @Test
+        @DisplayName("스냅샷의 할당 인덱스와 커밋 오프셋 인덱스를 합쳐 브로커 호출 없이 반환한다")
+        void testGetTopicConsumerGroups_fromSnapshot_mergesAssignmentsAndCommits() {
+            // given
+            String clusterId = "local";
+            given(clusterService.findById(clusterId)).willReturn(testCluster);
+
+            ConsumerGroupDescription active = createConsumerGroupDescription(
+                    "order-service-group", ConsumerGroupState.STABLE, 2);
+            given(metadataSnapshotter.getSnapshot(clusterId)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    clusterId, 1, Instant.now(), List.of(), -1, Map.of(), TopicConfigIndex.EMPTY,
+                    Map.of("order-service-group", active))));
+            given(consumerLagService.getTopicGroupLag(clusterId, "test-topic"))
+                    .willReturn(CompletableFuture.completedFuture(List.of(
+                            new LagRank("order-service-group", 1500L, 1200L, 2),
+                            new LagRank("replay-job", 42L, 20L, 3))));
+
+            // when
+            List<TopicConsumerGroup> result =
+                    consumerService.getTopicConsumerGroups(clusterId, "test-topic").join().data();
+
+            // then
+            assertThat(result).containsExactly(
+                    new TopicConsumerGroup("order-service-group", "Stable", 2, 2, 1500L, 1200L),
+                    new TopicConsumerGroup("replay-job", null, 0, 3, 42L, 20L));
+            assertThat(result.get(0).isActive()).isTrue();
+            assertThat(result.get(1).isActive()).isFalse();
+            verifyNoInteractions(adminClientWrapper);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 그룹 상세를 조회해 할당을 찾는다")
+        void testGetTopicConsumerGroups_withoutSnapshot_describesGroups() {
+            // given
+            String clusterId = "local";
+            given(clusterService.findById(clusterId)).willReturn(testCluster);
+            given(metadataSnapshotter.getSnapshot(clusterId)).willReturn(Optional.empty());
+            given(adminClientWrapper.listConsumerGroupsAsync(clusterId))
+                    .willReturn(CompletableFuture.completedFuture(List.of(
+                            createConsumerGroupListing("order-service-group", false))));
+            given(adminClientWrapper.describeConsumerGroupsAsync(eq(clusterId), anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of("order-service-group",
+                            createConsumerGroupDescription("order-service-group", ConsumerGroupState.STABLE, 1))));
+            given(consumerLagService.getTopicGroupLag(clusterId, "test-topic"))
+                    .willReturn(CompletableFuture.completedFuture(List.of()));
+
+            // when
+            List<TopicConsumerGroup> result =
+                    consumerService.getTopicConsumerGroups(clusterId, "test-topic").join().data();
+
+            // then
+            assertThat(result).containsExactly(
+                    new TopicConsumerGroup("order-service-group", "Stable", 1, 0, null, null));
+        }
+
+        @Test
+        @DisplayName("토픽을 소비하는 그룹이 없으면 빈 목록을 반환한다")
+        void testGetTopicConsumerGroups_noConsumers_returnsEmptyList() {
+            // given
+            String clusterId = "local";
+            given(clusterService.findById(clusterId)).willReturn(testCluster);
+            given(metadataSnapshotter.getSnapshot(clusterId)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    clusterId, 1, Instant.now(), List.of(), -1, Map.of(), TopicConfigIndex.EMPTY, Map.of())));
+            given(consumerLagService.getTopicGroupLag(clusterId, "other-topic"))
+                    .willReturn(CompletableFuture.completedFuture(List.of()));
+
+            // when & then
+            assertThat(consumerService.getTopicConsumerGroups(clusterId, "other-topic").join().data()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터 ID로 조회하면 예외를 발생시킨다")
+        void testGetTopicConsumerGroups_nonExistingCluster_throwsException() {
+            // given
+            given(clusterService.findById("unknown")).willThrow(new ClusterNotFoundException("unknown"));
+
+            // when & then
+            assertThatThrownBy(() -> consumerService.getTopicConsumerGroups("unknown", "test-topic"))
+                    .isInstanceOf(ClusterNotFoundException.class);
+            verifyNoInteractions(consumerLagService);
+        }
+    }
+
     // === Helper Methods ===
 
     /**
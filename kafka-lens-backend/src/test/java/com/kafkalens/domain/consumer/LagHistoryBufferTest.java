@@ -0,0 +1,232 @@
+package com.kafkalens.domain.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * LagHistoryBuffer 단위 테스트.
+ */
+@DisplayName("LagHistoryBuffer")
+class LagHistoryBufferTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition ORDERS_1 = new TopicPartition("orders", 1);
+    private static final TopicPartition PAYMENTS_0 = new TopicPartition("payments", 0);
+
+    private static ClusterOffsets offsets(String groupId, Map<TopicPartition, long[]> committedAndEnd) {
+        Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+        Map<TopicPartition, Long> end = new HashMap<>();
+        committedAndEnd.forEach((tp, values) -> {
+            committed.put(tp, new OffsetAndMetadata(values[0]));
+            end.put(tp, values[1]);
+        });
+        return new ClusterOffsets(Map.of(groupId, committed), end, Set.of());
+    }
+
+    private static Instant at(int seconds) {
+        return T0.plusSeconds(seconds);
+    }
+
+    @Nested
+    @DisplayName("기록과 조회")
+    class RecordAndQuery {
+
+        @Test
+        @DisplayName("오래된 순 샘플과 초당 Lag 변화량을 반환한다")
+        void shouldReturnSamplesOldestFirst() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(5, 10);
+
+            // when
+            buffer.record(at(0), offsets("group", Map.of(ORDERS_0, new long[]{100, 200})));
+            buffer.record(at(60), offsets("group", Map.of(ORDERS_0, new long[]{150, 310})));
+            buffer.record(at(120), offsets("group", Map.of(ORDERS_0, new long[]{200, 420})));
+
+            // then
+            List<LagSeries> series = buffer.series("group", null, null);
+            assertThat(series).hasSize(1);
+            assertThat(series.get(0).samples())
+                    .extracting(LagSample::timestamp, LagSample::currentOffset, LagSample::endOffset, LagSample::lag)
+                    .containsExactly(
+                            tuple(at(0), 100L, 200L, 100L),
+                            tuple(at(60), 150L, 310L, 160L),
+                            tuple(at(120), 200L, 420L, 220L));
+            assertThat(series.get(0).lagChangePerSecond()).isEqualTo(1.0);
+            assertThat(series.get(0).getTrend()).isEqualTo("growing");
+        }
+
+        @Test
+        @DisplayName("보관 샘플 수를 넘으면 가장 오래된 샘플을 덮어쓴다")
+        void shouldOverwriteOldestSamples() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(3, 10);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                buffer.record(at(i), offsets("group", Map.of(ORDERS_0, new long[]{100 - i * 10, 100})));
+            }
+
+            // then
+            LagSeries series = buffer.series("group", null, null).get(0);
+            assertThat(series.samples()).extracting(LagSample::timestamp).containsExactly(at(2), at(3), at(4));
+            assertThat(series.samples()).extracting(LagSample::lag).containsExactly(20L, 30L, 40L);
+        }
+
+        @Test
+        @DisplayName("토픽과 파티션으로 시계열을 거르고 토픽, 파티션 순으로 정렬한다")
+        void shouldFilterAndSortSeries() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(3, 10);
+            buffer.record(at(0), offsets("group", Map.of(
+                    PAYMENTS_0, new long[]{0, 10},
+                    ORDERS_1, new long[]{0, 10},
+                    ORDERS_0, new long[]{0, 10})));
+
+            // when & then
+            assertThat(buffer.series("group", null, null))
+                    .extracting(LagSeries::topic, LagSeries::partition)
+                    .containsExactly(tuple("orders", 0), tuple("orders", 1), tuple("payments", 0));
+            assertThat(buffer.series("group", "orders", 1))
+                    .extracting(LagSeries::topic, LagSeries::partition)
+                    .containsExactly(tuple("orders", 1));
+            assertThat(buffer.series("unknown-group", null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("회차에 나타나지 않은 파티션은 그 회차 샘플이 비어 있다")
+        void shouldSkipMissingSamples() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(5, 10);
+
+            // when
+            buffer.record(at(0), offsets("group", Map.of(ORDERS_0, new long[]{0, 10}, ORDERS_1, new long[]{0, 10})));
+            buffer.record(at(60), offsets("group", Map.of(ORDERS_0, new long[]{5, 10})));
+            buffer.record(at(120), offsets("group", Map.of(ORDERS_0, new long[]{10, 10}, ORDERS_1, new long[]{4, 10})));
+
+            // then
+            LagSeries orders1 = buffer.series("group", "orders", 1).get(0);
+            assertThat(orders1.samples()).extracting(LagSample::timestamp).containsExactly(at(0), at(120));
+            assertThat(orders1.getTrend()).isEqualTo("draining");
+        }
+    }
+
+    @Nested
+    @DisplayName("시간 기준 Lag 추정")
+    class EstimateLagSeconds {
+
+        private LagHistoryBuffer bufferWithSteadyIngest() {
+            // 끝 오프셋이 60초마다 600씩 증가 (초당 10): t=0 1000, t=60 1600, t=120 2200
+            LagHistoryBuffer buffer = new LagHistoryBuffer(5, 10);
+            for (int i = 0; i < 3; i++) {
+                buffer.record(at(i * 60), offsets("group", Map.of(ORDERS_0, new long[]{0, 1000 + i * 600})));
+            }
+            return buffer;
+        }
+
+        @Test
+        @DisplayName("끝 오프셋이 커밋 오프셋을 넘어선 두 샘플 사이에서 생산 시각을 보간한다")
+        void shouldInterpolateBetweenSamples() {
+            // when & then: 오프셋 1899는 t=90에 생산됨
+            assertThat(bufferWithSteadyIngest().estimateLagSeconds(ORDERS_0, 1899L, at(120))).contains(30L);
+        }
+
+        @Test
+        @DisplayName("이력보다 오래된 커밋 오프셋은 평균 유입 속도로 외삽한다")
+        void shouldExtrapolateBeforeOldestSample() {
+            // when & then: 오프셋 399는 t=-60에 생산됨
+            assertThat(bufferWithSteadyIngest().estimateLagSeconds(ORDERS_0, 399L, at(120))).contains(180L);
+        }
+
+        @Test
+        @DisplayName("커밋 오프셋이 마지막 끝 오프셋 이상이면 0초이다")
+        void shouldReturnZeroWhenCaughtUp() {
+            assertThat(bufferWithSteadyIngest().estimateLagSeconds(ORDERS_0, 2200L, at(120))).contains(0L);
+        }
+
+        @Test
+        @DisplayName("이력 동안 유입이 없었으면 가장 오래된 샘플 시각을 하한으로 사용한다")
+        void shouldUseOldestSampleWithoutIngest() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(5, 10);
+            buffer.record(at(0), offsets("group", Map.of(ORDERS_0, new long[]{0, 500})));
+            buffer.record(at(60), offsets("group", Map.of(ORDERS_0, new long[]{0, 500})));
+
+            // when & then
+            assertThat(buffer.estimateLagSeconds(ORDERS_0, 0L, at(60))).contains(60L);
+        }
+
+        @Test
+        @DisplayName("샘플이 하나뿐이거나 파티션 이력이 없으면 추정하지 않는다")
+        void shouldNotEstimateWithoutEnoughHistory() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(5, 10);
+            buffer.record(at(0), offsets("group", Map.of(ORDERS_0, new long[]{0, 500})));
+
+            // when & then
+            assertThat(buffer.estimateLagSeconds(ORDERS_0, 0L, at(60))).isEmpty();
+            assertThat(buffer.estimateLagSeconds(PAYMENTS_0, 0L, at(60))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("메모리 제한")
+    class Bounds {
+
+        @Test
+        @DisplayName("슬롯이 모두 배정되면 새 그룹-파티션은 기록하지 않는다")
+        void shouldDropSeriesBeyondMaxSeries() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(3, 2);
+
+            // when
+            buffer.record(at(0), offsets("group", Map.of(
+                    ORDERS_0, new long[]{0, 10},
+                    ORDERS_1, new long[]{0, 10},
+                    PAYMENTS_0, new long[]{0, 10})));
+
+            // then
+            assertThat(buffer.seriesCount()).isEqualTo(2);
+            assertThat(buffer.droppedSeries()).isEqualTo(1);
+            assertThat(buffer.allocatedBytes()).isLessThanOrEqualTo(2L * 3 * 24 + 3 * 8 + 2 * 4);
+        }
+
+        @Test
+        @DisplayName("보관 샘플 수만큼 나타나지 않은 그룹-파티션의 슬롯을 재사용한다")
+        void shouldReuseSlotsOfVanishedSeries() {
+            // given
+            LagHistoryBuffer buffer = new LagHistoryBuffer(2, 1);
+            buffer.record(at(0), offsets("old-group", Map.of(ORDERS_0, new long[]{0, 10})));
+
+            // when
+            buffer.record(at(1), offsets("new-group", Map.of(ORDERS_0, new long[]{0, 10})));
+            buffer.record(at(2), offsets("new-group", Map.of(ORDERS_0, new long[]{0, 10})));
+
+            // then
+            assertThat(buffer.series("old-group", null, null)).isEmpty();
+            assertThat(buffer.series("new-group", null, null).get(0).samples())
+                    .extracting(LagSample::timestamp).containsExactly(at(2));
+            assertThat(buffer.droppedSeries()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("보관 샘플 수가 2보다 작으면 예외가 발생한다")
+        void shouldRejectTooFewSamples() {
+            assertThatThrownBy(() -> new LagHistoryBuffer(1, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kafkalens.domain.consumer;
+
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * LagSampler 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LagSampler")
+class LagSamplerTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+
+    @Mock
+    private ConsumerLagService consumerLagService;
+
+    @Mock
+    private AdminClientWrapper adminClientWrapper;
+
+    @Mock
+    private ClusterRepository clusterRepository;
+
+    private LagSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new LagSampler(consumerLagService, adminClientWrapper, new LagHistoryStore(10, 100), clusterRepository, false,
+                Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("샘플링한 오프셋을 그룹 Lag 이력으로 반환한다")
+    void shouldRecordSampledOffsets() {
+        // given
+        given(clusterRepository.existsById(CLUSTER_ID)).willReturn(true);
+        given(consumerLagService.fetchClusterOffsets(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                new ClusterOffsets(Map.of("group", Map.of(ORDERS_0, new OffsetAndMetadata(40L))),
+                        Map.of(ORDERS_0, 100L), Set.of())));
+
+        // when
+        sampler.sample(CLUSTER_ID).join();
+        LagHistory history = sampler.getHistory(CLUSTER_ID, "group", null, null);
+
+        // then
+        assertThat(history.groupId()).isEqualTo("group");
+        assertThat(history.sampleIntervalMs()).isEqualTo(60000L);
+        assertThat(history.series()).hasSize(1);
+        assertThat(history.series().get(0).samples()).containsExactly(LagSample.of(NOW, 40L, 100L));
+    }
+
+    @Test
+    @DisplayName("샘플이 없으면 빈 이력을 반환한다")
+    void shouldReturnEmptyHistoryBeforeFirstSample() {
+        // given
+        given(clusterRepository.existsById(CLUSTER_ID)).willReturn(true);
+
+        // when & then
+        assertThat(sampler.getHistory(CLUSTER_ID, "group", null, null).series()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회에 실패한 회차는 기록하지 않는다")
+    void shouldNotRecordFailedSample() {
+        // given
+        given(clusterRepository.existsById(CLUSTER_ID)).willReturn(true);
+        given(consumerLagService.fetchClusterOffsets(CLUSTER_ID))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // when & then
+        assertThat(sampler.sample(CLUSTER_ID)).isCompletedExceptionally();
+        assertThat(sampler.getHistory(CLUSTER_ID, "group", null, null).series()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 클러스터의 이력을 조회하면 예외가 발생한다")
+    void shouldThrowForUnknownCluster() {
+        // given
+        given(clusterRepository.existsById("unknown")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> sampler.getHistory("unknown", "group", null, null))
+                .isInstanceOf(ClusterNotFoundException.class);
+    }
+}
@@ -1,6 +1,9 @@
 package com.kafkalens.domain.message;
 
+import com.kafkalens.common.ErrorCode;
+import com.kafkalens.common.RequestDeadline;
 import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.common.exception.KafkaTimeoutException;
 import com.kafkalens.common.exception.TopicNotFoundException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterService;
@@ -9,6 +12,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
@@ -30,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -478,6 +483,56 @@ class MessageServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("요청 마감")
+    class RequestDeadlines {
+
+        private MessageFetchRequest request() {
+            return MessageFetchRequest.builder()
+                    .topicName(TOPIC_NAME)
+                    .partition(0)
+                    .offset(0L)
+                    .limit(100)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("마감이 이미 지났으면 끝 오프셋을 조회하지 않고 타임아웃으로 실패한다")
+        void testFetchMessages_expiredDeadline_throwsTimeout() {
+            // given
+            given(clusterService.findById(CLUSTER_ID)).willReturn(createMockCluster());
+            given(consumerFactory.createConsumer(any(), any())).willReturn(kafkaConsumer);
+
+            // when & then
+            try (RequestDeadline.Scope ignored = RequestDeadline.attach(RequestDeadline.after(Duration.ZERO))) {
+                assertThatThrownBy(() -> messageService.fetchMessages(CLUSTER_ID, request()))
+                        .isInstanceOf(KafkaTimeoutException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.KAFKA_TIMEOUT);
+            }
+            verify(kafkaConsumer, never()).endOffsets(anyCollection(), any(Duration.class));
+            verify(kafkaConsumer, never()).poll(any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("마감 안에 끝 오프셋을 조회하지 못하면 타임아웃으로 실패한다")
+        void testFetchMessages_endOffsetsTimeout_throwsTimeout() {
+            // given
+            given(clusterService.findById(CLUSTER_ID)).willReturn(createMockCluster());
+            given(consumerFactory.createConsumer(any(), any())).willReturn(kafkaConsumer);
+            given(kafkaConsumer.endOffsets(anyCollection(), any(Duration.class)))
+                    .willThrow(new TimeoutException("Failed to get offsets by times"));
+
+            // when & then
+            try (RequestDeadline.Scope ignored = RequestDeadline.attach(RequestDeadline.after(Duration.ofSeconds(5)))) {
+                assertThatThrownBy(() -> messageService.fetchMessages(CLUSTER_ID, request()))
+                        .isInstanceOf(KafkaTimeoutException.class)
+                        .hasCauseInstanceOf(TimeoutException.class);
+            }
+            verify(kafkaConsumer, never()).poll(any(Duration.class));
+        }
+    }
+
     // === Helper Methods ===
 
     private Cluster createMockCluster() {
@@ -0,0 +1,450 @@
+package com.kafkalens.domain.metadata;
+
+import com.kafkalens.common.exception.KafkaTimeoutException;
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import com.kafkalens.infrastructure.kafka.AdminMetadataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ClusterMetadataSnapshotter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ClusterMetadataSnapshotter")
+class ClusterMetadataSnapshotterTest {
+
+    private static final String CLUSTER_ID = "local";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Uuid ORDERS_ID = Uuid.randomUuid();
+    private static final Uuid PAYMENTS_ID = Uuid.randomUuid();
+    private static final Uuid USERS_ID = Uuid.randomUuid();
+
+    @Mock
+    private AdminClientWrapper adminClientWrapper;
+
+    @Mock
+    private ClusterRepository clusterRepository;
+
+    @Mock
+    private AdminMetadataCache metadataCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterMetadataSnapshotter snapshotter;
+    private final Map<String, TopicDescription> topicOverrides = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshotter = new ClusterMetadataSnapshotter(adminClientWrapper, metadataCache, clusterRepository,
+                meterRegistry, false, Duration.ofSeconds(30), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+        given(clusterRepository.existsById(CLUSTER_ID)).willReturn(true);
+    }
+
+    private void givenClusterMetadata() {
+        Node broker = new Node(0, "broker-0", 9092);
+        given(adminClientWrapper.describeClusterAsync(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                new AdminClientWrapper.ClusterInfo("kafka-id", broker, List.of(broker))));
+
+        givenTopics(Map.of("orders", ORDERS_ID));
+
+        ConsumerGroupDescription group = new ConsumerGroupDescription("order-service", false, List.of(),
+                "range", ConsumerGroupState.EMPTY, broker);
+        given(adminClientWrapper.listConsumerGroupsAsync(CLUSTER_ID)).willReturn(
+                CompletableFuture.completedFuture(List.of(new ConsumerGroupListing("order-service", false))));
+        given(adminClientWrapper.describeConsumerGroupsAsync(CLUSTER_ID, Set.of("order-service")))
+                .willReturn(CompletableFuture.completedFuture(Map.of("order-service", group)));
+    }
+
+    private void givenTopics(Map<String, Uuid> topicIds) {
+        given(adminClientWrapper.listTopicIdsAsync(CLUSTER_ID, true))
+                .willReturn(CompletableFuture.completedFuture(topicIds));
+        given(adminClientWrapper.describeTopicsInChunksAsync(eq(CLUSTER_ID), anyCollection())).willAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(1);
+            Map<String, TopicDescription> descriptions = names.stream()
+                    .collect(Collectors.toMap(Function.identity(), this::topicDescription));
+            return CompletableFuture.completedFuture(
+                    new AdminClientWrapper.ChunkedTopicDescriptions(descriptions, Set.of()));
+        });
+        given(adminClientWrapper.describeTopicConfigOverridesAsync(eq(CLUSTER_ID), anyCollection()))
+                .willAnswer(invocation -> {
+                    Collection<String> names = invocation.getArgument(1);
+                    return CompletableFuture.completedFuture(new AdminClientWrapper.TopicConfigOverrides(
+                            names.stream().collect(Collectors.toMap(
+                                    Function.identity(), name -> Map.of("retention.ms", "86400000"))),
+                            Map.of("cleanup.policy", "delete", "retention.ms", "604800000"),
+                            Set.of()));
+                });
+    }
+
+    private TopicDescription topicDescription(String name) {
+        if (topicOverrides.containsKey(name)) {
+            return topicOverrides.get(name);
+        }
+        Node broker = new Node(0, "broker-0", 9092);
+        return new TopicDescription(name, false,
+                List.of(new TopicPartitionInfo(0, broker, List.of(broker), List.of(broker))));
+    }
+
+    /**
+     * 브로커 1이 ISR에서 빠진 파티션 하나짜리 토픽.
+     */
+    private TopicDescription underReplicatedTopic(String name) {
+        Node broker0 = new Node(0, "broker-0", 9092);
+        Node broker1 = new Node(1, "broker-1", 9092);
+        return new TopicDescription(name, false,
+                List.of(new TopicPartitionInfo(0, broker0, List.of(broker0, broker1), List.of(broker0))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Set<String>> describedTopicSets() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(adminClientWrapper, atLeastOnce()).describeTopicsInChunksAsync(eq(CLUSTER_ID), captor.capture());
+        return captor.getAllValues().stream().map(Set::copyOf).collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("refresh()")
+    class Refresh {
+
+        @Test
+        @DisplayName("브로커, 토픽, 설정, 컨슈머 그룹을 모아 스냅샷을 만든다")
+        void shouldBuildSnapshot() {
+            // given
+            givenClusterMetadata();
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshot.brokers()).extracting(Node::id).containsExactly(0);
+            assertThat(snapshot.controllerId()).isEqualTo(0);
+            assertThat(snapshot.topics()).containsOnlyKeys("orders");
+            assertThat(snapshot.topicConfigs().effectiveConfig("orders")).hasValueSatisfying(configs ->
+                    assertThat(configs).containsEntry("cleanup.policy", "delete")
+                            .containsEntry("retention.ms", "86400000"));
+            assertThat(snapshot.consumerGroups()).containsOnlyKeys("order-service");
+            assertThat(snapshot.createdAt()).isEqualTo(NOW);
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID)).contains(snapshot);
+        }
+
+        @Test
+        @DisplayName("갱신할 때마다 버전이 증가한다")
+        void shouldIncrementVersion() {
+            // given
+            givenClusterMetadata();
+
+            // when
+            long first = snapshotter.refresh(CLUSTER_ID).join().version();
+            long second = snapshotter.refresh(CLUSTER_ID).join().version();
+
+            // then
+            assertThat(second).isGreaterThan(first);
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID).orElseThrow().version()).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("갱신이 실패하면 이전 스냅샷을 유지한다")
+        void shouldKeepPreviousSnapshotOnFailure() {
+            // given
+            givenClusterMetadata();
+            ClusterMetadataSnapshot previous = snapshotter.refresh(CLUSTER_ID).join();
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID)).willReturn(
+                    CompletableFuture.failedFuture(new KafkaTimeoutException("describeCluster")));
+
+            // when & then
+            assertThatThrownBy(() -> snapshotter.refresh(CLUSTER_ID).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(KafkaTimeoutException.class);
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID)).contains(previous);
+        }
+
+        @Test
+        @DisplayName("갱신 중 제거된 클러스터의 스냅샷은 저장하지 않는다")
+        void shouldNotStoreSnapshotForRemovedCluster() {
+            // given
+            givenClusterMetadata();
+            given(clusterRepository.existsById(CLUSTER_ID)).willReturn(false);
+
+            // when
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 토픽 갱신")
+    class IncrementalRefresh {
+
+        @BeforeEach
+        void setUp() {
+            givenClusterMetadata();
+            givenTopics(Map.of("orders", ORDERS_ID, "payments", PAYMENTS_ID));
+            snapshotter.refresh(CLUSTER_ID).join();
+            clearInvocations(adminClientWrapper, metadataCache);
+        }
+
+        @Test
+        @DisplayName("새로 생성된 토픽과 재검증 차례인 토픽만 조회한다")
+        void shouldDescribeOnlyCreatedAndRotatedTopics() {
+            // given
+            givenTopics(Map.of("orders", ORDERS_ID, "payments", PAYMENTS_ID, "users", USERS_ID));
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshot.topics()).containsOnlyKeys("orders", "payments", "users");
+            List<Set<String>> described = describedTopicSets();
+            assertThat(described).hasSize(1);
+            // 기존 토픽 2개를 2번의 갱신에 나누므로 한 번에 1개만 재검증
+            assertThat(described.get(0)).contains("users").hasSize(2);
+        }
+
+        @Test
+        @DisplayName("같은 이름으로 다시 생성된 토픽은 다시 조회하고 캐시를 비운다")
+        void shouldDescribeRecreatedTopic() {
+            // given
+            givenTopics(Map.of("orders", Uuid.randomUuid(), "payments", PAYMENTS_ID));
+
+            // when
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(describedTopicSets().get(0)).contains("orders");
+            verify(metadataCache).invalidate(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "orders");
+        }
+
+        @Test
+        @DisplayName("삭제된 토픽은 스냅샷에서 제거한다")
+        void shouldRemoveDeletedTopic() {
+            // given
+            givenTopics(Map.of("orders", ORDERS_ID));
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshot.topics()).containsOnlyKeys("orders");
+            assertThat(snapshot.topicConfigs().topics()).containsOnly("orders");
+        }
+
+        @Test
+        @DisplayName("기존 토픽은 재검증 주기 동안 모두 한 번씩 다시 조회한다")
+        void shouldRotateThroughExistingTopics() {
+            // when
+            snapshotter.refresh(CLUSTER_ID).join();
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            List<Set<String>> described = describedTopicSets();
+            assertThat(described).hasSize(2);
+            assertThat(described.stream().flatMap(Set::stream)).containsExactlyInAnyOrder("orders", "payments");
+        }
+
+        @Test
+        @DisplayName("상세 조회에 실패한 새 토픽은 다음 갱신에서 다시 조회한다")
+        void shouldRetryFailedNewTopic() {
+            // given
+            given(adminClientWrapper.listTopicIdsAsync(CLUSTER_ID, true)).willReturn(CompletableFuture.completedFuture(
+                    Map.of("orders", ORDERS_ID, "payments", PAYMENTS_ID, "users", USERS_ID)));
+            given(adminClientWrapper.describeTopicsInChunksAsync(eq(CLUSTER_ID), anyCollection())).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                            Map.of(), Set.of("users"))));
+            snapshotter.refresh(CLUSTER_ID).join();
+            givenTopics(Map.of("orders", ORDERS_ID, "payments", PAYMENTS_ID, "users", USERS_ID));
+            clearInvocations(adminClientWrapper);
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(describedTopicSets().get(0)).contains("users");
+            assertThat(snapshot.topics()).containsKey("users");
+        }
+    }
+
+    @Nested
+    @DisplayName("비정상 파티션 인덱스")
+    class PartitionHealth {
+
+        @BeforeEach
+        void setUp() {
+            givenClusterMetadata();
+            topicOverrides.put("payments", underReplicatedTopic("payments"));
+            givenTopics(Map.of("orders", ORDERS_ID, "payments", PAYMENTS_ID));
+        }
+
+        @Test
+        @DisplayName("스냅샷에 비정상 파티션만 담는다")
+        void shouldIndexUnhealthyPartitions() {
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            PartitionHealthIndex health = snapshot.partitionHealth();
+            assertThat(health.size()).isEqualTo(1);
+            assertThat(health.count(PartitionIssue.UNDER_REPLICATED)).isEqualTo(1);
+            assertThat(health.partitions("payments")).singleElement().satisfies(partition -> {
+                assertThat(partition.isr()).containsExactly(0);
+                assertThat(partition.replicas()).containsExactly(0, 1);
+            });
+            assertThat(health.partitions("orders")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비정상 토픽은 재검증 차례가 아니어도 매 갱신마다 다시 조회한다")
+        void shouldRedescribeUnhealthyTopicsEveryRefresh() {
+            // given
+            snapshotter.refresh(CLUSTER_ID).join();
+            clearInvocations(adminClientWrapper);
+
+            // when
+            snapshotter.refresh(CLUSTER_ID).join();
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            List<Set<String>> described = describedTopicSets();
+            assertThat(described).hasSize(2).allSatisfy(topics -> assertThat(topics).contains("payments"));
+        }
+
+        @Test
+        @DisplayName("복구된 토픽은 다음 갱신에서 인덱스에서 빠진다")
+        void shouldClearRecoveredTopic() {
+            // given
+            snapshotter.refresh(CLUSTER_ID).join();
+            topicOverrides.clear();
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshot.partitionHealth().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("삭제된 토픽은 인덱스에서 제거한다")
+        void shouldRemoveDeletedTopic() {
+            // given
+            snapshotter.refresh(CLUSTER_ID).join();
+            givenTopics(Map.of("orders", ORDERS_ID));
+
+            // when
+            ClusterMetadataSnapshot snapshot = snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(snapshot.partitionHealth().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("문제 유형별 파티션 수를 게이지로 노출한다")
+        void shouldExposeGauges() {
+            // when
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // then
+            assertThat(meterRegistry.get(ClusterMetadataSnapshotter.UNHEALTHY_PARTITIONS_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("issue", "under_replicated").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get(ClusterMetadataSnapshotter.UNHEALTHY_PARTITIONS_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("issue", "offline").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 관리")
+    class SnapshotManagement {
+
+        @Test
+        @DisplayName("경과 시간은 스냅샷 생성 시각 기준으로 계산한다")
+        void shouldComputeStaleness() {
+            // given
+            ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot(CLUSTER_ID, 1, NOW.minusSeconds(5),
+                    List.of(), -1, Map.of(), TopicConfigIndex.EMPTY, Map.of());
+
+            // when & then
+            assertThat(snapshotter.staleness(snapshot)).isEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("설정이 변경된 클러스터의 스냅샷을 버린다")
+        void shouldDropSnapshotOnReload() {
+            // given
+            givenClusterMetadata();
+            snapshotter.refresh(CLUSTER_ID).join();
+
+            // when
+            snapshotter.onClustersReloaded(Set.of(CLUSTER_ID));
+
+            // then
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("AdminClient 풀이 유휴 정리된 클러스터는 갱신하지 않고 스냅샷을 버린다")
+        void shouldSkipIdleCluster() {
+            // given
+            givenClusterMetadata();
+            snapshotter.refresh(CLUSTER_ID).join();
+            clearInvocations(adminClientWrapper);
+            given(clusterRepository.findById(CLUSTER_ID)).willReturn(Optional.of(Cluster.builder()
+                    .id(CLUSTER_ID)
+                    .name("Local")
+                    .bootstrapServers("localhost:9092")
+                    .build()));
+            given(adminClientWrapper.isClientIdle(CLUSTER_ID)).willReturn(true);
+
+            // when
+            snapshotter.runRefresh(CLUSTER_ID);
+
+            // then
+            assertThat(snapshotter.getSnapshot(CLUSTER_ID)).isEmpty();
+            verify(adminClientWrapper, never()).describeClusterAsync(CLUSTER_ID);
+            verify(adminClientWrapper, never()).listTopicIdsAsync(CLUSTER_ID, true);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * PartitionHealthIndex 단위 테스트.
+ */
+@DisplayName("PartitionHealthIndex")
+class PartitionHealthIndexTest {
+
+    private static final Node BROKER_0 = new Node(0, "broker-0", 9092);
+    private static final Node BROKER_1 = new Node(1, "broker-1", 9092);
+    private static final Node NO_LEADER = Node.noNode();
+
+    private static TopicDescription topic(String name, TopicPartitionInfo... partitions) {
+        return new TopicDescription(name, false, List.of(partitions));
+    }
+
+    private static TopicPartitionInfo healthy(int partition) {
+        return new TopicPartitionInfo(partition, BROKER_0, List.of(BROKER_0, BROKER_1), List.of(BROKER_0, BROKER_1));
+    }
+
+    private static TopicPartitionInfo underReplicated(int partition) {
+        return new TopicPartitionInfo(partition, BROKER_0, List.of(BROKER_0, BROKER_1), List.of(BROKER_0));
+    }
+
+    private static TopicPartitionInfo offline(int partition) {
+        return new TopicPartitionInfo(partition, NO_LEADER, List.of(BROKER_1), List.of());
+    }
+
+    private static TopicPartitionInfo nonPreferredLeader(int partition) {
+        return new TopicPartitionInfo(partition, BROKER_1, List.of(BROKER_0, BROKER_1), List.of(BROKER_0, BROKER_1));
+    }
+
+    @Nested
+    @DisplayName("문제 유형 판정")
+    class Issues {
+
+        @Test
+        @DisplayName("ISR이 레플리카보다 적으면 언더 레플리케이션이다")
+        void shouldDetectUnderReplicated() {
+            // when & then
+            assertThat(PartitionHealthIndex.issuesOf(underReplicated(0)))
+                    .containsExactly(PartitionIssue.UNDER_REPLICATED);
+        }
+
+        @Test
+        @DisplayName("리더가 -1이면 오프라인이며 선호 리더 여부는 판단하지 않는다")
+        void shouldDetectOffline() {
+            // when & then
+            assertThat(PartitionHealthIndex.issuesOf(offline(0)))
+                    .containsExactlyInAnyOrder(PartitionIssue.OFFLINE, PartitionIssue.UNDER_REPLICATED);
+        }
+
+        @Test
+        @DisplayName("리더가 첫 번째 레플리카가 아니면 선호 리더가 아니다")
+        void shouldDetectNonPreferredLeader() {
+            // when & then
+            assertThat(PartitionHealthIndex.issuesOf(nonPreferredLeader(0)))
+                    .containsExactly(PartitionIssue.NON_PREFERRED_LEADER);
+            assertThat(PartitionHealthIndex.issuesOf(healthy(0))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Lookup {
+
+        private final PartitionHealthIndex index = PartitionHealthIndex.of(Map.of(
+                "orders", topic("orders", healthy(0), underReplicated(2), nonPreferredLeader(1)),
+                "payments", topic("payments", offline(0)),
+                "clicks", topic("clicks", healthy(0))));
+
+        @Test
+        @DisplayName("문제 유형별 개수를 반환한다")
+        void shouldCountIssues() {
+            // when & then
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.count(PartitionIssue.UNDER_REPLICATED)).isEqualTo(2);
+            assertThat(index.count(PartitionIssue.OFFLINE)).isEqualTo(1);
+            assertThat(index.count(PartitionIssue.NON_PREFERRED_LEADER)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비정상 파티션을 토픽 이름, 파티션 번호순으로 반환한다")
+        void shouldListPartitionsInOrder() {
+            // when & then
+            assertThat(index.partitions((PartitionIssue) null))
+                    .extracting(UnhealthyPartition::topic, UnhealthyPartition::partition)
+                    .containsExactly(tuple("orders", 1), tuple("orders", 2), tuple("payments", 0));
+            assertThat(index.partitions(PartitionIssue.UNDER_REPLICATED))
+                    .extracting(UnhealthyPartition::topic, UnhealthyPartition::partition)
+                    .containsExactly(tuple("orders", 2), tuple("payments", 0));
+            assertThat(index.partitions("clicks")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("문제 유형에 해당하는 토픽을 반환한다")
+        void shouldReturnTopicsWithIssue() {
+            // when & then
+            assertThat(index.topicsWith(PartitionIssue.OFFLINE)).containsExactly("payments");
+            assertThat(index.topicsWith(PartitionIssue.UNDER_REPLICATED))
+                    .containsExactlyInAnyOrder("orders", "payments");
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class Incremental {
+
+        private final PartitionHealthIndex base = PartitionHealthIndex.of(Map.of(
+                "orders", topic("orders", underReplicated(0)),
+                "payments", topic("payments", offline(0))));
+
+        @Test
+        @DisplayName("다시 조회한 토픽만 교체하고 복구된 토픽은 제거한다")
+        void shouldReplaceChangedTopics() {
+            // when
+            PartitionHealthIndex updated = base.toBuilder()
+                    .putTopic(topic("orders", healthy(0)))
+                    .putTopic(topic("clicks", nonPreferredLeader(3)))
+                    .build();
+
+            // then
+            assertThat(updated.partitions("orders")).isEmpty();
+            assertThat(updated.partitions("payments")).hasSize(1);
+            assertThat(updated.count(PartitionIssue.NON_PREFERRED_LEADER)).isEqualTo(1);
+            assertThat(updated.count(PartitionIssue.UNDER_REPLICATED)).isEqualTo(1);
+            assertThat(base.count(PartitionIssue.UNDER_REPLICATED)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("삭제된 토픽을 제거한다")
+        void shouldRetainExistingTopics() {
+            // when
+            PartitionHealthIndex updated = base.toBuilder().retainTopics(List.of("orders")).build();
+
+            // then
+            assertThat(updated.topicsWith(PartitionIssue.UNDER_REPLICATED)).containsExactly("orders");
+            assertThat(updated.count(PartitionIssue.OFFLINE)).isZero();
+        }
+    }
+}
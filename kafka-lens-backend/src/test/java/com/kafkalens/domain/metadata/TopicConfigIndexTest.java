@@ -0,0 +1,131 @@
+package com.kafkalens.domain.metadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TopicConfigIndex 단위 테스트.
+ */
+@DisplayName("TopicConfigIndex")
+class TopicConfigIndexTest {
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "cleanup.policy", "delete",
+            "retention.ms", "604800000");
+
+    private final TopicConfigIndex index = TopicConfigIndex.of(
+            Map.of("orders", Map.of("retention.ms", "1209600000", "min.insync.replicas", "2"),
+                    "audit", Map.of("cleanup.policy", "compact"),
+                    "clicks", Map.of()),
+            DEFAULTS);
+
+    @Nested
+    @DisplayName("조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("적용 설정은 기본값 위에 토픽 수준 설정을 덮어쓴다")
+        void shouldOverlayOverridesOnDefaults() {
+            // when & then
+            assertThat(index.effectiveConfig("orders")).hasValue(Map.of(
+                    "cleanup.policy", "delete",
+                    "retention.ms", "1209600000",
+                    "min.insync.replicas", "2"));
+            assertThat(index.effectiveConfig("clicks")).hasValue(DEFAULTS);
+            assertThat(index.effectiveConfig("unknown")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("토픽 수준 설정만 따로 조회할 수 있다")
+        void shouldReturnOnlyOverrides() {
+            // when & then
+            assertThat(index.overrides("audit")).isEqualTo(Map.of("cleanup.policy", "compact"));
+            assertThat(index.overrides("clicks")).isEmpty();
+            assertThat(index.topics()).containsExactlyInAnyOrder("orders", "audit", "clicks");
+        }
+    }
+
+    @Nested
+    @DisplayName("find()")
+    class Find {
+
+        @Test
+        @DisplayName("토픽 수준 값과 기본값을 모두 검색한다")
+        void shouldMatchOverridesAndDefaults() {
+            // when
+            List<TopicConfigIndex.Match> matches = index.find("cleanup.policy", "delete"::equals);
+
+            // then
+            assertThat(matches).containsExactly(
+                    new TopicConfigIndex.Match("clicks", "delete", false),
+                    new TopicConfigIndex.Match("orders", "delete", false));
+        }
+
+        @Test
+        @DisplayName("토픽 수준 값이 조건에 맞지 않으면 기본값이 맞아도 제외한다")
+        void shouldNotFallBackToDefaultWhenOverridden() {
+            // when
+            List<TopicConfigIndex.Match> matches = index.find("retention.ms", value -> value.equals("604800000"));
+
+            // then
+            assertThat(matches).extracting(TopicConfigIndex.Match::topic).containsExactly("audit", "clicks");
+        }
+
+        @Test
+        @DisplayName("기본값이 없는 키는 지정한 토픽만 검색된다")
+        void shouldSkipTopicsWithoutValue() {
+            // when
+            List<TopicConfigIndex.Match> matches = index.find("min.insync.replicas", value -> true);
+
+            // then
+            assertThat(matches).containsExactly(new TopicConfigIndex.Match("orders", "2", true));
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("이전 인덱스를 유지한 채 바뀐 토픽만 교체한다")
+        void shouldReplaceChangedTopicsOnly() {
+            // when
+            TopicConfigIndex updated = index.toBuilder()
+                    .retainTopics(Set.of("orders", "audit"))
+                    .putTopic("audit", Map.of())
+                    .putTopic("payments", Map.of("retention.ms", "-1"))
+                    .build();
+
+            // then
+            assertThat(updated.topics()).containsExactlyInAnyOrder("orders", "audit", "payments");
+            assertThat(updated.overrides("orders")).containsEntry("retention.ms", "1209600000");
+            assertThat(updated.overrides("audit")).isEmpty();
+            assertThat(updated.effectiveConfig("payments").orElseThrow()).containsEntry("retention.ms", "-1");
+            assertThat(index.topics()).contains("clicks");
+        }
+
+        @Test
+        @DisplayName("같은 값 문자열은 하나의 인스턴스를 공유한다")
+        void shouldShareEqualStrings() {
+            // given
+            TopicConfigIndex built = TopicConfigIndex.of(
+                    Map.of("a", Map.of("retention.ms", new String("-1")),
+                            "b", Map.of("retention.ms", new String("-1"))),
+                    Map.of());
+
+            // when
+            String first = built.overrides("a").get("retention.ms");
+            String second = built.overrides("b").get("retention.ms");
+
+            // then
+            assertThat(first).isSameAs(second);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.kafkalens.domain.metadata;
+
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TopicConsumerIndex 단위 테스트.
+ */
+@DisplayName("TopicConsumerIndex")
+class TopicConsumerIndexTest {
+
+    private static ConsumerGroupDescription group(String groupId, List<Set<TopicPartition>> memberAssignments) {
+        List<MemberDescription> members = memberAssignments.stream()
+                .map(partitions -> new MemberDescription("member-" + partitions.hashCode(), Optional.empty(),
+                        "client", "/127.0.0.1", new MemberAssignment(partitions)))
+                .toList();
+        return new ConsumerGroupDescription(groupId, false, members, "range",
+                members.isEmpty() ? ConsumerGroupState.EMPTY : ConsumerGroupState.STABLE,
+                new Node(0, "localhost", 9092));
+    }
+
+    @Test
+    @DisplayName("멤버 할당을 뒤집어 토픽별 그룹과 할당 파티션 수를 만든다")
+    void shouldIndexAssignmentsByTopic() {
+        // given
+        Map<String, ConsumerGroupDescription> groups = Map.of(
+                "orders-consumer", group("orders-consumer", List.of(
+                        Set.of(new TopicPartition("orders", 0), new TopicPartition("orders", 1)),
+                        Set.of(new TopicPartition("orders", 2), new TopicPartition("payments", 0)))),
+                "audit", group("audit", List.of(Set.of(new TopicPartition("orders", 0)))),
+                "idle", group("idle", List.of()));
+
+        // when
+        TopicConsumerIndex index = TopicConsumerIndex.of(groups);
+
+        // then
+        assertThat(index.groups("orders")).containsExactly(
+                Map.entry("audit", 1), Map.entry("orders-consumer", 3));
+        assertThat(index.groups("payments")).containsExactly(Map.entry("orders-consumer", 1));
+        assertThat(index.groups("unknown")).isEmpty();
+        assertThat(index.topicCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 컨슈머 그룹 상세로 역인덱스를 함께 만든다")
+    void shouldBuildIndexWithSnapshot() {
+        // given
+        Map<String, ConsumerGroupDescription> groups = Map.of(
+                "orders-consumer", group("orders-consumer", List.of(Set.of(new TopicPartition("orders", 0)))));
+
+        // when
+        ClusterMetadataSnapshot snapshot = new ClusterMetadataSnapshot("local", 1, Instant.now(), List.of(), -1,
+                Map.of(), TopicConfigIndex.EMPTY, groups);
+
+        // then
+        assertThat(snapshot.topicConsumers().groups("orders")).containsOnlyKeys("orders-consumer");
+        assertThat(TopicConsumerIndex.EMPTY.groups("orders")).isEmpty();
+    }
+}
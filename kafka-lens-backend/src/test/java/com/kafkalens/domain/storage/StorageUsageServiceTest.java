@@ -0,0 +1,308 @@
+package com.kafkalens.domain.storage;
+
+import com.kafkalens.common.exception.ClusterNotFoundException;
+import com.kafkalens.common.exception.KafkaConnectionException;
+import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * StorageUsageService 테스트 클래스.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageUsageService")
+class StorageUsageServiceTest {
+
+    private static final String CLUSTER_ID = "local";
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration FAILURE_BACKOFF = Duration.ofSeconds(10);
+
+    @Mock
+    private AdminClientWrapper adminClientWrapper;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    private MutableClock clock;
+    private StorageUsageService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        service = new StorageUsageService(
+                adminClientWrapper, clusterService, metadataSnapshotter, TTL, FAILURE_BACKOFF, clock);
+    }
+
+    private void givenBrokers(Integer... brokerIds) {
+        given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                CLUSTER_ID, 1, clock.instant(),
+                Arrays.stream(brokerIds).map(id -> new Node(id, "broker-" + id, 9092)).collect(Collectors.toList()),
+                brokerIds[0], Map.of(), TopicConfigIndex.EMPTY, Map.of())));
+    }
+
+    private static CompletableFuture<AdminClientWrapper.LogDirDescriptions> logDirs(long ordersSize) {
+        return CompletableFuture.completedFuture(new AdminClientWrapper.LogDirDescriptions(Map.of(
+                1, Map.of("/data", new LogDirDescription(null, Map.of(
+                        new TopicPartition("orders", 0), new ReplicaInfo(ordersSize, 0L, false),
+                        new TopicPartition("clicks", 0), new ReplicaInfo(10L, 0L, false))))),
+                Set.of()));
+    }
+
+    @Nested
+    @DisplayName("집계 조회")
+    class GetUsage {
+
+        @Test
+        @DisplayName("모든 브로커의 로그 디렉터리를 조회해 큰 토픽부터 반환한다")
+        void shouldReturnLargestTopics() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            givenBrokers(1);
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1))).willReturn(logDirs(500L));
+
+            // when
+            List<TopicStorage> result = service.getLargestTopics(CLUSTER_ID, 1).join();
+
+            // then
+            assertThat(result).containsExactly(new TopicStorage("orders", 500L, 1));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 describeCluster로 브로커를 찾는다")
+        void shouldFallBackToDescribeCluster() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID)).willReturn(CompletableFuture.completedFuture(
+                    new AdminClientWrapper.ClusterInfo("kafka", null, List.of(new Node(1, "broker-1", 9092)))));
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1))).willReturn(logDirs(500L));
+
+            // when
+            List<BrokerStorage> result = service.getBrokerUsage(CLUSTER_ID).join();
+
+            // then
+            assertThat(result).extracting(BrokerStorage::sizeBytes).containsExactly(510L);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터면 예외를 발생시킨다")
+        void shouldRejectUnknownCluster() {
+            // given
+            given(clusterService.existsById("unknown")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> service.getUsage("unknown")).isInstanceOf(ClusterNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("캐싱")
+    class Caching {
+
+        @Test
+        @DisplayName("TTL 동안은 다시 조회하지 않고, 만료되면 다시 조회한다")
+        void shouldReuseUntilExpired() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            givenBrokers(1);
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1)))
+                    .willReturn(logDirs(500L), logDirs(800L));
+
+            // when
+            service.getUsage(CLUSTER_ID).join();
+            clock.advance(TTL.minusSeconds(1));
+            long cached = service.getUsage(CLUSTER_ID).join().topic("orders").orElseThrow().sizeBytes();
+            clock.advance(Duration.ofSeconds(1));
+            long refreshed = service.getUsage(CLUSTER_ID).join().topic("orders").orElseThrow().sizeBytes();
+
+            // then
+            assertThat(cached).isEqualTo(500L);
+            assertThat(refreshed).isEqualTo(800L);
+            verify(adminClientWrapper, times(2)).describeLogDirsAsync(CLUSTER_ID, List.of(1));
+        }
+
+        @Test
+        @DisplayName("진행 중인 조회는 동시에 들어온 요청이 함께 기다린다")
+        void shouldShareInFlightLoad() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            givenBrokers(1);
+            CompletableFuture<AdminClientWrapper.LogDirDescriptions> pending = new CompletableFuture<>();
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1))).willReturn(pending);
+
+            // when
+            CompletableFuture<StorageUsage> first = service.getUsage(CLUSTER_ID);
+            CompletableFuture<StorageUsage> second = service.getUsage(CLUSTER_ID);
+            pending.complete(logDirs(500L).join());
+
+            // then
+            assertThat(first.join()).isSameAs(second.join());
+            verify(adminClientWrapper).describeLogDirsAsync(CLUSTER_ID, List.of(1));
+        }
+
+        @Test
+        @DisplayName("실패한 조회는 재시도 대기 시간이 지난 뒤의 요청에서 다시 조회한다")
+        void shouldRetryAfterFailureBackoff() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            givenBrokers(1);
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1))).willReturn(
+                    CompletableFuture.failedFuture(new KafkaConnectionException(CLUSTER_ID, "unreachable")),
+                    logDirs(500L));
+
+            // when
+            boolean firstFailed = service.getUsage(CLUSTER_ID).isCompletedExceptionally();
+            clock.advance(FAILURE_BACKOFF);
+            StorageUsage second = service.getUsage(CLUSTER_ID).join();
+
+            // then
+            assertThat(firstFailed).isTrue();
+            assertThat(second.topic("orders")).isPresent();
+        }
+
+        @Test
+        @DisplayName("재시도 대기 시간 동안은 실패한 조회를 그대로 반환하고 브로커를 다시 조회하지 않는다")
+        void shouldKeepFailureDuringBackoff() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            givenBrokers(1);
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1))).willReturn(
+                    CompletableFuture.failedFuture(new KafkaConnectionException(CLUSTER_ID, "unreachable")));
+
+            // when
+            service.getUsage(CLUSTER_ID);
+            clock.advance(FAILURE_BACKOFF.minusSeconds(1));
+            boolean failedAgain = service.getUsage(CLUSTER_ID).isCompletedExceptionally();
+            Optional<StorageUsage> peeked = service.peekUsage(CLUSTER_ID);
+
+            // then
+            assertThat(failedAgain).isTrue();
+            assertThat(peeked).isEmpty();
+            verify(adminClientWrapper).describeLogDirsAsync(CLUSTER_ID, List.of(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("peekUsage()")
+    class PeekUsage {
+
+        @Test
+        @DisplayName("기다리지 않고 마지막 집계를 반환하며, 만료되면 새 집계가 끝날 때까지 이전 집계를 반환한다")
+        void shouldReturnLatestWithoutWaiting() {
+            // given
+            givenBrokers(1);
+            CompletableFuture<AdminClientWrapper.LogDirDescriptions> pending = new CompletableFuture<>();
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1)))
+                    .willReturn(logDirs(500L), pending);
+
+            // when
+            Optional<StorageUsage> first = service.peekUsage(CLUSTER_ID);
+            clock.advance(TTL);
+            Optional<StorageUsage> stale = service.peekUsage(CLUSTER_ID);
+            pending.complete(logDirs(800L).join());
+            Optional<StorageUsage> refreshed = service.peekUsage(CLUSTER_ID);
+
+            // then
+            assertThat(first.orElseThrow().topic("orders").orElseThrow().sizeBytes()).isEqualTo(500L);
+            assertThat(stale.orElseThrow().topic("orders").orElseThrow().sizeBytes()).isEqualTo(500L);
+            assertThat(refreshed.orElseThrow().topic("orders").orElseThrow().sizeBytes()).isEqualTo(800L);
+        }
+
+        @Test
+        @DisplayName("새 집계가 끝나면 이전 집계를 직전 집계로 함께 반환한다")
+        void shouldKeepPreviousUsage() {
+            // given
+            givenBrokers(1);
+            given(adminClientWrapper.describeLogDirsAsync(CLUSTER_ID, List.of(1)))
+                    .willReturn(logDirs(500L), logDirs(800L));
+
+            // when
+            StorageUsageService.RecentUsages first = service.peekRecentUsages(CLUSTER_ID).orElseThrow();
+            clock.advance(TTL);
+            service.peekRecentUsages(CLUSTER_ID);
+            StorageUsageService.RecentUsages second = service.peekRecentUsages(CLUSTER_ID).orElseThrow();
+
+            // then
+            assertThat(first.previous()).isNull();
+            assertThat(second.latest().topic("orders").orElseThrow().sizeBytes()).isEqualTo(800L);
+            assertThat(second.previous()).isSameAs(first.latest());
+        }
+
+        @Test
+        @DisplayName("요청 전송이 바로 실패해도 예외를 던지지 않는다")
+        void shouldNotThrowOnSynchronousFailure() {
+            // given
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.empty());
+            given(adminClientWrapper.describeClusterAsync(CLUSTER_ID))
+                    .willThrow(new KafkaConnectionException(CLUSTER_ID, "circuit open"));
+
+            // when & then
+            assertThat(service.peekUsage(CLUSTER_ID)).isEmpty();
+        }
+    }
+
+    /**
+     * 테스트에서 시간을 앞으로 돌릴 수 있는 시계.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
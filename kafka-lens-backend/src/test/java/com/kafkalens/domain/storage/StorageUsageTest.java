@@ -0,0 +1,121 @@
+package com.kafkalens.domain.storage;
+
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.KafkaStorageException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * StorageUsage 단위 테스트.
+ */
+@DisplayName("StorageUsage")
+class StorageUsageTest {
+
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition ORDERS_1 = new TopicPartition("orders", 1);
+    private static final TopicPartition CLICKS_0 = new TopicPartition("clicks", 0);
+    private static final TopicPartition AUDIT_0 = new TopicPartition("audit", 0);
+
+    private final StorageUsage usage = StorageUsage.aggregate(Instant.EPOCH, Map.of(
+            1, Map.of(
+                    "/data1", new LogDirDescription(null, Map.of(
+                            ORDERS_0, new ReplicaInfo(500L, 0L, false),
+                            CLICKS_0, new ReplicaInfo(100L, 0L, false)), 10_000L, 4_000L),
+                    "/data2", new LogDirDescription(null, Map.of(
+                            ORDERS_1, new ReplicaInfo(300L, 0L, false),
+                            // 다른 디렉터리로 이동 중인 레플리카도 디스크를 차지
+                            ORDERS_0, new ReplicaInfo(200L, 0L, true)))),
+            2, Map.of(
+                    "/data1", new LogDirDescription(null, Map.of(
+                            ORDERS_0, new ReplicaInfo(450L, 0L, false),
+                            AUDIT_0, new ReplicaInfo(100L, 0L, false))),
+                    "/broken", new LogDirDescription(new KafkaStorageException("offline"), Map.of()))),
+            Set.of(3));
+
+    @Nested
+    @DisplayName("토픽 사용량")
+    class TopicUsage {
+
+        @Test
+        @DisplayName("모든 레플리카 크기를 토픽별로 합산한다")
+        void shouldSumReplicasPerTopic() {
+            // when & then
+            assertThat(usage.topic("orders")).hasValue(new TopicStorage("orders", 1450L, 4));
+            assertThat(usage.topic("clicks")).hasValue(new TopicStorage("clicks", 100L, 1));
+            assertThat(usage.topic("unknown")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("크기 내림차순으로 앞에서 N개를 반환하고, 크기가 같으면 이름순이다")
+        void shouldReturnLargestTopics() {
+            // when & then
+            assertThat(usage.largestTopics(2)).extracting(TopicStorage::topic).containsExactly("orders", "audit");
+            assertThat(usage.largestTopics(10)).extracting(TopicStorage::topic)
+                    .containsExactly("orders", "audit", "clicks");
+            assertThat(usage.largestTopics(0)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("파티션의 브로커별 레플리카 크기를 반환한다")
+        void shouldReturnReplicaSizes() {
+            // when & then
+            assertThat(usage.replicaSizes(ORDERS_0)).containsExactly(
+                    Map.entry(1, 700L), Map.entry(2, 450L));
+            assertThat(usage.replicaSizes(new TopicPartition("orders", 9))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("파티션 크기는 가장 큰 레플리카 크기이다")
+        void shouldReturnPartitionSize() {
+            // when & then
+            assertThat(usage.partitionSizeBytes(ORDERS_0)).isEqualTo(700L);
+            assertThat(usage.partitionSizeBytes(new TopicPartition("orders", 9))).isEqualTo(-1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("브로커 사용량")
+    class BrokerUsage {
+
+        @Test
+        @DisplayName("브로커와 로그 디렉터리별로 합산한다")
+        void shouldSumPerBrokerAndLogDir() {
+            // when & then
+            assertThat(usage.brokers()).extracting(BrokerStorage::brokerId, BrokerStorage::sizeBytes,
+                    BrokerStorage::replicaCount).containsExactly(tuple(1, 1100L, 4), tuple(2, 550L, 2));
+            assertThat(usage.brokers().get(0).logDirs()).containsExactly(
+                    new LogDirStorage("/data1", 600L, 2, 10_000L, 4_000L, null),
+                    new LogDirStorage("/data2", 500L, 2, null, null, null));
+        }
+
+        @Test
+        @DisplayName("오류가 있는 로그 디렉터리는 오류와 함께 0으로 표시한다")
+        void shouldReportLogDirError() {
+            // when
+            LogDirStorage broken = usage.brokers().get(1).logDirs().get(0);
+
+            // then
+            assertThat(broken.path()).isEqualTo("/broken");
+            assertThat(broken.sizeBytes()).isZero();
+            assertThat(broken.error()).isEqualTo("offline");
+        }
+
+        @Test
+        @DisplayName("조회에 실패한 브로커는 부분 결과로 표시한다")
+        void shouldMarkPartial() {
+            // when & then
+            assertThat(usage.isPartial()).isTrue();
+            assertThat(usage.failedBrokers()).containsExactly(3);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.kafkalens.domain.topic;
+
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.storage.StorageUsageService;
+import com.kafkalens.infrastructure.kafka.AdminBulkhead;
+import com.kafkalens.infrastructure.kafka.AdminCircuitBreaker;
+import com.kafkalens.infrastructure.kafka.AdminClientFactory;
+import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import com.kafkalens.infrastructure.kafka.AdminLatencyTracker;
+import com.kafkalens.infrastructure.kafka.AdminMetadataCache;
+import com.kafkalens.infrastructure.kafka.AdminRequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * TopicService.getTopic 지연 시간 벤치마크.
+ *
+ * <p>로컬 Kafka 브로커(Testcontainers)를 대상으로 직렬 4회 호출과
+ * 병렬 파이프라인 getTopic의 중앙값 지연 시간을 비교합니다.
+ * Docker가 없으면 건너뜁니다.</p>
+ *
+ * <p>벽시계 시간을 비교하므로 공유 CI 러너에서는 결과가 흔들립니다. 기본 테스트에서는 제외되며
+ * {@code mvn test -Pbenchmark}로 실행합니다. 호출 순서는 {@code TopicServiceTest}에서 목으로 검증합니다.</p>
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TopicService 지연 시간 벤치마크")
+class TopicServiceLatencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicServiceLatencyBenchmarkTest.class);
+
+    private static final String CLUSTER_ID = "benchmark";
+    private static final String TOPIC_NAME = "benchmark-topic";
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 100;
+
+    @Container
+    private static final KafkaContainer KAFKA = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.3"));
+
+    private static AdminClientFactory adminClientFactory;
+    private static AdminClientWrapper adminClientWrapper;
+    private static TopicService topicService;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, KAFKA.getBootstrapServers()))) {
+            admin.createTopics(List.of(new NewTopic(TOPIC_NAME, 12, (short) 1))).all().get();
+        }
+
+        ClusterRepository clusterRepository = mock(ClusterRepository.class);
+        given(clusterRepository.findById(CLUSTER_ID)).willReturn(Optional.of(Cluster.builder()
+                .id(CLUSTER_ID)
+                .name("Benchmark")
+                .bootstrapServers(KAFKA.getBootstrapServers())
+                .build()));
+        ClusterService clusterService = mock(ClusterService.class);
+        given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+
+        // 캐시를 끄고 매 호출이 브로커까지 가도록 설정
+        AdminMetadataCache metadataCache = new AdminMetadataCache(false, 0, 0, 0, 0, 0, 0);
+        adminClientFactory = new AdminClientFactory(clusterRepository, metadataCache, new SimpleMeterRegistry(),
+                new AdminCircuitBreaker(new SimpleMeterRegistry(), true, 5, 30000),
+                new AdminBulkhead(new SimpleMeterRegistry(), 64, 256, 0, 1, 64, 256, 0, 1));
+        ReflectionTestUtils.setField(adminClientFactory, "requestTimeoutMs", 30000);
+        ReflectionTestUtils.setField(adminClientFactory, "connectionTimeoutMs", 10000);
+        ReflectionTestUtils.setField(adminClientFactory, "defaultApiTimeoutMs", 60000);
+        ReflectionTestUtils.setField(adminClientFactory, "retries", 3);
+        ReflectionTestUtils.setField(adminClientFactory, "retryBackoffMs", 100);
+
+        adminClientWrapper = new AdminClientWrapper(adminClientFactory, metadataCache,
+                new AdminRequestCoalescer(new SimpleMeterRegistry(), false),
+                new AdminLatencyTracker(new SimpleMeterRegistry(), false, 0.99, 3.0, 2000, 60000, 20),
+                60000, 500, 4, 1000, 100);
+        // 스냅샷 없이 매번 브로커에 조회
+        ClusterMetadataSnapshotter metadataSnapshotter = new ClusterMetadataSnapshotter(
+                adminClientWrapper, metadataCache, clusterRepository, new SimpleMeterRegistry(), false, 30000, 10);
+        // 백그라운드 디스크 사용량 조회(describeLogDirs)가 측정에 섞이지 않도록 목으로 대체
+        topicService = new TopicService(adminClientWrapper, clusterService, metadataSnapshotter,
+                mock(StorageUsageService.class));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (adminClientFactory != null) {
+            adminClientFactory.closeAll();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 getTopic은 직렬 호출보다 중앙값 지연 시간이 짧다")
+    void getTopic_parallelPipeline_reducesLatency() {
+        // given
+        Supplier<Long> serial = () -> {
+            TopicDescription description = adminClientWrapper.describeTopic(CLUSTER_ID, TOPIC_NAME);
+            adminClientWrapper.describeTopicConfigs(CLUSTER_ID, Set.of(TOPIC_NAME));
+            List<TopicPartition> partitions = description.partitions().stream()
+                    .map(p -> new TopicPartition(TOPIC_NAME, p.partition()))
+                    .collect(Collectors.toList());
+            adminClientWrapper.getBeginningOffsets(CLUSTER_ID, partitions);
+            return (long) adminClientWrapper.getEndOffsets(CLUSTER_ID, partitions).size();
+        };
+        Supplier<Long> parallel = () -> (long) topicService.getTopic(CLUSTER_ID, TOPIC_NAME).join().data()
+                .partitions().size();
+
+        // when
+        long serialMedianMicros = medianMicros(serial);
+        long parallelMedianMicros = medianMicros(parallel);
+
+        // then
+        log.info("getTopic median latency - serial: {} us, parallel: {} us", serialMedianMicros, parallelMedianMicros);
+        assertThat(parallel.get()).isEqualTo(serial.get());
+        assertThat(parallelMedianMicros).isLessThan(serialMedianMicros);
+    }
+
+    private static long medianMicros(Supplier<Long> call) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            call.get();
+        }
+
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ITERATIONS / 2];
+    }
+}
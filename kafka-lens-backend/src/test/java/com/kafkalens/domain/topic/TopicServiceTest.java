@@ -3,7 +3,17 @@ package com.kafkalens.domain.topic;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.common.exception.TopicNotFoundException;
 import com.kafkalens.domain.cluster.ClusterService;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshot;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import com.kafkalens.domain.metadata.PartitionIssue;
+import com.kafkalens.domain.metadata.SnapshotResult;
+import com.kafkalens.domain.metadata.UnhealthyPartition;
+import com.kafkalens.domain.metadata.TopicConfigIndex;
+import com.kafkalens.domain.storage.StorageUsage;
+import com.kafkalens.domain.storage.StorageUsageService;
 import com.kafkalens.infrastructure.kafka.AdminClientWrapper;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartition;
@@ -16,12 +26,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * TopicService 단위 테스트.
@@ -33,6 +51,9 @@ import static org.mockito.Mockito.verify;
  *   <li>listTopics: 토픽 목록 조회</li>
  *   <li>getTopic: 토픽 상세 조회</li>
  *   <li>getTopicPartitions: 토픽 파티션 조회</li>
+ *   <li>findTopicsByConfig: 설정 값으로 토픽 검색</li>
+ *   <li>getPartitionHealth: 비정상 파티션 조회</li>
+ *   <li>디스크 사용량: 마지막 집계의 토픽/레플리카 크기</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +65,12 @@ class TopicServiceTest {
     @Mock
     private ClusterService clusterService;
 
+    @Mock
+    private ClusterMetadataSnapshotter metadataSnapshotter;
+
+    @Mock
+    private StorageUsageService storageUsageService;
+
     private TopicService topicService;
 
     private static final String CLUSTER_ID = "local";
@@ -52,7 +79,7 @@ class TopicServiceTest {
 
     @BeforeEach
     void setUp() {
-        topicService = new TopicService(adminClientWrapper, clusterService);
+        topicService = new TopicService(adminClientWrapper, clusterService, metadataSnapshotter, storageUsageService);
     }
 
     @Nested
@@ -65,20 +92,22 @@ class TopicServiceTest {
             // given
             Set<String> topicNames = Set.of("topic-1", "topic-2", "topic-3");
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.listTopics(CLUSTER_ID, false)).willReturn(topicNames);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
 
             Map<String, TopicDescription> descriptions = createMockTopicDescriptions(topicNames);
-            given(adminClientWrapper.describeTopics(CLUSTER_ID, topicNames)).willReturn(descriptions);
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(descriptions, Set.of())));
 
             // when
-            List<Topic> result = topicService.listTopics(CLUSTER_ID, false);
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
 
             // then
             assertThat(result).hasSize(3);
             assertThat(result).extracting(Topic::name)
                     .containsExactlyInAnyOrder("topic-1", "topic-2", "topic-3");
             verify(clusterService).existsById(CLUSTER_ID);
-            verify(adminClientWrapper).listTopics(CLUSTER_ID, false);
+            verify(adminClientWrapper).listTopicsAsync(CLUSTER_ID, false);
         }
 
         @Test
@@ -87,18 +116,20 @@ class TopicServiceTest {
             // given
             Set<String> topicNames = Set.of("topic-1", INTERNAL_TOPIC);
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.listTopics(CLUSTER_ID, true)).willReturn(topicNames);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, true))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
 
             Map<String, TopicDescription> descriptions = createMockTopicDescriptions(topicNames, true);
-            given(adminClientWrapper.describeTopics(CLUSTER_ID, topicNames)).willReturn(descriptions);
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(descriptions, Set.of())));
 
             // when
-            List<Topic> result = topicService.listTopics(CLUSTER_ID, true);
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, true).join().data();
 
             // then
             assertThat(result).hasSize(2);
             assertThat(result).anyMatch(t -> t.name().equals(INTERNAL_TOPIC) && t.isInternal());
-            verify(adminClientWrapper).listTopics(CLUSTER_ID, true);
+            verify(adminClientWrapper).listTopicsAsync(CLUSTER_ID, true);
         }
 
         @Test
@@ -106,15 +137,37 @@ class TopicServiceTest {
         void testListTopics_noTopics_returnsEmptyList() {
             // given
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.listTopics(CLUSTER_ID, false)).willReturn(Set.of());
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(Set.of()));
 
             // when
-            List<Topic> result = topicService.listTopics(CLUSTER_ID, false);
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
 
             // then
             assertThat(result).isEmpty();
         }
 
+        @Test
+        @DisplayName("일부 청크가 실패하면 조회된 토픽만 반환한다")
+        void testListTopics_partialChunks_returnsDescribedTopics() {
+            // given
+            Set<String> topicNames = Set.of("topic-1", "topic-2");
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
+
+            Map<String, TopicDescription> descriptions = createMockTopicDescriptions(Set.of("topic-1"));
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                            descriptions, Set.of("topic-2"))));
+
+            // when
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
+
+            // then
+            assertThat(result).extracting(Topic::name).containsExactly("topic-1");
+        }
+
         @Test
         @DisplayName("존재하지 않는 클러스터로 조회하면 예외를 발생시킨다")
         void testListTopics_nonExistingCluster_throwsException() {
@@ -133,13 +186,15 @@ class TopicServiceTest {
             // given
             Set<String> topicNames = Set.of(TOPIC_NAME);
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.listTopics(CLUSTER_ID, false)).willReturn(topicNames);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
 
             Map<String, TopicDescription> descriptions = createMockTopicDescriptions(topicNames, 3, 2);
-            given(adminClientWrapper.describeTopics(CLUSTER_ID, topicNames)).willReturn(descriptions);
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(descriptions, Set.of())));
 
             // when
-            List<Topic> result = topicService.listTopics(CLUSTER_ID, false);
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
 
             // then
             assertThat(result).hasSize(1);
@@ -160,7 +215,8 @@ class TopicServiceTest {
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
 
             TopicDescription description = createMockTopicDescription(TOPIC_NAME, 3, 2, false);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(description);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(description));
 
             Map<String, Map<String, String>> configs = Map.of(
                     TOPIC_NAME, Map.of(
@@ -168,7 +224,8 @@ class TopicServiceTest {
                             "retention.ms", "604800000"
                     )
             );
-            given(adminClientWrapper.describeTopicConfigs(CLUSTER_ID, Set.of(TOPIC_NAME))).willReturn(configs);
+            given(adminClientWrapper.describeTopicConfigsAsync(CLUSTER_ID, Set.of(TOPIC_NAME)))
+                    .willReturn(CompletableFuture.completedFuture(configs));
 
             // 파티션 오프셋 정보
             List<TopicPartition> partitions = List.of(
@@ -186,11 +243,13 @@ class TopicServiceTest {
                     partitions.get(1), 150L,
                     partitions.get(2), 200L
             );
-            given(adminClientWrapper.getBeginningOffsets(CLUSTER_ID, partitions)).willReturn(beginningOffsets);
-            given(adminClientWrapper.getEndOffsets(CLUSTER_ID, partitions)).willReturn(endOffsets);
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(beginningOffsets));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            TopicDetail result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME);
+            TopicDetail result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME).join().data();
 
             // then
             assertThat(result).isNotNull();
@@ -199,7 +258,7 @@ class TopicServiceTest {
             assertThat(result.replicationFactor()).isEqualTo(2);
             assertThat(result.isInternal()).isFalse();
             assertThat(result.configs()).containsEntry("cleanup.policy", "delete");
-            verify(adminClientWrapper).describeTopic(CLUSTER_ID, TOPIC_NAME);
+            verify(adminClientWrapper).describeTopicAsync(CLUSTER_ID, TOPIC_NAME);
         }
 
         @Test
@@ -209,10 +268,12 @@ class TopicServiceTest {
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
 
             TopicDescription description = createMockTopicDescription(TOPIC_NAME, 2, 3, false);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(description);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(description));
 
             Map<String, Map<String, String>> configs = Map.of(TOPIC_NAME, Map.of());
-            given(adminClientWrapper.describeTopicConfigs(CLUSTER_ID, Set.of(TOPIC_NAME))).willReturn(configs);
+            given(adminClientWrapper.describeTopicConfigsAsync(CLUSTER_ID, Set.of(TOPIC_NAME)))
+                    .willReturn(CompletableFuture.completedFuture(configs));
 
             List<TopicPartition> partitions = List.of(
                     new TopicPartition(TOPIC_NAME, 0),
@@ -226,11 +287,13 @@ class TopicServiceTest {
                     partitions.get(0), 100L,
                     partitions.get(1), 200L
             );
-            given(adminClientWrapper.getBeginningOffsets(CLUSTER_ID, partitions)).willReturn(beginningOffsets);
-            given(adminClientWrapper.getEndOffsets(CLUSTER_ID, partitions)).willReturn(endOffsets);
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(beginningOffsets));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            TopicDetail result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME);
+            TopicDetail result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME).join().data();
 
             // then
             assertThat(result.partitions()).hasSize(2);
@@ -252,16 +315,51 @@ class TopicServiceTest {
             assertThat(partition1.messageCount()).isEqualTo(190L);
         }
 
+        @Test
+        @DisplayName("독립적인 조회는 이전 응답을 기다리지 않고 함께 전송된다")
+        void testGetTopic_issuesIndependentCallsConcurrently() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+
+            CompletableFuture<TopicDescription> pendingDescription = new CompletableFuture<>();
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME)).willReturn(pendingDescription);
+            given(adminClientWrapper.describeTopicConfigsAsync(CLUSTER_ID, Set.of(TOPIC_NAME)))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(TOPIC_NAME, Map.of())));
+
+            List<TopicPartition> partitions = List.of(new TopicPartition(TOPIC_NAME, 0));
+            CompletableFuture<Map<TopicPartition, Long>> pendingBeginning = new CompletableFuture<>();
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions)).willReturn(pendingBeginning);
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 100L)));
+
+            // when
+            CompletableFuture<SnapshotResult<TopicDetail>> result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME);
+
+            // then - 토픽 상세 응답 전에 설정 조회가 전송된다
+            verify(adminClientWrapper).describeTopicConfigsAsync(CLUSTER_ID, Set.of(TOPIC_NAME));
+
+            pendingDescription.complete(createMockTopicDescription(TOPIC_NAME, 1, 1, false));
+
+            // then - 시작 오프셋 응답 전에 끝 오프셋 조회가 전송된다
+            verify(adminClientWrapper).getEndOffsetsAsync(CLUSTER_ID, partitions);
+            assertThat(result).isNotDone();
+
+            pendingBeginning.complete(Map.of(partitions.get(0), 40L));
+            assertThat(result.join().data().partitions().get(0).messageCount()).isEqualTo(60L);
+        }
+
         @Test
         @DisplayName("존재하지 않는 토픽으로 조회하면 예외를 발생시킨다")
         void testGetTopic_nonExistingTopic_throwsException() {
             // given
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, "unknown-topic")).willReturn(null);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, "unknown-topic"))
+                    .willReturn(CompletableFuture.completedFuture(null));
 
             // when & then
-            assertThatThrownBy(() -> topicService.getTopic(CLUSTER_ID, "unknown-topic"))
-                    .isInstanceOf(TopicNotFoundException.class)
+            assertThatThrownBy(() -> topicService.getTopic(CLUSTER_ID, "unknown-topic").join().data())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(TopicNotFoundException.class)
                     .hasMessageContaining("unknown-topic");
         }
 
@@ -289,7 +387,8 @@ class TopicServiceTest {
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
 
             TopicDescription description = createMockTopicDescription(TOPIC_NAME, 3, 2, false);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(description);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(description));
 
             List<TopicPartition> partitions = List.of(
                     new TopicPartition(TOPIC_NAME, 0),
@@ -306,11 +405,13 @@ class TopicServiceTest {
                     partitions.get(1), 75L,
                     partitions.get(2), 100L
             );
-            given(adminClientWrapper.getBeginningOffsets(CLUSTER_ID, partitions)).willReturn(beginningOffsets);
-            given(adminClientWrapper.getEndOffsets(CLUSTER_ID, partitions)).willReturn(endOffsets);
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(beginningOffsets));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(endOffsets));
 
             // when
-            List<PartitionInfo> result = topicService.getTopicPartitions(CLUSTER_ID, TOPIC_NAME);
+            List<PartitionInfo> result = topicService.getTopicPartitions(CLUSTER_ID, TOPIC_NAME).join().data();
 
             // then
             assertThat(result).hasSize(3);
@@ -325,14 +426,17 @@ class TopicServiceTest {
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
 
             TopicDescription description = createMockTopicDescription(TOPIC_NAME, 1, 3, false);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, TOPIC_NAME)).willReturn(description);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME))
+                    .willReturn(CompletableFuture.completedFuture(description));
 
             List<TopicPartition> partitions = List.of(new TopicPartition(TOPIC_NAME, 0));
-            given(adminClientWrapper.getBeginningOffsets(CLUSTER_ID, partitions)).willReturn(Map.of(partitions.get(0), 0L));
-            given(adminClientWrapper.getEndOffsets(CLUSTER_ID, partitions)).willReturn(Map.of(partitions.get(0), 100L));
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 0L)));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 100L)));
 
             // when
-            List<PartitionInfo> result = topicService.getTopicPartitions(CLUSTER_ID, TOPIC_NAME);
+            List<PartitionInfo> result = topicService.getTopicPartitions(CLUSTER_ID, TOPIC_NAME).join().data();
 
             // then
             assertThat(result).hasSize(1);
@@ -347,16 +451,358 @@ class TopicServiceTest {
         void testGetTopicPartitions_nonExistingTopic_throwsException() {
             // given
             given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
-            given(adminClientWrapper.describeTopic(CLUSTER_ID, "unknown-topic")).willReturn(null);
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, "unknown-topic"))
+                    .willReturn(CompletableFuture.completedFuture(null));
 
             // when & then
-            assertThatThrownBy(() -> topicService.getTopicPartitions(CLUSTER_ID, "unknown-topic"))
-                    .isInstanceOf(TopicNotFoundException.class);
+            assertThatThrownBy(() -> topicService.getTopicPartitions(CLUSTER_ID, "unknown-topic").join().data())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(TopicNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("메타데이터 스냅샷 조회")
+    class SnapshotReads {
+
+        @Test
+        @DisplayName("스냅샷이 있으면 브로커 호출 없이 토픽 목록을 반환한다")
+        void testListTopics_fromSnapshot_skipsAdminCalls() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(createSnapshot(
+                    createMockTopicDescriptions(Set.of("topic-1", INTERNAL_TOPIC), true), Map.of())));
+
+            // when
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
+
+            // then
+            assertThat(result).extracting(Topic::name).containsExactly("topic-1");
+            verifyNoInteractions(adminClientWrapper);
+        }
+
+        @Test
+        @DisplayName("스냅샷의 토픽 상세와 설정을 사용하고 오프셋만 브로커에 조회한다")
+        void testGetTopic_fromSnapshot_fetchesOnlyOffsets() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            TopicDescription description = createMockTopicDescription(TOPIC_NAME, 1, 1, false);
+            ClusterMetadataSnapshot snapshot = createSnapshot(
+                    Map.of(TOPIC_NAME, description), Map.of(TOPIC_NAME, Map.of("cleanup.policy", "compact")));
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(snapshot));
+
+            List<TopicPartition> partitions = List.of(new TopicPartition(TOPIC_NAME, 0));
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 5L)));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 10L)));
+
+            // when
+            SnapshotResult<TopicDetail> result = topicService.getTopic(CLUSTER_ID, TOPIC_NAME).join();
+
+            // then
+            assertThat(result.data().configs()).containsEntry("cleanup.policy", "compact");
+            assertThat(result.data().partitions().get(0).endOffset()).isEqualTo(10L);
+            assertThat(result.source()).containsSame(snapshot);
+            verify(adminClientWrapper, never()).describeTopicAsync(CLUSTER_ID, TOPIC_NAME);
+            verify(adminClientWrapper, never()).describeTopicConfigsAsync(CLUSTER_ID, Set.of(TOPIC_NAME));
+        }
+
+        @Test
+        @DisplayName("스냅샷에 없는 토픽은 브로커에 직접 조회한다")
+        void testGetTopicPartitions_missingFromSnapshot_fallsBackToAdmin() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID))
+                    .willReturn(Optional.of(createSnapshot(Map.of(), Map.of())));
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, "new-topic"))
+                    .willReturn(CompletableFuture.completedFuture(null));
+
+            // when & then
+            assertThatThrownBy(() -> topicService.getTopicPartitions(CLUSTER_ID, "new-topic").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(TopicNotFoundException.class);
+            verify(adminClientWrapper).describeTopicAsync(CLUSTER_ID, "new-topic");
+        }
+
+        @Test
+        @DisplayName("브로커에 직접 조회한 토픽은 스냅샷이 있어도 스냅샷 출처로 표시하지 않는다")
+        void testGetTopicPartitions_missingFromSnapshot_hasNoSnapshotSource() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID))
+                    .willReturn(Optional.of(createSnapshot(Map.of(), Map.of())));
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, "new-topic")).willReturn(
+                    CompletableFuture.completedFuture(createMockTopicDescription("new-topic", 1, 1, false)));
+            List<TopicPartition> partitions = List.of(new TopicPartition("new-topic", 0));
+            given(adminClientWrapper.getBeginningOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 0L)));
+            given(adminClientWrapper.getEndOffsetsAsync(CLUSTER_ID, partitions))
+                    .willReturn(CompletableFuture.completedFuture(Map.of(partitions.get(0), 3L)));
+
+            // when
+            SnapshotResult<List<PartitionInfo>> result =
+                    topicService.getTopicPartitions(CLUSTER_ID, "new-topic").join();
+
+            // then
+            assertThat(result.data()).extracting(PartitionInfo::endOffset).containsExactly(3L);
+            assertThat(result.source()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("디스크 사용량")
+    class StorageUsageEnrichment {
+
+        private StorageUsage usage() {
+            TopicPartition p0 = new TopicPartition(TOPIC_NAME, 0);
+            return StorageUsage.aggregate(Instant.now(), Map.of(
+                    0, Map.of("/data", new LogDirDescription(null, Map.of(p0, new ReplicaInfo(1000L, 0L, false)))),
+                    1, Map.of("/data", new LogDirDescription(null, Map.of(p0, new ReplicaInfo(900L, 0L, false))))),
+                    Set.of());
+        }
+
+        @Test
+        @DisplayName("집계가 있으면 토픽 목록에 디스크 사용량을 붙인다")
+        void shouldAttachTopicSize() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(storageUsageService.peekUsage(CLUSTER_ID)).willReturn(Optional.of(usage()));
+            Set<String> topicNames = Set.of(TOPIC_NAME, "new-topic");
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                            createMockTopicDescriptions(topicNames), Set.of())));
+
+            // when
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
+
+            // then
+            assertThat(result).extracting(Topic::name, Topic::sizeBytes)
+                    .containsExactly(tuple("new-topic", null), tuple(TOPIC_NAME, 1900L));
+        }
+
+        @Test
+        @DisplayName("파티션에 레플리카별 크기와 가장 큰 레플리카 크기를 붙인다")
+        void shouldAttachReplicaSizes() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(storageUsageService.peekUsage(CLUSTER_ID)).willReturn(Optional.of(usage()));
+            given(adminClientWrapper.describeTopicAsync(CLUSTER_ID, TOPIC_NAME)).willReturn(
+                    CompletableFuture.completedFuture(createMockTopicDescription(TOPIC_NAME, 2, 2, false)));
+            given(adminClientWrapper.getBeginningOffsetsAsync(eq(CLUSTER_ID),
+                    anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of()));
+            given(adminClientWrapper.getEndOffsetsAsync(eq(CLUSTER_ID),
+                    anyCollection()))
+                    .willReturn(CompletableFuture.completedFuture(Map.of()));
+
+            // when
+            List<PartitionInfo> result = topicService.getTopicPartitions(CLUSTER_ID, TOPIC_NAME).join().data();
+
+            // then
+            assertThat(result.get(0).replicaSizeBytes()).isEqualTo(Map.of(0, 1000L, 1, 900L));
+            assertThat(result.get(0).sizeBytes()).isEqualTo(1000L);
+            assertThat(result.get(1).replicaSizeBytes()).isNull();
+            assertThat(result.get(1).sizeBytes()).isNull();
+        }
+
+        @Test
+        @DisplayName("집계가 아직 없으면 사용량 없이 반환한다")
+        void shouldOmitSizeWithoutUsage() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            Set<String> topicNames = Set.of(TOPIC_NAME);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, false))
+                    .willReturn(CompletableFuture.completedFuture(topicNames));
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topicNames)).willReturn(
+                    CompletableFuture.completedFuture(new AdminClientWrapper.ChunkedTopicDescriptions(
+                            createMockTopicDescriptions(topicNames), Set.of())));
+
+            // when
+            List<Topic> result = topicService.listTopics(CLUSTER_ID, false).join().data();
+
+            // then
+            assertThat(result.get(0).sizeBytes()).isNull();
+            verify(storageUsageService).peekUsage(CLUSTER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("findTopicsByConfig()")
+    class FindTopicsByConfig {
+
+        private final TopicConfigIndex index = TopicConfigIndex.of(
+                Map.of("orders", Map.of("retention.ms", "1209600000"),
+                        "audit", Map.of("retention.ms", "-1", "cleanup.policy", "compact"),
+                        "clicks", Map.of()),
+                Map.of("retention.ms", "604800000", "cleanup.policy", "delete"));
+
+        @Test
+        @DisplayName("스냅샷의 설정 인덱스에서 조건에 맞는 토픽을 찾는다")
+        void testFindTopicsByConfig_fromSnapshot() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    CLUSTER_ID, 1, Instant.now(), List.of(), -1, Map.of(), index, Map.of())));
+
+            // when
+            List<TopicConfigMatch> result = topicService.findTopicsByConfig(
+                    CLUSTER_ID, "retention.ms", ConfigValueOperator.GT, "604800000", false).join().data();
+
+            // then
+            assertThat(result).containsExactly(new TopicConfigMatch("orders", "retention.ms", "1209600000", true));
+            verifyNoInteractions(adminClientWrapper);
+        }
+
+        @Test
+        @DisplayName("지정하지 않은 토픽은 기본값으로 판단한다")
+        void testFindTopicsByConfig_usesDefaults() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID)).willReturn(Optional.of(new ClusterMetadataSnapshot(
+                    CLUSTER_ID, 1, Instant.now(), List.of(), -1, Map.of(), index, Map.of())));
+
+            // when
+            List<TopicConfigMatch> all = topicService.findTopicsByConfig(
+                    CLUSTER_ID, "cleanup.policy", ConfigValueOperator.CONTAINS, "delete", false).join().data();
+            List<TopicConfigMatch> overridden = topicService.findTopicsByConfig(
+                    CLUSTER_ID, "retention.ms", ConfigValueOperator.EQ, null, true).join().data();
+
+            // then
+            assertThat(all).extracting(TopicConfigMatch::topic).containsExactly("clicks", "orders");
+            assertThat(all).extracting(TopicConfigMatch::overridden).containsOnly(false);
+            assertThat(overridden).extracting(TopicConfigMatch::topic).containsExactly("audit", "orders");
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 모든 토픽의 설정을 청크 단위로 조회한다")
+        void testFindTopicsByConfig_withoutSnapshot_describesAllTopics() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, true))
+                    .willReturn(CompletableFuture.completedFuture(Set.of("orders", "clicks")));
+            given(adminClientWrapper.describeTopicConfigOverridesAsync(CLUSTER_ID, Set.of("orders", "clicks")))
+                    .willReturn(CompletableFuture.completedFuture(new AdminClientWrapper.TopicConfigOverrides(
+                            Map.of("orders", Map.of("cleanup.policy", "compact"), "clicks", Map.of()),
+                            Map.of("cleanup.policy", "delete"), Set.of())));
+
+            // when
+            List<TopicConfigMatch> result = topicService.findTopicsByConfig(
+                    CLUSTER_ID, "cleanup.policy", ConfigValueOperator.NE, "delete", false).join().data();
+
+            // then
+            assertThat(result).containsExactly(new TopicConfigMatch("orders", "cleanup.policy", "compact", true));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터면 예외를 던진다")
+        void testFindTopicsByConfig_clusterNotFound() {
+            // given
+            given(clusterService.existsById("unknown")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> topicService.findTopicsByConfig(
+                    "unknown", "retention.ms", ConfigValueOperator.EQ, null, false))
+                    .isInstanceOf(ClusterNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPartitionHealth()")
+    class GetPartitionHealth {
+
+        private final Node broker0 = new Node(0, "broker-0", 9092);
+        private final Node broker1 = new Node(1, "broker-1", 9092);
+
+        private Map<String, TopicDescription> unhealthyTopics() {
+            return Map.of(
+                    "orders", new TopicDescription("orders", false, List.of(
+                            new TopicPartitionInfo(0, broker0, List.of(broker0, broker1), List.of(broker0, broker1)),
+                            new TopicPartitionInfo(1, broker0, List.of(broker0, broker1), List.of(broker0)))),
+                    "payments", new TopicDescription("payments", false, List.of(
+                            new TopicPartitionInfo(0, null, List.of(broker1), List.of()))));
+        }
+
+        @Test
+        @DisplayName("스냅샷의 인덱스에서 비정상 파티션을 반환한다")
+        void testGetPartitionHealth_fromSnapshot() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID))
+                    .willReturn(Optional.of(createSnapshot(unhealthyTopics(), Map.of())));
+
+            // when
+            PartitionHealthReport report = topicService.getPartitionHealth(CLUSTER_ID, null).join().data();
+
+            // then
+            assertThat(report.underReplicated()).isEqualTo(2);
+            assertThat(report.offline()).isEqualTo(1);
+            assertThat(report.nonPreferredLeader()).isZero();
+            assertThat(report.partitions())
+                    .extracting(UnhealthyPartition::topic, UnhealthyPartition::partition, UnhealthyPartition::leader)
+                    .containsExactly(tuple("orders", 1, 0), tuple("payments", 0, -1));
+            verifyNoInteractions(adminClientWrapper);
+        }
+
+        @Test
+        @DisplayName("문제 유형을 지정하면 해당 파티션만 반환하고 개수는 전체 기준으로 반환한다")
+        void testGetPartitionHealth_filtersByIssue() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(metadataSnapshotter.getSnapshot(CLUSTER_ID))
+                    .willReturn(Optional.of(createSnapshot(unhealthyTopics(), Map.of())));
+
+            // when
+            PartitionHealthReport report = topicService.getPartitionHealth(
+                    CLUSTER_ID, PartitionIssue.OFFLINE).join().data();
+
+            // then
+            assertThat(report.partitions()).extracting(UnhealthyPartition::topic).containsExactly("payments");
+            assertThat(report.underReplicated()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 모든 토픽을 청크 단위로 조회한다")
+        void testGetPartitionHealth_withoutSnapshot_describesAllTopics() {
+            // given
+            given(clusterService.existsById(CLUSTER_ID)).willReturn(true);
+            given(adminClientWrapper.listTopicsAsync(CLUSTER_ID, true))
+                    .willReturn(CompletableFuture.completedFuture(Set.of("orders", "payments")));
+            given(adminClientWrapper.describeTopicsInChunksAsync(CLUSTER_ID, Set.of("orders", "payments")))
+                    .willReturn(CompletableFuture.completedFuture(
+                            new AdminClientWrapper.ChunkedTopicDescriptions(unhealthyTopics(), Set.of())));
+
+            // when
+            PartitionHealthReport report = topicService.getPartitionHealth(
+                    CLUSTER_ID, PartitionIssue.UNDER_REPLICATED).join().data();
+
+            // then
+            assertThat(report.partitions()).extracting(UnhealthyPartition::topic)
+                    .containsExactly("orders", "payments");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클러스터면 예외를 던진다")
+        void testGetPartitionHealth_clusterNotFound() {
+            // given
+            given(clusterService.existsById("unknown")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> topicService.getPartitionHealth("unknown", null))
+                    .isInstanceOf(ClusterNotFoundException.class);
         }
     }
 
     // === Helper Methods ===
 
+    private ClusterMetadataSnapshot createSnapshot(
+            Map<String, TopicDescription> topics, Map<String, Map<String, String>> topicConfigs) {
+        return new ClusterMetadataSnapshot(CLUSTER_ID, 1, Instant.now(), List.of(), -1, topics,
+                TopicConfigIndex.of(topicConfigs, Map.of()), Map.of());
+    }
+
     private Map<String, TopicDescription> createMockTopicDescriptions(Set<String> topicNames) {
         return createMockTopicDescriptions(topicNames, false);
     }
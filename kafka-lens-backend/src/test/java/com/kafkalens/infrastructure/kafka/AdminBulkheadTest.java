@@ -0,0 +1,213 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.BackgroundWork;
+import com.kafkalens.common.ErrorCode;
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.exception.ClusterOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminBulkhead 테스트 클래스.
+ */
+@DisplayName("AdminBulkhead")
+class AdminBulkheadTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanoTime;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        calls = new AtomicInteger();
+    }
+
+    private KafkaFutureImpl<String> newCall() {
+        calls.incrementAndGet();
+        return new KafkaFutureImpl<>();
+    }
+
+    private static ClusterOverloadedException rejection(KafkaFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        return assertInstanceOf(ClusterOverloadedException.class, e.getCause());
+    }
+
+    @Nested
+    @DisplayName("동시 실행 제한 테스트")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("최대 동시 실행 수를 넘은 작업은 대기했다가 앞선 작업이 끝나면 실행된다")
+        void shouldQueueAndRunAfterCompletion() throws Exception {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 1, 1, 0, 1, 1, 1, 0, 1, nanoTime::get);
+            KafkaFutureImpl<String> first = new KafkaFutureImpl<>();
+            KafkaFutureImpl<String> second = new KafkaFutureImpl<>();
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, () -> first);
+
+            // when
+            KafkaFuture<String> queued = bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, () -> {
+                calls.incrementAndGet();
+                return second;
+            });
+
+            // then
+            assertEquals(0, calls.get());
+            assertEquals(1, bulkhead.getActiveCount(CLUSTER_ID));
+            assertEquals(1, bulkhead.getQueuedCount(CLUSTER_ID));
+
+            // when
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+            first.complete("first");
+            second.complete("second");
+
+            // then
+            assertEquals(1, calls.get());
+            assertEquals("second", queued.get());
+            assertEquals(0, bulkhead.getActiveCount(CLUSTER_ID));
+            assertEquals(0, bulkhead.getQueuedCount(CLUSTER_ID));
+            assertEquals(1, meterRegistry.get(AdminBulkhead.WAIT_METRIC).tag("cluster", CLUSTER_ID).timer().count());
+        }
+
+        @Test
+        @DisplayName("대기열까지 가득 차면 CLUSTER_OVERLOADED로 즉시 거부한다")
+        void shouldRejectWhenQueueIsFull() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 1, 1, 0, 1, 1, 1, 0, 1, nanoTime::get);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // when
+            KafkaFuture<String> rejected = bulkhead.submit(
+                    CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(ErrorCode.CLUSTER_OVERLOADED, rejection(rejected).getErrorCode());
+            assertEquals(1, calls.get());
+            assertEquals(1.0, meterRegistry.get(AdminBulkhead.REJECTED_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("reason", "concurrency").counter().count());
+        }
+
+        @Test
+        @DisplayName("클러스터별로 독립된 허용량을 가진다")
+        void shouldIsolateClusters() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 1, 0, 0, 1, 1, 0, 0, 1, nanoTime::get);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // when
+            bulkhead.submit("other-cluster", AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(2, calls.get());
+            assertEquals(1, bulkhead.getActiveCount("other-cluster"));
+        }
+
+        @Test
+        @DisplayName("실패한 작업도 허용량을 반납한다")
+        void shouldReleaseOnFailure() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 1, 0, 0, 1, 1, 0, 0, 1, nanoTime::get);
+            KafkaFutureImpl<String> failing = (KafkaFutureImpl<String>) bulkhead.submit(
+                    CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // when
+            failing.completeExceptionally(new RuntimeException("boom"));
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("구획 분리 테스트")
+    class LaneTest {
+
+        @Test
+        @DisplayName("전체 스캔이 허용량을 모두 써도 단건 조회는 바로 실행된다")
+        void shouldNotQueueInteractiveBehindScans() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 1, 0, 0, 1, 1, 0, 0, 1, nanoTime::get);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.SCAN, AdminBulkheadTest.this::newCall);
+
+            // when
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(2, calls.get());
+            assertEquals(1, bulkhead.getActiveCount(CLUSTER_ID, AdminBulkhead.Lane.SCAN));
+            assertEquals(1, bulkhead.getActiveCount(CLUSTER_ID, AdminBulkhead.Lane.INTERACTIVE));
+        }
+
+        @Test
+        @DisplayName("주기 작업이 토큰을 소진해도 사용자 요청은 거부되지 않는다")
+        void shouldNotRateLimitUserTrafficAfterBackgroundBurst() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 16, 16, 10, 2, 16, 16, 10, 1, nanoTime::get);
+            KafkaFuture<String> limited;
+            try (RequestDeadline.Scope ignored = BackgroundWork.begin()) {
+                bulkhead.submit(CLUSTER_ID, AdminOperationClass.SCAN, AdminBulkheadTest.this::newCall);
+                limited = bulkhead.submit(CLUSTER_ID, AdminOperationClass.SCAN, AdminBulkheadTest.this::newCall);
+            }
+
+            // when
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.SCAN, AdminBulkheadTest.this::newCall);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(ErrorCode.CLUSTER_RATE_LIMITED, rejection(limited).getErrorCode());
+            assertEquals(3, calls.get());
+            assertEquals(1, bulkhead.getActiveCount(CLUSTER_ID, AdminBulkhead.Lane.BACKGROUND));
+            assertEquals(1.0, meterRegistry.get(AdminBulkhead.REJECTED_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("class", "background").tag("reason", "rate").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 수 제한 테스트")
+    class RateLimitTest {
+
+        @Test
+        @DisplayName("순간 허용량을 넘으면 CLUSTER_RATE_LIMITED로 거부하고 시간이 지나면 다시 허용한다")
+        void shouldRateLimitAndRefill() {
+            // given
+            AdminBulkhead bulkhead = new AdminBulkhead(meterRegistry, 16, 16, 10, 2, 16, 16, 10, 2, nanoTime::get);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // when
+            KafkaFuture<String> limited = bulkhead.submit(
+                    CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(ErrorCode.CLUSTER_RATE_LIMITED, rejection(limited).getErrorCode());
+            assertEquals(2, calls.get());
+
+            // when - 초당 10개이므로 100ms 후 1개 허용
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            bulkhead.submit(CLUSTER_ID, AdminOperationClass.INTERACTIVE, AdminBulkheadTest.this::newCall);
+
+            // then
+            assertEquals(3, calls.get());
+            assertEquals(1.0, meterRegistry.get(AdminBulkhead.REJECTED_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("reason", "rate").counter().count());
+        }
+    }
+}
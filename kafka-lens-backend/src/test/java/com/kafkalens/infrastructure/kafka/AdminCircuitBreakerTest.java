@@ -0,0 +1,209 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.ErrorCode;
+import com.kafkalens.common.exception.ClusterOverloadedException;
+import com.kafkalens.common.exception.ClusterUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminCircuitBreaker 테스트 클래스.
+ */
+@DisplayName("AdminCircuitBreaker")
+class AdminCircuitBreakerTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanoTime;
+    private AtomicInteger calls;
+    private AdminCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        calls = new AtomicInteger();
+        circuitBreaker = new AdminCircuitBreaker(meterRegistry, true, 3, OPEN_DURATION, nanoTime::get);
+    }
+
+    private KafkaFuture<String> run(Throwable error) {
+        return circuitBreaker.execute(CLUSTER_ID, () -> {
+            calls.incrementAndGet();
+            KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+            if (error == null) {
+                future.complete("ok");
+            } else {
+                future.completeExceptionally(error);
+            }
+            return future;
+        });
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            run(new TimeoutException("timed out"));
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 전이 테스트")
+    class TransitionTest {
+
+        @Test
+        @DisplayName("연속 타임아웃이 임계치에 이르면 열리고 즉시 실패한다")
+        void shouldOpenAfterConsecutiveTimeouts() {
+            // given
+            openCircuit();
+
+            // when
+            KafkaFuture<String> rejected = run(null);
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.OPEN, circuitBreaker.getState(CLUSTER_ID));
+            assertEquals(3, calls.get());
+            ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+            ClusterUnavailableException cause = assertInstanceOf(ClusterUnavailableException.class, e.getCause());
+            assertEquals(ErrorCode.CLUSTER_UNAVAILABLE, cause.getErrorCode());
+            assertEquals(2.0, meterRegistry.get(AdminCircuitBreaker.STATE_METRIC)
+                    .tag("cluster", CLUSTER_ID).gauge().value());
+        }
+
+        @Test
+        @DisplayName("성공이 끼면 연속 실패 수가 초기화된다")
+        void shouldResetFailureCountOnSuccess() {
+            // when
+            run(new TimeoutException("timed out"));
+            run(new TimeoutException("timed out"));
+            run(null);
+            run(new TimeoutException("timed out"));
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("브로커가 응답한 오류와 로컬 거부는 실패로 세지 않는다")
+        void shouldIgnoreBrokerAndLocalErrors() {
+            // when
+            for (int i = 0; i < 3; i++) {
+                run(new TopicAuthorizationException(Set.of("secret")));
+                run(ClusterOverloadedException.bulkheadFull(CLUSTER_ID, 1, 0));
+            }
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("대기 시간이 지나면 탐침 하나만 보내고 성공하면 닫힌다")
+        void shouldProbeOnceAndCloseOnSuccess() {
+            // given
+            openCircuit();
+            nanoTime.addAndGet(OPEN_DURATION.toNanos());
+            KafkaFutureImpl<String> probe = new KafkaFutureImpl<>();
+
+            // when
+            circuitBreaker.execute(CLUSTER_ID, () -> probe);
+            KafkaFuture<String> concurrent = run(null);
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(CLUSTER_ID));
+            assertTrue(concurrent.isCompletedExceptionally());
+            assertEquals(3, calls.get());
+
+            // when
+            probe.complete("ok");
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+            assertFalse(run(null).isCompletedExceptionally());
+        }
+
+        @Test
+        @DisplayName("탐침이 실패하면 다시 열린다")
+        void shouldReopenWhenProbeFails() {
+            // given
+            openCircuit();
+            nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+            // when
+            run(new TimeoutException("still down"));
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.OPEN, circuitBreaker.getState(CLUSTER_ID));
+            assertTrue(run(null).isCompletedExceptionally());
+        }
+
+        @Test
+        @DisplayName("열린 동안 도착한 늦은 결과는 무시한다")
+        void shouldIgnoreLateResultsWhileOpen() {
+            // given
+            KafkaFutureImpl<String> lateFailure = new KafkaFutureImpl<>();
+            KafkaFutureImpl<String> lateSuccess = new KafkaFutureImpl<>();
+            circuitBreaker.execute(CLUSTER_ID, () -> lateFailure);
+            circuitBreaker.execute(CLUSTER_ID, () -> lateSuccess);
+            openCircuit();
+
+            // when
+            nanoTime.addAndGet(OPEN_DURATION.toNanos() - 1);
+            lateFailure.completeExceptionally(new TimeoutException("late"));
+            lateSuccess.complete("late");
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.OPEN, circuitBreaker.getState(CLUSTER_ID));
+
+            // when
+            nanoTime.incrementAndGet();
+            KafkaFuture<String> probe = run(null);
+
+            // then
+            assertFalse(probe.isCompletedExceptionally());
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("reset하면 닫힌 상태로 돌아간다")
+        void shouldCloseOnReset() {
+            // given
+            openCircuit();
+
+            // when
+            circuitBreaker.reset(CLUSTER_ID);
+
+            // then
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 실행한다")
+        void shouldAlwaysRunWhenDisabled() {
+            // given
+            circuitBreaker = new AdminCircuitBreaker(meterRegistry, false, 1, OPEN_DURATION, nanoTime::get);
+
+            // when
+            openCircuit();
+            run(null);
+
+            // then
+            assertEquals(4, calls.get());
+            assertEquals(AdminCircuitBreaker.State.CLOSED, circuitBreaker.getState(CLUSTER_ID));
+        }
+    }
+}
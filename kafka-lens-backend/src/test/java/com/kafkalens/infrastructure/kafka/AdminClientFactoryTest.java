@@ -3,7 +3,17 @@ package com.kafkalens.infrastructure.kafka;
 import com.kafkalens.common.exception.ClusterNotFoundException;
 import com.kafkalens.domain.cluster.Cluster;
 import com.kafkalens.domain.cluster.ClusterRepository;
+import com.kafkalens.domain.metadata.ClusterMetadataSnapshotter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupsOptions;
+import org.apache.kafka.clients.admin.ListConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,8 +23,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,11 +48,16 @@ class AdminClientFactoryTest {
     @Mock
     private ClusterRepository clusterRepository;
 
+    @Mock
+    private AdminMetadataCache metadataCache;
+
     private AdminClientFactory factory;
 
     @BeforeEach
     void setUp() {
-        factory = new AdminClientFactory(clusterRepository);
+        factory = new AdminClientFactory(clusterRepository, metadataCache, new SimpleMeterRegistry(),
+                new AdminCircuitBreaker(new SimpleMeterRegistry(), true, 5, 30000),
+                new AdminBulkhead(new SimpleMeterRegistry(), 16, 64, 0, 1, 16, 64, 0, 1));
     }
 
     @Nested
@@ -82,6 +102,16 @@ class AdminClientFactoryTest {
             assertFalse(factory.isCached("test-cluster"));
         }
 
+        @Test
+        @DisplayName("closeClient 호출 시 해당 클러스터의 메타데이터 캐시를 비운다")
+        void shouldInvalidateMetadataCacheOnClose() {
+            // when
+            factory.closeClient("test-cluster");
+
+            // then
+            verify(metadataCache).invalidate("test-cluster");
+        }
+
         @Test
         @DisplayName("closeAll 호출로 모든 클라이언트를 닫을 수 있다")
         void shouldCloseAllClients() {
@@ -93,6 +123,263 @@ class AdminClientFactoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("클라이언트 풀 테스트")
+    class ClientPoolTest {
+
+        private static final String CLUSTER_ID = "pool-cluster";
+
+        private SimpleMeterRegistry meterRegistry;
+        private List<AdminClient> createdClients;
+        private AtomicLong nanoTime;
+        private AdminClientFactory poolFactory;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            createdClients = new ArrayList<>();
+            nanoTime = new AtomicLong();
+            poolFactory = new AdminClientFactory(clusterRepository, metadataCache, meterRegistry,
+                    new AdminCircuitBreaker(meterRegistry, true, 5, 30000),
+                    new AdminBulkhead(meterRegistry, 16, 64, 0, 1, 16, 64, 0, 1), props -> {
+                AdminClient client = mock(AdminClient.class);
+                createdClients.add(client);
+                return client;
+            }, nanoTime::get);
+            ReflectionTestUtils.setField(poolFactory, "interactiveClients", 2);
+            ReflectionTestUtils.setField(poolFactory, "scanClients", 1);
+            when(clusterRepository.findById(CLUSTER_ID)).thenReturn(Optional.of(Cluster.builder()
+                    .id(CLUSTER_ID)
+                    .name("Pool Cluster")
+                    .bootstrapServers("localhost:9092")
+                    .build()));
+        }
+
+        @Test
+        @DisplayName("작업 분류별로 설정된 수만큼 클라이언트를 만들고 분리해서 사용한다")
+        void shouldSeparateClientsByOperationClass() {
+            // when
+            PooledAdminClient interactive = poolFactory.acquire(CLUSTER_ID, AdminOperationClass.INTERACTIVE);
+            PooledAdminClient scan = poolFactory.acquire(CLUSTER_ID, AdminOperationClass.SCAN);
+
+            // then
+            assertEquals(3, createdClients.size());
+            assertEquals(1, poolFactory.getCachedClientCount());
+            assertEquals(AdminOperationClass.INTERACTIVE, interactive.operationClass());
+            assertEquals(AdminOperationClass.SCAN, scan.operationClass());
+            assertNotSame(interactive.admin(), scan.admin());
+            assertSame(scan.admin(), poolFactory.acquire(CLUSTER_ID, AdminOperationClass.SCAN).admin());
+        }
+
+        @Test
+        @DisplayName("진행 중인 요청이 적은 클라이언트를 고른다")
+        void shouldSelectLeastBusyClient() {
+            // given
+            PooledAdminClient busy = poolFactory.acquire(CLUSTER_ID, AdminOperationClass.INTERACTIVE);
+            busy.call(admin -> new KafkaFutureImpl<String>());
+
+            // when
+            List<AdminClient> selected = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                selected.add(poolFactory.acquire(CLUSTER_ID, AdminOperationClass.INTERACTIVE).admin());
+            }
+
+            // then
+            assertTrue(selected.stream().noneMatch(admin -> admin == busy.admin()));
+        }
+
+        @Test
+        @DisplayName("풀 사용률, in-flight 수, 대기 깊이, 요청 시간을 메트릭으로 노출한다")
+        void shouldExposePoolMetrics() {
+            // given
+            PooledAdminClient client = poolFactory.acquire(CLUSTER_ID, AdminOperationClass.INTERACTIVE);
+            KafkaFutureImpl<String> first = new KafkaFutureImpl<>();
+            KafkaFutureImpl<String> second = new KafkaFutureImpl<>();
+
+            // when
+            client.call(admin -> first);
+            client.call(admin -> second);
+
+            // then
+            assertEquals(2.0, meterRegistry.get(AdminClientFactory.IN_FLIGHT_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("class", "interactive").gauge().value());
+            assertEquals(0.5, meterRegistry.get(AdminClientFactory.UTILIZATION_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("class", "interactive").gauge().value());
+            assertEquals(1.0, meterRegistry.get(PooledAdminClient.QUEUE_DEPTH_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("class", "interactive").summary().max());
+
+            // when
+            first.complete("a");
+            second.complete("b");
+
+            // then
+            assertEquals(0, client.inFlight());
+            assertEquals(2, meterRegistry.get(PooledAdminClient.REQUEST_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("class", "interactive").timer().count());
+        }
+
+        @Test
+        @DisplayName("closeClient는 풀의 모든 클라이언트를 닫고 메트릭을 제거한다")
+        void shouldCloseAllPooledClients() {
+            // given
+            poolFactory.acquire(CLUSTER_ID, AdminOperationClass.SCAN);
+
+            // when
+            poolFactory.closeClient(CLUSTER_ID);
+
+            // then
+            assertFalse(poolFactory.isCached(CLUSTER_ID));
+            createdClients.forEach(client -> verify(client).close(any(Duration.class)));
+            assertTrue(meterRegistry.find(AdminClientFactory.UTILIZATION_METRIC).meters().isEmpty());
+            assertTrue(meterRegistry.find(PooledAdminClient.REQUEST_METRIC).meters().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("유휴 클라이언트 정리 테스트")
+    class IdleEvictionTest {
+
+        private static final String CLUSTER_ID = "idle-cluster";
+        private static final Duration IDLE_TTL = Duration.ofMinutes(10);
+
+        private AtomicLong nanoTime;
+        private List<AdminClient> createdClients;
+        private AdminClientFactory idleFactory;
+
+        @BeforeEach
+        void setUp() {
+            nanoTime = new AtomicLong();
+            createdClients = new ArrayList<>();
+            idleFactory = new AdminClientFactory(clusterRepository, metadataCache, new SimpleMeterRegistry(),
+                    new AdminCircuitBreaker(new SimpleMeterRegistry(), true, 5, 30000),
+                    new AdminBulkhead(new SimpleMeterRegistry(), 16, 64, 0, 1, 16, 64, 0, 1), props -> {
+                AdminClient client = mock(AdminClient.class);
+                createdClients.add(client);
+                return client;
+            }, nanoTime::get);
+            ReflectionTestUtils.setField(idleFactory, "interactiveClients", 1);
+            ReflectionTestUtils.setField(idleFactory, "scanClients", 1);
+            when(clusterRepository.findById(CLUSTER_ID)).thenReturn(Optional.of(Cluster.builder()
+                    .id(CLUSTER_ID)
+                    .name("Idle Cluster")
+                    .bootstrapServers("localhost:9092")
+                    .build()));
+        }
+
+        @Test
+        @DisplayName("TTL 이상 사용되지 않은 풀은 닫히고 다음 요청에서 다시 생성된다")
+        void shouldCloseIdlePoolAndRecreateOnNextRequest() {
+            // given
+            AdminClient first = idleFactory.getOrCreate(CLUSTER_ID);
+            assertEquals(2, idleFactory.getOpenClientCount());
+            nanoTime.addAndGet(IDLE_TTL.toNanos());
+
+            // when
+            List<String> closed = idleFactory.closeIdleClients(IDLE_TTL);
+
+            // then
+            assertEquals(List.of(CLUSTER_ID), closed);
+            assertFalse(idleFactory.isCached(CLUSTER_ID));
+            assertEquals(0, idleFactory.getOpenClientCount());
+            createdClients.forEach(client -> verify(client).close(any(Duration.class)));
+            verify(metadataCache, never()).invalidate(CLUSTER_ID);
+
+            // when
+            AdminClient recreated = idleFactory.getOrCreate(CLUSTER_ID);
+
+            // then
+            assertNotSame(first, recreated);
+            assertTrue(idleFactory.isCached(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("최근에 사용된 풀은 닫지 않는다")
+        void shouldKeepRecentlyUsedPool() {
+            // given
+            idleFactory.getOrCreate(CLUSTER_ID);
+            nanoTime.addAndGet(IDLE_TTL.toNanos() - 1);
+            idleFactory.acquire(CLUSTER_ID, AdminOperationClass.SCAN);
+            nanoTime.addAndGet(IDLE_TTL.toNanos() - 1);
+
+            // when
+            List<String> closed = idleFactory.closeIdleClients(IDLE_TTL);
+
+            // then
+            assertTrue(closed.isEmpty());
+            assertTrue(idleFactory.isCached(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("진행 중인 요청이 있으면 TTL이 지나도 닫지 않는다")
+        void shouldKeepPoolWithInFlightRequests() {
+            // given
+            idleFactory.acquire(CLUSTER_ID, AdminOperationClass.SCAN).call(admin -> new KafkaFutureImpl<String>());
+            nanoTime.addAndGet(IDLE_TTL.toNanos() * 2);
+
+            // when
+            List<String> closed = idleFactory.closeIdleClients(IDLE_TTL);
+
+            // then
+            assertTrue(closed.isEmpty());
+            assertTrue(idleFactory.isCached(CLUSTER_ID));
+        }
+
+        @Test
+        @DisplayName("스냅샷 갱신만 계속되는 풀은 TTL이 지나면 닫힌다")
+        void shouldClosePoolUsedOnlyBySnapshotter() {
+            // given - 사용자 요청은 처음 한 번뿐이고 이후에는 스냅샷 갱신만 실행
+            Duration refreshInterval = Duration.ofSeconds(30);
+            AdminClientWrapper wrapper = new AdminClientWrapper(idleFactory, metadataCache,
+                    new AdminRequestCoalescer(new SimpleMeterRegistry(), true),
+                    new AdminLatencyTracker(new SimpleMeterRegistry(), true, 0.99, 3.0, 2000, 60000, 20),
+                    30000, 500, 4, 1000, 100);
+            ClusterMetadataSnapshotter snapshotter = new ClusterMetadataSnapshotter(wrapper, metadataCache,
+                    clusterRepository, new SimpleMeterRegistry(), false, refreshInterval.toMillis(), 10);
+            idleFactory.getOrCreate(CLUSTER_ID);
+            createdClients.forEach(AdminClientFactoryTest::stubClusterMetadata);
+
+            // when
+            List<String> closed = new ArrayList<>();
+            long refreshes = IDLE_TTL.dividedBy(refreshInterval);
+            for (int i = 0; i < refreshes && closed.isEmpty(); i++) {
+                nanoTime.addAndGet(refreshInterval.toNanos());
+                snapshotter.refresh(CLUSTER_ID).join();
+                closed.addAll(idleFactory.closeIdleClients(IDLE_TTL));
+            }
+
+            // then
+            assertEquals(List.of(CLUSTER_ID), closed);
+            assertFalse(idleFactory.isCached(CLUSTER_ID));
+            assertTrue(wrapper.isClientIdle(CLUSTER_ID));
+            createdClients.forEach(client -> verify(client).close(any(Duration.class)));
+
+            // when - 사용자 요청이 다시 오면 유휴 상태가 풀린다
+            idleFactory.getOrCreate(CLUSTER_ID);
+
+            // then
+            assertFalse(wrapper.isClientIdle(CLUSTER_ID));
+        }
+    }
+
+    /**
+     * 스냅샷 갱신에 필요한 호출이 빈 결과로 바로 완료되도록 설정합니다.
+     */
+    private static void stubClusterMetadata(AdminClient client) {
+        DescribeClusterResult describeResult = mock(DescribeClusterResult.class);
+        when(describeResult.clusterId()).thenReturn(KafkaFuture.completedFuture("kafka-id"));
+        when(describeResult.controller()).thenReturn(KafkaFuture.completedFuture(null));
+        when(describeResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(client.describeCluster(any(DescribeClusterOptions.class))).thenReturn(describeResult);
+
+        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+        when(listTopicsResult.listings()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(client.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+
+        ListConsumerGroupsResult listGroupsResult = mock(ListConsumerGroupsResult.class);
+        when(listGroupsResult.all()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(client.listConsumerGroups(any(ListConsumerGroupsOptions.class))).thenReturn(listGroupsResult);
+    }
+
     @Nested
     @DisplayName("클러스터 설정 테스트")
     class ClusterConfigTest {
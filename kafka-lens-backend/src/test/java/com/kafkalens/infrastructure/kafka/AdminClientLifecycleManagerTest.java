@@ -0,0 +1,116 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdminClientLifecycleManager 테스트 클래스.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AdminClientLifecycleManager")
+class AdminClientLifecycleManagerTest {
+
+    @Mock
+    private AdminClientFactory adminClientFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminClientLifecycleManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        manager = new AdminClientLifecycleManager(adminClientFactory, meterRegistry, 600000, 60000);
+    }
+
+    @Nested
+    @DisplayName("유휴 정리 테스트")
+    class EvictionTest {
+
+        @Test
+        @DisplayName("설정된 TTL로 팩토리의 유휴 풀을 닫는다")
+        void shouldCloseIdleClientsWithConfiguredTtl() {
+            // given
+            when(adminClientFactory.closeIdleClients(Duration.ofMinutes(10))).thenReturn(List.of("idle"));
+
+            // when
+            List<String> closed = manager.evictIdleClients();
+
+            // then
+            assertEquals(List.of("idle"), closed);
+        }
+
+        @Test
+        @DisplayName("정리 중 예외가 나도 전파하지 않는다")
+        void shouldSwallowEvictionFailure() {
+            // given
+            when(adminClientFactory.closeIdleClients(any())).thenThrow(new IllegalStateException("boom"));
+
+            // when
+            List<String> closed = manager.evictIdleClients();
+
+            // then
+            assertTrue(closed.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭 테스트")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("열린 클라이언트 수와 AdminClient 스레드 수를 게이지로 노출한다")
+        void shouldExposeOpenClientAndThreadGauges() {
+            // given
+            when(adminClientFactory.getOpenClientCount()).thenReturn(4);
+
+            // then
+            assertEquals(4.0, meterRegistry.get(AdminClientLifecycleManager.OPEN_CLIENTS_METRIC).gauge().value());
+            assertTrue(meterRegistry.get(AdminClientLifecycleManager.CLIENT_THREADS_METRIC).gauge().value() >= 0);
+        }
+
+        @Test
+        @DisplayName("AdminClient 네트워크 스레드 이름을 가진 스레드만 센다")
+        void shouldCountAdminClientThreads() throws InterruptedException {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            int before = AdminClientLifecycleManager.countAdminClientThreads();
+            Thread adminThread = new Thread(() -> awaitQuietly(release), "kafka-admin-client-thread | test");
+            Thread otherThread = new Thread(() -> awaitQuietly(release), "other-thread");
+            adminThread.start();
+            otherThread.start();
+
+            try {
+                // then
+                assertEquals(before + 1, AdminClientLifecycleManager.countAdminClientThreads());
+            } finally {
+                release.countDown();
+                adminThread.join();
+                otherThread.join();
+            }
+        }
+
+        private static void awaitQuietly(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
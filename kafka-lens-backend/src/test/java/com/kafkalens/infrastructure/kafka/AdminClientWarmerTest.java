@@ -0,0 +1,145 @@
+package com.kafkalens.infrastructure.kafka;
+
+import com.kafkalens.common.exception.KafkaConnectionException;
+import com.kafkalens.domain.cluster.Cluster;
+import com.kafkalens.domain.cluster.ClusterRepository;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdminClientWarmer 테스트 클래스.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AdminClientWarmer")
+class AdminClientWarmerTest {
+
+    @Mock
+    private AdminClientFactory adminClientFactory;
+
+    @Mock
+    private ClusterRepository clusterRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(clusterRepository.findAll()).thenReturn(List.of(cluster("ready"), cluster("broken"), cluster("slow")));
+        when(adminClientFactory.warmUp("ready")).thenReturn(KafkaFuture.completedFuture(null));
+        when(adminClientFactory.warmUp("broken")).thenThrow(new KafkaConnectionException("broken", "boom"));
+        when(adminClientFactory.warmUp("slow")).thenReturn(new KafkaFutureImpl<>());
+    }
+
+    private static Cluster cluster(String id) {
+        return Cluster.builder()
+                .id(id)
+                .name(id)
+                .bootstrapServers("localhost:9092")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("예열 테스트")
+    class WarmUpTest {
+
+        @Test
+        @DisplayName("모든 클러스터를 병렬로 예열하고 클러스터별 결과를 기록한다")
+        void shouldWarmUpAllClusters() {
+            // given
+            AdminClientWarmer warmer = new AdminClientWarmer(adminClientFactory, clusterRepository, true, 200);
+
+            // when
+            warmer.warmUp();
+
+            // then
+            assertTrue(warmer.isCompleted());
+            assertEquals(AdminClientWarmer.State.READY, warmer.getState("ready"));
+            assertEquals(AdminClientWarmer.State.FAILED, warmer.getState("broken"));
+            assertEquals(AdminClientWarmer.State.TIMED_OUT, warmer.getState("slow"));
+            verify(adminClientFactory).warmUp("ready");
+            verify(adminClientFactory).warmUp("broken");
+            verify(adminClientFactory).warmUp("slow");
+        }
+
+        @Test
+        @DisplayName("전체 예열은 제한 시간 안에 끝난다")
+        void shouldFinishWithinDeadline() {
+            // given
+            AdminClientWarmer warmer = new AdminClientWarmer(adminClientFactory, clusterRepository, true, 200);
+
+            // when
+            long start = System.nanoTime();
+            warmer.warmUp();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // then
+            assertTrue(elapsedMillis < 5_000, "warm-up took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Nested
+    @DisplayName("헬스 테스트")
+    class HealthTest {
+
+        @Test
+        @DisplayName("예열이 끝나기 전에는 OUT_OF_SERVICE를 보고한다")
+        void shouldBeOutOfServiceBeforeWarmUp() {
+            // given
+            AdminClientWarmer warmer = new AdminClientWarmer(adminClientFactory, clusterRepository, true, 200);
+
+            // when
+            Health health = warmer.health();
+
+            // then
+            assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+            assertFalse(warmer.isCompleted());
+        }
+
+        @Test
+        @DisplayName("예열이 끝나면 UP과 클러스터별 상태를 보고한다")
+        void shouldBeUpWithClusterDetailsAfterWarmUp() {
+            // given
+            AdminClientWarmer warmer = new AdminClientWarmer(adminClientFactory, clusterRepository, true, 200);
+            warmer.warmUp();
+
+            // when
+            Health health = warmer.health();
+
+            // then
+            assertEquals(Status.UP, health.getStatus());
+            Map<?, ?> clusters = (Map<?, ?>) health.getDetails().get("clusters");
+            assertEquals(AdminClientWarmer.State.READY, clusters.get("ready"));
+            assertEquals(AdminClientWarmer.State.FAILED, clusters.get("broken"));
+        }
+
+        @Test
+        @DisplayName("비활성화되면 예열 없이 UP을 보고한다")
+        void shouldBeUpWhenDisabled() {
+            // given
+            AdminClientWarmer warmer = new AdminClientWarmer(adminClientFactory, clusterRepository, false, 200);
+
+            // when
+            warmer.start();
+            Health health = warmer.health();
+
+            // then
+            assertEquals(Status.UP, health.getStatus());
+            verifyNoInteractions(adminClientFactory);
+        }
+    }
+}
@@ -1,27 +1,43 @@
 package com.kafkalens.infrastructure.kafka;
 
+import com.kafkalens.common.RequestDeadline;
+import com.kafkalens.common.exception.ClusterOverloadedException;
 import com.kafkalens.common.exception.KafkaConnectionException;
 import com.kafkalens.common.exception.KafkaTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.ConsumerGroupState;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,14 +54,24 @@ class AdminClientWrapperTest {
     @Mock
     private AdminClient adminClient;
 
+    @Mock
+    private AdminMetadataCache metadataCache;
+
     private AdminClientWrapper wrapper;
 
     private static final String CLUSTER_ID = "test-cluster";
 
+    private AdminLatencyTracker latencyTracker;
+
     @BeforeEach
     void setUp() {
-        wrapper = new AdminClientWrapper(adminClientFactory, 30000);
-        when(adminClientFactory.getOrCreate(CLUSTER_ID)).thenReturn(adminClient);
+        latencyTracker = new AdminLatencyTracker(new SimpleMeterRegistry(), true, 0.99, 3.0, 2000, 60000, 20);
+        wrapper = new AdminClientWrapper(adminClientFactory, metadataCache,
+                new AdminRequestCoalescer(new SimpleMeterRegistry(), true), latencyTracker, 30000, 500, 4, 1000, 100);
+        when(adminClientFactory.acquire(eq(CLUSTER_ID), any())).thenReturn(new PooledAdminClient(
+                adminClient, new AdminCircuitBreaker(new SimpleMeterRegistry(), true, 5, 30000),
+                new AdminBulkhead(new SimpleMeterRegistry(), 16, 64, 0, 1, 16, 64, 0, 1),
+                new SimpleMeterRegistry(), CLUSTER_ID, AdminOperationClass.INTERACTIVE));
     }
 
     @Nested
@@ -105,7 +131,7 @@ class AdminClientWrapperTest {
             DescribeTopicsResult describeResult = mock(DescribeTopicsResult.class);
             KafkaFuture<Map<String, TopicDescription>> future = mock(KafkaFuture.class);
 
-            when(adminClient.describeTopics(anyCollection())).thenReturn(describeResult);
+            when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeResult);
             when(describeResult.allTopicNames()).thenReturn(future);
             when(future.get()).thenReturn(Map.of(topicName, description));
 
@@ -129,7 +155,7 @@ class AdminClientWrapperTest {
             DescribeTopicsResult describeResult = mock(DescribeTopicsResult.class);
             KafkaFuture<Map<String, TopicDescription>> future = mock(KafkaFuture.class);
 
-            when(adminClient.describeTopics(anyCollection())).thenReturn(describeResult);
+            when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeResult);
             when(describeResult.allTopicNames()).thenReturn(future);
             when(future.get()).thenReturn(Map.of(topicName, description));
 
@@ -142,6 +168,52 @@ class AdminClientWrapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("메타데이터 캐시 테스트")
+    class MetadataCacheTest {
+
+        @Test
+        @DisplayName("캐시된 토픽 목록이 있으면 브로커를 조회하지 않는다")
+        void shouldReturnCachedTopicNames() {
+            // given
+            Set<String> cachedTopics = Set.of("cached-topic");
+            when(metadataCache.<Set<String>>get(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false"))
+                    .thenReturn(Optional.of(cachedTopics));
+
+            // when
+            Set<String> topics = wrapper.listTopics(CLUSTER_ID);
+
+            // then
+            assertEquals(cachedTopics, topics);
+            verify(adminClient, never()).listTopics(any(ListTopicsOptions.class));
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 토픽만 브로커에 조회하고 결과를 캐시에 저장한다")
+        void shouldDescribeOnlyMissingTopics() throws Exception {
+            // given
+            TopicDescription cached = new TopicDescription("cached", false, Collections.emptyList());
+            TopicDescription fresh = new TopicDescription("fresh", false, Collections.emptyList());
+            when(metadataCache.<TopicDescription>get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "cached"))
+                    .thenReturn(Optional.of(cached));
+
+            DescribeTopicsResult describeResult = mock(DescribeTopicsResult.class);
+            KafkaFuture<Map<String, TopicDescription>> future = mock(KafkaFuture.class);
+            when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeResult);
+            when(describeResult.allTopicNames()).thenReturn(future);
+            when(future.get()).thenReturn(Map.of("fresh", fresh));
+
+            // when
+            Map<String, TopicDescription> result = wrapper.describeTopics(CLUSTER_ID, List.of("cached", "fresh"));
+
+            // then
+            assertEquals(2, result.size());
+            verify(adminClient).describeTopics(eq(List.of("fresh")), any(DescribeTopicsOptions.class));
+            verify(metadataCache).put(eq(CLUSTER_ID), eq(AdminMetadataCache.Operation.DESCRIBE_TOPIC),
+                    eq("fresh"), eq(fresh), anyLong());
+        }
+    }
+
     @Nested
     @DisplayName("컨슈머 그룹 작업 테스트")
     class ConsumerGroupOperationsTest {
@@ -156,7 +228,7 @@ class AdminClientWrapperTest {
             ListConsumerGroupsResult listResult = mock(ListConsumerGroupsResult.class);
             KafkaFuture<Collection<ConsumerGroupListing>> future = mock(KafkaFuture.class);
 
-            when(adminClient.listConsumerGroups()).thenReturn(listResult);
+            when(adminClient.listConsumerGroups(any(ListConsumerGroupsOptions.class))).thenReturn(listResult);
             when(listResult.all()).thenReturn(future);
             when(future.get()).thenReturn(List.of(group1, group2));
 
@@ -184,7 +256,7 @@ class AdminClientWrapperTest {
             DescribeConsumerGroupsResult describeResult = mock(DescribeConsumerGroupsResult.class);
             KafkaFuture<Map<String, ConsumerGroupDescription>> future = mock(KafkaFuture.class);
 
-            when(adminClient.describeConsumerGroups(anyCollection())).thenReturn(describeResult);
+            when(adminClient.describeConsumerGroups(anyCollection(), any(DescribeConsumerGroupsOptions.class))).thenReturn(describeResult);
             when(describeResult.all()).thenReturn(future);
             when(future.get()).thenReturn(Map.of(groupId, description));
 
@@ -214,17 +286,11 @@ class AdminClientWrapperTest {
             );
 
             DescribeClusterResult describeResult = mock(DescribeClusterResult.class);
-            KafkaFuture<String> clusterIdFuture = mock(KafkaFuture.class);
-            KafkaFuture<Node> controllerFuture = mock(KafkaFuture.class);
-            KafkaFuture<Collection<Node>> nodesFuture = mock(KafkaFuture.class);
 
-            when(adminClient.describeCluster()).thenReturn(describeResult);
-            when(describeResult.clusterId()).thenReturn(clusterIdFuture);
-            when(describeResult.controller()).thenReturn(controllerFuture);
-            when(describeResult.nodes()).thenReturn(nodesFuture);
-            when(clusterIdFuture.get()).thenReturn(kafkaClusterId);
-            when(controllerFuture.get()).thenReturn(controller);
-            when(nodesFuture.get()).thenReturn(nodes);
+            when(adminClient.describeCluster(any(DescribeClusterOptions.class))).thenReturn(describeResult);
+            when(describeResult.clusterId()).thenReturn(KafkaFuture.completedFuture(kafkaClusterId));
+            when(describeResult.controller()).thenReturn(KafkaFuture.completedFuture(controller));
+            when(describeResult.nodes()).thenReturn(KafkaFuture.completedFuture(nodes));
 
             // when
             AdminClientWrapper.ClusterInfo info = wrapper.describeCluster(CLUSTER_ID);
@@ -270,6 +336,25 @@ class AdminClientWrapperTest {
             assertThrows(KafkaConnectionException.class, () -> wrapper.listTopics(CLUSTER_ID));
         }
 
+        @Test
+        @DisplayName("벌크헤드가 포화되면 ClusterOverloadedException으로 실패한다")
+        void shouldFailWithClusterOverloadedWhenBulkheadIsFull() {
+            // given
+            AdminBulkhead saturated = new AdminBulkhead(new SimpleMeterRegistry(), 1, 0, 0, 1, 1, 0, 0, 1);
+            PooledAdminClient client = new PooledAdminClient(adminClient,
+                    new AdminCircuitBreaker(new SimpleMeterRegistry(), true, 5, 30000), saturated, new SimpleMeterRegistry(), CLUSTER_ID, AdminOperationClass.SCAN);
+            when(adminClientFactory.acquire(eq(CLUSTER_ID), any())).thenReturn(client);
+            client.call(admin -> new KafkaFutureImpl<String>());
+
+            // when
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> wrapper.listConsumerGroupsAsync(CLUSTER_ID).join());
+
+            // then
+            assertInstanceOf(ClusterOverloadedException.class, e.getCause());
+            verify(adminClient, never()).listConsumerGroups(any(ListConsumerGroupsOptions.class));
+        }
+
         @Test
         @DisplayName("InterruptedException 발생 시 스레드 인터럽트 상태가 복원된다")
         void shouldRestoreInterruptStatusOnInterruptedException() throws Exception {
@@ -290,6 +375,582 @@ class AdminClientWrapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("비동기 작업 테스트")
+    class AsyncOperationsTest {
+
+        @Test
+        @DisplayName("listTopicsAsync는 토픽 목록으로 완료된다")
+        void shouldCompleteListTopicsAsync() {
+            // given
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1", "topic2")));
+
+            // when
+            Set<String> result = wrapper.listTopicsAsync(CLUSTER_ID, false).join();
+
+            // then
+            assertEquals(Set.of("topic1", "topic2"), result);
+        }
+
+        @Test
+        @DisplayName("listTopicIdsAsync는 토픽 이름별 토픽 ID로 완료된다")
+        void shouldCompleteListTopicIdsAsync() {
+            // given
+            Uuid topicId = Uuid.randomUuid();
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.listings()).thenReturn(KafkaFuture.completedFuture(
+                    List.of(new TopicListing("topic1", topicId, false))));
+
+            // when
+            Map<String, Uuid> result = wrapper.listTopicIdsAsync(CLUSTER_ID, true).join();
+
+            // then
+            assertEquals(Map.of("topic1", topicId), result);
+        }
+
+        @Test
+        @DisplayName("조회가 끝나기 전에 호출 스레드로 반환된다")
+        void shouldReturnBeforeCompletion() {
+            // given
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            KafkaFutureImpl<Set<String>> pending = new KafkaFutureImpl<>();
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.names()).thenReturn(pending);
+
+            // when
+            CompletableFuture<Set<String>> result = wrapper.listTopicsAsync(CLUSTER_ID, false);
+
+            // then
+            assertFalse(result.isDone());
+            pending.complete(Set.of("topic1"));
+            assertEquals(Set.of("topic1"), result.join());
+        }
+
+        @Test
+        @DisplayName("타임아웃은 KafkaTimeoutException으로 완료된다")
+        void shouldCompleteWithKafkaTimeoutException() {
+            // given
+            DescribeConsumerGroupsResult describeResult = mock(DescribeConsumerGroupsResult.class);
+            KafkaFutureImpl<Map<String, ConsumerGroupDescription>> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(new TimeoutException("Timed out"));
+            when(adminClient.describeConsumerGroups(anyCollection(), any(DescribeConsumerGroupsOptions.class))).thenReturn(describeResult);
+            when(describeResult.all()).thenReturn(failed);
+
+            // when
+            CompletableFuture<Map<String, ConsumerGroupDescription>> result =
+                    wrapper.describeConsumerGroupsAsync(CLUSTER_ID, List.of("group1"));
+
+            // then
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(KafkaTimeoutException.class, exception.getCause());
+        }
+
+        @Test
+        @DisplayName("기타 오류는 KafkaConnectionException으로 완료된다")
+        void shouldCompleteWithKafkaConnectionException() {
+            // given
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            KafkaFutureImpl<Set<String>> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(new RuntimeException("Connection failed"));
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.names()).thenReturn(failed);
+
+            // when
+            CompletableFuture<Set<String>> result = wrapper.listTopicsAsync(CLUSTER_ID, false);
+
+            // then
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(KafkaConnectionException.class, exception.getCause());
+        }
+
+        @Test
+        @DisplayName("describeClusterAsync는 세 결과를 모아 ClusterInfo로 완료된다")
+        void shouldCombineDescribeClusterResults() {
+            // given
+            Node controller = new Node(1, "broker1", 9092);
+            DescribeClusterResult describeResult = mock(DescribeClusterResult.class);
+            when(adminClient.describeCluster(any(DescribeClusterOptions.class))).thenReturn(describeResult);
+            when(describeResult.clusterId()).thenReturn(KafkaFuture.completedFuture("kafka-cluster-id"));
+            when(describeResult.controller()).thenReturn(KafkaFuture.completedFuture(controller));
+            when(describeResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(controller)));
+
+            // when
+            AdminClientWrapper.ClusterInfo result = wrapper.describeClusterAsync(CLUSTER_ID).join();
+
+            // then
+            assertEquals("kafka-cluster-id", result.clusterId());
+            assertEquals(controller, result.controller());
+            assertEquals(1, result.brokerCount());
+        }
+
+        @Test
+        @DisplayName("여러 토픽에 걸친 끝 오프셋 조회는 스캔 클라이언트로 보낸다")
+        void shouldSendMultiTopicEndOffsetsToScanClient() {
+            // given
+            TopicPartition orders = new TopicPartition("orders", 0);
+            TopicPartition payments = new TopicPartition("payments", 0);
+            givenEndOffsets(Map.of(orders, 10L, payments, 20L));
+
+            // when
+            Map<TopicPartition, Long> result = wrapper.getEndOffsetsAsync(CLUSTER_ID, Set.of(orders, payments)).join();
+
+            // then
+            assertEquals(Map.of(orders, 10L, payments, 20L), result);
+            verify(adminClientFactory).acquire(CLUSTER_ID, AdminOperationClass.SCAN);
+        }
+
+        @Test
+        @DisplayName("한 토픽의 끝 오프셋 조회는 단건 조회 클라이언트로 보낸다")
+        void shouldSendSingleTopicEndOffsetsToInteractiveClient() {
+            // given
+            TopicPartition orders0 = new TopicPartition("orders", 0);
+            TopicPartition orders1 = new TopicPartition("orders", 1);
+            givenEndOffsets(Map.of(orders0, 10L, orders1, 20L));
+
+            // when
+            wrapper.getEndOffsetsAsync(CLUSTER_ID, Set.of(orders0, orders1)).join();
+
+            // then
+            verify(adminClientFactory).acquire(CLUSTER_ID, AdminOperationClass.INTERACTIVE);
+        }
+
+        private void givenEndOffsets(Map<TopicPartition, Long> offsets) {
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> infos = new HashMap<>();
+            offsets.forEach((tp, offset) ->
+                    infos.put(tp, new ListOffsetsResult.ListOffsetsResultInfo(offset, -1L, Optional.empty())));
+            ListOffsetsResult listOffsetsResult = mock(ListOffsetsResult.class);
+            when(adminClient.listOffsets(anyMap(), any(ListOffsetsOptions.class))).thenReturn(listOffsetsResult);
+            when(listOffsetsResult.all()).thenReturn(KafkaFuture.completedFuture(infos));
+        }
+    }
+
+    @Nested
+    @DisplayName("청크 단위 토픽 조회 테스트")
+    class ChunkedDescribeTopicsTest {
+
+        private AdminClientWrapper chunkedWrapper;
+        private final List<Collection<String>> requestedChunks = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            chunkedWrapper = new AdminClientWrapper(adminClientFactory, metadataCache,
+                    new AdminRequestCoalescer(new SimpleMeterRegistry(), true), latencyTracker, 30000, 2, 1, 1000, 100);
+
+            when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenAnswer(invocation -> {
+                Collection<String> chunk = new ArrayList<>(invocation.getArgument(0));
+                requestedChunks.add(chunk);
+
+                KafkaFutureImpl<Map<String, TopicDescription>> future = new KafkaFutureImpl<>();
+                if (chunk.contains("bad")) {
+                    future.completeExceptionally(new TimeoutException("Timed out"));
+                } else {
+                    Map<String, TopicDescription> descriptions = new HashMap<>();
+                    chunk.forEach(name -> descriptions.put(name, new TopicDescription(name, false, List.of())));
+                    future.complete(descriptions);
+                }
+
+                DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+                when(result.allTopicNames()).thenReturn(future);
+                return result;
+            });
+        }
+
+        @Test
+        @DisplayName("청크 크기만큼 나누어 조회하고 결과를 병합한다")
+        void shouldSplitIntoChunksAndMerge() {
+            // given
+            List<String> topics = List.of("t1", "t2", "t3", "t4", "t5");
+            List<Map<String, TopicDescription>> streamed = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            AdminClientWrapper.ChunkedTopicDescriptions result =
+                    chunkedWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topics, streamed::add).join();
+
+            // then
+            assertEquals(3, requestedChunks.size());
+            assertTrue(requestedChunks.stream().allMatch(chunk -> chunk.size() <= 2));
+            assertEquals(Set.copyOf(topics), result.descriptions().keySet());
+            assertFalse(result.isPartial());
+            assertEquals(3, streamed.size());
+        }
+
+        @Test
+        @DisplayName("일부 청크가 실패해도 나머지 결과로 완료된다")
+        void shouldReturnPartialResultWhenChunkFails() {
+            // given
+            List<String> topics = List.of("t1", "t2", "bad", "t4");
+
+            // when
+            AdminClientWrapper.ChunkedTopicDescriptions result =
+                    chunkedWrapper.describeTopicsInChunksAsync(CLUSTER_ID, topics).join();
+
+            // then
+            assertTrue(result.isPartial());
+            assertEquals(Set.of("bad", "t4"), result.failedTopics());
+            assertEquals(Set.of("t1", "t2"), result.descriptions().keySet());
+        }
+
+        @Test
+        @DisplayName("모든 청크가 실패하면 예외로 완료된다")
+        void shouldFailWhenAllChunksFail() {
+            // when
+            CompletableFuture<AdminClientWrapper.ChunkedTopicDescriptions> result =
+                    chunkedWrapper.describeTopicsInChunksAsync(CLUSTER_ID, List.of("bad"));
+
+            // then
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(KafkaTimeoutException.class, exception.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("브로커 설정 일괄 조회 테스트")
+    class BrokerConfigsTest {
+
+        @Test
+        @DisplayName("모든 브로커 설정을 한 번의 요청으로 조회하고 캐시한다")
+        void shouldDescribeAllBrokersInOneRequestAndCache() {
+            // given
+            AdminClientWrapper cachingWrapper = new AdminClientWrapper(adminClientFactory,
+                    new AdminMetadataCache(true, 1 << 20,
+                            Map.of(AdminMetadataCache.Operation.DESCRIBE_BROKER_CONFIGS, Duration.ofMinutes(1)),
+                            System::nanoTime),
+                    new AdminRequestCoalescer(new SimpleMeterRegistry(), true), latencyTracker,
+                    30000, 500, 4, 1000, 100);
+            List<Collection<ConfigResource>> requests = new ArrayList<>();
+            when(adminClient.describeConfigs(anyCollection(), any(DescribeConfigsOptions.class))).thenAnswer(invocation -> {
+                Collection<ConfigResource> resources = new ArrayList<>(invocation.getArgument(0));
+                requests.add(resources);
+                Map<ConfigResource, Config> configs = new HashMap<>();
+                resources.forEach(resource -> configs.put(resource, new Config(List.of(
+                        new ConfigEntry("num.io.threads", "8"),
+                        new ConfigEntry("ssl.keystore.password", null)))));
+                DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+                when(result.all()).thenReturn(KafkaFuture.completedFuture(configs));
+                return result;
+            });
+
+            // when
+            Map<Integer, Map<String, String>> first =
+                    cachingWrapper.describeBrokerConfigsAsync(CLUSTER_ID, List.of(0, 1, 2)).join();
+            Map<Integer, Map<String, String>> second =
+                    cachingWrapper.describeBrokerConfigsAsync(CLUSTER_ID, List.of(0, 1, 2)).join();
+
+            // then
+            assertEquals(1, requests.size());
+            assertEquals(3, requests.get(0).size());
+            assertEquals(Set.of(0, 1, 2), first.keySet());
+            assertEquals(Map.of("num.io.threads", "8"), first.get(1));
+            assertEquals(first, second);
+        }
+    }
+
+    @Nested
+    @DisplayName("로그 디렉터리 조회 테스트")
+    class LogDirsTest {
+
+        private final List<Collection<Integer>> requests = Collections.synchronizedList(new ArrayList<>());
+
+        @BeforeEach
+        void setUp() {
+            when(adminClient.describeLogDirs(anyCollection(), any(DescribeLogDirsOptions.class))).thenAnswer(invocation -> {
+                Collection<Integer> brokers = new ArrayList<>(invocation.getArgument(0));
+                requests.add(brokers);
+                int brokerId = brokers.iterator().next();
+
+                KafkaFutureImpl<Map<Integer, Map<String, LogDirDescription>>> future = new KafkaFutureImpl<>();
+                if (brokerId == 2) {
+                    future.completeExceptionally(new TimeoutException("Timed out"));
+                } else {
+                    future.complete(Map.of(brokerId, Map.of("/data", new LogDirDescription(null, Map.of(
+                            new TopicPartition("orders", brokerId), new ReplicaInfo(100L * brokerId, 0L, false))))));
+                }
+                DescribeLogDirsResult result = mock(DescribeLogDirsResult.class);
+                when(result.allDescriptions()).thenReturn(future);
+                return result;
+            });
+        }
+
+        @Test
+        @DisplayName("브로커마다 따로 요청하고, 실패한 브로커는 부분 결과로 표시한다")
+        void shouldDescribeEachBrokerSeparately() {
+            // when
+            AdminClientWrapper.LogDirDescriptions result =
+                    wrapper.describeLogDirsAsync(CLUSTER_ID, List.of(0, 1, 2)).join();
+
+            // then
+            assertEquals(3, requests.size());
+            assertTrue(requests.stream().allMatch(brokers -> brokers.size() == 1));
+            assertEquals(Set.of(0, 1), result.descriptions().keySet());
+            assertEquals(100L, result.descriptions().get(1).get("/data").replicaInfos()
+                    .get(new TopicPartition("orders", 1)).size());
+            assertTrue(result.isPartial());
+            assertEquals(Set.of(2), result.failedBrokers());
+        }
+
+        @Test
+        @DisplayName("모든 브로커가 실패하면 예외로 완료된다")
+        void shouldFailWhenAllBrokersFail() {
+            // when
+            CompletableFuture<AdminClientWrapper.LogDirDescriptions> result =
+                    wrapper.describeLogDirsAsync(CLUSTER_ID, List.of(2));
+
+            // then
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(KafkaTimeoutException.class, exception.getCause());
+        }
+
+        @Test
+        @DisplayName("브로커가 없으면 요청하지 않는다")
+        void shouldSkipEmptyBrokerList() {
+            // when
+            AdminClientWrapper.LogDirDescriptions result =
+                    wrapper.describeLogDirsAsync(CLUSTER_ID, List.of()).join();
+
+            // then
+            assertTrue(result.descriptions().isEmpty());
+            assertTrue(requests.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("청크 단위 토픽 설정 조회 테스트")
+    class ChunkedDescribeConfigsTest {
+
+        private AdminClientWrapper chunkedWrapper;
+        private final List<Collection<ConfigResource>> requestedChunks = new ArrayList<>();
+
+        private ConfigEntry entry(String name, String value, ConfigEntry.ConfigSource source) {
+            return new ConfigEntry(name, value, source, false, false, List.of(), ConfigEntry.ConfigType.STRING, null);
+        }
+
+        @BeforeEach
+        void setUp() {
+            chunkedWrapper = new AdminClientWrapper(adminClientFactory, metadataCache,
+                    new AdminRequestCoalescer(new SimpleMeterRegistry(), true), latencyTracker,
+                    30000, 500, 1, 2, 100);
+
+            when(adminClient.describeConfigs(anyCollection(), any(DescribeConfigsOptions.class))).thenAnswer(invocation -> {
+                Collection<ConfigResource> chunk = new ArrayList<>(invocation.getArgument(0));
+                requestedChunks.add(chunk);
+
+                KafkaFutureImpl<Map<ConfigResource, Config>> future = new KafkaFutureImpl<>();
+                if (chunk.stream().anyMatch(resource -> resource.name().equals("bad"))) {
+                    future.completeExceptionally(new TimeoutException("Timed out"));
+                } else {
+                    Map<ConfigResource, Config> configs = new HashMap<>();
+                    chunk.forEach(resource -> configs.put(resource, new Config(List.of(
+                            entry("retention.ms", resource.name().equals("t1") ? "86400000" : "604800000",
+                                    resource.name().equals("t1") ? ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG
+                                            : ConfigEntry.ConfigSource.DEFAULT_CONFIG),
+                            entry("cleanup.policy", "delete", ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG),
+                            entry("sasl.jaas.config", null, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)))));
+                    future.complete(configs);
+                }
+
+                DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+                when(result.all()).thenReturn(future);
+                return result;
+            });
+        }
+
+        @Test
+        @DisplayName("청크 단위로 조회하여 토픽 수준 설정과 기본값을 분리한다")
+        void shouldSplitOverridesFromDefaults() {
+            // when
+            AdminClientWrapper.TopicConfigOverrides result = chunkedWrapper
+                    .describeTopicConfigOverridesAsync(CLUSTER_ID, List.of("t1", "t2", "t3")).join();
+
+            // then
+            assertEquals(2, requestedChunks.size());
+            assertEquals(Map.of("retention.ms", "86400000"), result.overrides().get("t1"));
+            assertEquals(Map.of(), result.overrides().get("t2"));
+            assertEquals(Set.of("t1", "t2", "t3"), result.overrides().keySet());
+            assertEquals("delete", result.defaults().get("cleanup.policy"));
+            assertEquals("604800000", result.defaults().get("retention.ms"));
+            assertFalse(result.isPartial());
+        }
+
+        @Test
+        @DisplayName("일부 청크가 실패해도 나머지 결과로 완료된다")
+        void shouldReturnPartialResultWhenChunkFails() {
+            // when
+            AdminClientWrapper.TopicConfigOverrides result = chunkedWrapper
+                    .describeTopicConfigOverridesAsync(CLUSTER_ID, List.of("t1", "t2", "bad")).join();
+
+            // then
+            assertTrue(result.isPartial());
+            assertEquals(Set.of("bad"), result.failedTopics());
+            assertEquals(Set.of("t1", "t2"), result.overrides().keySet());
+        }
+    }
+
+    @Nested
+    @DisplayName("청크 단위 그룹 오프셋 조회 테스트")
+    class ChunkedGroupOffsetsTest {
+
+        private AdminClientWrapper chunkedWrapper;
+        private final List<Set<String>> requestedChunks = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            chunkedWrapper = new AdminClientWrapper(adminClientFactory, metadataCache,
+                    new AdminRequestCoalescer(new SimpleMeterRegistry(), true), latencyTracker,
+                    30000, 500, 1, 1000, 2);
+
+            when(adminClient.listConsumerGroupOffsets(anyMap(), any(ListConsumerGroupOffsetsOptions.class)))
+                    .thenAnswer(invocation -> {
+                        Map<String, ListConsumerGroupOffsetsSpec> specs = invocation.getArgument(0);
+                        requestedChunks.add(Set.copyOf(specs.keySet()));
+
+                        KafkaFutureImpl<Map<String, Map<TopicPartition, OffsetAndMetadata>>> future =
+                                new KafkaFutureImpl<>();
+                        if (specs.containsKey("bad")) {
+                            future.completeExceptionally(new TimeoutException("Timed out"));
+                        } else {
+                            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = new HashMap<>();
+                            specs.keySet().forEach(groupId -> {
+                                Map<TopicPartition, OffsetAndMetadata> groupOffsets = new HashMap<>();
+                                groupOffsets.put(new TopicPartition("orders", 0), new OffsetAndMetadata(10L));
+                                groupOffsets.put(new TopicPartition("orders", 1), null);
+                                offsets.put(groupId, groupOffsets);
+                            });
+                            future.complete(offsets);
+                        }
+
+                        ListConsumerGroupOffsetsResult result = mock(ListConsumerGroupOffsetsResult.class);
+                        when(result.all()).thenReturn(future);
+                        return result;
+                    });
+        }
+
+        @Test
+        @DisplayName("여러 그룹을 청크 단위 다중 그룹 요청으로 조회한다")
+        void shouldListOffsetsOfGroupsInChunks() {
+            // when
+            AdminClientWrapper.ChunkedGroupOffsets result = chunkedWrapper
+                    .listConsumerGroupOffsetsInChunksAsync(CLUSTER_ID, List.of("g1", "g2", "g3")).join();
+
+            // then
+            assertEquals(2, requestedChunks.size());
+            assertEquals(Set.of("g1", "g2", "g3"), result.offsets().keySet());
+            assertEquals(Map.of(new TopicPartition("orders", 0), new OffsetAndMetadata(10L)),
+                    result.offsets().get("g1"));
+            assertFalse(result.isPartial());
+        }
+
+        @Test
+        @DisplayName("일부 청크가 실패해도 나머지 그룹 결과로 완료된다")
+        void shouldReturnPartialResultWhenChunkFails() {
+            // when
+            AdminClientWrapper.ChunkedGroupOffsets result = chunkedWrapper
+                    .listConsumerGroupOffsetsInChunksAsync(CLUSTER_ID, List.of("g1", "g2", "bad")).join();
+
+            // then
+            assertTrue(result.isPartial());
+            assertEquals(Set.of("bad"), result.failedGroups());
+            assertEquals(Set.of("g1", "g2"), result.offsets().keySet());
+        }
+
+        @Test
+        @DisplayName("그룹이 없으면 요청하지 않는다")
+        void shouldNotRequestWhenNoGroups() {
+            // when
+            AdminClientWrapper.ChunkedGroupOffsets result = chunkedWrapper
+                    .listConsumerGroupOffsetsInChunksAsync(CLUSTER_ID, List.of()).join();
+
+            // then
+            assertTrue(result.offsets().isEmpty());
+            verify(adminClient, never()).listConsumerGroupOffsets(anyMap(), any(ListConsumerGroupOffsetsOptions.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 마감 테스트")
+    class RequestDeadlineTest {
+
+        @Test
+        @DisplayName("요청 마감까지 남은 시간을 Admin 호출 타임아웃으로 사용한다")
+        void shouldUseRemainingDeadlineAsTimeout() {
+            // given
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1")));
+            ArgumentCaptor<ListTopicsOptions> options = ArgumentCaptor.forClass(ListTopicsOptions.class);
+
+            // when
+            try (RequestDeadline.Scope ignored = RequestDeadline.attach(RequestDeadline.after(Duration.ofSeconds(2)))) {
+                wrapper.listTopics(CLUSTER_ID);
+            }
+
+            // then
+            verify(adminClient).listTopics(options.capture());
+            assertTrue(options.getValue().timeoutMs() <= 2000);
+            assertTrue(options.getValue().timeoutMs() > 0);
+        }
+
+        @Test
+        @DisplayName("요청 마감이 없으면 기본 타임아웃을 사용한다")
+        void shouldUseDefaultTimeoutWithoutDeadline() {
+            // given
+            DescribeClusterResult describeResult = mock(DescribeClusterResult.class);
+            when(adminClient.describeCluster(any(DescribeClusterOptions.class))).thenReturn(describeResult);
+            when(describeResult.clusterId()).thenReturn(KafkaFuture.completedFuture("kafka-cluster-id"));
+            when(describeResult.controller()).thenReturn(KafkaFuture.completedFuture(new Node(0, "host", 9092)));
+            when(describeResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(new Node(0, "host", 9092))));
+            ArgumentCaptor<DescribeClusterOptions> options = ArgumentCaptor.forClass(DescribeClusterOptions.class);
+
+            // when
+            wrapper.describeCluster(CLUSTER_ID);
+
+            // then
+            verify(adminClient).describeCluster(options.capture());
+            assertEquals(30000, options.getValue().timeoutMs());
+        }
+
+        @Test
+        @DisplayName("관측된 지연 시간이 짧으면 적응형 타임아웃을 사용한다")
+        void shouldUseAdaptiveTimeoutForFastCluster() {
+            // given
+            for (int i = 0; i < 50; i++) {
+                latencyTracker.record(CLUSTER_ID, "listTopics", Duration.ofMillis(3).toNanos());
+            }
+            ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+            when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+            when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1")));
+            ArgumentCaptor<ListTopicsOptions> options = ArgumentCaptor.forClass(ListTopicsOptions.class);
+
+            // when
+            wrapper.listTopics(CLUSTER_ID);
+
+            // then
+            verify(adminClient).listTopics(options.capture());
+            assertEquals(2000, options.getValue().timeoutMs());
+        }
+
+        @Test
+        @DisplayName("마감이 지난 요청은 브로커로 보내지 않는다")
+        void shouldNotSendRequestAfterDeadline() {
+            // given
+            RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(10));
+            deadline.cancel();
+
+            // when
+            CompletionException e;
+            try (RequestDeadline.Scope ignored = RequestDeadline.attach(deadline)) {
+                e = assertThrows(CompletionException.class,
+                        () -> wrapper.listConsumerGroupsAsync(CLUSTER_ID).join());
+            }
+
+            // then
+            assertInstanceOf(KafkaTimeoutException.class, e.getCause());
+            verify(adminClient, never()).listConsumerGroups(any(ListConsumerGroupsOptions.class));
+        }
+    }
+
     @Nested
     @DisplayName("ClusterInfo 레코드 테스트")
     class ClusterInfoRecordTest {
@@ -0,0 +1,156 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminLatencyTracker 테스트 클래스.
+ */
+@DisplayName("AdminLatencyTracker")
+class AdminLatencyTrackerTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+    private static final String OPERATION = "describeTopics";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new AdminLatencyTracker(meterRegistry, true, 0.99, 3.0, 1000, 60000, 20);
+    }
+
+    private void recordMillis(String clusterId, long millis, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(clusterId, OPERATION, Duration.ofMillis(millis).toNanos());
+        }
+    }
+
+    @Nested
+    @DisplayName("타임아웃 계산 테스트")
+    class TimeoutTest {
+
+        @Test
+        @DisplayName("표본이 부족하면 최대 타임아웃을 사용한다")
+        void shouldUseMaxTimeoutUntilEnoughSamples() {
+            // given
+            recordMillis(CLUSTER_ID, 5, 19);
+
+            // when & then
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor("unknown", OPERATION));
+        }
+
+        @Test
+        @DisplayName("빠른 클러스터는 최소 타임아웃까지 줄어든다")
+        void shouldClampFastClusterToMinTimeout() {
+            // given
+            recordMillis(CLUSTER_ID, 2, 100);
+
+            // when & then
+            assertEquals(Duration.ofSeconds(1), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+        }
+
+        @Test
+        @DisplayName("느린 클러스터는 높은 백분위수에 여유 배수를 곱한 값을 사용한다")
+        void shouldDeriveTimeoutFromHighPercentile() {
+            // given
+            recordMillis(CLUSTER_ID, 300, 95);
+            recordMillis(CLUSTER_ID, 2000, 5);
+
+            // when
+            Duration timeout = tracker.timeoutFor(CLUSTER_ID, OPERATION);
+
+            // then - p99는 2초 구간, 여유 3배 (구간 상한 오차 25% 이내)
+            assertTrue(timeout.compareTo(Duration.ofSeconds(6)) >= 0, timeout.toString());
+            assertTrue(timeout.compareTo(Duration.ofMillis(7500)) <= 0, timeout.toString());
+        }
+
+        @Test
+        @DisplayName("최대 타임아웃을 넘지 않는다")
+        void shouldNotExceedMaxTimeout() {
+            // given
+            recordMillis(CLUSTER_ID, 45000, 30);
+
+            // when & then
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+        }
+
+        @Test
+        @DisplayName("클러스터와 작업별로 따로 계산한다")
+        void shouldTrackPerClusterAndOperation() {
+            // given
+            recordMillis(CLUSTER_ID, 2, 50);
+            recordMillis("remote", 1000, 50);
+
+            // when & then
+            assertEquals(Duration.ofSeconds(1), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+            assertTrue(tracker.timeoutFor("remote", OPERATION).compareTo(Duration.ofSeconds(3)) >= 0);
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor(CLUSTER_ID, "listTopics"));
+        }
+    }
+
+    @Nested
+    @DisplayName("기록 관리 테스트")
+    class LifecycleTest {
+
+        @Test
+        @DisplayName("오래된 표본은 감쇠되어 최근 지연 시간을 따라간다")
+        void shouldDecayOldSamples() {
+            // given
+            recordMillis(CLUSTER_ID, 5000, 40);
+
+            // when
+            recordMillis(CLUSTER_ID, 2, AdminLatencyTracker.DECAY_SAMPLES * 4);
+
+            // then
+            assertEquals(Duration.ofSeconds(1), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+        }
+
+        @Test
+        @DisplayName("reset하면 표본이 지워진다")
+        void shouldClearOnReset() {
+            // given
+            recordMillis(CLUSTER_ID, 2, 50);
+
+            // when
+            tracker.reset(CLUSTER_ID);
+
+            // then
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 최대 타임아웃을 사용한다")
+        void shouldUseMaxTimeoutWhenDisabled() {
+            // given
+            tracker = new AdminLatencyTracker(meterRegistry, false, 0.99, 3.0, 1000, 60000, 20);
+            recordMillis(CLUSTER_ID, 2, 50);
+
+            // when & then
+            assertEquals(Duration.ofSeconds(60), tracker.timeoutFor(CLUSTER_ID, OPERATION));
+        }
+
+        @Test
+        @DisplayName("현재 타임아웃을 게이지로 노출한다")
+        void shouldExposeTimeoutGauge() {
+            // given
+            recordMillis(CLUSTER_ID, 2, 50);
+
+            // when
+            double gauge = meterRegistry.get(AdminLatencyTracker.TIMEOUT_METRIC)
+                    .tag("cluster", CLUSTER_ID).tag("operation", OPERATION).gauge().value();
+
+            // then
+            assertEquals(1000.0, gauge);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.kafkalens.infrastructure.kafka;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminMetadataCache 테스트 클래스.
+ */
+@DisplayName("AdminMetadataCache")
+class AdminMetadataCacheTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdminMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = createCache(1024);
+    }
+
+    private AdminMetadataCache createCache(long maxBytes) {
+        return new AdminMetadataCache(true, maxBytes, Map.of(
+                AdminMetadataCache.Operation.LIST_TOPICS, Duration.ofSeconds(10),
+                AdminMetadataCache.Operation.DESCRIBE_TOPIC, Duration.ofSeconds(30),
+                AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, Duration.ZERO
+        ), clock::get);
+    }
+
+    @Nested
+    @DisplayName("TTL 테스트")
+    class TtlTest {
+
+        @Test
+        @DisplayName("TTL 이내에는 캐시된 값을 반환한다")
+        void shouldReturnValueWithinTtl() {
+            // given
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false", Set.of("a"), 100);
+            clock.addAndGet(Duration.ofSeconds(9).toNanos());
+
+            // when
+            Optional<Set<String>> result = cache.get(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false");
+
+            // then
+            assertEquals(Optional.of(Set.of("a")), result);
+            assertEquals(1, cache.stats().hits());
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 항목이 제거된다")
+        void shouldExpireAfterTtl() {
+            // given
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false", Set.of("a"), 100);
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // when
+            Optional<Object> result = cache.get(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false");
+
+            // then
+            assertTrue(result.isEmpty());
+            assertEquals(0, cache.stats().entryCount());
+            assertEquals(0, cache.stats().totalBytes());
+        }
+
+        @Test
+        @DisplayName("TTL이 0인 작업은 캐싱하지 않는다")
+        void shouldNotCacheWhenTtlIsZero() {
+            // when
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, "t", Map.of(), 10);
+
+            // then
+            assertTrue(cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC_CONFIGS, "t").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("용량 제한 테스트")
+    class CapacityTest {
+
+        @Test
+        @DisplayName("바이트 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+        void shouldEvictLeastRecentlyUsed() {
+            // given
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a", "A", 400);
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "b", "B", 400);
+            cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a");
+
+            // when
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "c", "C", 400);
+
+            // then
+            assertTrue(cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a").isPresent());
+            assertTrue(cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "b").isEmpty());
+            assertTrue(cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "c").isPresent());
+            assertEquals(800, cache.stats().totalBytes());
+            assertEquals(1, cache.stats().evictions());
+        }
+
+        @Test
+        @DisplayName("상한보다 큰 단일 항목은 저장하지 않는다")
+        void shouldRejectOversizedEntry() {
+            // when
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "huge", "X", 2048);
+
+            // then
+            assertEquals(0, cache.stats().entryCount());
+        }
+
+        @Test
+        @DisplayName("같은 키로 다시 저장하면 크기가 중복 집계되지 않는다")
+        void shouldReplaceExistingEntry() {
+            // when
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a", "A1", 300);
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a", "A2", 200);
+
+            // then
+            assertEquals(1, cache.stats().entryCount());
+            assertEquals(200, cache.stats().totalBytes());
+            assertEquals(Optional.of("A2"), cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("클러스터 단위로 항목을 비울 수 있다")
+        void shouldInvalidateSingleCluster() {
+            // given
+            cache.put(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a", "A", 100);
+            cache.put("other-cluster", AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a", "A", 100);
+
+            // when
+            cache.invalidate(CLUSTER_ID);
+
+            // then
+            assertTrue(cache.get(CLUSTER_ID, AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a").isEmpty());
+            assertTrue(cache.get("other-cluster", AdminMetadataCache.Operation.DESCRIBE_TOPIC, "a").isPresent());
+            assertEquals(100, cache.stats().totalBytes());
+        }
+
+        @Test
+        @DisplayName("비활성화된 캐시는 항상 미스를 반환한다")
+        void shouldAlwaysMissWhenDisabled() {
+            // given
+            AdminMetadataCache disabled = new AdminMetadataCache(false, 1024,
+                    Map.of(AdminMetadataCache.Operation.LIST_TOPICS, Duration.ofSeconds(10)), clock::get);
+
+            // when
+            disabled.put(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false", Set.of("a"), 10);
+
+            // then
+            assertTrue(disabled.get(CLUSTER_ID, AdminMetadataCache.Operation.LIST_TOPICS, "false").isEmpty());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.kafkalens.infrastructure.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminRequestCoalescer 테스트 클래스.
+ */
+@DisplayName("AdminRequestCoalescer")
+class AdminRequestCoalescerTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminRequestCoalescer coalescer;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AdminRequestCoalescer(meterRegistry, true);
+        calls = new AtomicInteger();
+    }
+
+    private KafkaFutureImpl<String> newCall() {
+        calls.incrementAndGet();
+        return new KafkaFutureImpl<>();
+    }
+
+    @Nested
+    @DisplayName("요청 병합 테스트")
+    class CoalesceTest {
+
+        @Test
+        @DisplayName("진행 중인 동일 요청은 같은 Future를 공유한다")
+        void shouldShareInFlightFuture() throws Exception {
+            // given
+            KafkaFutureImpl<String> pending = new KafkaFutureImpl<>();
+            KafkaFuture<String> first = coalescer.coalesce(CLUSTER_ID, "describeTopics", Set.of("a", "b"), () -> {
+                calls.incrementAndGet();
+                return pending;
+            });
+
+            // when
+            KafkaFuture<String> second = coalescer.coalesce(CLUSTER_ID, "describeTopics", Set.of("b", "a"),
+                    AdminRequestCoalescerTest.this::newCall);
+            pending.complete("result");
+
+            // then
+            assertSame(first, second);
+            assertEquals("result", second.get());
+            assertEquals(1, calls.get());
+            assertEquals(1, coalescer.getSavedCallCount());
+            assertEquals(1.0, meterRegistry.get(AdminRequestCoalescer.COALESCED_METRIC)
+                    .tag("cluster", CLUSTER_ID)
+                    .tag("operation", "describeTopics")
+                    .counter()
+                    .count());
+        }
+
+        @Test
+        @DisplayName("완료된 요청은 제거되어 다음 요청은 새로 전송된다")
+        void shouldIssueNewCallAfterCompletion() {
+            // given
+            KafkaFutureImpl<String> pending = new KafkaFutureImpl<>();
+            KafkaFuture<String> first = coalescer.coalesce(CLUSTER_ID, "listTopics", false, () -> pending);
+            pending.complete("done");
+
+            // when
+            KafkaFuture<String> second = coalescer.coalesce(
+                    CLUSTER_ID, "listTopics", false, AdminRequestCoalescerTest.this::newCall);
+
+            // then
+            assertNotSame(first, second);
+            assertEquals(1, calls.get());
+            assertEquals(1, coalescer.getInFlightCount());
+        }
+
+        @Test
+        @DisplayName("실패한 요청도 제거된다")
+        void shouldRemoveFailedCall() {
+            // given
+            KafkaFutureImpl<String> pending = new KafkaFutureImpl<>();
+            KafkaFuture<String> first = coalescer.coalesce(CLUSTER_ID, "listTopics", false, () -> pending);
+
+            // when
+            pending.completeExceptionally(new IllegalStateException("boom"));
+
+            // then
+            assertEquals(0, coalescer.getInFlightCount());
+            ExecutionException thrown = assertThrows(ExecutionException.class, first::get);
+            assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        }
+
+        @Test
+        @DisplayName("호출이 바로 예외를 던지면 키를 제거하고 예외를 전달한다")
+        void shouldRemoveKeyWhenCallThrows() {
+            // when
+            assertThrows(IllegalStateException.class, () -> coalescer.coalesce(
+                    CLUSTER_ID, "listTopics", false, () -> {
+                        throw new IllegalStateException("bulkhead full");
+                    }));
+
+            // then
+            assertEquals(0, coalescer.getInFlightCount());
+            coalescer.coalesce(CLUSTER_ID, "listTopics", false, AdminRequestCoalescerTest.this::newCall);
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("호출은 맵 갱신 밖에서 실행되어 다른 키를 병합할 수 있다")
+        void shouldRunCallOutsideMapUpdate() throws Exception {
+            // given
+            KafkaFutureImpl<String> inner = new KafkaFutureImpl<>();
+
+            // when
+            KafkaFuture<String> outer = coalescer.coalesce(CLUSTER_ID, "describeTopics", Set.of("a"), () -> {
+                KafkaFutureImpl<String> result = new KafkaFutureImpl<>();
+                coalescer.coalesce(CLUSTER_ID, "listTopics", false, () -> inner)
+                        .whenComplete((value, error) -> result.complete(value + "-described"));
+                return result;
+            });
+            inner.complete("topics");
+
+            // then
+            assertEquals("topics-described", outer.get());
+            assertEquals(0, coalescer.getInFlightCount());
+        }
+
+        @Test
+        @DisplayName("인자나 클러스터가 다르면 별도로 전송된다")
+        void shouldNotCoalesceDifferentKeys() {
+            // when
+            coalescer.coalesce(CLUSTER_ID, "describeTopics", Set.of("a"), AdminRequestCoalescerTest.this::newCall);
+            coalescer.coalesce(CLUSTER_ID, "describeTopics", Set.of("b"), AdminRequestCoalescerTest.this::newCall);
+            coalescer.coalesce("other-cluster", "describeTopics", Set.of("a"), AdminRequestCoalescerTest.this::newCall);
+
+            // then
+            assertEquals(3, calls.get());
+            assertEquals(0, coalescer.getSavedCallCount());
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 새로 전송된다")
+        void shouldAlwaysCallWhenDisabled() {
+            // given
+            AdminRequestCoalescer disabled = new AdminRequestCoalescer(meterRegistry, false);
+
+            // when
+            disabled.coalesce(CLUSTER_ID, "listTopics", false, AdminRequestCoalescerTest.this::newCall);
+            disabled.coalesce(CLUSTER_ID, "listTopics", false, AdminRequestCoalescerTest.this::newCall);
+
+            // then
+            assertEquals(2, calls.get());
+            assertEquals(0, disabled.getInFlightCount());
+        }
+    }
+}
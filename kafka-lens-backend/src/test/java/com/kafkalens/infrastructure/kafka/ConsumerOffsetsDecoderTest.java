@@ -0,0 +1,99 @@
+package com.kafkalens.infrastructure.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConsumerOffsetsDecoder 단위 테스트.
+ */
+@DisplayName("ConsumerOffsetsDecoder")
+class ConsumerOffsetsDecoderTest {
+
+    private static byte[] offsetCommitKey(short version, String group, String topic, int partition) {
+        byte[] groupBytes = group.getBytes(StandardCharsets.UTF_8);
+        byte[] topicBytes = topic.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + 2 + groupBytes.length + 2 + topicBytes.length + 4)
+                .putShort(version)
+                .putShort((short) groupBytes.length).put(groupBytes)
+                .putShort((short) topicBytes.length).put(topicBytes)
+                .putInt(partition)
+                .array();
+    }
+
+    private static byte[] groupMetadataKey(String group) {
+        byte[] groupBytes = group.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + 2 + groupBytes.length)
+                .putShort((short) 2)
+                .putShort((short) groupBytes.length).put(groupBytes)
+                .array();
+    }
+
+    /**
+     * 값 버전 3 (offset, leader_epoch, metadata, commit_timestamp).
+     */
+    private static byte[] offsetCommitValueV3(long offset) {
+        return ByteBuffer.allocate(2 + 8 + 4 + 2 + 8)
+                .putShort((short) 3)
+                .putLong(offset)
+                .putInt(5)
+                .putShort((short) 0)
+                .putLong(1_700_000_000_000L)
+                .array();
+    }
+
+    @Test
+    @DisplayName("오프셋 커밋 레코드에서 그룹, 파티션, 오프셋을 읽는다")
+    void shouldDecodeOffsetCommit() {
+        // when
+        var decoded = ConsumerOffsetsDecoder.decode(
+                offsetCommitKey((short) 1, "orders-consumer", "orders", 3), offsetCommitValueV3(4242L));
+
+        // then
+        assertThat(decoded).hasValueSatisfying(commit -> {
+            assertThat(commit.groupId()).isEqualTo("orders-consumer");
+            assertThat(commit.partition()).isEqualTo(new TopicPartition("orders", 3));
+            assertThat(commit.offset()).isEqualTo(4242L);
+            assertThat(commit.isOffsetDeletion()).isFalse();
+            assertThat(commit.isGroupDeletion()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("오프셋 커밋 tombstone은 오프셋 삭제이다")
+    void shouldDecodeOffsetDeletion() {
+        // when
+        var decoded = ConsumerOffsetsDecoder.decode(offsetCommitKey((short) 0, "g", "orders", 0), null);
+
+        // then
+        assertThat(decoded).hasValueSatisfying(commit -> assertThat(commit.isOffsetDeletion()).isTrue());
+    }
+
+    @Test
+    @DisplayName("그룹 메타데이터 tombstone은 그룹 삭제이고, 그 밖의 그룹 메타데이터는 무시한다")
+    void shouldDecodeGroupDeletionOnly() {
+        // when & then
+        assertThat(ConsumerOffsetsDecoder.decode(groupMetadataKey("g"), null))
+                .hasValueSatisfying(commit -> {
+                    assertThat(commit.groupId()).isEqualTo("g");
+                    assertThat(commit.isGroupDeletion()).isTrue();
+                });
+        assertThat(ConsumerOffsetsDecoder.decode(groupMetadataKey("g"), new byte[]{0, 3, 1, 2})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 잘린 레코드는 무시한다")
+    void shouldIgnoreUnknownOrTruncatedRecords() {
+        // when & then
+        assertThat(ConsumerOffsetsDecoder.decode(new byte[]{0, 9, 0, 0}, null)).isEmpty();
+        assertThat(ConsumerOffsetsDecoder.decode(new byte[]{0, 1, 0, 10, 'a'}, offsetCommitValueV3(1L))).isEmpty();
+        assertThat(ConsumerOffsetsDecoder.decode(
+                offsetCommitKey((short) 1, "g", "t", 0), new byte[]{0, 99, 0, 0, 0, 0, 0, 0, 0, 1})).isEmpty();
+        assertThat(ConsumerOffsetsDecoder.decode(null, null)).isEmpty();
+    }
+}